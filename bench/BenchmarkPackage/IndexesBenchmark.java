@@ -0,0 +1,42 @@
+package BenchmarkPackage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import MatrixPackage.Indexes;
+
+/**
+ * Benchmarks of Indexes.stream, which every MatrixMap and SparseMatrixMap operation walks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IndexesBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size; //the number of rows and columns walked
+
+    @Benchmark
+    public long count() {
+        return Indexes.stream(size - 1, size - 1).count();
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        Indexes.stream(size - 1, size - 1).forEach(blackhole::consume);
+    }
+}
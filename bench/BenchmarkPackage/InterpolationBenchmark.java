@@ -0,0 +1,54 @@
+package BenchmarkPackage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import RingPackage.IntegerRing;
+import RingPackage.InterpolatingPolynomial;
+
+/**
+ * Benchmarks of InterpolatingPolynomial.interpolatePolynomial across numbers of roots.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InterpolationBenchmark {
+
+    @Param({"16", "256", "2048"})
+    public int rootCount; //the number of roots
+
+    private final IntegerRing intRing = new IntegerRing();
+    private List<Integer> roots; //the roots being interpolated
+
+    /**
+     * Creates the roots 1, 2, ..., rootCount.
+     */
+    @Setup
+    public void setUp() {
+        roots = new ArrayList<>(rootCount);
+        for (int i = 1; i <= rootCount; i++) {
+            roots.add(i);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> interpolatePolynomial() {
+        return InterpolatingPolynomial.interpolatePolynomial(roots, intRing);
+    }
+}
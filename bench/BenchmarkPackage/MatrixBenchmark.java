@@ -0,0 +1,92 @@
+package BenchmarkPackage;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import MatrixPackage.ArrayMatrix;
+import MatrixPackage.DoubleMatrix;
+import MatrixPackage.Matrix;
+import MatrixPackage.MatrixMap;
+import MatrixPackage.SparseMatrixMap;
+import RingPackage.DoubleRing;
+import RingPackage.IntegerRing;
+
+/**
+ * Benchmarks of matrix multiplication: MatrixMap against SparseMatrixMap and ArrayMatrix across sizes and densities,
+ * and the cache-blocked DoubleMatrix kernel against the per-index MatrixMap product.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatrixBenchmark {
+
+    @Param({"32", "128", "256"})
+    public int size; //the number of rows and columns
+
+    @Param({"0.01", "0.1", "1.0"})
+    public double density; //the fraction of non-zero entries off the diagonal
+
+    private final IntegerRing intRing = new IntegerRing();
+    private final DoubleRing doubleRing = new DoubleRing();
+
+    private MatrixMap<Integer> dense; //an Integer matrix with the chosen density
+    private SparseMatrixMap<Integer> sparse; //the same matrix in sparse form
+    private ArrayMatrix<Integer> array; //the same matrix in row-major form
+    private MatrixMap<Double> doubles; //a fully dense Double matrix
+    private DoubleMatrix primitive; //the same Double matrix in primitive form
+
+    /**
+     * Creates the matrices, with a fixed seed so every fork measures the same data.
+     * The diagonal is never zero, so the sparse form keeps the full size.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int greatest = size - 1; //the greatest index
+        dense = MatrixMap.instance(greatest, greatest, (index) -> (index.areDiagonal() || random.nextDouble() < density) ? random.nextInt(100) + 1 : 0);
+        sparse = dense.convertToSparse(intRing);
+        array = ArrayMatrix.copyOf(dense);
+        doubles = MatrixMap.instance(greatest, greatest, (index) -> random.nextDouble());
+        primitive = DoubleMatrix.copyOf(doubles);
+    }
+
+    @Benchmark
+    public Matrix<Integer> matrixMapTimes() {
+        return dense.times(dense, intRing);
+    }
+
+    @Benchmark
+    public Matrix<Integer> sparseMatrixMapTimes() {
+        return sparse.times(sparse, intRing);
+    }
+
+    @Benchmark
+    public Matrix<Integer> arrayMatrixTimes() {
+        return array.times(array, intRing);
+    }
+
+    @Benchmark
+    public Matrix<Double> doubleMatrixMapTimes() {
+        return doubles.times(doubles, doubleRing);
+    }
+
+    @Benchmark
+    public Matrix<Double> doubleMatrixTimes() {
+        return primitive.times(primitive, doubleRing);
+    }
+}
@@ -0,0 +1,113 @@
+package BenchmarkPackage;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import RingPackage.BigIntegerRing;
+import RingPackage.DoubleRing;
+import RingPackage.IntegerRing;
+import RingPackage.ModularRing;
+import RingPackage.Polynomial;
+import RingPackage.Ring;
+
+/**
+ * Benchmarks of Polynomial.plus, Polynomial.times and evaluation at a point across degrees and coefficient rings.
+ * Degrees are chosen on both sides of the Karatsuba and number-theoretic transform cutoffs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PolynomialBenchmark {
+
+    @Param({"16", "256", "4096"})
+    public int degree; //the degree of both factors
+
+    @Param({"integer", "bigInteger", "double", "modular"})
+    public String ringName; //the coefficient ring
+
+    private Ring<Object> ring; //the coefficient ring named by ringName
+    private Polynomial<Object> a; //the first operand
+    private Polynomial<Object> b; //the second operand
+    private Object point; //the point at which the first operand is evaluated
+
+    /**
+     * Creates the operands, with a fixed seed so every fork measures the same data.
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Random random = new Random(42);
+        List<Object> first = new ArrayList<>(degree + 1);
+        List<Object> second = new ArrayList<>(degree + 1);
+        for (int i = 0; i <= degree; i++) {
+            first.add(coefficient(random));
+            second.add(coefficient(random));
+        }
+        ring = (Ring<Object>) (Ring<?>) switch (ringName) {
+            case "integer" -> new IntegerRing();
+            case "bigInteger" -> new BigIntegerRing();
+            case "double" -> new DoubleRing();
+            case "modular" -> ModularRing.instance(998244353L);
+            default -> throw new IllegalArgumentException("unknown ring " + ringName);
+        };
+        point = coefficient(random);
+        a = Polynomial.from(first);
+        b = Polynomial.from(second);
+    }
+
+    /**
+     * Creates a random coefficient of the ring named by ringName.
+     * @param random the source of randomness.
+     * @return a coefficient.
+     */
+    private Object coefficient(Random random) {
+        switch (ringName) {
+            case "integer":
+                return random.nextInt(1 << 16);
+            case "bigInteger":
+                return BigInteger.valueOf(random.nextInt());
+            case "double":
+                return random.nextDouble();
+            default:
+                return (long) random.nextInt(998244353);
+        }
+    }
+
+    @Benchmark
+    public Polynomial<Object> plus() {
+        return a.plus(b, ring);
+    }
+
+    @Benchmark
+    public Polynomial<Object> times() {
+        return a.times(b, ring);
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        return a.evaluate(point, ring);
+    }
+
+    @Benchmark
+    public Object evaluateEstrin() {
+        return a.evaluateEstrin(point, ring);
+    }
+}
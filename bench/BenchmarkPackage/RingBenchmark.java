@@ -0,0 +1,103 @@
+package BenchmarkPackage;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import RingPackage.BigIntegerRing;
+import RingPackage.DoubleRing;
+import RingPackage.IntegerRing;
+import RingPackage.ModularRing;
+import RingPackage.Rings;
+
+/**
+ * Benchmarks of Rings.sum and Rings.product over lists of each kind of ring element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RingBenchmark {
+
+    @Param({"1000", "100000"})
+    public int length; //the number of elements being reduced
+
+    private final IntegerRing intRing = new IntegerRing();
+    private final BigIntegerRing bigRing = new BigIntegerRing();
+    private final DoubleRing doubleRing = new DoubleRing();
+    private final ModularRing modularRing = ModularRing.instance(998244353L);
+
+    private List<Integer> integers; //random Integers
+    private List<BigInteger> bigIntegers; //random 64-bit BigIntegers
+    private List<Double> doubles; //random Doubles near one, so products stay finite
+    private List<Long> residues; //random residues modulo 998244353
+
+    /**
+     * Creates the lists, with a fixed seed so every fork measures the same data.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        integers = new ArrayList<>(length);
+        bigIntegers = new ArrayList<>(length);
+        doubles = new ArrayList<>(length);
+        residues = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            integers.add(random.nextInt());
+            bigIntegers.add(BigInteger.valueOf(random.nextLong()));
+            doubles.add(1.0 + random.nextDouble() * 1e-6);
+            residues.add(Math.floorMod(random.nextLong(), 998244353L));
+        }
+    }
+
+    @Benchmark
+    public Integer sumIntegers() {
+        return Rings.sum(integers, intRing);
+    }
+
+    @Benchmark
+    public Integer productIntegers() {
+        return Rings.product(integers, intRing);
+    }
+
+    @Benchmark
+    public BigInteger sumBigIntegers() {
+        return Rings.sum(bigIntegers, bigRing);
+    }
+
+    @Benchmark
+    public BigInteger productBigIntegers() {
+        return Rings.product(bigIntegers, bigRing);
+    }
+
+    @Benchmark
+    public Double sumDoubles() {
+        return Rings.sum(doubles, doubleRing);
+    }
+
+    @Benchmark
+    public Double productDoubles() {
+        return Rings.product(doubles, doubleRing);
+    }
+
+    @Benchmark
+    public Long productResidues() {
+        return Rings.product(residues, modularRing);
+    }
+}
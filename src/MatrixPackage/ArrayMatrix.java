@@ -0,0 +1,544 @@
+package MatrixPackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import MatrixPackage.MatrixMap.InconsistentSizeException;
+import MatrixPackage.MatrixMap.InvalidLengthException;
+import MatrixPackage.MatrixMap.InvalidLengthException.Cause;
+import MatrixPackage.MatrixMap.NonSquareException;
+import RingPackage.Accumulator;
+import RingPackage.DoubleRing;
+import RingPackage.IntegerRing;
+import RingPackage.PrimitiveDoubleRing;
+import RingPackage.PrimitiveIntRing;
+import RingPackage.PrimitiveLongRing;
+import RingPackage.Ring;
+import RingPackage.Rings;
+import RingPackage.SimdKernels;
+
+/**
+ * This is a class representing a dense matrix whose entries are stored in a contiguous row-major array.
+ * An entry is addressed by the offset (row * columns + column), so reading a value neither hashes nor allocates an Indexes object.
+ * The factory methods mirror those of MatrixMap, so either storage can be selected by the class whose factory is called.
+ */
+public final class ArrayMatrix<T> implements Matrix<T> {
+
+    private final Object[] entries; //a field storing the entries of the matrix in row-major order
+    private final int rows; //a field representing the number of rows in the matrix
+    private final int columns; //a field representing the number of columns in the matrix
+    private final Indexes size; //a field representing the size of the matrix in Indexes form
+
+    /**
+     * Constructor for the matrix, called by the static factory methods (instance, constant, identity, from, copyOf).
+     * @param entries the row-major array representing the underlying data structure. It is not copied.
+     * @param rows the number of rows in the matrix.
+     * @param columns the number of columns in the matrix.
+     */
+    private ArrayMatrix(Object[] entries, int rows, int columns) {
+        this.entries = entries;
+        this.rows = rows;
+        this.columns = columns;
+        this.size = new Indexes(rows - 1, columns - 1);
+    }
+
+    /**
+     * Gets the matrix size.
+     * @return the greatest index of the matrix.
+     */
+    @Override
+    public Indexes size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of this ArrayMatrix at the specified Indexes object in the argument.
+     * @param indexes the Indexes object containing the row and column of the desired return value.
+     * @return the corresponding value mapped by indexes.
+     * @throws IndexOutOfBoundsException if indexes lies outside of the matrix.
+     */
+    @Override
+    public T value(Indexes indexes) {
+
+        //null check
+        Objects.requireNonNull(indexes, "indexes cannot be null");
+        return value(indexes.row(), indexes.column());
+    }
+
+    /**
+     * Returns the value of this ArrayMatrix at the specified row and column in the argument.
+     * @param row the row of the desired return value.
+     * @param column the column of the desired return value.
+     * @return the corresponding value at (row, column).
+     * @throws IndexOutOfBoundsException if (row, column) lies outside of the matrix.
+     */
+    @SuppressWarnings("unchecked")
+    public T value(int row, int column) {
+        Objects.checkIndex(row, rows);
+        Objects.checkIndex(column, columns);
+        return (T) entries[row * columns + column];
+    }
+
+    /**
+     * Creates an instance of an ArrayMatrix by mapping each index from (0, 0) to (rows, columns) to a value defined by the valueMapper function.
+     * @param <S> the static type S.
+     * @param rows the greatest row of the ArrayMatrix.
+     * @param columns the greatest column of the ArrayMatrix.
+     * @param valueMapper a functional interface which uses a lambda expression to set the values of each Indexes object in the ArrayMatrix.
+     * @return a new ArrayMatrix with the specified size and populated by the user defined function.
+     * @throws InvalidLengthException a precondition is that the rows and columns in the argument must be valid.
+     */
+    public static <S> ArrayMatrix<S> instance(int rows, int columns, Function<Indexes, S> valueMapper) {
+
+        //error handling
+        Objects.requireNonNull(valueMapper, "valueMapper cannot be null");
+        InvalidLengthException.requireNonEmpty(Cause.ROW, rows); //checks if the rows are valid
+        InvalidLengthException.requireNonEmpty(Cause.COLUMN, columns); //checks if the columns are valid
+
+        int rowCount = rows + 1; //the size is the greatest index, so row 0 is added
+        int columnCount = columns + 1; //the size is the greatest index, so column 0 is added
+        Object[] entries = new Object[Math.multiplyExact(rowCount, columnCount)];
+
+        //populating the array with the specified values in row-major order
+        for (int row = 0; row < rowCount; row++) {
+            for (int column = 0; column < columnCount; column++) {
+                entries[row * columnCount + column] = valueMapper.apply(new Indexes(row, column));
+            }
+        }
+        return new ArrayMatrix<>(entries, rowCount, columnCount);
+    }
+
+    /**
+     * Creates an instance of an ArrayMatrix by mapping each index from (0, 0) to the specified size to a value defined by the valueMapper function.
+     * @param <S> the static type S.
+     * @param size the Indexes object containing the greatest row and column of the ArrayMatrix.
+     * @param valueMapper a functional interface which uses a lambda expression to set the values of each Indexes object in the ArrayMatrix.
+     * @return a new ArrayMatrix with the specified size and populated by the user defined function.
+     * @throws InvalidLengthException a precondition is that the size in the argument must be valid.
+     */
+    public static <S> ArrayMatrix<S> instance(Indexes size, Function<Indexes, S> valueMapper) {
+
+        //null checks
+        Objects.requireNonNull(size, "size cannot be null");
+        Objects.requireNonNull(valueMapper, "valueMapper cannot be null");
+
+        //calling the foundational instance method
+        return ArrayMatrix.instance(size.row(), size.column(), valueMapper);
+    }
+
+    /**
+     * Creates an instance of a constant ArrayMatrix, with every entry holding the same value.
+     * @param <S> the static type S.
+     * @param size the integer value representing both the greatest row and column in this ArrayMatrix.
+     * @param value the value that the ArrayMatrix is being populated with.
+     * @return a new ArrayMatrix with the specified size and populated with the specified value at each index.
+     * @throws InvalidLengthException a precondition is that the size in the argument must be valid.
+     */
+    public static <S> ArrayMatrix<S> constant(int size, S value) {
+
+        //null check
+        Objects.requireNonNull(value, "value cannot be null");
+        InvalidLengthException.requireNonEmpty(Cause.ROW, size); //checks if the rows are valid
+
+        Object[] entries = new Object[Math.multiplyExact(size + 1, size + 1)];
+        Arrays.fill(entries, value);
+        return new ArrayMatrix<>(entries, size + 1, size + 1);
+    }
+
+    /**
+     * Creates an instance of an identity ArrayMatrix, populated with the identity along the diagonal and zero otherwise.
+     * @param <S> the static type S.
+     * @param size the integer value representing both the greatest row and column in this ArrayMatrix.
+     * @param zero the value representing zero for type S
+     * @param identity the value representing the multiplicative identity for type S
+     * @return a new ArrayMatrix representing an identity matrix.
+     */
+    public static <S> ArrayMatrix<S> identity(int size, S zero, S identity) {
+
+        //null checks
+        Objects.requireNonNull(zero, "zero cannot be null");
+        Objects.requireNonNull(identity, "identity cannot be null");
+        InvalidLengthException.requireNonEmpty(Cause.ROW, size); //checks if the rows are valid
+
+        int length = size + 1; //the number of rows and columns
+        Object[] entries = new Object[Math.multiplyExact(length, length)];
+        Arrays.fill(entries, zero);
+        for (int i = 0; i < length; i++) {
+            entries[i * length + i] = identity;
+        }
+        return new ArrayMatrix<>(entries, length, length);
+    }
+
+    /**
+     * Creates an instance of an ArrayMatrix from a two dimentional array.
+     * @param <S> the static type S.
+     * @param matrix the two-dimentional array that this method constructs an ArrayMatrix from
+     * @return a new ArrayMatrix representing the matrix in array form passed into the argument
+     * @throws InvalidLengthException a precondition is that the length of the outer and inner arrays of matrix in the argument must be valid.
+     */
+    public static <S> ArrayMatrix<S> from(S[][] matrix) {
+
+        //null check
+        Objects.requireNonNull(matrix, "matrix cannot be null");
+
+        //calling the foundational instance method
+        return instance(matrix.length - 1, matrix[0].length - 1, (index) -> index.value(matrix));
+    }
+
+    /**
+     * Creates an ArrayMatrix holding the same entries as another Matrix, such as a MatrixMap or SparseMatrixMap.
+     * @param <S> the static type S.
+     * @param matrix the Matrix being copied.
+     * @return a new ArrayMatrix with the size and entries of matrix, or matrix itself if it already is an ArrayMatrix.
+     */
+    public static <S> ArrayMatrix<S> copyOf(Matrix<S> matrix) {
+
+        //null check
+        Objects.requireNonNull(matrix, "matrix cannot be null");
+
+        //an ArrayMatrix is immutable, so it does not need to be copied
+        if (matrix instanceof ArrayMatrix) {
+            return (ArrayMatrix<S>) matrix;
+        }
+        return instance(matrix.size(), (index) -> matrix.value(index));
+    }
+
+    /**
+     * Computes Matrix addition, combining the entries of this ArrayMatrix and the other Matrix with the specified BinaryOperator.
+     * @param other the other Matrix being added
+     * @param plus the BinaryOperator interface which computes the addition of each element in the addend Matrices
+     * @return a new ArrayMatrix which is the sum of this ArrayMatrix and the other Matrix.
+     * @throws InconsistentSizeException a precondition is that the two matrices being added must be of equal size.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ArrayMatrix<T> plus(Matrix<T> other, BinaryOperator<T> plus) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(plus, "plus cannot be null");
+
+        //checking if the matrixes are the same size
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        Object[] otherEntries = copyOf(other).entries; //the entries of the other matrix in the same row-major order
+        Object[] sum = new Object[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            sum[i] = plus.apply((T) entries[i], (T) otherEntries[i]);
+        }
+        return new ArrayMatrix<>(sum, rows, columns);
+    }
+
+    /**
+     * Computes Matrix addition over exactly an IntegerRing, adding unboxed copies of the entries with SimdKernels.
+     * @param x the first ArrayMatrix addend.
+     * @param y the second Matrix addend.
+     * @return a new ArrayMatrix which is the sum of x and y.
+     * @throws InconsistentSizeException a precondition is that the two matrices being added must be of equal size.
+     */
+    static ArrayMatrix<Integer> intSum(ArrayMatrix<Integer> x, Matrix<Integer> y) {
+
+        //checking if the matrixes are the same size
+        InconsistentSizeException.requireMatchingSize(x, y);
+
+        Object[] otherEntries = copyOf(y).entries; //the entries of the other matrix in the same row-major order
+        int length = x.entries.length;
+        int[] a = new int[length];
+        int[] b = new int[length];
+        for (int i = 0; i < length; i++) {
+            a[i] = (Integer) x.entries[i];
+            b[i] = (Integer) otherEntries[i];
+        }
+        int[] c = new int[length];
+        SimdKernels.add(a, b, c, length);
+        Object[] sum = new Object[length];
+        for (int i = 0; i < length; i++) {
+            sum[i] = c[i];
+        }
+        return new ArrayMatrix<>(sum, x.rows, x.columns);
+    }
+
+    /**
+     * Computes Matrix multiplication, walking both operands in row-major order so that consecutive reads are adjacent in memory.
+     * Rings that operate on primitive values are multiplied on unboxed copies of the entries.
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations.
+     * @return a new ArrayMatrix which is the product of this ArrayMatrix and the other Matrix.
+     * @throws NonSquareException a precondition is that both factor matrices must be square matrices.
+     * @throws InconsistentSizeException a precondition is that they must be of equal size.
+     */
+    @Override
+    public ArrayMatrix<T> times(Matrix<T> other, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        return multiply(other, ring, null, 1);
+    }
+
+    /**
+     * Computes Matrix multiplication in parallel, splitting the rows of the product into tasks on a ForkJoinPool.
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations. It must be safe to use from several threads.
+     * @param pool the ForkJoinPool running the tasks, such as ForkJoinPool.commonPool().
+     * @param sequentialCutoff the greatest number of rows computed by a single task. Products with no more rows are computed on the calling thread.
+     * @return a new ArrayMatrix which is the product of this ArrayMatrix and the other Matrix.
+     * @throws NonSquareException a precondition is that both factor matrices must be square matrices.
+     * @throws InconsistentSizeException a precondition is that they must be of equal size.
+     * @throws IllegalArgumentException if the sequential cutoff is not positive.
+     */
+    @Override
+    public ArrayMatrix<T> times(Matrix<T> other, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Objects.requireNonNull(pool, "pool cannot be null");
+        RowTasks.requirePositiveCutoff(sequentialCutoff);
+
+        return multiply(other, ring, pool, sequentialCutoff);
+    }
+
+    /**
+     * Computes the product of this ArrayMatrix and another Matrix, dispatching primitive rings to unboxed loops.
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations.
+     * @param pool the ForkJoinPool running the tasks, or null to compute every row on the calling thread.
+     * @param sequentialCutoff the greatest number of rows computed by a single task.
+     * @return a new ArrayMatrix which is the product of this ArrayMatrix and the other Matrix.
+     */
+    private ArrayMatrix<T> multiply(Matrix<T> other, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+
+        NonSquareException.requireDiagonal(this.size()); //checks if this matrix is a square
+        NonSquareException.requireDiagonal(other.size()); //checks if the other matrix is a square
+        InconsistentSizeException.requireMatchingSize(this, other); //checks if the matrixes are of equal size
+
+        Object[] product = multiplyEntries(this.entries, copyOf(other).entries, rows, ring, pool, sequentialCutoff);
+        return new ArrayMatrix<>(product, rows, columns);
+    }
+
+    /**
+     * Multiplies two square row-major arrays, dispatching primitive rings to unboxed loops.
+     * @param <T> the static type T.
+     * @param a the entries of the first factor.
+     * @param b the entries of the second factor.
+     * @param n the number of rows and columns of both factors.
+     * @param ring a Ring object used for intermediate operations.
+     * @param pool the ForkJoinPool running the tasks, or null to compute every row on the calling thread.
+     * @param cutoff the greatest number of rows computed by a single task.
+     * @return the row-major entries of the product.
+     */
+    static <T> Object[] multiplyEntries(Object[] a, Object[] b, int n, Ring<T> ring, ForkJoinPool pool, int cutoff) {
+        if (!Rings.hasPrimitiveOperations(ring)) {
+            return genericTimes(a, b, n, ring, pool, cutoff);
+        }
+        if (ring instanceof PrimitiveIntRing) {
+            return intTimes(a, b, n, (PrimitiveIntRing) ring, pool, cutoff);
+        } else if (ring instanceof PrimitiveLongRing) {
+            return longTimes(a, b, n, (PrimitiveLongRing) ring, pool, cutoff);
+        } else if (ring instanceof PrimitiveDoubleRing) {
+            return doubleTimes(a, b, n, (PrimitiveDoubleRing) ring, pool, cutoff);
+        }
+        return genericTimes(a, b, n, ring, pool, cutoff);
+    }
+
+    /**
+     * Gets the row-major entries of this ArrayMatrix without copying them, for algorithms in this package which only read them.
+     * @return the row-major entries.
+     */
+    Object[] entries() {
+        return entries;
+    }
+
+    /**
+     * Wraps row-major entries in an ArrayMatrix without copying them, for algorithms in this package which build their own entries.
+     * @param <S> the static type S.
+     * @param entries the row-major entries, which must not be modified afterwards.
+     * @param rows the number of rows.
+     * @param columns the number of columns.
+     * @return a new ArrayMatrix backed by the entries.
+     */
+    static <S> ArrayMatrix<S> wrap(Object[] entries, int rows, int columns) {
+        return new ArrayMatrix<>(entries, rows, columns);
+    }
+
+    /**
+     * Multiplies two square row-major arrays in (row, inner, column) loop order, adding into an Accumulator of the ring for each entry of the current row.
+     * @param <T> the static type T.
+     * @param a the entries of the first factor.
+     * @param b the entries of the second factor.
+     * @param n the number of rows and columns of both factors.
+     * @param ring a Ring object used for intermediate operations.
+     * @param pool the ForkJoinPool running the tasks, or null to compute every row on the calling thread.
+     * @param cutoff the greatest number of rows computed by a single task.
+     * @return the row-major entries of the product.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Object[] genericTimes(Object[] a, Object[] b, int n, Ring<T> ring, ForkJoinPool pool, int cutoff) {
+        Object[] c = new Object[a.length];
+        RowTasks.forEachRange(n, pool, cutoff, (from, to) -> {
+            //an accumulator for each entry of a row, reused for every row of the task
+            List<Accumulator<T>> row = new ArrayList<>(n);
+            for (int j = 0; j < n; j++) {
+                row.add(ring.accumulator());
+            }
+            for (int i = from; i < to; i++) {
+                for (int k = 0; k < n; k++) {
+                    T factor = (T) a[i * n + k];
+                    for (int j = 0; j < n; j++) {
+                        row.get(j).addProduct(factor, (T) b[k * n + j]);
+                    }
+                }
+                for (int j = 0; j < n; j++) {
+                    c[i * n + j] = row.get(j).result();
+                    row.get(j).reset();
+                }
+            }
+        });
+        return c;
+    }
+
+    /**
+     * Multiplies two square row-major arrays of Integers on unboxed copies of their entries.
+     * @param a the entries of the first factor.
+     * @param b the entries of the second factor.
+     * @param n the number of rows and columns of both factors.
+     * @param ring the PrimitiveIntRing used for intermediate operations. For IntegerRing each row is updated with SimdKernels.axpy.
+     * @param pool the ForkJoinPool running the tasks, or null to compute every row on the calling thread.
+     * @param cutoff the greatest number of rows computed by a single task.
+     * @return the row-major entries of the product.
+     */
+    private static Object[] intTimes(Object[] a, Object[] b, int n, PrimitiveIntRing ring, ForkJoinPool pool, int cutoff) {
+        int[] x = new int[a.length];
+        int[] y = new int[b.length];
+        for (int i = 0; i < a.length; i++) {
+            x[i] = (Integer) a[i];
+            y[i] = (Integer) b[i];
+        }
+        int[] z = new int[a.length];
+        Arrays.fill(z, ring.intZero());
+        boolean simd = ring.getClass() == IntegerRing.class; //the exact ring whose sum and product are the + and * of SimdKernels
+        RowTasks.forEachRange(n, pool, cutoff, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                for (int k = 0; k < n; k++) {
+                    int factor = x[i * n + k];
+                    if (simd) {
+                        SimdKernels.axpy(factor, y, k * n, z, i * n, n);
+                        continue;
+                    }
+                    for (int j = 0; j < n; j++) {
+                        z[i * n + j] = ring.sum(z[i * n + j], ring.product(factor, y[k * n + j]));
+                    }
+                }
+            }
+        });
+        Object[] c = new Object[z.length];
+        for (int i = 0; i < z.length; i++) {
+            c[i] = z[i];
+        }
+        return c;
+    }
+
+    /**
+     * Multiplies two square row-major arrays of Longs on unboxed copies of their entries.
+     * @param a the entries of the first factor.
+     * @param b the entries of the second factor.
+     * @param n the number of rows and columns of both factors.
+     * @param ring the PrimitiveLongRing used for intermediate operations.
+     * @param pool the ForkJoinPool running the tasks, or null to compute every row on the calling thread.
+     * @param cutoff the greatest number of rows computed by a single task.
+     * @return the row-major entries of the product.
+     */
+    private static Object[] longTimes(Object[] a, Object[] b, int n, PrimitiveLongRing ring, ForkJoinPool pool, int cutoff) {
+        long[] x = new long[a.length];
+        long[] y = new long[b.length];
+        for (int i = 0; i < a.length; i++) {
+            x[i] = (Long) a[i];
+            y[i] = (Long) b[i];
+        }
+        long[] z = new long[a.length];
+        Arrays.fill(z, ring.longZero());
+        RowTasks.forEachRange(n, pool, cutoff, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                for (int k = 0; k < n; k++) {
+                    long factor = x[i * n + k];
+                    for (int j = 0; j < n; j++) {
+                        z[i * n + j] = ring.sum(z[i * n + j], ring.product(factor, y[k * n + j]));
+                    }
+                }
+            }
+        });
+        Object[] c = new Object[z.length];
+        for (int i = 0; i < z.length; i++) {
+            c[i] = z[i];
+        }
+        return c;
+    }
+
+    /**
+     * Multiplies two square row-major arrays of Doubles on unboxed copies of their entries.
+     * @param a the entries of the first factor.
+     * @param b the entries of the second factor.
+     * @param n the number of rows and columns of both factors.
+     * @param ring the PrimitiveDoubleRing used for intermediate operations. For DoubleRing each row is updated with SimdKernels.axpy.
+     * @param pool the ForkJoinPool running the tasks, or null to compute every row on the calling thread.
+     * @param cutoff the greatest number of rows computed by a single task.
+     * @return the row-major entries of the product.
+     */
+    private static Object[] doubleTimes(Object[] a, Object[] b, int n, PrimitiveDoubleRing ring, ForkJoinPool pool, int cutoff) {
+        double[] x = new double[a.length];
+        double[] y = new double[b.length];
+        for (int i = 0; i < a.length; i++) {
+            x[i] = (Double) a[i];
+            y[i] = (Double) b[i];
+        }
+        double[] z = new double[a.length];
+        Arrays.fill(z, ring.doubleZero());
+        boolean simd = ring.getClass() == DoubleRing.class; //the exact ring whose sum and product are the + and * of SimdKernels
+        RowTasks.forEachRange(n, pool, cutoff, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                for (int k = 0; k < n; k++) {
+                    double factor = x[i * n + k];
+                    if (simd) {
+                        SimdKernels.axpy(factor, y, k * n, z, i * n, n);
+                        continue;
+                    }
+                    for (int j = 0; j < n; j++) {
+                        z[i * n + j] = ring.sum(z[i * n + j], ring.product(factor, y[k * n + j]));
+                    }
+                }
+            }
+        });
+        Object[] c = new Object[z.length];
+        for (int i = 0; i < z.length; i++) {
+            c[i] = z[i];
+        }
+        return c;
+    }
+
+    /**
+     * Returns a string representation of the object that "textually represents" an ArrayMatrix.
+     * @return a string consisting of each entry (Indexes: value) in the matrix, laid out in the same format as MatrixMap.
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        //indexing through the rows
+        for (int row = 0; row < rows; row++) {
+
+            //indexing through the corresponding column
+            for (int col = 0; col < columns; col++) {
+                sb.append("[").append(row).append(", ").append(col).append("]: ").append(entries[row * columns + col]).append("\t"); //add the entry
+            }
+            sb.append("\n"); //add a carriage return
+        }
+        return sb.toString();
+    }
+}
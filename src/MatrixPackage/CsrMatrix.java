@@ -0,0 +1,560 @@
+package MatrixPackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+
+import MatrixPackage.MatrixMap.InconsistentSizeException;
+import MatrixPackage.MatrixMap.InvalidLengthException;
+import MatrixPackage.MatrixMap.InvalidLengthException.Cause;
+import MatrixPackage.MatrixMap.NonSquareException;
+import RingPackage.Ring;
+
+/**
+ * This is a class representing a sparse matrix in compressed sparse row (CSR) form.
+ * The nonzero entries of row r are stored, in ascending column order, between rowPointers[r] and rowPointers[r + 1] of the columnIndexes and values arrays.
+ * The transpose of a CsrMatrix holds the compressed sparse column (CSC) arrays of the original matrix.
+ * Products use Gustavson's row-by-row algorithm, so their cost is proportional to the nonzero entries that are combined rather than to the size of the matrix.
+ */
+public final class CsrMatrix<T> implements Matrix<T> {
+
+    private final int[] rowPointers; //a field storing the start of each row in columnIndexes and values, followed by the number of nonzero entries
+    private final int[] columnIndexes; //a field storing the column of each nonzero entry
+    private final Object[] values; //a field storing the value of each nonzero entry
+    private final Indexes size; //a field representing the size of the matrix
+    private final Ring<T> ring; //a field representing a ring used to represent zero
+
+    /**
+     * Constructor for the matrix, called by the static factory methods (instance, copyOf) and by the operations of this class.
+     * @param rowPointers the start of each row, followed by the number of nonzero entries. It is not copied.
+     * @param columnIndexes the column of each nonzero entry. It is not copied.
+     * @param values the value of each nonzero entry. It is not copied.
+     * @param size the greatest index of the matrix.
+     * @param ring the Ring object used to represent the zero of type T.
+     */
+    private CsrMatrix(int[] rowPointers, int[] columnIndexes, Object[] values, Indexes size, Ring<T> ring) {
+        this.rowPointers = rowPointers;
+        this.columnIndexes = columnIndexes;
+        this.values = values;
+        this.size = size;
+        this.ring = ring;
+    }
+
+    /**
+     * Gets the matrix size.
+     * @return the greatest index of the matrix.
+     */
+    @Override
+    public Indexes size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of nonzero entries stored in this CsrMatrix.
+     * @return the number of nonzero entries.
+     */
+    public int nonZeroCount() {
+        return rowPointers[rowPointers.length - 1];
+    }
+
+    /**
+     * Returns the value of this CsrMatrix at the specified Indexes object in the argument, found by a binary search of its row.
+     * @param indexes the Indexes object containing the row and column of the desired return value.
+     * @return the corresponding value mapped by indexes; zero if there is no entry at the specified index.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T value(Indexes indexes) {
+
+        //null check
+        Objects.requireNonNull(indexes, "indexes cannot be null");
+        Objects.checkIndex(indexes.row(), rowPointers.length - 1);
+
+        int row = indexes.row();
+        int position = Arrays.binarySearch(columnIndexes, rowPointers[row], rowPointers[row + 1], indexes.column());
+        return (position < 0) ? ring.zero() : (T) values[position];
+    }
+
+    /**
+     * Creates an instance of a CsrMatrix from a map of its nonzero entries, without visiting the zero entries.
+     * @param <S> the static type S.
+     * @param size the Indexes object containing the greatest row and column of the CsrMatrix.
+     * @param ring the Ring object used to represent the zero of type S.
+     * @param entries the entries of the matrix. Entries mapped to zero are left out.
+     * @return a new CsrMatrix holding the entries.
+     * @throws InvalidLengthException a precondition is that the size in the argument must be valid.
+     * @throws IndexOutOfBoundsException if an entry lies outside of size.
+     */
+    public static <S> CsrMatrix<S> instance(Indexes size, Ring<S> ring, Map<Indexes, S> entries) {
+
+        //null checks
+        Objects.requireNonNull(size, "size cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Objects.requireNonNull(entries, "entries cannot be null");
+        InvalidLengthException.requireNonEmpty(Cause.ROW, size.row()); //checks if the rows are valid
+        InvalidLengthException.requireNonEmpty(Cause.COLUMN, size.column()); //checks if the columns are valid
+
+        //sorting the entries into row-major order, excluding mappings to zero
+        List<Indexes> indexes = new ArrayList<>(entries.size());
+        entries.forEach((index, value) -> {
+            Objects.checkIndex(index.row(), size.row() + 1);
+            Objects.checkIndex(index.column(), size.column() + 1);
+            if (!ring.isZero(value)) {
+                indexes.add(index);
+            }
+        });
+        indexes.sort(null);
+
+        int[] rowPointers = new int[size.row() + 2];
+        int[] columnIndexes = new int[indexes.size()];
+        Object[] values = new Object[indexes.size()];
+        for (int i = 0; i < indexes.size(); i++) {
+            Indexes index = indexes.get(i);
+            rowPointers[index.row() + 1]++;
+            columnIndexes[i] = index.column();
+            values[i] = entries.get(index);
+        }
+
+        //turning the count of each row into the start of the next row
+        for (int row = 0; row <= size.row(); row++) {
+            rowPointers[row + 1] += rowPointers[row];
+        }
+        return new CsrMatrix<>(rowPointers, columnIndexes, values, size, ring);
+    }
+
+    /**
+     * Creates a CsrMatrix holding the same entries as another Matrix.
+     * A SparseMatrixMap only contributes its nonzero entries; any other Matrix is scanned entry by entry.
+     * @param <S> the static type S.
+     * @param matrix the Matrix being copied.
+     * @param ring the Ring object used to represent the zero of type S.
+     * @return a new CsrMatrix with the size and entries of matrix, or matrix itself if it already is a CsrMatrix.
+     */
+    public static <S> CsrMatrix<S> copyOf(Matrix<S> matrix, Ring<S> ring) {
+
+        //null checks
+        Objects.requireNonNull(matrix, "matrix cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        //a CsrMatrix is immutable, so it does not need to be copied
+        if (matrix instanceof CsrMatrix) {
+            return (CsrMatrix<S>) matrix;
+        }
+        if (matrix instanceof SparseMatrixMap) {
+            return fromTable(matrix.size(), ring, ((SparseMatrixMap<S>) matrix).entries());
+        }
+        Map<Indexes, S> entries = new HashMap<>();
+        Indexes.stream(matrix.size()).forEach((index) -> entries.put(index, matrix.value(index)));
+        return instance(matrix.size(), ring, entries);
+    }
+
+    /**
+     * Creates a CsrMatrix from the nonzero entries of a LongKeyTable, whose packed keys sort directly into row-major order.
+     * @param <S> the static type S.
+     * @param size the Indexes object containing the greatest row and column of the CsrMatrix.
+     * @param ring the Ring object used to represent the zero of type S.
+     * @param table the nonzero entries of the matrix.
+     * @return a new CsrMatrix holding the entries.
+     */
+    private static <S> CsrMatrix<S> fromTable(Indexes size, Ring<S> ring, LongKeyTable<S> table) {
+        long[] keys = table.sortedKeys();
+        int[] rowPointers = new int[size.row() + 2];
+        int[] columnIndexes = new int[keys.length];
+        Object[] values = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int row = LongKeyTable.row(keys[i]);
+            int column = LongKeyTable.column(keys[i]);
+            rowPointers[row + 1]++;
+            columnIndexes[i] = column;
+            values[i] = table.get(row, column);
+        }
+
+        //turning the count of each row into the start of the next row
+        for (int row = 0; row <= size.row(); row++) {
+            rowPointers[row + 1] += rowPointers[row];
+        }
+        return new CsrMatrix<>(rowPointers, columnIndexes, values, size, ring);
+    }
+
+    /**
+     * Performs an action on each nonzero entry of this CsrMatrix in row-major order.
+     * @param action the action performed on the index and value of each entry.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachNonZero(BiConsumer<Indexes, T> action) {
+
+        //null check
+        Objects.requireNonNull(action, "action cannot be null");
+
+        for (int row = 0; row < rowPointers.length - 1; row++) {
+            for (int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                action.accept(new Indexes(row, columnIndexes[i]), (T) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Computes the transpose of this CsrMatrix with a counting sort on the columns.
+     * The arrays of the transpose are the compressed sparse column (CSC) form of this matrix.
+     * @return a new CsrMatrix which is the transpose of this matrix.
+     */
+    public CsrMatrix<T> transpose() {
+        int columns = size.column() + 1; //the number of columns, which become the rows of the transpose
+        int[] pointers = new int[columns + 1];
+        for (int i = 0; i < nonZeroCount(); i++) {
+            pointers[columnIndexes[i] + 1]++;
+        }
+        for (int column = 0; column < columns; column++) {
+            pointers[column + 1] += pointers[column];
+        }
+
+        //rows are visited in ascending order, so each row of the transpose is filled in ascending column order
+        int[] next = Arrays.copyOf(pointers, columns);
+        int[] transposedColumns = new int[nonZeroCount()];
+        Object[] transposedValues = new Object[nonZeroCount()];
+        for (int row = 0; row < rowPointers.length - 1; row++) {
+            for (int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                int position = next[columnIndexes[i]]++;
+                transposedColumns[position] = row;
+                transposedValues[position] = values[i];
+            }
+        }
+        return new CsrMatrix<>(pointers, transposedColumns, transposedValues, new Indexes(size.column(), size.row()), ring);
+    }
+
+    /**
+     * Computes Matrix addition by merging the sorted rows of this CsrMatrix and the other Matrix. Sums that are zero are left out.
+     * @param other the other Matrix being added
+     * @param plus the BinaryOperator interface which computes the addition of each element in the addend Matrices
+     * @return a new CsrMatrix which is the sum of this CsrMatrix and the other Matrix.
+     * @throws InconsistentSizeException a precondition is that the two matrices being added must be of equal size.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public CsrMatrix<T> plus(Matrix<T> other, BinaryOperator<T> plus) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(plus, "plus cannot be null");
+
+        //checking if the matrixes are the same size
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        CsrMatrix<T> b = copyOf(other, ring);
+        T zero = ring.zero();
+        int rows = rowPointers.length - 1;
+        int[] pointers = new int[rows + 1];
+        int[] columns = new int[nonZeroCount() + b.nonZeroCount()];
+        Object[] sums = new Object[columns.length];
+        int count = 0;
+
+        for (int row = 0; row < rows; row++) {
+            int i = rowPointers[row];
+            int j = b.rowPointers[row];
+            while (i < rowPointers[row + 1] || j < b.rowPointers[row + 1]) {
+                int aColumn = (i < rowPointers[row + 1]) ? columnIndexes[i] : Integer.MAX_VALUE;
+                int bColumn = (j < b.rowPointers[row + 1]) ? b.columnIndexes[j] : Integer.MAX_VALUE;
+                int column = Math.min(aColumn, bColumn);
+                T addendA = (aColumn == column) ? (T) values[i++] : zero;
+                T addendB = (bColumn == column) ? (T) b.values[j++] : zero;
+                T sum = plus.apply(addendA, addendB);
+                if (!ring.isZero(sum)) {
+                    columns[count] = column;
+                    sums[count] = sum;
+                    count++;
+                }
+            }
+            pointers[row + 1] = count;
+        }
+        return new CsrMatrix<>(pointers, Arrays.copyOf(columns, count), Arrays.copyOf(sums, count), size, ring);
+    }
+
+    /**
+     * Computes Matrix multiplication with Gustavson's algorithm. Each row of the product is the combination of the rows of the other matrix
+     * selected by the nonzero entries of the same row of this matrix, gathered in a sparse accumulator and emitted in ascending column order.
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations.
+     * @return a new CsrMatrix which is the product of this CsrMatrix and the other Matrix.
+     * @throws NonSquareException a precondition is that both factor matrices must be square matrices.
+     * @throws InconsistentSizeException a precondition is that they must be of equal size.
+     */
+    @Override
+    public CsrMatrix<T> times(Matrix<T> other, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        return multiply(other, ring, null, 1);
+    }
+
+    /**
+     * Computes Matrix multiplication with Gustavson's algorithm in parallel. The rows of the product are split into blocks of sequentialCutoff rows,
+     * each computed by a task with its own sparse accumulator, and the blocks are then concatenated in row order.
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations. It must be safe to use from several threads.
+     * @param pool the ForkJoinPool running the tasks, such as ForkJoinPool.commonPool().
+     * @param sequentialCutoff the number of rows computed by a single task. Products with no more rows are computed on the calling thread.
+     * @return a new CsrMatrix which is the product of this CsrMatrix and the other Matrix.
+     * @throws NonSquareException a precondition is that both factor matrices must be square matrices.
+     * @throws InconsistentSizeException a precondition is that they must be of equal size.
+     * @throws IllegalArgumentException if the sequential cutoff is not positive.
+     */
+    @Override
+    public CsrMatrix<T> times(Matrix<T> other, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Objects.requireNonNull(pool, "pool cannot be null");
+        RowTasks.requirePositiveCutoff(sequentialCutoff);
+
+        return multiply(other, ring, pool, sequentialCutoff);
+    }
+
+    /**
+     * Computes the product of this CsrMatrix and another Matrix one block of rows at a time, and concatenates the blocks.
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations.
+     * @param pool the ForkJoinPool running the tasks, or null to compute every row on the calling thread.
+     * @param sequentialCutoff the number of rows in each block when pool is not null.
+     * @return a new CsrMatrix which is the product of this CsrMatrix and the other Matrix.
+     */
+    private CsrMatrix<T> multiply(Matrix<T> other, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+
+        NonSquareException.requireDiagonal(this.size()); //checks if this matrix is a square
+        NonSquareException.requireDiagonal(other.size()); //checks if the other matrix is a square
+        InconsistentSizeException.requireMatchingSize(this, other); //checks if the matrixes are of equal size
+
+        CsrMatrix<T> b = copyOf(other, this.ring);
+        int rows = rowPointers.length - 1;
+        int blockRows = (pool == null) ? rows : sequentialCutoff; //the number of rows in each block
+        int blockCount = (rows + blockRows - 1) / blockRows;
+
+        //each block is computed independently into its own RowBlock, with a sparse accumulator taken from those left by finished blocks,
+        //so at most one accumulator is allocated for each worker rather than one for each block
+        RowBlock[] blocks = new RowBlock[blockCount];
+        Queue<SparseAccumulator> accumulators = new ConcurrentLinkedQueue<>(); //the accumulators not in use by a task
+        RowTasks.forEachRange(blockCount, pool, 1, (from, to) -> {
+            SparseAccumulator polled = accumulators.poll();
+            SparseAccumulator accumulator = (polled == null) ? new SparseAccumulator(size.column() + 1) : polled;
+            for (int block = from; block < to; block++) {
+                blocks[block] = multiplyRows(b, ring, accumulator, block * blockRows, Math.min(rows, (block + 1) * blockRows));
+            }
+            accumulators.offer(accumulator);
+        });
+
+        //concatenating the blocks in row order
+        int[] pointers = new int[rows + 1];
+        int count = 0;
+        for (RowBlock block : blocks) {
+            count += block.count;
+        }
+        int[] productColumns = new int[count];
+        Object[] productValues = new Object[count];
+        int row = 0;
+        int position = 0;
+        for (RowBlock block : blocks) {
+            for (int rowCount : block.rowCounts) {
+                pointers[row + 1] = pointers[row] + rowCount;
+                row++;
+            }
+            System.arraycopy(block.columns, 0, productColumns, position, block.count);
+            System.arraycopy(block.values, 0, productValues, position, block.count);
+            position += block.count;
+        }
+        return new CsrMatrix<>(pointers, productColumns, productValues, size, this.ring);
+    }
+
+    /**
+     * The nonzero entries of a contiguous block of rows of a product, in CSR order.
+     */
+    private static final class RowBlock {
+        private final int[] rowCounts; //the number of nonzero entries in each row of the block
+        private final int[] columns; //the column of each nonzero entry
+        private final Object[] values; //the value of each nonzero entry
+        private final int count; //the number of nonzero entries in the block
+
+        /**
+         * Constructor for a RowBlock.
+         * @param rowCounts the number of nonzero entries in each row of the block.
+         * @param columns the column of each nonzero entry, possibly followed by unused capacity.
+         * @param values the value of each nonzero entry, possibly followed by unused capacity.
+         * @param count the number of nonzero entries in the block.
+         */
+        private RowBlock(int[] rowCounts, int[] columns, Object[] values, int count) {
+            this.rowCounts = rowCounts;
+            this.columns = columns;
+            this.values = values;
+            this.count = count;
+        }
+    }
+
+    /**
+     * The sparse accumulator of Gustavson's algorithm, holding the partial sums of the row being computed.
+     * It is reused from row to row and from block to block: every partial sum is cleared when its row is emitted,
+     * and a column is only read once the marker shows that the current row touched it, so no array needs to be refilled.
+     */
+    private static final class SparseAccumulator {
+        private final Object[] sums; //the partial sum of each column touched by the current row
+        private final int[] marker; //the row that last touched each column, or -1
+        private final int[] touched; //the columns touched by the current row, in the order they were touched
+
+        /**
+         * Constructor for a SparseAccumulator.
+         * @param columns the number of columns of the product.
+         */
+        private SparseAccumulator(int columns) {
+            this.sums = new Object[columns];
+            this.marker = new int[columns];
+            this.touched = new int[columns];
+            Arrays.fill(marker, -1);
+        }
+    }
+
+    /**
+     * Computes the rows from (inclusive) to (exclusive) of the product of this CsrMatrix and another with Gustavson's algorithm.
+     * @param b the other factor.
+     * @param ring a Ring object used for intermediate operations.
+     * @param workspace the sparse accumulator, which is not used by any other task at the same time.
+     * @param from the first row being computed.
+     * @param to the row after the last row being computed.
+     * @return the nonzero entries of the computed rows.
+     */
+    @SuppressWarnings("unchecked")
+    private RowBlock multiplyRows(CsrMatrix<T> b, Ring<T> ring, SparseAccumulator workspace, int from, int to) {
+        Object[] accumulator = workspace.sums;
+        int[] marker = workspace.marker;
+        int[] touched = workspace.touched;
+
+        int[] rowCounts = new int[to - from];
+        int[] productColumns = new int[Math.max(rowPointers[to] - rowPointers[from], 16)];
+        Object[] productValues = new Object[productColumns.length];
+        int count = 0;
+
+        for (int row = from; row < to; row++) {
+            int touchedCount = 0;
+            for (int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                int k = columnIndexes[i];
+                T factor = (T) values[i];
+                for (int j = b.rowPointers[k]; j < b.rowPointers[k + 1]; j++) {
+                    int column = b.columnIndexes[j];
+                    T product = ring.product(factor, (T) b.values[j]);
+                    if (marker[column] != row) {
+                        marker[column] = row;
+                        accumulator[column] = product;
+                        touched[touchedCount++] = column;
+                    } else {
+                        accumulator[column] = ring.sum((T) accumulator[column], product);
+                    }
+                }
+            }
+
+            //emitting the row in ascending column order, excluding sums that cancelled to zero
+            Arrays.sort(touched, 0, touchedCount);
+            if (count + touchedCount > productColumns.length) {
+                int capacity = Math.max(count + touchedCount, productColumns.length * 2);
+                productColumns = Arrays.copyOf(productColumns, capacity);
+                productValues = Arrays.copyOf(productValues, capacity);
+            }
+            int rowStart = count;
+            for (int t = 0; t < touchedCount; t++) {
+                int column = touched[t];
+                if (!this.ring.isZero((T) accumulator[column])) {
+                    productColumns[count] = column;
+                    productValues[count] = accumulator[column];
+                    count++;
+                }
+                accumulator[column] = null;
+            }
+            rowCounts[row - from] = count - rowStart;
+        }
+        return new RowBlock(rowCounts, productColumns, productValues, count);
+    }
+
+    /**
+     * Computes the product of this CsrMatrix and a column vector (SpMV). Each entry of the result is the dot product of the nonzero entries of a row with the vector,
+     * so the work is proportional to the number of nonzero entries rather than to the size of the matrix.
+     * @param vector the Vector factor, with one entry for each column of this matrix.
+     * @param ring a Ring object used for intermediate operations.
+     * @return a new Vector with one entry for each row of this matrix.
+     * @throws InconsistentSizeException a precondition is that the length of the vector must equal the number of columns of the matrix.
+     */
+    @Override
+    public Vector<T> times(Vector<T> vector, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(vector, "vector cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        return multiply(vector, ring, null, 1);
+    }
+
+    /**
+     * Computes the product of this CsrMatrix and a column vector in parallel, splitting the rows of the result into tasks on a ForkJoinPool.
+     * Tasks only read the matrix and the vector and write disjoint entries of the result.
+     * @param vector the Vector factor, with one entry for each column of this matrix.
+     * @param ring a Ring object used for intermediate operations. It must be safe to use from several threads.
+     * @param pool the ForkJoinPool running the tasks, such as ForkJoinPool.commonPool().
+     * @param sequentialCutoff the greatest number of rows computed by a single task. Products with no more rows are computed on the calling thread.
+     * @return a new Vector with one entry for each row of this matrix.
+     * @throws InconsistentSizeException a precondition is that the length of the vector must equal the number of columns of the matrix.
+     * @throws IllegalArgumentException if the sequential cutoff is not positive.
+     */
+    @Override
+    public Vector<T> times(Vector<T> vector, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+
+        //null checks
+        Objects.requireNonNull(vector, "vector cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Objects.requireNonNull(pool, "pool cannot be null");
+        RowTasks.requirePositiveCutoff(sequentialCutoff);
+
+        return multiply(vector, ring, pool, sequentialCutoff);
+    }
+
+    /**
+     * Computes the product of this CsrMatrix and a column vector one range of rows at a time.
+     * @param vector the Vector factor.
+     * @param ring a Ring object used for intermediate operations.
+     * @param pool the ForkJoinPool running the tasks, or null to compute every row on the calling thread.
+     * @param sequentialCutoff the greatest number of rows computed by a single task.
+     * @return a new Vector with one entry for each row of this matrix.
+     */
+    private Vector<T> multiply(Vector<T> vector, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+        Vector.requireConformable(this, vector);
+
+        Object[] x = vector.entries(); //the entries of the vector
+        Object[] y = new Object[rowPointers.length - 1]; //the entries of the product
+        RowTasks.forEachRange(y.length, pool, sequentialCutoff, (from, to) -> {
+            for (int row = from; row < to; row++) {
+                y[row] = DotProducts.sparseDot(values, columnIndexes, rowPointers[row], rowPointers[row + 1], x, ring);
+            }
+        });
+        return Vector.wrap(y);
+    }
+
+    /**
+     * Returns a string representation of the object that "textually represents" a CsrMatrix.
+     * @return a string listing the nonzero entries (Indexes: value) of each row, one row per line.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int row = 0; row < rowPointers.length - 1; row++) {
+            for (int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                sb.append("[").append(row).append(", ").append(columnIndexes[i]).append("]: ").append(values[i]).append("\t"); //add the entry
+            }
+            sb.append("\n"); //add a carriage return
+        }
+        return sb.toString();
+    }
+}
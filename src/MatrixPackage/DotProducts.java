@@ -0,0 +1,148 @@
+package MatrixPackage;
+
+import RingPackage.Accumulator;
+import RingPackage.PrimitiveDoubleRing;
+import RingPackage.PrimitiveIntRing;
+import RingPackage.PrimitiveLongRing;
+import RingPackage.Ring;
+import RingPackage.Rings;
+
+/**
+ * This is a helper class computing the entries of a matrix product, shared by the Matrix implementations.
+ * Rings that operate on primitive values accumulate into a primitive local, so only the final entry is boxed,
+ * and other rings accumulate with their Accumulator, which for BigIntegerRing and PolynomialRing only creates the final entry.
+ */
+final class DotProducts {
+
+    /**
+     * Private constructor, since this class only has static methods
+     */
+    private DotProducts() {
+    }
+
+    /**
+     * Conducts the matrix multiplication operation and computes the resulting value at each index of the matrix.
+     * @param <T> the static type T.
+     * @param left the first Matrix factor.
+     * @param right the second Matrix factor.
+     * @param ring a Ring object used for intermediate operations.
+     * @param length the length of the matrix dimentions. It can be either a row or column since the matrices being multiplied must both be squares.
+     * @param index the Indexes object which represents the index of the product being computed.
+     * @return the T product of matrix multiplication between left and right at the specified index. 
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T productAtIndex(Matrix<T> left, Matrix<T> right, Ring<T> ring, int length, Indexes index) {
+        boolean primitive = Rings.hasPrimitiveOperations(ring); //whether the entries are multiplied unboxed
+        if (primitive && ring instanceof PrimitiveIntRing) {
+            return (T) Integer.valueOf(intProductAtIndex((Matrix<Integer>) left, (Matrix<Integer>) right, (PrimitiveIntRing) ring, length, index));
+        }
+        if (primitive && ring instanceof PrimitiveLongRing) {
+            return (T) Long.valueOf(longProductAtIndex((Matrix<Long>) left, (Matrix<Long>) right, (PrimitiveLongRing) ring, length, index));
+        }
+        if (primitive && ring instanceof PrimitiveDoubleRing) {
+            return (T) Double.valueOf(doubleProductAtIndex((Matrix<Double>) left, (Matrix<Double>) right, (PrimitiveDoubleRing) ring, length, index));
+        }
+        //other rings add each product of the row of left and the column of right into their accumulator, which only creates the sum
+        Accumulator<T> accumulator = ring.accumulator();
+        for (int i = 0; i <= length; i++) {
+            accumulator.addProduct(left.value(new Indexes(index.row(), i)), right.value(new Indexes(i, index.column())));
+        }
+        return accumulator.result();
+    }
+
+    /**
+     * Computes an entry of a matrix product over a PrimitiveIntRing, accumulating into an int.
+     * @param left the first Matrix factor.
+     * @param right the second Matrix factor.
+     * @param ring the PrimitiveIntRing used for intermediate operations.
+     * @param length the greatest row and column of the square factors.
+     * @param index the index of the product being computed.
+     * @return the unboxed entry of the product at index.
+     */
+    private static int intProductAtIndex(Matrix<Integer> left, Matrix<Integer> right, PrimitiveIntRing ring, int length, Indexes index) {
+        int sum = ring.intZero();
+        for (int i = 0; i <= length; i++) {
+            sum = ring.sum(sum, ring.product(left.value(new Indexes(index.row(), i)).intValue(), right.value(new Indexes(i, index.column())).intValue()));
+        }
+        return sum;
+    }
+
+    /**
+     * Computes an entry of a matrix product over a PrimitiveLongRing, accumulating into a long.
+     * @param left the first Matrix factor.
+     * @param right the second Matrix factor.
+     * @param ring the PrimitiveLongRing used for intermediate operations.
+     * @param length the greatest row and column of the square factors.
+     * @param index the index of the product being computed.
+     * @return the unboxed entry of the product at index.
+     */
+    private static long longProductAtIndex(Matrix<Long> left, Matrix<Long> right, PrimitiveLongRing ring, int length, Indexes index) {
+        long sum = ring.longZero();
+        for (int i = 0; i <= length; i++) {
+            sum = ring.sum(sum, ring.product(left.value(new Indexes(index.row(), i)).longValue(), right.value(new Indexes(i, index.column())).longValue()));
+        }
+        return sum;
+    }
+
+    /**
+     * Computes an entry of a matrix product over a PrimitiveDoubleRing, accumulating into a double.
+     * @param left the first Matrix factor.
+     * @param right the second Matrix factor.
+     * @param ring the PrimitiveDoubleRing used for intermediate operations.
+     * @param length the greatest row and column of the square factors.
+     * @param index the index of the product being computed.
+     * @return the unboxed entry of the product at index.
+     */
+    private static double doubleProductAtIndex(Matrix<Double> left, Matrix<Double> right, PrimitiveDoubleRing ring, int length, Indexes index) {
+        double sum = ring.doubleZero();
+        for (int i = 0; i <= length; i++) {
+            sum = ring.sum(sum, ring.product(left.value(new Indexes(index.row(), i)).doubleValue(), right.value(new Indexes(i, index.column())).doubleValue()));
+        }
+        return sum;
+    }
+
+    /**
+     * Computes the dot product of a run of the nonzero entries of a sparse row with a dense vector, such as a row of a CsrMatrix.
+     * @param <T> the static type T.
+     * @param values the values of the nonzero entries.
+     * @param columns the column of each nonzero entry.
+     * @param from the position of the first entry of the row.
+     * @param to the position after the last entry of the row.
+     * @param vector the entries of the dense vector, indexed by column.
+     * @param ring a Ring object used for intermediate operations.
+     * @return the sum of the products of the entries of the row with the entries of the vector in their columns.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T sparseDot(Object[] values, int[] columns, int from, int to, Object[] vector, Ring<T> ring) {
+        boolean primitive = Rings.hasPrimitiveOperations(ring); //whether the entries are multiplied unboxed
+        if (primitive && ring instanceof PrimitiveIntRing) {
+            PrimitiveIntRing intRing = (PrimitiveIntRing) ring;
+            int sum = intRing.intZero();
+            for (int i = from; i < to; i++) {
+                sum = intRing.sum(sum, intRing.product(((Integer) values[i]).intValue(), ((Integer) vector[columns[i]]).intValue()));
+            }
+            return (T) Integer.valueOf(sum);
+        }
+        if (primitive && ring instanceof PrimitiveLongRing) {
+            PrimitiveLongRing longRing = (PrimitiveLongRing) ring;
+            long sum = longRing.longZero();
+            for (int i = from; i < to; i++) {
+                sum = longRing.sum(sum, longRing.product(((Long) values[i]).longValue(), ((Long) vector[columns[i]]).longValue()));
+            }
+            return (T) Long.valueOf(sum);
+        }
+        if (primitive && ring instanceof PrimitiveDoubleRing) {
+            PrimitiveDoubleRing doubleRing = (PrimitiveDoubleRing) ring;
+            double sum = doubleRing.doubleZero();
+            for (int i = from; i < to; i++) {
+                sum = doubleRing.sum(sum, doubleRing.product(((Double) values[i]).doubleValue(), ((Double) vector[columns[i]]).doubleValue()));
+            }
+            return (T) Double.valueOf(sum);
+        }
+        Accumulator<T> accumulator = ring.accumulator();
+        for (int i = from; i < to; i++) {
+            accumulator.addProduct((T) values[i], (T) vector[columns[i]]);
+        }
+        return accumulator.result();
+    }
+}
@@ -0,0 +1,514 @@
+package MatrixPackage;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import MatrixPackage.MatrixMap.InconsistentSizeException;
+import MatrixPackage.MatrixMap.InvalidLengthException;
+import MatrixPackage.MatrixMap.InvalidLengthException.Cause;
+import MatrixPackage.MatrixMap.NonSquareException;
+import RingPackage.DoubleRing;
+import RingPackage.PrimitiveDoubleRing;
+import RingPackage.Ring;
+import RingPackage.Rings;
+import RingPackage.SimdKernels;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This is a class representing a dense matrix of doubles stored in a primitive row-major array.
+ * Products over exactly a DoubleRing use a cache-blocked kernel: operands are packed into contiguous panels sized for the L1 and L2 caches,
+ * and each 4 x 4 block of the result is accumulated in registers, as four 256-bit vectors when SimdKernels reports vectors at least that wide.
+ * Since the blocked kernel sums in a different order than the per-index product, entries may differ from it by floating point rounding.
+ */
+public final class DoubleMatrix implements Matrix<Double> {
+
+    static final int MR = 4; //rows of the register block
+    static final int NR = 4; //columns of the register block
+    static final int MC = 64; //rows of a packed panel of the first factor, sized for the L2 cache
+    static final int KC = 256; //depth of the packed panels, sized so a panel of the second factor stays in the L1 cache
+    static final int NC = 1024; //columns of a packed panel of the second factor
+    private static final boolean VECTOR_KERNEL = SimdKernels.vectorBits() >= 256; //whether full register blocks are computed with the Vector API
+
+    private final double[] entries; //a field storing the entries of the matrix in row-major order
+    private final int rows; //a field representing the number of rows in the matrix
+    private final int columns; //a field representing the number of columns in the matrix
+    private final Indexes size; //a field representing the size of the matrix in Indexes form
+
+    /**
+     * Constructor for the matrix, called by the static factory methods (instance, from, copyOf).
+     * @param entries the row-major array representing the underlying data structure. It is not copied.
+     * @param rows the number of rows in the matrix.
+     * @param columns the number of columns in the matrix.
+     */
+    private DoubleMatrix(double[] entries, int rows, int columns) {
+        this.entries = entries;
+        this.rows = rows;
+        this.columns = columns;
+        this.size = new Indexes(rows - 1, columns - 1);
+    }
+
+    /**
+     * Gets the matrix size.
+     * @return the greatest index of the matrix.
+     */
+    @Override
+    public Indexes size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of this DoubleMatrix at the specified Indexes object in the argument.
+     * @param indexes the Indexes object containing the row and column of the desired return value.
+     * @return the corresponding value mapped by indexes.
+     * @throws IndexOutOfBoundsException if indexes lies outside of the matrix.
+     */
+    @Override
+    public Double value(Indexes indexes) {
+
+        //null check
+        Objects.requireNonNull(indexes, "indexes cannot be null");
+        return value(indexes.row(), indexes.column());
+    }
+
+    /**
+     * Returns the unboxed value of this DoubleMatrix at the specified row and column in the argument.
+     * @param row the row of the desired return value.
+     * @param column the column of the desired return value.
+     * @return the corresponding value at (row, column).
+     * @throws IndexOutOfBoundsException if (row, column) lies outside of the matrix.
+     */
+    public double value(int row, int column) {
+        Objects.checkIndex(row, rows);
+        Objects.checkIndex(column, columns);
+        return entries[row * columns + column];
+    }
+
+    /**
+     * Creates an instance of a DoubleMatrix by mapping each index from (0, 0) to (rows, columns) to a value defined by the valueMapper function.
+     * @param rows the greatest row of the DoubleMatrix.
+     * @param columns the greatest column of the DoubleMatrix.
+     * @param valueMapper a functional interface which uses a lambda expression to set the values of each Indexes object in the DoubleMatrix.
+     * @return a new DoubleMatrix with the specified size and populated by the user defined function.
+     * @throws InvalidLengthException a precondition is that the rows and columns in the argument must be valid.
+     */
+    public static DoubleMatrix instance(int rows, int columns, Function<Indexes, Double> valueMapper) {
+
+        //error handling
+        Objects.requireNonNull(valueMapper, "valueMapper cannot be null");
+        InvalidLengthException.requireNonEmpty(Cause.ROW, rows); //checks if the rows are valid
+        InvalidLengthException.requireNonEmpty(Cause.COLUMN, columns); //checks if the columns are valid
+
+        int rowCount = rows + 1; //the size is the greatest index, so row 0 is added
+        int columnCount = columns + 1; //the size is the greatest index, so column 0 is added
+        double[] entries = new double[Math.multiplyExact(rowCount, columnCount)];
+
+        //populating the array with the specified values in row-major order
+        for (int row = 0; row < rowCount; row++) {
+            for (int column = 0; column < columnCount; column++) {
+                entries[row * columnCount + column] = valueMapper.apply(new Indexes(row, column));
+            }
+        }
+        return new DoubleMatrix(entries, rowCount, columnCount);
+    }
+
+    /**
+     * Creates an instance of a DoubleMatrix by mapping each index from (0, 0) to the specified size to a value defined by the valueMapper function.
+     * @param size the Indexes object containing the greatest row and column of the DoubleMatrix.
+     * @param valueMapper a functional interface which uses a lambda expression to set the values of each Indexes object in the DoubleMatrix.
+     * @return a new DoubleMatrix with the specified size and populated by the user defined function.
+     * @throws InvalidLengthException a precondition is that the size in the argument must be valid.
+     */
+    public static DoubleMatrix instance(Indexes size, Function<Indexes, Double> valueMapper) {
+
+        //null checks
+        Objects.requireNonNull(size, "size cannot be null");
+        Objects.requireNonNull(valueMapper, "valueMapper cannot be null");
+
+        //calling the foundational instance method
+        return DoubleMatrix.instance(size.row(), size.column(), valueMapper);
+    }
+
+    /**
+     * Creates an instance of a DoubleMatrix from a two dimentional array of doubles.
+     * @param matrix the two-dimentional array that this method constructs a DoubleMatrix from
+     * @return a new DoubleMatrix representing the matrix in array form passed into the argument
+     * @throws InvalidLengthException a precondition is that the length of the outer and inner arrays of matrix in the argument must be valid.
+     */
+    public static DoubleMatrix from(double[][] matrix) {
+
+        //null check
+        Objects.requireNonNull(matrix, "matrix cannot be null");
+
+        //calling the foundational instance method
+        return instance(matrix.length - 1, matrix[0].length - 1, (index) -> matrix[index.row()][index.column()]);
+    }
+
+    /**
+     * Creates a DoubleMatrix holding the same entries as another Matrix of Doubles.
+     * @param matrix the Matrix being copied.
+     * @return a new DoubleMatrix with the size and entries of matrix, or matrix itself if it already is a DoubleMatrix.
+     */
+    public static DoubleMatrix copyOf(Matrix<Double> matrix) {
+
+        //null check
+        Objects.requireNonNull(matrix, "matrix cannot be null");
+
+        //a DoubleMatrix is immutable, so it does not need to be copied
+        if (matrix instanceof DoubleMatrix) {
+            return (DoubleMatrix) matrix;
+        }
+        return instance(matrix.size(), (index) -> matrix.value(index));
+    }
+
+    /**
+     * Computes Matrix addition, combining the entries of this DoubleMatrix and the other Matrix with the specified BinaryOperator.
+     * @param other the other Matrix being added
+     * @param plus the BinaryOperator interface which computes the addition of each element in the addend Matrices
+     * @return a new DoubleMatrix which is the sum of this DoubleMatrix and the other Matrix.
+     * @throws InconsistentSizeException a precondition is that the two matrices being added must be of equal size.
+     */
+    @Override
+    public DoubleMatrix plus(Matrix<Double> other, BinaryOperator<Double> plus) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(plus, "plus cannot be null");
+
+        //checking if the matrixes are the same size
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        double[] otherEntries = copyOf(other).entries; //the entries of the other matrix in the same row-major order
+        double[] sum = new double[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            sum[i] = plus.apply(entries[i], otherEntries[i]);
+        }
+        return new DoubleMatrix(sum, rows, columns);
+    }
+
+    /**
+     * Adds another Matrix of Doubles to this DoubleMatrix entry by entry with SimdKernels, which is how MatrixRing adds a DoubleMatrix over a DoubleRing.
+     * The sums are the same as those of plus with the + operator.
+     * @param other the other Matrix being added
+     * @return a new DoubleMatrix which is the sum of this DoubleMatrix and the other Matrix.
+     * @throws InconsistentSizeException a precondition is that the two matrices being added must be of equal size.
+     */
+    DoubleMatrix sum(Matrix<Double> other) {
+
+        //checking if the matrixes are the same size
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        double[] sum = new double[entries.length];
+        SimdKernels.add(entries, copyOf(other).entries, sum, entries.length);
+        return new DoubleMatrix(sum, rows, columns);
+    }
+
+    /**
+     * Computes Matrix multiplication. Exactly a DoubleRing is multiplied with the cache-blocked kernel,
+     * any other PrimitiveDoubleRing except a subclass of DoubleRing with a row-major loop over unboxed entries, and any other ring entry by entry.
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations.
+     * @return a new DoubleMatrix which is the product of this DoubleMatrix and the other Matrix.
+     * @throws NonSquareException a precondition is that both factor matrices must be square matrices.
+     * @throws InconsistentSizeException a precondition is that they must be of equal size.
+     */
+    @Override
+    public DoubleMatrix times(Matrix<Double> other, Ring<Double> ring) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        return multiply(other, ring, null, 1);
+    }
+
+    /**
+     * Computes Matrix multiplication in parallel, splitting the rows of the product into tasks on a ForkJoinPool.
+     * Tasks share each packed panel of the second factor and compute disjoint blocks of rows with the same kernel as the sequential product.
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations. It must be safe to use from several threads.
+     * @param pool the ForkJoinPool running the tasks, such as ForkJoinPool.commonPool().
+     * @param sequentialCutoff the greatest number of rows computed by a single task. Products with no more rows are computed on the calling thread.
+     * @return a new DoubleMatrix which is the product of this DoubleMatrix and the other Matrix.
+     * @throws NonSquareException a precondition is that both factor matrices must be square matrices.
+     * @throws InconsistentSizeException a precondition is that they must be of equal size.
+     * @throws IllegalArgumentException if the sequential cutoff is not positive.
+     */
+    @Override
+    public DoubleMatrix times(Matrix<Double> other, Ring<Double> ring, ForkJoinPool pool, int sequentialCutoff) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Objects.requireNonNull(pool, "pool cannot be null");
+        RowTasks.requirePositiveCutoff(sequentialCutoff);
+
+        return multiply(other, ring, pool, sequentialCutoff);
+    }
+
+    /**
+     * Computes the product of this DoubleMatrix and another Matrix, dispatching on the kind of ring.
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations.
+     * @param pool the ForkJoinPool running the tasks, or null to compute every row on the calling thread.
+     * @param sequentialCutoff the greatest number of rows computed by a single task.
+     * @return a new DoubleMatrix which is the product of this DoubleMatrix and the other Matrix.
+     */
+    private DoubleMatrix multiply(Matrix<Double> other, Ring<Double> ring, ForkJoinPool pool, int sequentialCutoff) {
+
+        NonSquareException.requireDiagonal(this.size()); //checks if this matrix is a square
+        NonSquareException.requireDiagonal(other.size()); //checks if the other matrix is a square
+        InconsistentSizeException.requireMatchingSize(this, other); //checks if the matrixes are of equal size
+
+        double[] b = copyOf(other).entries; //the entries of the second factor
+        double[] c = new double[entries.length]; //the entries of the product
+        if (ring.getClass() == DoubleRing.class) {
+            multiply(entries, b, c, rows, columns, rows, pool, sequentialCutoff);
+        } else if (ring instanceof PrimitiveDoubleRing && Rings.hasPrimitiveOperations(ring)) {
+            PrimitiveDoubleRing doubleRing = (PrimitiveDoubleRing) ring;
+            RowTasks.forEachRange(rows, pool, sequentialCutoff, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    for (int j = 0; j < columns; j++) {
+                        double sum = doubleRing.doubleZero();
+                        for (int k = 0; k < columns; k++) {
+                            sum = doubleRing.sum(sum, doubleRing.product(entries[i * columns + k], b[k * columns + j]));
+                        }
+                        c[i * columns + j] = sum;
+                    }
+                }
+            });
+        } else {
+            RowTasks.forEachRange(rows, pool, sequentialCutoff, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    for (int j = 0; j < columns; j++) {
+                        Double sum = ring.zero();
+                        for (int k = 0; k < columns; k++) {
+                            sum = ring.sum(sum, ring.product(entries[i * columns + k], b[k * columns + j]));
+                        }
+                        c[i * columns + j] = sum;
+                    }
+                }
+            });
+        }
+        return new DoubleMatrix(c, rows, columns);
+    }
+
+    /**
+     * Accumulates the product of two row-major arrays into a third (c += a * b) using cache and register blocking.
+     * The second factor is packed into panels of NR columns and the first into panels of MR rows,
+     * so the inner kernel reads both operands sequentially regardless of the matrix width.
+     * Each panel of the second factor is packed once and shared, while the MC-row blocks of the first factor are split into tasks.
+     * @param a the m x k entries of the first factor.
+     * @param b the k x n entries of the second factor.
+     * @param c the m x n entries of the result, which are added to.
+     * @param m the number of rows of a and c.
+     * @param n the number of columns of b and c.
+     * @param k the number of columns of a and rows of b.
+     * @param pool the ForkJoinPool running the tasks, or null to compute every row on the calling thread.
+     * @param sequentialCutoff the greatest number of rows computed by a single task, rounded up to a multiple of MC.
+     */
+    static void multiply(double[] a, double[] b, double[] c, int m, int n, int k, ForkJoinPool pool, int sequentialCutoff) {
+        double[] packedB = new double[Math.min(KC, k) * roundUp(Math.min(NC, n), NR)]; //a panel of the second factor
+        int blocks = (m + MC - 1) / MC; //the number of MC-row blocks of the first factor
+        int blocksPerTask = (sequentialCutoff + MC - 1) / MC; //the greatest number of blocks computed by a single task
+
+        for (int jc = 0; jc < n; jc += NC) {
+            int nc = Math.min(NC, n - jc);
+            int column = jc;
+            for (int pc = 0; pc < k; pc += KC) {
+                int kc = Math.min(KC, k - pc);
+                int depth = pc;
+                packB(b, n, pc, jc, kc, nc, packedB);
+
+                //tasks only read the shared panel of the second factor and write disjoint rows of the result
+                RowTasks.forEachRange(blocks, pool, blocksPerTask, (from, to) -> {
+                    double[] packedA = new double[roundUp(Math.min(MC, m), MR) * kc]; //a panel of the first factor
+                    for (int ic = from * MC; ic < Math.min(m, to * MC); ic += MC) {
+                        int mc = Math.min(MC, m - ic);
+                        packA(a, k, ic, depth, mc, kc, packedA);
+                        for (int jr = 0; jr < nc; jr += NR) {
+                            for (int ir = 0; ir < mc; ir += MR) {
+                                kernel(packedA, ir * kc, packedB, jr * kc, kc, c, n, ic + ir, column + jr, Math.min(MR, mc - ir), Math.min(NR, nc - jr));
+                            }
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Rounds a length up to a multiple of a block size.
+     * @param length the length being rounded.
+     * @param block the block size.
+     * @return the smallest multiple of block which is at least length.
+     */
+    private static int roundUp(int length, int block) {
+        return (length + block - 1) / block * block;
+    }
+
+    /**
+     * Packs an mc x kc block of the first factor into strips of MR rows, each stored column by column, padding the last strip with zeros.
+     * @param a the row-major entries of the first factor.
+     * @param lda the number of columns of the first factor.
+     * @param row the first row of the block.
+     * @param column the first column of the block.
+     * @param mc the number of rows in the block.
+     * @param kc the number of columns in the block.
+     * @param packed the array receiving the packed block.
+     */
+    private static void packA(double[] a, int lda, int row, int column, int mc, int kc, double[] packed) {
+        for (int ir = 0; ir < mc; ir += MR) {
+            int base = ir * kc;
+            for (int p = 0; p < kc; p++) {
+                for (int i = 0; i < MR; i++) {
+                    packed[base + p * MR + i] = (ir + i < mc) ? a[(row + ir + i) * lda + column + p] : 0.0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs a kc x nc block of the second factor into strips of NR columns, each stored row by row, padding the last strip with zeros.
+     * @param b the row-major entries of the second factor.
+     * @param ldb the number of columns of the second factor.
+     * @param row the first row of the block.
+     * @param column the first column of the block.
+     * @param kc the number of rows in the block.
+     * @param nc the number of columns in the block.
+     * @param packed the array receiving the packed block.
+     */
+    private static void packB(double[] b, int ldb, int row, int column, int kc, int nc, double[] packed) {
+        for (int jr = 0; jr < nc; jr += NR) {
+            int base = jr * kc;
+            for (int p = 0; p < kc; p++) {
+                for (int j = 0; j < NR; j++) {
+                    packed[base + p * NR + j] = (jr + j < nc) ? b[(row + p) * ldb + column + jr + j] : 0.0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes an MR x NR block of the result from a packed strip of each factor, holding the sixteen partial sums in locals.
+     * @param a the packed first factor.
+     * @param aOffset the offset of the strip in a.
+     * @param b the packed second factor.
+     * @param bOffset the offset of the strip in b.
+     * @param kc the depth of the strips.
+     * @param c the row-major entries of the result.
+     * @param ldc the number of columns of the result.
+     * @param row the first row of the block in the result.
+     * @param column the first column of the block in the result.
+     * @param mr the number of valid rows in the block.
+     * @param nr the number of valid columns in the block.
+     */
+    private static void kernel(double[] a, int aOffset, double[] b, int bOffset, int kc, double[] c, int ldc, int row, int column, int mr, int nr) {
+        if (VECTOR_KERNEL && mr == MR && nr == NR) {
+            VectorKernel.kernel(a, aOffset, b, bOffset, kc, c, ldc, row * ldc + column);
+            return;
+        }
+
+        double c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+        double c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+        double c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+        double c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+
+        for (int p = 0; p < kc; p++) {
+            int ap = aOffset + p * MR;
+            int bp = bOffset + p * NR;
+            double a0 = a[ap], a1 = a[ap + 1], a2 = a[ap + 2], a3 = a[ap + 3];
+            double b0 = b[bp], b1 = b[bp + 1], b2 = b[bp + 2], b3 = b[bp + 3];
+            c00 += a0 * b0; c01 += a0 * b1; c02 += a0 * b2; c03 += a0 * b3;
+            c10 += a1 * b0; c11 += a1 * b1; c12 += a1 * b2; c13 += a1 * b3;
+            c20 += a2 * b0; c21 += a2 * b1; c22 += a2 * b2; c23 += a2 * b3;
+            c30 += a3 * b0; c31 += a3 * b1; c32 += a3 * b2; c33 += a3 * b3;
+        }
+
+        //a full block is written straight from the locals
+        if (mr == MR && nr == NR) {
+            int r0 = row * ldc + column;
+            int r1 = r0 + ldc;
+            int r2 = r1 + ldc;
+            int r3 = r2 + ldc;
+            c[r0] += c00; c[r0 + 1] += c01; c[r0 + 2] += c02; c[r0 + 3] += c03;
+            c[r1] += c10; c[r1 + 1] += c11; c[r1 + 2] += c12; c[r1 + 3] += c13;
+            c[r2] += c20; c[r2 + 1] += c21; c[r2 + 2] += c22; c[r2 + 3] += c23;
+            c[r3] += c30; c[r3 + 1] += c31; c[r3 + 2] += c32; c[r3 + 3] += c33;
+            return;
+        }
+
+        //an edge block only writes its valid rows and columns
+        double[] block = {c00, c01, c02, c03, c10, c11, c12, c13, c20, c21, c22, c23, c30, c31, c32, c33};
+        for (int i = 0; i < mr; i++) {
+            int offset = (row + i) * ldc + column;
+            for (int j = 0; j < nr; j++) {
+                c[offset + j] += block[i * NR + j];
+            }
+        }
+    }
+
+    /**
+     * This is a nested class holding the register block kernel written with the Vector API, which holds each row of a 4 x 4 block in one 256-bit vector.
+     * It is only loaded by the virtual machine when VECTOR_KERNEL is set, so DoubleMatrix also runs without the jdk.incubator.vector module.
+     * Each vector lane sums the same products in the same order as the scalar kernel, rounding every product before it is added, so the results are identical.
+     */
+    private static final class VectorKernel {
+
+        private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_256; //vectors of NR doubles
+
+        /**
+         * Computes a full MR x NR block of the result from a packed strip of each factor.
+         * @param a the packed first factor.
+         * @param aOffset the offset of the strip in a.
+         * @param b the packed second factor.
+         * @param bOffset the offset of the strip in b.
+         * @param kc the depth of the strips.
+         * @param c the row-major entries of the result.
+         * @param ldc the number of columns of the result.
+         * @param offset the index in c of the first entry of the block.
+         */
+        static void kernel(double[] a, int aOffset, double[] b, int bOffset, int kc, double[] c, int ldc, int offset) {
+            DoubleVector c0 = DoubleVector.zero(SPECIES);
+            DoubleVector c1 = DoubleVector.zero(SPECIES);
+            DoubleVector c2 = DoubleVector.zero(SPECIES);
+            DoubleVector c3 = DoubleVector.zero(SPECIES);
+
+            for (int p = 0; p < kc; p++) {
+                int ap = aOffset + p * MR;
+                DoubleVector bp = DoubleVector.fromArray(SPECIES, b, bOffset + p * NR);
+                c0 = c0.add(bp.mul(a[ap]));
+                c1 = c1.add(bp.mul(a[ap + 1]));
+                c2 = c2.add(bp.mul(a[ap + 2]));
+                c3 = c3.add(bp.mul(a[ap + 3]));
+            }
+
+            DoubleVector.fromArray(SPECIES, c, offset).add(c0).intoArray(c, offset);
+            DoubleVector.fromArray(SPECIES, c, offset + ldc).add(c1).intoArray(c, offset + ldc);
+            DoubleVector.fromArray(SPECIES, c, offset + 2 * ldc).add(c2).intoArray(c, offset + 2 * ldc);
+            DoubleVector.fromArray(SPECIES, c, offset + 3 * ldc).add(c3).intoArray(c, offset + 3 * ldc);
+        }
+    }
+
+    /**
+     * Returns a string representation of the object that "textually represents" a DoubleMatrix.
+     * @return a string consisting of each entry (Indexes: value) in the matrix, laid out in the same format as MatrixMap.
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        //indexing through the rows
+        for (int row = 0; row < rows; row++) {
+
+            //indexing through the corresponding column
+            for (int col = 0; col < columns; col++) {
+                sb.append("[").append(row).append(", ").append(col).append("]: ").append(entries[row * columns + col]).append("\t"); //add the entry
+            }
+            sb.append("\n"); //add a carriage return
+        }
+        return sb.toString();
+    }
+}
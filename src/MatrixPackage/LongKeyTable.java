@@ -0,0 +1,257 @@
+package MatrixPackage;
+
+import java.util.Arrays;
+
+/**
+ * This is an open-addressing hash table mapping the indexes of matrix entries to their values, where the row and column of each entry are packed into a single long key.
+ * Keys and values are held in two parallel arrays probed linearly, so an entry costs a long and a reference instead of a map node, an Indexes object and a table slot,
+ * and a lookup allocates nothing. Keys are spread over the table by Fibonacci hashing, which multiplies them by 2^64 divided by the golden ratio, so that neighbouring rows and columns do not cluster.
+ * The hash is scaled to the number of slots with a multiply-high instead of a mask, so the table need not have a power-of-two length and a trimmed table is filled close to its load factor.
+ * Rows and columns are never negative, so a negative key marks an empty slot.
+ */
+final class LongKeyTable<T> {
+
+    private static final long EMPTY = -1L; //the key of an empty slot
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L; //2^64 divided by the golden ratio
+    private static final int MAX_LOAD_PERCENT = 80; //the greatest percentage of occupied slots before the table grows
+
+    /**
+     * This is a functional interface for the computation applied to each entry of a table by forEach.
+     */
+    @FunctionalInterface
+    interface EntryConsumer<T> {
+
+        /**
+         * Applies the computation to an entry.
+         * @param row the row of the entry.
+         * @param column the column of the entry.
+         * @param value the value of the entry.
+         */
+        void accept(int row, int column, T value);
+    }
+
+    private long[] keys; //the packed index of each slot, or EMPTY
+    private Object[] values; //the value of each occupied slot
+    private int size; //the number of occupied slots
+
+    /**
+     * Constructor for an empty LongKeyTable, sized to hold a number of entries without growing.
+     * @param expectedSize the number of entries the table is expected to hold.
+     */
+    LongKeyTable(int expectedSize) {
+        allocate((int) Math.max(2, ((long) expectedSize * 100 + MAX_LOAD_PERCENT - 1) / MAX_LOAD_PERCENT));
+    }
+
+    /**
+     * Packs a row and a column into a key, with the row in the high half so that keys sort in row-major order.
+     * @param row the row of the entry.
+     * @param column the column of the entry.
+     * @return the key of the entry.
+     */
+    static long key(int row, int column) {
+        return ((long) row << 32) | column;
+    }
+
+    /**
+     * Unpacks the row of a key.
+     * @param key the key of an entry.
+     * @return the row of the entry.
+     */
+    static int row(long key) {
+        return (int) (key >>> 32);
+    }
+
+    /**
+     * Unpacks the column of a key.
+     * @param key the key of an entry.
+     * @return the column of the entry.
+     */
+    static int column(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Gets the number of entries in this table.
+     * @return the number of entries.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the value of an entry.
+     * @param row the row of the entry.
+     * @param column the column of the entry.
+     * @return the value of the entry, or null if there is none or if the row or column is negative.
+     */
+    @SuppressWarnings("unchecked")
+    T get(int row, int column) {
+        if ((row | column) < 0) {
+            return null;
+        }
+        long key = key(row, column);
+        for (int slot = slot(key); ; slot = next(slot)) {
+            long found = keys[slot];
+            if (found == key) {
+                return (T) values[slot];
+            }
+            if (found == EMPTY) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Adds an entry to this table, or replaces the value of an existing entry.
+     * @param row the row of the entry, which must not be negative.
+     * @param column the column of the entry, which must not be negative.
+     * @param value the value of the entry.
+     */
+    void put(int row, int column, T value) {
+        long key = key(row, column);
+        int slot = slot(key);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = next(slot);
+        }
+        if (keys[slot] == EMPTY) {
+            if ((long) (size + 1) * 100 > (long) keys.length * MAX_LOAD_PERCENT) {
+                grow();
+                put(row, column, value);
+                return;
+            }
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Returns a table holding the entries of this table in the fewest slots which keep it within its load factor, 
+     * so a table built without knowing its final size does not keep the slack left by its last growth.
+     * @return this table if it cannot shrink, and otherwise a new table with the same entries.
+     */
+    @SuppressWarnings("unchecked")
+    LongKeyTable<T> trimmed() {
+        LongKeyTable<T> trimmed = new LongKeyTable<>(size);
+        if (trimmed.keys.length >= keys.length) {
+            return this;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                trimmed.put(row(keys[i]), column(keys[i]), (T) values[i]);
+            }
+        }
+        return trimmed;
+    }
+
+    /**
+     * Applies a computation to every entry of this table, in no particular order. The computation must not add entries to this table.
+     * @param action the computation applied to each entry.
+     */
+    @SuppressWarnings("unchecked")
+    void forEach(EntryConsumer<? super T> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                action.accept(row(keys[i]), column(keys[i]), (T) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Gets the keys of every entry in ascending order, which is row-major order.
+     * @return a new array of the keys.
+     */
+    long[] sortedKeys() {
+        long[] sorted = new long[size];
+        int count = 0;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                sorted[count++] = key;
+            }
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Groups the entries of this table by row with a counting sort, in time proportional to the number of slots and rows and without comparing keys.
+     * The entries of a row are in the order of their slots, not sorted by column.
+     * @param rowStarts an array with one more position than there are rows, which receives the position of the first entry of each row and then the number of entries.
+     * @param columns an array with a position for each entry, which receives the columns of the entries.
+     * @param values an array with a position for each entry, which receives the values of the entries.
+     */
+    void groupByRow(int[] rowStarts, int[] columns, Object[] values) {
+        for (long key : keys) {
+            if (key != EMPTY) {
+                rowStarts[row(key) + 1]++;
+            }
+        }
+        for (int row = 1; row < rowStarts.length; row++) {
+            rowStarts[row] += rowStarts[row - 1];
+        }
+        int[] next = Arrays.copyOf(rowStarts, rowStarts.length - 1); //the position of the next entry of each row
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                int position = next[row(keys[i])]++;
+                columns[position] = column(keys[i]);
+                values[position] = this.values[i];
+            }
+        }
+    }
+
+    /**
+     * Gets the greatest key of this table, which is the index of its last entry in row-major order.
+     * @return the greatest key, or EMPTY if the table has no entries.
+     */
+    long maxKey() {
+        long max = EMPTY;
+        for (long key : keys) {
+            max = Math.max(max, key);
+        }
+        return max;
+    }
+
+    /**
+     * Computes the home slot of a key by Fibonacci hashing, scaling the 63 high bits of the hash to the number of slots.
+     * @param key the key.
+     * @return the first slot probed for the key.
+     */
+    private int slot(long key) {
+        return (int) Math.multiplyHigh((key * GOLDEN) >>> 1, (long) keys.length << 1);
+    }
+
+    /**
+     * Computes the slot probed after a slot, wrapping around at the end of the table.
+     * @param slot the slot.
+     * @return the next slot.
+     */
+    private int next(int slot) {
+        return (slot + 1 == keys.length) ? 0 : slot + 1;
+    }
+
+    /**
+     * Replaces the arrays of this table with empty arrays of a number of slots.
+     * @param capacity the number of slots.
+     */
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new Object[capacity];
+    }
+
+    /**
+     * Doubles the number of slots of this table, moving every entry to its slot in the larger arrays.
+     */
+    @SuppressWarnings("unchecked")
+    private void grow() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(keys.length << 1);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(row(oldKeys[i]), column(oldKeys[i]), (T) oldValues[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package MatrixPackage;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import MatrixPackage.MatrixMap.InvalidLengthException;
+import MatrixPackage.MatrixMap.InvalidLengthException.Cause;
+import RingPackage.DoubleRing;
+import RingPackage.PrimitiveDoubleRing;
+import RingPackage.Ring;
+import RingPackage.Rings;
+
+/**
+ * This is a class representing a dense matrix of doubles stored row-major in a memory-mapped file, for matrices too large for the heap.
+ * The tiling of products, the streaming of sums and closing are shared with MappedLongMatrix through MappedMatrix, and this class moves and multiplies unboxed doubles.
+ * Blocks over a DoubleRing are multiplied with the cache-blocked kernel of DoubleMatrix, any other PrimitiveDoubleRing over unboxed entries, and any other ring entry by entry.
+ */
+public final class MappedDoubleMatrix extends MappedMatrix<Double, double[], MappedDoubleMatrix> {
+
+    /**
+     * Constructor for the matrix, called by the static factory methods (instance, open, copyOf) and by the operations of this class.
+     * @param storage the mapped file holding the entries in row-major order.
+     * @param rows the number of rows in the matrix.
+     * @param columns the number of columns in the matrix.
+     */
+    private MappedDoubleMatrix(MappedStorage storage, int rows, int columns) {
+        super(storage, rows, columns);
+    }
+
+    /**
+     * Returns the unboxed value of this MappedDoubleMatrix at the specified row and column in the argument.
+     * @param row the row of the desired return value.
+     * @param column the column of the desired return value.
+     * @return the corresponding value at (row, column).
+     * @throws IndexOutOfBoundsException if (row, column) lies outside of the matrix.
+     * @throws IllegalStateException if the matrix was closed.
+     */
+    public double value(int row, int column) {
+        return storage.getDouble(position(row, column));
+    }
+
+    /**
+     * Creates a MappedDoubleMatrix in a new file by mapping each index from (0, 0) to (rows, columns) to a value defined by the valueMapper function.
+     * @param path the file holding the entries, which is replaced if it exists.
+     * @param rows the greatest row of the MappedDoubleMatrix.
+     * @param columns the greatest column of the MappedDoubleMatrix.
+     * @param valueMapper a functional interface which uses a lambda expression to set the values of each Indexes object in the MappedDoubleMatrix.
+     * @return a new MappedDoubleMatrix with the specified size and populated by the user defined function.
+     * @throws InvalidLengthException a precondition is that the rows and columns in the argument must be valid.
+     * @throws UncheckedIOException if the file cannot be created or mapped.
+     */
+    public static MappedDoubleMatrix instance(Path path, int rows, int columns, Function<Indexes, Double> valueMapper) {
+
+        //error handling
+        Objects.requireNonNull(path, "path cannot be null");
+        Objects.requireNonNull(valueMapper, "valueMapper cannot be null");
+        InvalidLengthException.requireNonEmpty(Cause.ROW, rows); //checks if the rows are valid
+        InvalidLengthException.requireNonEmpty(Cause.COLUMN, columns); //checks if the columns are valid
+
+        //the size is the greatest index, so row 0 and column 0 are added
+        MappedDoubleMatrix matrix = new MappedDoubleMatrix(MappedStorage.create(path, (long) (rows + 1) * (columns + 1)), rows + 1, columns + 1);
+        matrix.populate(valueMapper);
+        return matrix;
+    }
+
+    /**
+     * Creates a MappedDoubleMatrix in a new file by mapping each index from (0, 0) to the specified size to a value defined by the valueMapper function.
+     * @param path the file holding the entries, which is replaced if it exists.
+     * @param size the Indexes object containing the greatest row and column of the MappedDoubleMatrix.
+     * @param valueMapper a functional interface which uses a lambda expression to set the values of each Indexes object in the MappedDoubleMatrix.
+     * @return a new MappedDoubleMatrix with the specified size and populated by the user defined function.
+     * @throws InvalidLengthException a precondition is that the size in the argument must be valid.
+     * @throws UncheckedIOException if the file cannot be created or mapped.
+     */
+    public static MappedDoubleMatrix instance(Path path, Indexes size, Function<Indexes, Double> valueMapper) {
+
+        //null check
+        Objects.requireNonNull(size, "size cannot be null");
+
+        //calling the foundational instance method
+        return instance(path, size.row(), size.column(), valueMapper);
+    }
+
+    /**
+     * Maps an existing file of raw little-endian doubles in row-major order as a read-only MappedDoubleMatrix, such as a file written by this class or by numpy's tofile.
+     * Closing the matrix keeps the file.
+     * @param path the file holding the entries.
+     * @param rows the greatest row of the MappedDoubleMatrix.
+     * @param columns the greatest column of the MappedDoubleMatrix.
+     * @return a new MappedDoubleMatrix over the file.
+     * @throws InvalidLengthException a precondition is that the rows and columns in the argument must be valid.
+     * @throws IllegalArgumentException if the file does not hold exactly (rows + 1) * (columns + 1) doubles.
+     * @throws UncheckedIOException if the file cannot be opened or mapped.
+     */
+    public static MappedDoubleMatrix open(Path path, int rows, int columns) {
+
+        //error handling
+        InvalidLengthException.requireNonEmpty(Cause.ROW, rows); //checks if the rows are valid
+        InvalidLengthException.requireNonEmpty(Cause.COLUMN, columns); //checks if the columns are valid
+
+        return new MappedDoubleMatrix(MappedStorage.open(path, (long) (rows + 1) * (columns + 1)), rows + 1, columns + 1);
+    }
+
+    /**
+     * Creates a MappedDoubleMatrix in a new file holding the same entries as another Matrix of Doubles.
+     * @param path the file holding the entries, which is replaced if it exists.
+     * @param matrix the Matrix being copied.
+     * @return a new MappedDoubleMatrix with the size and entries of matrix.
+     * @throws UncheckedIOException if the file cannot be created or mapped.
+     */
+    public static MappedDoubleMatrix copyOf(Path path, Matrix<Double> matrix) {
+
+        //null check
+        Objects.requireNonNull(matrix, "matrix cannot be null");
+
+        MappedDoubleMatrix copy = new MappedDoubleMatrix(MappedStorage.create(path, (long) (matrix.size().row() + 1) * (matrix.size().column() + 1)),
+                matrix.size().row() + 1, matrix.size().column() + 1);
+        copy.copy(matrix);
+        return copy;
+    }
+
+    /**
+     * Creates a MappedDoubleMatrix over a storage, used for the results of the operations.
+     * @param storage the mapped file holding the entries in row-major order.
+     * @param rows the number of rows in the matrix.
+     * @param columns the number of columns in the matrix.
+     * @return a new MappedDoubleMatrix over storage.
+     */
+    @Override
+    MappedDoubleMatrix wrap(MappedStorage storage, int rows, int columns) {
+        return new MappedDoubleMatrix(storage, rows, columns);
+    }
+
+    /**
+     * Creates an array of doubles holding entries on the heap.
+     * @param length the number of entries.
+     * @return a new array of length zeros.
+     */
+    @Override
+    double[] newArray(int length) {
+        return new double[length];
+    }
+
+    /**
+     * Reads an entry of the file as a boxed Double.
+     * @param index the row-major index of the entry.
+     * @return the entry.
+     */
+    @Override
+    Double get(long index) {
+        return storage.getDouble(index);
+    }
+
+    /**
+     * Copies consecutive doubles of a storage into an array.
+     * @param storage the storage being read.
+     * @param index the row-major index of the first entry.
+     * @param destination the array receiving the entries.
+     * @param from the first position written in destination.
+     * @param count the number of entries copied.
+     */
+    @Override
+    void get(MappedStorage storage, long index, double[] destination, int from, int count) {
+        storage.getDoubles(index, destination, from, count);
+    }
+
+    /**
+     * Copies an array into consecutive doubles of a storage.
+     * @param storage the storage being written.
+     * @param index the row-major index of the first entry written.
+     * @param source the array holding the entries.
+     * @param from the first position read from source.
+     * @param count the number of entries copied.
+     */
+    @Override
+    void put(MappedStorage storage, long index, double[] source, int from, int count) {
+        storage.putDoubles(index, source, from, count);
+    }
+
+    /**
+     * Stores an unboxed Double in an array.
+     * @param array the array being written.
+     * @param position the position written.
+     * @param value the value stored.
+     */
+    @Override
+    void set(double[] array, int position, Double value) {
+        array[position] = value;
+    }
+
+    /**
+     * Sets the first entries of an array to a value.
+     * @param array the array being filled.
+     * @param length the number of entries set.
+     * @param value the value stored.
+     */
+    @Override
+    void fill(double[] array, int length, Double value) {
+        Arrays.fill(array, 0, length, value);
+    }
+
+    /**
+     * Adds two rows of doubles entry by entry into the first.
+     * @param row the first addend, which receives the sum.
+     * @param otherRow the second addend.
+     * @param length the number of entries added.
+     * @param plus the BinaryOperator interface which computes the addition of each element.
+     */
+    @Override
+    void add(double[] row, double[] otherRow, int length, BinaryOperator<Double> plus) {
+        for (int j = 0; j < length; j++) {
+            row[j] = plus.apply(row[j], otherRow[j]);
+        }
+    }
+
+    /**
+     * Accumulates the product of two row-major blocks into a third (c += a * b), with the kernel of DoubleMatrix for exactly a DoubleRing,
+     * the unboxed operations of any other PrimitiveDoubleRing, and the boxed operations of any other ring.
+     * @param a the m x k entries of the first block.
+     * @param b the k x n entries of the second block.
+     * @param c the m x n entries of the result, which are added to.
+     * @param m the number of rows of a and c.
+     * @param n the number of columns of b and c.
+     * @param k the number of columns of a and rows of b.
+     * @param ring a Ring object used for intermediate operations.
+     */
+    @Override
+    void multiplyBlock(double[] a, double[] b, double[] c, int m, int n, int k, Ring<Double> ring) {
+        if (ring.getClass() == DoubleRing.class) {
+            DoubleMatrix.multiply(a, b, c, m, n, k, null, 1);
+        } else if (ring instanceof PrimitiveDoubleRing && Rings.hasPrimitiveOperations(ring)) {
+            PrimitiveDoubleRing doubleRing = (PrimitiveDoubleRing) ring;
+            for (int i = 0; i < m; i++) {
+                for (int p = 0; p < k; p++) {
+                    double factor = a[i * k + p];
+                    for (int j = 0; j < n; j++) {
+                        c[i * n + j] = doubleRing.sum(c[i * n + j], doubleRing.product(factor, b[p * n + j]));
+                    }
+                }
+            }
+        } else {
+            for (int i = 0; i < m; i++) {
+                for (int p = 0; p < k; p++) {
+                    Double factor = a[i * k + p];
+                    for (int j = 0; j < n; j++) {
+                        c[i * n + j] = ring.sum(c[i * n + j], ring.product(factor, b[p * n + j]));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies a block of a Matrix into a row-major array, reading a DoubleMatrix without boxing its entries.
+     * @param matrix the Matrix being read.
+     * @param row the first row of the block.
+     * @param column the first column of the block.
+     * @param height the number of rows of the block.
+     * @param width the number of columns of the block.
+     * @param block the array receiving the block.
+     */
+    @Override
+    void read(Matrix<Double> matrix, int row, int column, int height, int width, double[] block) {
+        if (matrix instanceof DoubleMatrix) {
+            DoubleMatrix dense = (DoubleMatrix) matrix;
+            for (int i = 0; i < height; i++) {
+                for (int j = 0; j < width; j++) {
+                    block[i * width + j] = dense.value(row + i, column + j);
+                }
+            }
+        } else {
+            super.read(matrix, row, column, height, width, block);
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package MatrixPackage;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import MatrixPackage.MatrixMap.InconsistentSizeException;
+import MatrixPackage.MatrixMap.NonSquareException;
+import RingPackage.Ring;
+
+/**
+ * This is a base class for dense matrices stored row-major in a memory-mapped file, for matrices too large for the heap.
+ * The heap holds only the mapping, so the matrix is limited by the disk rather than the heap, and the operating system pages entries in as they are read.
+ * Sums stream through the files row by row, and products are computed one TILE x TILE block at a time: the blocks of both factors are copied onto the heap,
+ * multiplied there, and the finished block of the product is written back, so each pass over the files reads them sequentially through the page cache.
+ * Results are written to a file named by the caller, or otherwise to a temporary file beside this one which is deleted when the result is closed,
+ * or at the latest when the virtual machine exits.
+ * Subclasses only supply the code which depends on the type of the entries: moving them between the file and a primitive array, and multiplying blocks of them.
+ * @param <T> the type of the entries.
+ * @param <A> the primitive array type holding a block of entries on the heap, such as double[].
+ * @param <M> the subclass, which the operations return.
+ */
+abstract class MappedMatrix<T, A, M extends MappedMatrix<T, A, M>> implements Matrix<T>, AutoCloseable {
+
+    static final int TILE = 512; //rows and columns of a block of a product, so the three blocks of a step take 6 MiB of heap
+
+    final MappedStorage storage; //a field storing the entries of the matrix in row-major order
+    final int rows; //a field representing the number of rows in the matrix
+    final int columns; //a field representing the number of columns in the matrix
+    private final Indexes size; //a field representing the size of the matrix in Indexes form
+
+    /**
+     * Constructor for the matrix, called by the constructors of the subclasses.
+     * @param storage the mapped file holding the entries in row-major order.
+     * @param rows the number of rows in the matrix.
+     * @param columns the number of columns in the matrix.
+     */
+    MappedMatrix(MappedStorage storage, int rows, int columns) {
+        this.storage = storage;
+        this.rows = rows;
+        this.columns = columns;
+        this.size = new Indexes(rows - 1, columns - 1);
+    }
+
+    /**
+     * Creates a matrix of the same type as this one over a storage, used for the results of the operations.
+     * @param storage the mapped file holding the entries in row-major order.
+     * @param rows the number of rows in the matrix.
+     * @param columns the number of columns in the matrix.
+     * @return a new matrix over storage.
+     */
+    abstract M wrap(MappedStorage storage, int rows, int columns);
+
+    /**
+     * Creates an array holding entries on the heap.
+     * @param length the number of entries.
+     * @return a new array of length zero entries.
+     */
+    abstract A newArray(int length);
+
+    /**
+     * Reads an entry of the file as a boxed value.
+     * @param index the row-major index of the entry.
+     * @return the entry.
+     */
+    abstract T get(long index);
+
+    /**
+     * Copies consecutive entries of a storage into an array.
+     * @param storage the storage being read.
+     * @param index the row-major index of the first entry.
+     * @param destination the array receiving the entries.
+     * @param from the first position written in destination.
+     * @param count the number of entries copied.
+     */
+    abstract void get(MappedStorage storage, long index, A destination, int from, int count);
+
+    /**
+     * Copies an array into consecutive entries of a storage.
+     * @param storage the storage being written.
+     * @param index the row-major index of the first entry written.
+     * @param source the array holding the entries.
+     * @param from the first position read from source.
+     * @param count the number of entries copied.
+     */
+    abstract void put(MappedStorage storage, long index, A source, int from, int count);
+
+    /**
+     * Stores a boxed value in an array.
+     * @param array the array being written.
+     * @param position the position written.
+     * @param value the value stored.
+     */
+    abstract void set(A array, int position, T value);
+
+    /**
+     * Sets the first entries of an array to a value.
+     * @param array the array being filled.
+     * @param length the number of entries set.
+     * @param value the value stored.
+     */
+    abstract void fill(A array, int length, T value);
+
+    /**
+     * Adds two rows entry by entry, replacing each entry of the first with plus applied to it and the entry of the second.
+     * @param row the first addend, which receives the sum.
+     * @param otherRow the second addend.
+     * @param length the number of entries added.
+     * @param plus the BinaryOperator interface which computes the addition of each element.
+     */
+    abstract void add(A row, A otherRow, int length, BinaryOperator<T> plus);
+
+    /**
+     * Accumulates the product of two row-major blocks into a third (c += a * b) with the sum and product of a ring.
+     * @param a the m x k entries of the first block.
+     * @param b the k x n entries of the second block.
+     * @param c the m x n entries of the result, which are added to.
+     * @param m the number of rows of a and c.
+     * @param n the number of columns of b and c.
+     * @param k the number of columns of a and rows of b.
+     * @param ring a Ring object used for intermediate operations.
+     */
+    abstract void multiplyBlock(A a, A b, A c, int m, int n, int k, Ring<T> ring);
+
+    /**
+     * Gets the matrix size.
+     * @return the greatest index of the matrix.
+     */
+    @Override
+    public Indexes size() {
+        return size;
+    }
+
+    /**
+     * Gets the file holding the entries of this matrix, as raw little-endian values in row-major order.
+     * @return the path of the file.
+     */
+    public Path path() {
+        return storage.path();
+    }
+
+    /**
+     * Returns the value of this matrix at the specified Indexes object in the argument.
+     * @param indexes the Indexes object containing the row and column of the desired return value.
+     * @return the corresponding value mapped by indexes.
+     * @throws IndexOutOfBoundsException if indexes lies outside of the matrix.
+     * @throws IllegalStateException if the matrix was closed.
+     */
+    @Override
+    public T value(Indexes indexes) {
+
+        //null check
+        Objects.requireNonNull(indexes, "indexes cannot be null");
+        return get(position(indexes.row(), indexes.column()));
+    }
+
+    /**
+     * Computes the row-major index of an entry, checking that it lies inside the matrix.
+     * @param row the row of the entry.
+     * @param column the column of the entry.
+     * @return the index of the entry in the file.
+     * @throws IndexOutOfBoundsException if (row, column) lies outside of the matrix.
+     */
+    final long position(int row, int column) {
+        Objects.checkIndex(row, rows);
+        Objects.checkIndex(column, columns);
+        return (long) row * columns + column;
+    }
+
+    /**
+     * Writes the entries of a new matrix one row at a time, mapping each index to a value with the valueMapper function.
+     * @param valueMapper a functional interface which uses a lambda expression to set the values of each Indexes object in the matrix.
+     */
+    final void populate(Function<Indexes, T> valueMapper) {
+        A row = newArray(columns);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                set(row, j, valueMapper.apply(new Indexes(i, j)));
+            }
+            put(storage, (long) i * columns, row, 0, columns);
+        }
+    }
+
+    /**
+     * Writes the entries of another matrix of the same size into a new matrix one row at a time.
+     * @param matrix the Matrix being copied.
+     */
+    final void copy(Matrix<T> matrix) {
+        A row = newArray(columns);
+        for (int i = 0; i < rows; i++) {
+            read(matrix, i, 0, 1, columns, row);
+            put(storage, (long) i * columns, row, 0, columns);
+        }
+    }
+
+    /**
+     * Computes Matrix addition into a temporary file, combining the entries of this matrix and the other Matrix with the specified BinaryOperator.
+     * @param other the other Matrix being added
+     * @param plus the BinaryOperator interface which computes the addition of each element in the addend Matrices
+     * @return a new matrix which is the sum of this matrix and the other Matrix.
+     * @throws InconsistentSizeException a precondition is that the two matrices being added must be of equal size.
+     * @throws IllegalStateException if this matrix was closed.
+     * @throws UncheckedIOException if the temporary file cannot be created or mapped.
+     */
+    @Override
+    public M plus(Matrix<T> other, BinaryOperator<T> plus) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(plus, "plus cannot be null");
+
+        //checking if the matrixes are the same size
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        storage.requireOpen(); //checks before a file is created for the result
+        return add(other, plus, MappedStorage.temporary(path(), storage.length()));
+    }
+
+    /**
+     * Computes Matrix addition into a named file, combining the entries of this matrix and the other Matrix with the specified BinaryOperator.
+     * @param other the other Matrix being added
+     * @param plus the BinaryOperator interface which computes the addition of each element in the addend Matrices
+     * @param target the file holding the sum, which is replaced if it exists. It must not be the file of either addend.
+     * @return a new matrix which is the sum of this matrix and the other Matrix.
+     * @throws InconsistentSizeException a precondition is that the two matrices being added must be of equal size.
+     * @throws IllegalStateException if this matrix was closed.
+     * @throws UncheckedIOException if the file cannot be created or mapped.
+     */
+    public M plus(Matrix<T> other, BinaryOperator<T> plus, Path target) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(plus, "plus cannot be null");
+        Objects.requireNonNull(target, "target cannot be null");
+
+        //checking if the matrixes are the same size
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        storage.requireOpen(); //checks before a file is created for the result
+        return add(other, plus, MappedStorage.create(target, storage.length()));
+    }
+
+    /**
+     * Adds this matrix and another Matrix one row at a time.
+     * @param other the other Matrix being added, of the same size.
+     * @param plus the BinaryOperator interface which computes the addition of each element.
+     * @param target the storage receiving the sum.
+     * @return a new matrix over target.
+     */
+    private M add(Matrix<T> other, BinaryOperator<T> plus, MappedStorage target) {
+        A row = newArray(columns); //a row of this matrix, overwritten by the row of the sum
+        A otherRow = newArray(columns); //the same row of the other matrix
+        for (int i = 0; i < rows; i++) {
+            read(this, i, 0, 1, columns, row);
+            read(other, i, 0, 1, columns, otherRow);
+            add(row, otherRow, columns, plus);
+            put(target, (long) i * columns, row, 0, columns);
+        }
+        return wrap(target, rows, columns);
+    }
+
+    /**
+     * Computes Matrix multiplication into a temporary file, one block of the product at a time.
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations.
+     * @return a new matrix which is the product of this matrix and the other Matrix.
+     * @throws NonSquareException a precondition is that both factor matrices must be square matrices.
+     * @throws InconsistentSizeException a precondition is that they must be of equal size.
+     * @throws IllegalStateException if this matrix was closed.
+     * @throws UncheckedIOException if the temporary file cannot be created or mapped.
+     */
+    @Override
+    public M times(Matrix<T> other, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        requireSquare(other);
+        storage.requireOpen(); //checks before a file is created for the result
+        return multiply(other, ring, MappedStorage.temporary(path(), storage.length()), null, 1);
+    }
+
+    /**
+     * Computes Matrix multiplication into a temporary file in parallel, splitting the block rows of the product into tasks on a ForkJoinPool.
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations. It must be safe to use from several threads.
+     * @param pool the ForkJoinPool running the tasks, such as ForkJoinPool.commonPool().
+     * @param sequentialCutoff the greatest number of rows computed by a single task, rounded up to a multiple of TILE.
+     * @return a new matrix which is the product of this matrix and the other Matrix.
+     * @throws NonSquareException a precondition is that both factor matrices must be square matrices.
+     * @throws InconsistentSizeException a precondition is that they must be of equal size.
+     * @throws IllegalArgumentException if the sequential cutoff is not positive.
+     * @throws IllegalStateException if this matrix was closed.
+     * @throws UncheckedIOException if the temporary file cannot be created or mapped.
+     */
+    @Override
+    public M times(Matrix<T> other, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Objects.requireNonNull(pool, "pool cannot be null");
+        RowTasks.requirePositiveCutoff(sequentialCutoff);
+
+        requireSquare(other);
+        storage.requireOpen(); //checks before a file is created for the result
+        return multiply(other, ring, MappedStorage.temporary(path(), storage.length()), pool, sequentialCutoff);
+    }
+
+    /**
+     * Computes Matrix multiplication into a named file, one block of the product at a time.
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations.
+     * @param target the file holding the product, which is replaced if it exists. It must not be the file of either factor.
+     * @return a new matrix which is the product of this matrix and the other Matrix.
+     * @throws NonSquareException a precondition is that both factor matrices must be square matrices.
+     * @throws InconsistentSizeException a precondition is that they must be of equal size.
+     * @throws IllegalStateException if this matrix was closed.
+     * @throws UncheckedIOException if the file cannot be created or mapped.
+     */
+    public M times(Matrix<T> other, Ring<T> ring, Path target) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Objects.requireNonNull(target, "target cannot be null");
+
+        requireSquare(other);
+        storage.requireOpen(); //checks before a file is created for the result
+        return multiply(other, ring, MappedStorage.create(target, storage.length()), null, 1);
+    }
+
+    /**
+     * Checks that this matrix and another are square matrices of the same size.
+     * @param other the other factor.
+     * @throws NonSquareException a precondition is that both factor matrices must be square matrices.
+     * @throws InconsistentSizeException a precondition is that they must be of equal size.
+     */
+    private void requireSquare(Matrix<T> other) {
+        NonSquareException.requireDiagonal(this.size()); //checks if this matrix is a square
+        NonSquareException.requireDiagonal(other.size()); //checks if the other matrix is a square
+        InconsistentSizeException.requireMatchingSize(this, other); //checks if the matrixes are of equal size
+    }
+
+    /**
+     * Computes the product of this matrix and another Matrix block by block.
+     * Each task owns a band of TILE rows of the product, so tasks write disjoint parts of the target.
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations.
+     * @param target the storage receiving the product.
+     * @param pool the ForkJoinPool running the tasks, or null to compute every band on the calling thread.
+     * @param sequentialCutoff the greatest number of rows computed by a single task.
+     * @return a new matrix over target.
+     */
+    private M multiply(Matrix<T> other, Ring<T> ring, MappedStorage target, ForkJoinPool pool, int sequentialCutoff) {
+        int n = rows; //the number of rows and columns of both factors
+        int bands = (n + TILE - 1) / TILE; //the number of bands of TILE rows
+        int bandsPerTask = (sequentialCutoff + TILE - 1) / TILE; //the greatest number of bands computed by a single task
+        T zero = ring.zero();
+
+        RowTasks.forEachRange(bands, pool, bandsPerTask, (from, to) -> {
+            int tile = Math.min(TILE, n);
+            A a = newArray(tile * tile); //a block of this matrix
+            A b = newArray(tile * tile); //a block of the other matrix
+            A c = newArray(tile * tile); //a block of the product
+            for (int i = from * TILE; i < Math.min(n, to * TILE); i += TILE) {
+                int height = Math.min(TILE, n - i);
+                for (int j = 0; j < n; j += TILE) {
+                    int width = Math.min(TILE, n - j);
+                    fill(c, height * width, zero);
+                    for (int k = 0; k < n; k += TILE) {
+                        int depth = Math.min(TILE, n - k);
+                        read(this, i, k, height, depth, a);
+                        read(other, k, j, depth, width, b);
+                        multiplyBlock(a, b, c, height, width, depth, ring);
+                    }
+                    for (int row = 0; row < height; row++) {
+                        put(target, (long) (i + row) * n + j, c, row * width, width);
+                    }
+                }
+            }
+        });
+        return wrap(target, rows, columns);
+    }
+
+    /**
+     * Copies a block of a Matrix into a row-major array, reading a mapped matrix of the same type a row segment at a time from its file.
+     * Subclasses add faster paths for the heap matrices of their type.
+     * @param matrix the Matrix being read.
+     * @param row the first row of the block.
+     * @param column the first column of the block.
+     * @param height the number of rows of the block.
+     * @param width the number of columns of the block.
+     * @param block the array receiving the block.
+     */
+    void read(Matrix<T> matrix, int row, int column, int height, int width, A block) {
+        if (matrix.getClass() == getClass()) {
+            MappedMatrix<?, ?, ?> mapped = (MappedMatrix<?, ?, ?>) matrix;
+            for (int i = 0; i < height; i++) {
+                get(mapped.storage, (long) (row + i) * mapped.columns + column, block, i * width, width);
+            }
+        } else {
+            for (int i = 0; i < height; i++) {
+                for (int j = 0; j < width; j++) {
+                    set(block, i * width + j, matrix.value(new Indexes(row + i, column + j)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes this matrix, so that reading it afterwards throws an IllegalStateException.
+     * The mapping is dropped for the garbage collector to unmap, and the file is deleted if it is the temporary file of a result; a file named by the caller is kept.
+     * Closing twice has no effect.
+     * @throws UncheckedIOException if the temporary file cannot be deleted.
+     */
+    @Override
+    public void close() {
+        storage.close();
+    }
+
+    /**
+     * Returns a string representation of the object that "textually represents" a mapped matrix.
+     * @return a string consisting of each entry (Indexes: value) in the matrix, laid out in the same format as MatrixMap.
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        //indexing through the rows
+        for (int row = 0; row < rows; row++) {
+
+            //indexing through the corresponding column
+            for (int col = 0; col < columns; col++) {
+                sb.append("[").append(row).append(", ").append(col).append("]: ").append(get(position(row, col))).append("\t"); //add the entry
+            }
+            sb.append("\n"); //add a carriage return
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,319 @@
+package MatrixPackage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This is an array of 8-byte elements kept in a memory-mapped file rather than on the heap, so that it may be larger than the heap and is paged in and out by the operating system.
+ * A single MappedByteBuffer addresses at most 2 GiB, so the file is mapped as a sequence of chunks and an element index is split into a chunk and an offset within it.
+ * Chunks hold a power of two of elements, so no element straddles two chunks. Elements are stored little-endian with no header, the layout numpy.memmap reads on x86.
+ * Closing the storage drops its buffers and deletes a temporary file. Java has no portable way to unmap a file, so the mapping itself is released
+ * once the garbage collector reclaims the buffers; a temporary file which was never closed is deleted when the virtual machine exits.
+ */
+final class MappedStorage implements AutoCloseable {
+
+    static final int CHUNK_SHIFT = 27; //the base 2 logarithm of the number of elements in a chunk, so each chunk maps 1 GiB
+
+    private final Path path; //the mapped file
+    private final long length; //the number of elements
+    private final int chunkShift; //the base 2 logarithm of the number of elements in a chunk
+    private final DoubleBuffer[] doubles; //the chunks read as doubles
+    private final LongBuffer[] longs; //the chunks read as longs
+    private final boolean temporary; //whether the file is deleted when the storage is closed
+    private volatile boolean closed; //whether the storage was closed
+
+    /**
+     * Constructor for the storage, called by the static factory methods (create, open, temporary).
+     * @param path the mapped file.
+     * @param length the number of elements.
+     * @param chunkShift the base 2 logarithm of the number of elements in a chunk.
+     * @param chunks the mapped chunks of the file, in order.
+     * @param temporary whether the file is deleted when the storage is closed.
+     */
+    private MappedStorage(Path path, long length, int chunkShift, MappedByteBuffer[] chunks, boolean temporary) {
+        this.path = path;
+        this.length = length;
+        this.chunkShift = chunkShift;
+        this.temporary = temporary;
+        this.doubles = new DoubleBuffer[chunks.length];
+        this.longs = new LongBuffer[chunks.length];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i].order(ByteOrder.LITTLE_ENDIAN);
+            doubles[i] = chunks[i].asDoubleBuffer();
+            longs[i] = chunks[i].asLongBuffer();
+        }
+    }
+
+    /**
+     * Creates a file holding a number of zero elements and maps it for reading and writing, replacing any existing file.
+     * @param path the file being created.
+     * @param length the number of elements.
+     * @return a new MappedStorage over the file.
+     * @throws UncheckedIOException if the file cannot be created or mapped.
+     */
+    static MappedStorage create(Path path, long length) {
+        return create(path, length, CHUNK_SHIFT);
+    }
+
+    /**
+     * Creates a file holding a number of zero elements and maps it for reading and writing in chunks of a given size, replacing any existing file.
+     * @param path the file being created.
+     * @param length the number of elements.
+     * @param chunkShift the base 2 logarithm of the number of elements in a chunk, at most CHUNK_SHIFT.
+     * @return a new MappedStorage over the file.
+     * @throws UncheckedIOException if the file cannot be created or mapped.
+     */
+    static MappedStorage create(Path path, long length, int chunkShift) {
+
+        //null check
+        Objects.requireNonNull(path, "path cannot be null");
+
+        return create(path, length, chunkShift, false);
+    }
+
+    /**
+     * Creates a file holding a number of zero elements and maps it for reading and writing, replacing any existing file.
+     * @param path the file being created.
+     * @param length the number of elements.
+     * @param chunkShift the base 2 logarithm of the number of elements in a chunk, at most CHUNK_SHIFT.
+     * @param temporary whether the file is deleted when the storage is closed.
+     * @return a new MappedStorage over the file.
+     * @throws UncheckedIOException if the file cannot be created or mapped.
+     */
+    private static MappedStorage create(Path path, long length, int chunkShift, boolean temporary) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new MappedStorage(path, length, chunkShift, map(channel, MapMode.READ_WRITE, length, chunkShift), temporary);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps an existing file of elements for reading only.
+     * @param path the file being mapped.
+     * @param length the number of elements the file must hold.
+     * @return a new MappedStorage over the file.
+     * @throws IllegalArgumentException if the file does not hold exactly length elements.
+     * @throws UncheckedIOException if the file cannot be opened or mapped.
+     */
+    static MappedStorage open(Path path, long length) {
+
+        //null check
+        Objects.requireNonNull(path, "path cannot be null");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != length * Long.BYTES) {
+                throw new IllegalArgumentException(path + " holds " + channel.size() + " bytes rather than " + length * Long.BYTES);
+            }
+            return new MappedStorage(path, length, CHUNK_SHIFT, map(channel, MapMode.READ_ONLY, length, CHUNK_SHIFT), false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a temporary file of zero elements in the directory of another file, so that a result lands on the same disk as its operands.
+     * The file is deleted when the storage is closed, or otherwise when the virtual machine exits.
+     * @param beside a file in the directory where the temporary file is created.
+     * @param length the number of elements.
+     * @return a new MappedStorage over the temporary file.
+     * @throws UncheckedIOException if the file cannot be created or mapped.
+     */
+    static MappedStorage temporary(Path beside, long length) {
+        try {
+            Path file = Files.createTempFile(beside.toAbsolutePath().getParent(), "matrix", ".bin");
+            file.toFile().deleteOnExit();
+            return create(file, length, CHUNK_SHIFT, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps the chunks of a file.
+     * @param channel the open file.
+     * @param mode the mapping mode. A READ_WRITE mapping extends the file to the mapped length.
+     * @param length the number of elements.
+     * @param chunkShift the base 2 logarithm of the number of elements in a chunk.
+     * @return the mapped chunks, in order.
+     * @throws IOException if the file cannot be mapped.
+     */
+    private static MappedByteBuffer[] map(FileChannel channel, MapMode mode, long length, int chunkShift) throws IOException {
+        long chunkLength = 1L << chunkShift; //the number of elements in a full chunk
+        MappedByteBuffer[] chunks = new MappedByteBuffer[Math.toIntExact((length + chunkLength - 1) >>> chunkShift)];
+        for (int i = 0; i < chunks.length; i++) {
+            long first = (long) i << chunkShift; //the index of the first element of the chunk
+            chunks[i] = channel.map(mode, first * Long.BYTES, Math.min(chunkLength, length - first) * Long.BYTES);
+        }
+        return chunks;
+    }
+
+    /**
+     * Gets the mapped file.
+     * @return the path of the file.
+     */
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Gets the number of elements.
+     * @return the number of elements.
+     */
+    long length() {
+        return length;
+    }
+
+    /**
+     * Closes the storage, dropping its buffers so they can be unmapped and deleting the file if it is temporary. Closing twice has no effect.
+     * @throws UncheckedIOException if the temporary file cannot be deleted.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Arrays.fill(doubles, null);
+        Arrays.fill(longs, null);
+        if (temporary) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Checks that the storage is open, before its buffers are read or written.
+     * @throws IllegalStateException if the storage was closed.
+     */
+    void requireOpen() {
+        if (closed) {
+            throw new IllegalStateException(path + " is closed");
+        }
+    }
+
+    /**
+     * Reads an element as a double.
+     * @param index the index of the element.
+     * @return the element.
+     * @throws IllegalStateException if the storage was closed.
+     */
+    double getDouble(long index) {
+        requireOpen();
+        return doubles[(int) (index >>> chunkShift)].get(offset(index));
+    }
+
+    /**
+     * Reads an element as a long.
+     * @param index the index of the element.
+     * @return the element.
+     * @throws IllegalStateException if the storage was closed.
+     */
+    long getLong(long index) {
+        requireOpen();
+        return longs[(int) (index >>> chunkShift)].get(offset(index));
+    }
+
+    /**
+     * Copies consecutive elements into an array of doubles, crossing chunks where needed.
+     * @param index the index of the first element.
+     * @param destination the array receiving the elements.
+     * @param from the first position written in destination.
+     * @param count the number of elements copied.
+     * @throws IllegalStateException if the storage was closed.
+     */
+    void getDoubles(long index, double[] destination, int from, int count) {
+        requireOpen();
+        while (count > 0) {
+            int chunk = (int) (index >>> chunkShift);
+            int part = Math.min(count, doubles[chunk].capacity() - offset(index)); //the elements left in this chunk
+            doubles[chunk].get(offset(index), destination, from, part);
+            index += part;
+            from += part;
+            count -= part;
+        }
+    }
+
+    /**
+     * Copies an array of doubles into consecutive elements, crossing chunks where needed.
+     * @param index the index of the first element written.
+     * @param source the array holding the elements.
+     * @param from the first position read from source.
+     * @param count the number of elements copied.
+     * @throws IllegalStateException if the storage was closed.
+     */
+    void putDoubles(long index, double[] source, int from, int count) {
+        requireOpen();
+        while (count > 0) {
+            int chunk = (int) (index >>> chunkShift);
+            int part = Math.min(count, doubles[chunk].capacity() - offset(index)); //the elements left in this chunk
+            doubles[chunk].put(offset(index), source, from, part);
+            index += part;
+            from += part;
+            count -= part;
+        }
+    }
+
+    /**
+     * Copies consecutive elements into an array of longs, crossing chunks where needed.
+     * @param index the index of the first element.
+     * @param destination the array receiving the elements.
+     * @param from the first position written in destination.
+     * @param count the number of elements copied.
+     * @throws IllegalStateException if the storage was closed.
+     */
+    void getLongs(long index, long[] destination, int from, int count) {
+        requireOpen();
+        while (count > 0) {
+            int chunk = (int) (index >>> chunkShift);
+            int part = Math.min(count, longs[chunk].capacity() - offset(index)); //the elements left in this chunk
+            longs[chunk].get(offset(index), destination, from, part);
+            index += part;
+            from += part;
+            count -= part;
+        }
+    }
+
+    /**
+     * Copies an array of longs into consecutive elements, crossing chunks where needed.
+     * @param index the index of the first element written.
+     * @param source the array holding the elements.
+     * @param from the first position read from source.
+     * @param count the number of elements copied.
+     * @throws IllegalStateException if the storage was closed.
+     */
+    void putLongs(long index, long[] source, int from, int count) {
+        requireOpen();
+        while (count > 0) {
+            int chunk = (int) (index >>> chunkShift);
+            int part = Math.min(count, longs[chunk].capacity() - offset(index)); //the elements left in this chunk
+            longs[chunk].put(offset(index), source, from, part);
+            index += part;
+            from += part;
+            count -= part;
+        }
+    }
+
+    /**
+     * Computes the position of an element within its chunk.
+     * @param index the index of the element.
+     * @return the offset of the element from the start of its chunk.
+     */
+    private int offset(long index) {
+        return (int) (index & ((1L << chunkShift) - 1));
+    }
+}
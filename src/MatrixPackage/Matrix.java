@@ -1,6 +1,9 @@
 package MatrixPackage;
 
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BinaryOperator;
+import RingPackage.Accumulator;
 import RingPackage.Ring;
 
 /**
@@ -38,6 +41,59 @@ public interface Matrix<T> {
      */
     Matrix<T> times(Matrix<T> other, Ring<T> ring);
 
+    /**
+     * Multiplies the current matrix object with another, splitting the rows of the product into tasks on a ForkJoinPool.
+     * Matrices without a parallel algorithm compute the product sequentially.
+     * @param other the other factor.
+     * @param ring a ring used to compute intermediate operations. It must be safe to use from several threads.
+     * @param pool the ForkJoinPool running the tasks, such as ForkJoinPool.commonPool().
+     * @param sequentialCutoff the greatest number of rows computed by a single task. Products with no more rows are computed on the calling thread.
+     * @return a new Matrix object which represents the product of this matrix and other.
+     */
+    default Matrix<T> times(Matrix<T> other, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+        return times(other, ring);
+    }
+
+    /**
+     * Multiplies the current matrix object with a column vector.
+     * Matrices without a specialized algorithm compute each entry of the result as the dot product of a row with the vector, reading every entry of the matrix.
+     * @param vector the Vector factor, with one entry for each column of this matrix.
+     * @param ring a ring used to compute intermediate operations.
+     * @return a new Vector with one entry for each row of this matrix.
+     * @throws InconsistentSizeException a precondition is that the length of the vector must equal the number of columns of the matrix.
+     */
+    default Vector<T> times(Vector<T> vector, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(vector, "vector cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Vector.requireConformable(this, vector);
+
+        Indexes size = size();
+        Accumulator<T> accumulator = ring.accumulator(); //reused for every row
+        return Vector.instance(size.row() + 1, (row) -> {
+            accumulator.reset();
+            for (int column = 0; column <= size.column(); column++) {
+                accumulator.addProduct(value(new Indexes(row, column)), vector.value(column));
+            }
+            return accumulator.result();
+        });
+    }
+
+    /**
+     * Multiplies the current matrix object with a column vector, splitting the rows of the result into tasks on a ForkJoinPool.
+     * Matrices without a parallel algorithm compute the product sequentially.
+     * @param vector the Vector factor, with one entry for each column of this matrix.
+     * @param ring a ring used to compute intermediate operations. It must be safe to use from several threads.
+     * @param pool the ForkJoinPool running the tasks, such as ForkJoinPool.commonPool().
+     * @param sequentialCutoff the greatest number of rows computed by a single task. Products with no more rows are computed on the calling thread.
+     * @return a new Vector with one entry for each row of this matrix.
+     * @throws InconsistentSizeException a precondition is that the length of the vector must equal the number of columns of the matrix.
+     */
+    default Vector<T> times(Vector<T> vector, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+        return times(vector, ring);
+    }
+
     /**
      * Returns a string representation of the object that "textually represents" a MatrixMap.
      * @return The String representation of this Matrix object.
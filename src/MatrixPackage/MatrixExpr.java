@@ -0,0 +1,296 @@
+package MatrixPackage;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import MatrixPackage.MatrixMap.InconsistentSizeException;
+import RingPackage.Ring;
+
+/**
+ * This is a class representing a lazy matrix expression: a tree of sums and products over Matrix objects which is only computed when it is evaluated.
+ * Evaluation accumulates every term of a sum directly into one result array, so an expression such as A * B + C * D + E allocates no intermediate matrices,
+ * and evaluating a block or a single cell only computes the rows and columns of the factors that it needs.
+ * Factors of a product which are themselves sums or products are computed once, restricted to the rows or columns used by the product.
+ */
+public abstract class MatrixExpr<T> {
+
+    private final int rows; //the number of rows of the expression
+    private final int columns; //the number of columns of the expression
+
+    /**
+     * Constructor for the expression, called by the nested expression classes.
+     * @param rows the number of rows.
+     * @param columns the number of columns.
+     */
+    private MatrixExpr(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * Returns a new expression standing for a Matrix. The Matrix is read when the expression is evaluated, not copied.
+     * @param <S> the static type S.
+     * @param matrix the Matrix.
+     * @return a new MatrixExpr representing the Matrix.
+     */
+    public static <S> MatrixExpr<S> of(Matrix<S> matrix) {
+        //null check
+        Objects.requireNonNull(matrix, "matrix cannot be null");
+        return new Leaf<>(matrix);
+    }
+
+    /**
+     * Gets the size of the expression.
+     * @return the greatest index of the expression.
+     */
+    public Indexes size() {
+        return new Indexes(rows - 1, columns - 1);
+    }
+
+    /**
+     * Returns the expression this + other.
+     * @param other the other expression being added.
+     * @return a new MatrixExpr representing the sum.
+     * @throws InconsistentSizeException a precondition is that both expressions must be of equal size.
+     */
+    public MatrixExpr<T> plus(MatrixExpr<T> other) {
+        //null check
+        Objects.requireNonNull(other, "other cannot be null");
+        if (rows != other.rows || columns != other.columns) {
+            throw new IllegalArgumentException(new InconsistentSizeException(size(), other.size()));
+        }
+        return new Sum<>(this, other);
+    }
+
+    /**
+     * Returns the expression this + other.
+     * @param other the Matrix being added.
+     * @return a new MatrixExpr representing the sum.
+     * @throws InconsistentSizeException a precondition is that both must be of equal size.
+     */
+    public MatrixExpr<T> plus(Matrix<T> other) {
+        return plus(of(other));
+    }
+
+    /**
+     * Returns the expression this * other.
+     * @param other the other expression being multiplied.
+     * @return a new MatrixExpr representing the product.
+     * @throws InconsistentSizeException a precondition is that the number of columns of this expression must equal the number of rows of the other.
+     */
+    public MatrixExpr<T> times(MatrixExpr<T> other) {
+        //null check
+        Objects.requireNonNull(other, "other cannot be null");
+        if (columns != other.rows) {
+            throw new IllegalArgumentException(new InconsistentSizeException(size(), other.size()));
+        }
+        return new Product<>(this, other);
+    }
+
+    /**
+     * Returns the expression this * other.
+     * @param other the Matrix being multiplied.
+     * @return a new MatrixExpr representing the product.
+     * @throws InconsistentSizeException a precondition is that the number of columns of this expression must equal the number of rows of the Matrix.
+     */
+    public MatrixExpr<T> times(Matrix<T> other) {
+        return times(of(other));
+    }
+
+    /**
+     * Computes every entry of the expression in a single pass.
+     * @param ring a Ring object used for intermediate operations.
+     * @return a new ArrayMatrix holding the value of the expression.
+     */
+    public ArrayMatrix<T> evaluate(Ring<T> ring) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+        return ArrayMatrix.wrap(block(ring, 0, rows, 0, columns), rows, columns);
+    }
+
+    /**
+     * Computes the block of the expression between two indexes, both inclusive, without computing any other entry of the result.
+     * @param ring a Ring object used for intermediate operations.
+     * @param from the index of the upper left entry of the block.
+     * @param to the index of the lower right entry of the block.
+     * @return a new ArrayMatrix holding the block, whose entry (0, 0) is the entry from of the expression.
+     * @throws IndexOutOfBoundsException if the block is empty or not inside the expression.
+     */
+    public ArrayMatrix<T> evaluate(Ring<T> ring, Indexes from, Indexes to) {
+
+        //null checks
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Objects.requireNonNull(from, "from cannot be null");
+        Objects.requireNonNull(to, "to cannot be null");
+
+        int rowFrom = from.row(); //the first row of the block
+        int rowTo = to.row() + 1; //the row after the last row of the block
+        int columnFrom = from.column(); //the first column of the block
+        int columnTo = to.column() + 1; //the column after the last column of the block
+        Objects.checkFromToIndex(rowFrom, rowTo, rows);
+        Objects.checkFromToIndex(columnFrom, columnTo, columns);
+        if (rowFrom == rowTo || columnFrom == columnTo) {
+            throw new IndexOutOfBoundsException("block from " + from + " to " + to + " is empty");
+        }
+        return ArrayMatrix.wrap(block(ring, rowFrom, rowTo, columnFrom, columnTo), rowTo - rowFrom, columnTo - columnFrom);
+    }
+
+    /**
+     * Computes a single entry of the expression, which only needs one row and one column of each product.
+     * @param index the index of the entry.
+     * @param ring a Ring object used for intermediate operations.
+     * @return the value of the entry.
+     * @throws IndexOutOfBoundsException if the index is not inside the expression.
+     */
+    @SuppressWarnings("unchecked")
+    public T value(Indexes index, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(index, "index cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        Objects.checkIndex(index.row(), rows);
+        Objects.checkIndex(index.column(), columns);
+        return (T) block(ring, index.row(), index.row() + 1, index.column(), index.column() + 1)[0];
+    }
+
+    /**
+     * Computes a block of the expression.
+     * @param ring a Ring object used for intermediate operations.
+     * @param rowFrom the first row of the block.
+     * @param rowTo the row after the last row of the block.
+     * @param columnFrom the first column of the block.
+     * @param columnTo the column after the last column of the block.
+     * @return the row-major entries of the block, which may be shared with a Matrix and must not be modified.
+     */
+    Object[] block(Ring<T> ring, int rowFrom, int rowTo, int columnFrom, int columnTo) {
+        Object[] target = new Object[(rowTo - rowFrom) * (columnTo - columnFrom)];
+        Arrays.fill(target, ring.zero());
+        accumulate(ring, target, rowFrom, rowTo, columnFrom, columnTo);
+        return target;
+    }
+
+    /**
+     * Adds a block of the expression to the entries of a target array.
+     * @param ring a Ring object used for intermediate operations.
+     * @param target the row-major entries being added to, with one entry per entry of the block.
+     * @param rowFrom the first row of the block.
+     * @param rowTo the row after the last row of the block.
+     * @param columnFrom the first column of the block.
+     * @param columnTo the column after the last column of the block.
+     */
+    abstract void accumulate(Ring<T> ring, Object[] target, int rowFrom, int rowTo, int columnFrom, int columnTo);
+
+    /**
+     * This is an expression standing for a Matrix.
+     */
+    private static final class Leaf<T> extends MatrixExpr<T> {
+
+        private final Matrix<T> matrix; //the matrix
+
+        /**
+         * Constructor for a Leaf, called by of.
+         * @param matrix the matrix.
+         */
+        private Leaf(Matrix<T> matrix) {
+            super(matrix.size().row() + 1, matrix.size().column() + 1);
+            this.matrix = matrix;
+        }
+
+        /**
+         * Gets the block of the matrix, sharing the entries of an ArrayMatrix instead of copying them when the block is the whole matrix.
+         */
+        @Override
+        Object[] block(Ring<T> ring, int rowFrom, int rowTo, int columnFrom, int columnTo) {
+            if (matrix instanceof ArrayMatrix && rowFrom == 0 && columnFrom == 0 && rowTo == matrix.size().row() + 1 && columnTo == matrix.size().column() + 1) {
+                return ((ArrayMatrix<T>) matrix).entries();
+            }
+            return super.block(ring, rowFrom, rowTo, columnFrom, columnTo);
+        }
+
+        /**
+         * Adds the entries of the block of the matrix to the target.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        void accumulate(Ring<T> ring, Object[] target, int rowFrom, int rowTo, int columnFrom, int columnTo) {
+            int width = columnTo - columnFrom; //the number of columns of the block
+            for (int i = rowFrom; i < rowTo; i++) {
+                for (int j = columnFrom; j < columnTo; j++) {
+                    int position = (i - rowFrom) * width + (j - columnFrom);
+                    T entry = (matrix instanceof ArrayMatrix) ? ((ArrayMatrix<T>) matrix).value(i, j) : matrix.value(new Indexes(i, j));
+                    target[position] = ring.sum((T) target[position], entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * This is an expression standing for the sum of two expressions, which accumulates both into the same target.
+     */
+    private static final class Sum<T> extends MatrixExpr<T> {
+
+        private final MatrixExpr<T> left; //the first addend
+        private final MatrixExpr<T> right; //the second addend
+
+        /**
+         * Constructor for a Sum, called by plus.
+         * @param left the first addend.
+         * @param right the second addend.
+         */
+        private Sum(MatrixExpr<T> left, MatrixExpr<T> right) {
+            super(left.rows, left.columns);
+            this.left = left;
+            this.right = right;
+        }
+
+        /**
+         * Adds both addends to the target.
+         */
+        @Override
+        void accumulate(Ring<T> ring, Object[] target, int rowFrom, int rowTo, int columnFrom, int columnTo) {
+            left.accumulate(ring, target, rowFrom, rowTo, columnFrom, columnTo);
+            right.accumulate(ring, target, rowFrom, rowTo, columnFrom, columnTo);
+        }
+    }
+
+    /**
+     * This is an expression standing for the product of two expressions, which accumulates each dot product directly into the target.
+     */
+    private static final class Product<T> extends MatrixExpr<T> {
+
+        private final MatrixExpr<T> left; //the first factor
+        private final MatrixExpr<T> right; //the second factor
+
+        /**
+         * Constructor for a Product, called by times.
+         * @param left the first factor.
+         * @param right the second factor.
+         */
+        private Product(MatrixExpr<T> left, MatrixExpr<T> right) {
+            super(left.rows, right.columns);
+            this.left = left;
+            this.right = right;
+        }
+
+        /**
+         * Adds the block of the product to the target, computing only the rows of the first factor and the columns of the second factor which the block uses.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        void accumulate(Ring<T> ring, Object[] target, int rowFrom, int rowTo, int columnFrom, int columnTo) {
+            int inner = left.columns; //the length of each dot product
+            int width = columnTo - columnFrom; //the number of columns of the block
+            Object[] a = left.block(ring, rowFrom, rowTo, 0, inner); //the rows of the first factor, with inner columns each
+            Object[] b = right.block(ring, 0, inner, columnFrom, columnTo); //the columns of the second factor, with width columns each
+            for (int i = 0; i < rowTo - rowFrom; i++) {
+                for (int k = 0; k < inner; k++) {
+                    T factor = (T) a[i * inner + k];
+                    for (int j = 0; j < width; j++) {
+                        target[i * width + j] = ring.sum((T) target[i * width + j], ring.product(factor, (T) b[k * width + j]));
+                    }
+                }
+            }
+        }
+    }
+}
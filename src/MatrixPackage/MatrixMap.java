@@ -1,18 +1,17 @@
 package MatrixPackage;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import MatrixPackage.MatrixMap.InvalidLengthException.Cause;
 import RingPackage.Ring;
-import RingPackage.Rings;
 
 /**
  * This is a class representing a standard matrix with each entry consisting of an Indexes object as keys and generic T values
@@ -411,15 +410,60 @@ public final class MatrixMap<T> implements Matrix<T> {
         Objects.requireNonNull(other, "other cannot be null");
         Objects.requireNonNull(ring, "ring cannot be null");
 
+        return multiply(other, ring, null, 1);
+    }
+
+    /**
+     * Computes Matrix multiplication in parallel, splitting the rows of the product into tasks on a ForkJoinPool. 
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations. It must be safe to use from several threads.
+     * @param pool the ForkJoinPool running the tasks, such as ForkJoinPool.commonPool().
+     * @param sequentialCutoff the greatest number of rows computed by a single task. Products with no more rows are computed on the calling thread.
+     * @return a new MatrixMap which is the product of this MatrixMap and the other Matrix. 
+     * @throws NonSquareException a precondition is that both factor matrices must be square matrices. 
+     * @throws InconsistentSizeException a precondition is that they must be of equal size. 
+     * @throws IllegalArgumentException if the sequential cutoff is not positive.
+     */
+    @Override
+    public MatrixMap<T> times(Matrix<T> other, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Objects.requireNonNull(pool, "pool cannot be null");
+        RowTasks.requirePositiveCutoff(sequentialCutoff);
+
+        return multiply(other, ring, pool, sequentialCutoff);
+    }
+
+    /**
+     * Computes the product of this MatrixMap and another Matrix row by row, and creates a new MatrixMap from the computed entries.
+     * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations.
+     * @param pool the ForkJoinPool running the tasks, or null to compute every row on the calling thread.
+     * @param sequentialCutoff the greatest number of rows computed by a single task.
+     * @return a new MatrixMap which is the product of this MatrixMap and the other Matrix. 
+     */
+    @SuppressWarnings("unchecked")
+    private MatrixMap<T> multiply(Matrix<T> other, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+
         NonSquareException.requireDiagonal(this.size()); //checks if this matrix is a square
         NonSquareException.requireDiagonal(other.size()); //checks if the other matrix is a square
         InconsistentSizeException.requireMatchingSize(this, other); //checks if the matrixes are of equal size
 
         int length = this.size().row(); //sets the length of the matrixes by accessing the row of the size of this index (can be row or column from either matrix)
-        return instance(this.size(), (index) -> { //creates an instance of a matrix containing the product
-
-            return getProductAtIndex(other, ring, length, index); //a subroutine to compite the product at each specific index of the matrix
+        int width = length + 1; //the number of rows and columns
+        Object[] products = new Object[width * width]; //the entries of the product in row-major order
+
+        //each range of rows writes a disjoint part of the products array
+        RowTasks.forEachRange(width, pool, sequentialCutoff, (from, to) -> {
+            for (int row = from; row < to; row++) {
+                for (int column = 0; column < width; column++) {
+                    products[row * width + column] = getProductAtIndex(other, ring, length, new Indexes(row, column)); //a subroutine to compite the product at each specific index of the matrix
+                }
+            }
         });
+        return instance(this.size(), (index) -> (T) products[index.row() * width + index.column()]); //creates an instance of a matrix containing the product
     }
 
     /**
@@ -431,12 +475,7 @@ public final class MatrixMap<T> implements Matrix<T> {
      * @return the T product of matrix multiplication between this and another matrix at the specified index. 
      */
     private T getProductAtIndex(Matrix<T> other, Ring<T> ring, int length, Indexes index) {
-        List<T> products = new ArrayList<>();
-        //indexes until length is reached and adds to the product list the element at the row of this and column of other
-        for (int i = 0; i <= length; i++) {
-            products.add(ring.product(this.value(new Indexes(index.row(), i)), other.value(new Indexes(i, index.column()))));
-        }
-        return Rings.sum(products, ring); //sums the elements of the product list
+        return DotProducts.productAtIndex(this, other, ring, length, index); //primitive rings accumulate without boxing
     }
 
     /**
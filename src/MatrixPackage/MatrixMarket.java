@@ -0,0 +1,340 @@
+package MatrixPackage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+
+import MatrixPackage.MatrixMap.InvalidLengthException;
+import MatrixPackage.MatrixMap.InvalidLengthException.Cause;
+import RingPackage.NegatableRing;
+import RingPackage.Ring;
+
+/**
+ * This is a class reading and writing SparseMatrixMaps in the coordinate format of Matrix Market (.mtx) files.
+ * Files are streamed a line at a time: only the nonzero entries listed in a file are parsed and stored, so loading a matrix costs time and memory in proportion to its entries
+ * rather than to its rows times its columns, as SparseMatrixMap.instance does. Values are parsed and formatted by functions supplied for the ring, such as Double::valueOf.
+ * Matrix Market indexes start at 1, while Indexes start at 0, so the entry on line "1 1 x" is read at Indexes (0, 0).
+ */
+public final class MatrixMarket {
+
+    private static final String BANNER = "%%MatrixMarket"; //the first word of every Matrix Market file
+    private static final Charset CHARSET = StandardCharsets.ISO_8859_1; //maps every byte to a character, so stray bytes in comments are never a decoding error
+    private static final int MAX_PRESIZED_ENTRIES = 1 << 20; //the most entries a table is sized for up front, since the size line of a file is not trusted
+
+    /**
+     * This is an enum representing the field of a Matrix Market file, which tells readers how to parse its values.
+     */
+    public enum Field {
+        REAL, INTEGER, COMPLEX, PATTERN;
+
+        /**
+         * Gets the name of this field as it is written in a Matrix Market header.
+         * @return the lowercase name of the field.
+         */
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * This is an enum representing the symmetry of a Matrix Market file, which tells readers which entries are listed.
+     * A symmetric or skew-symmetric file lists only the entries on and below the diagonal.
+     */
+    private enum Symmetry {
+        GENERAL, SYMMETRIC, SKEW_SYMMETRIC
+    }
+
+    /**
+     * Private constructor, since this class only has static methods.
+     */
+    private MatrixMarket() {
+    }
+
+    /**
+     * Reads a Matrix Market coordinate file into a SparseMatrixMap.
+     * @param <S> the static type S.
+     * @param path the file being read.
+     * @param ring the Ring object of the matrix, whose zero is dropped and whose identity is the value of each entry of a pattern file.
+     * @param parser the function parsing the text of a value, everything after the column on its line, such as Double::valueOf.
+     * @return a new SparseMatrixMap holding the nonzero entries of the file, with the size given in its header.
+     * @throws IllegalArgumentException if the file is not a well-formed Matrix Market coordinate file.
+     * @throws UncheckedIOException if the file cannot be read.
+     */
+    public static <S> SparseMatrixMap<S> read(Path path, Ring<S> ring, Function<String, S> parser) {
+
+        //null check
+        Objects.requireNonNull(path, "path cannot be null");
+
+        try (BufferedReader reader = Files.newBufferedReader(path, CHARSET)) {
+            return read(reader, ring, parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads Matrix Market coordinate text into a SparseMatrixMap, so a matrix can also be read from a compressed or network stream.
+     * @param <S> the static type S.
+     * @param reader the text being read, starting with the %%MatrixMarket banner.
+     * @param ring the Ring object of the matrix, whose zero is dropped and whose identity is the value of each entry of a pattern file.
+     * @param parser the function parsing the text of a value, everything after the column on its line, such as Double::valueOf.
+     * @return a new SparseMatrixMap holding the nonzero entries of the text, with the size given in its header.
+     * @throws IllegalArgumentException if the text is not a well-formed Matrix Market coordinate file.
+     * @throws UncheckedIOException if the text cannot be read.
+     */
+    public static <S> SparseMatrixMap<S> read(BufferedReader reader, Ring<S> ring, Function<String, S> parser) {
+
+        //null checks
+        Objects.requireNonNull(reader, "reader cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Objects.requireNonNull(parser, "parser cannot be null");
+
+        try {
+            //the banner names the format, field and symmetry
+            String line = reader.readLine();
+            if (line == null || !line.startsWith(BANNER)) {
+                throw new IllegalArgumentException("a Matrix Market file must start with " + BANNER);
+            }
+            String[] header = line.trim().toLowerCase(Locale.ROOT).split("\\s+");
+            if (header.length != 5 || !header[1].equals("matrix") || !header[2].equals("coordinate")) {
+                throw new IllegalArgumentException("only coordinate matrices are supported, not: " + line);
+            }
+            Field field = parseEnum(Field.class, header[3], line);
+            Symmetry symmetry = parseEnum(Symmetry.class, header[4].replace('-', '_'), line);
+            if (symmetry == Symmetry.SKEW_SYMMETRIC && !(ring instanceof NegatableRing)) {
+                throw new IllegalArgumentException("a skew-symmetric matrix needs a NegatableRing");
+            }
+
+            //the size line follows the comments
+            int lineNumber = 1;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+            } while (line != null && isBlankOrComment(line));
+            if (line == null) {
+                throw new IllegalArgumentException("a Matrix Market file must have a size line");
+            }
+            String[] sizes = line.trim().split("\\s+");
+            if (sizes.length != 3) {
+                throw new IllegalArgumentException("line " + lineNumber + ": expected rows, columns and entries, not: " + line);
+            }
+            int rows = InvalidLengthException.requireNonEmpty(Cause.ROW, parseInt(sizes[0], lineNumber));
+            int columns = InvalidLengthException.requireNonEmpty(Cause.COLUMN, parseInt(sizes[1], lineNumber));
+            int entries = parseInt(sizes[2], lineNumber);
+            if (entries < 0) {
+                throw new IllegalArgumentException("line " + lineNumber + ": the number of entries cannot be negative");
+            }
+
+            //entries are stored as they are read, mirroring those below the diagonal of a symmetric matrix
+            //the table is sized for the announced entries, but no more than the matrix holds or than MAX_PRESIZED_ENTRIES, and grows past them as entries are read
+            long announced = (symmetry == Symmetry.GENERAL) ? entries : 2L * entries; //the number of entries the size line announces
+            LongKeyTable<S> table = new LongKeyTable<>((int) Math.min(Math.min(announced, (long) rows * columns), MAX_PRESIZED_ENTRIES));
+            S identity = ring.identity();
+            int count = 0; //the number of entries read
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (isBlankOrComment(line)) {
+                    continue;
+                }
+                count++;
+
+                //splitting the line by hand rather than with a regular expression, since it runs once per entry
+                int rowStart = skipSpaces(line, 0);
+                int rowEnd = skipDigits(line, rowStart);
+                int columnStart = skipSpaces(line, rowEnd);
+                int columnEnd = skipDigits(line, columnStart);
+                int row = parseIndex(line, rowStart, rowEnd, rows, lineNumber);
+                int column = parseIndex(line, columnStart, columnEnd, columns, lineNumber);
+                S value = identity;
+                if (field != Field.PATTERN) {
+                    String text = line.substring(columnEnd).trim();
+                    if (text.isEmpty()) {
+                        throw new IllegalArgumentException("line " + lineNumber + ": missing value");
+                    }
+                    value = parser.apply(text);
+                }
+
+                if (ring.isZero(value)) {
+                    continue;
+                }
+                table.put(row, column, value);
+                if (row != column && symmetry == Symmetry.SYMMETRIC) {
+                    table.put(column, row, value);
+                } else if (row != column && symmetry == Symmetry.SKEW_SYMMETRIC) {
+                    table.put(column, row, ((NegatableRing<S>) ring).negate(value));
+                }
+            }
+            if (count != entries) {
+                throw new IllegalArgumentException("the size line announces " + entries + " entries, but the file has " + count);
+            }
+            return SparseMatrixMap.fromTable(table.trimmed(), new Indexes(rows - 1, columns - 1), ring);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a SparseMatrixMap to a Matrix Market coordinate file with general symmetry, listing its nonzero entries in row-major order.
+     * @param <S> the static type S.
+     * @param path the file being written, which is replaced if it exists.
+     * @param matrix the SparseMatrixMap being written.
+     * @param field the field named in the header. Values are not written for PATTERN.
+     * @param formatter the function formatting each value, such as String::valueOf.
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    public static <S> void write(Path path, SparseMatrixMap<S> matrix, Field field, Function<S, String> formatter) {
+
+        //null check
+        Objects.requireNonNull(path, "path cannot be null");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(path, CHARSET)) {
+            write(writer, matrix, field, formatter);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a SparseMatrixMap as Matrix Market coordinate text with general symmetry, listing its nonzero entries in row-major order.
+     * The text is written a piece at a time, so writer should be buffered.
+     * @param <S> the static type S.
+     * @param writer the destination of the text, which is not closed.
+     * @param matrix the SparseMatrixMap being written.
+     * @param field the field named in the header. Values are not written for PATTERN.
+     * @param formatter the function formatting each value, such as String::valueOf.
+     * @throws UncheckedIOException if the text cannot be written.
+     */
+    public static <S> void write(Writer writer, SparseMatrixMap<S> matrix, Field field, Function<S, String> formatter) {
+
+        //null checks
+        Objects.requireNonNull(writer, "writer cannot be null");
+        Objects.requireNonNull(matrix, "matrix cannot be null");
+        Objects.requireNonNull(field, "field cannot be null");
+        Objects.requireNonNull(formatter, "formatter cannot be null");
+
+        LongKeyTable<S> table = matrix.entries();
+        try {
+            writer.write(BANNER + " matrix coordinate " + field + " general\n");
+            writer.write((matrix.size().row() + 1) + " " + (matrix.size().column() + 1) + " " + table.size() + "\n");
+            for (long key : table.sortedKeys()) {
+                int row = LongKeyTable.row(key);
+                int column = LongKeyTable.column(key);
+                writer.write(Integer.toString(row + 1));
+                writer.write(' ');
+                writer.write(Integer.toString(column + 1));
+                if (field != Field.PATTERN) {
+                    writer.write(' ');
+                    writer.write(formatter.apply(table.get(row, column)));
+                }
+                writer.write('\n');
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks whether a line holds no entry.
+     * @param line the line being checked.
+     * @return true if the line is blank or a comment starting with %.
+     */
+    private static boolean isBlankOrComment(String line) {
+        int start = skipSpaces(line, 0);
+        return start == line.length() || line.charAt(start) == '%';
+    }
+
+    /**
+     * Finds the first character at or after a position which is not a space or tab.
+     * @param line the line being scanned.
+     * @param from the position where the scan starts.
+     * @return the position of the character, or the length of the line if there is none.
+     */
+    private static int skipSpaces(String line, int from) {
+        while (from < line.length() && (line.charAt(from) == ' ' || line.charAt(from) == '\t')) {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * Finds the first character at or after a position which is not a digit.
+     * @param line the line being scanned.
+     * @param from the position where the scan starts.
+     * @return the position of the character, or the length of the line if there is none.
+     */
+    private static int skipDigits(String line, int from) {
+        while (from < line.length() && Character.isDigit(line.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * Parses a 1-based Matrix Market index into a 0-based index, without copying it out of its line.
+     * @param line the line holding the index.
+     * @param start the position of the first digit.
+     * @param end the position after the last digit.
+     * @param length the number of rows or columns, which the index may not exceed.
+     * @param lineNumber the number of the line, for error messages.
+     * @return the 0-based index.
+     * @throws IllegalArgumentException if there is no index or it lies outside the matrix.
+     */
+    private static int parseIndex(String line, int start, int end, int length, int lineNumber) {
+        if (start == end) {
+            throw new IllegalArgumentException("line " + lineNumber + ": expected a row and a column, not: " + line);
+        }
+        int index;
+        try {
+            index = Integer.parseInt(line, start, end, 10);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("line " + lineNumber + ": index too large: " + line, e);
+        }
+        if (index < 1 || index > length) {
+            throw new IllegalArgumentException("line " + lineNumber + ": index " + index + " lies outside of 1 to " + length);
+        }
+        return index - 1;
+    }
+
+    /**
+     * Parses a number of the size line.
+     * @param text the number.
+     * @param lineNumber the number of the line, for error messages.
+     * @return the number.
+     * @throws IllegalArgumentException if the text is not a number.
+     */
+    private static int parseInt(String text, int lineNumber) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("line " + lineNumber + ": not a number: " + text, e);
+        }
+    }
+
+    /**
+     * Parses a word of the banner as a constant of an enum.
+     * @param <E> the type of the enum.
+     * @param type the class of the enum.
+     * @param word the lowercase word, with hyphens replaced by underscores.
+     * @param line the banner, for error messages.
+     * @return the constant named by the word.
+     * @throws IllegalArgumentException if the enum has no such constant.
+     */
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String word, String line) {
+        try {
+            return Enum.valueOf(type, word.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unsupported " + type.getSimpleName().toLowerCase(Locale.ROOT) + " " + word.replace('_', '-') + " in: " + line, e);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package MatrixPackage;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 import MatrixPackage.MatrixMap.InconsistentSizeException;
 import MatrixPackage.MatrixMap.NonSquareException;
+import RingPackage.DoubleRing;
+import RingPackage.IntegerRing;
+import RingPackage.NegatableRing;
 import RingPackage.Ring;
 
 /**
@@ -10,15 +14,37 @@ import RingPackage.Ring;
  * @author Vidyut Veedgav
  */
 public final class MatrixRing<T> {
+
+    /**
+     * The default fraction of nonzero entries above which the powers of a sparse matrix are squared as dense matrices
+     */
+    public static final double DEFAULT_DENSITY_THRESHOLD = 0.1;
     
     private final Ring<T> baseRing; //a private field storing a ring 
+    private final ForkJoinPool pool; //a private field storing the pool that runs parallel products, or null for sequential products
+    private final int sequentialCutoff; //a private field storing the greatest number of rows computed by a single task
+    private final int leafSize; //a private field storing the greatest number of rows multiplied classically in Strassen mode, or 0 for classical products
 
     /**
      * Constructor for the MatrixRing class, called by the static factory method (instance)
      * @param ring a Ring object 
      */
     private MatrixRing(Ring<T> ring) {
+        this(ring, null, 1, 0);
+    }
+
+    /**
+     * Constructor for the MatrixRing class, called by the parallel and strassen methods
+     * @param ring a Ring object 
+     * @param pool the ForkJoinPool which runs products, or null for sequential products
+     * @param sequentialCutoff the greatest number of rows computed by a single task
+     * @param leafSize the greatest number of rows multiplied classically in Strassen mode, or 0 for classical products
+     */
+    private MatrixRing(Ring<T> ring, ForkJoinPool pool, int sequentialCutoff, int leafSize) {
         this.baseRing = ring;
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+        this.leafSize = leafSize;
     }
 
     /**
@@ -34,16 +60,56 @@ public final class MatrixRing<T> {
     }
 
     /**
-     * Handles Matrix addition.
+     * Returns a MatrixRing over the same ring whose products split the rows of the result into tasks on a ForkJoinPool.
+     * @param pool the ForkJoinPool running the tasks, such as ForkJoinPool.commonPool().
+     * @param sequentialCutoff the greatest number of rows computed by a single task. Products with no more rows are computed on the calling thread.
+     * @return a new MatrixRing which computes products in parallel.
+     * @throws IllegalArgumentException if the sequential cutoff is not positive.
+     */
+    public MatrixRing<T> parallel(ForkJoinPool pool, int sequentialCutoff) {
+        //null check
+        Objects.requireNonNull(pool, "pool cannot be null");
+        RowTasks.requirePositiveCutoff(sequentialCutoff);
+        return new MatrixRing<>(baseRing, pool, sequentialCutoff, leafSize);
+    }
+
+    /**
+     * Returns a MatrixRing over the same ring whose products use the Strassen-Winograd algorithm, which needs seven half-size products per level instead of eight.
+     * Blocks with no more rows than the leaf size are multiplied classically, since the extra additions of each level outweigh the saved product on small blocks.
+     * In parallel mode the seven products of each level are computed as tasks on the pool.
+     * @param leafSize the greatest number of rows multiplied classically.
+     * @return a new MatrixRing which computes products with the Strassen-Winograd algorithm.
+     * @throws IllegalArgumentException if the leaf size is not positive, or if the ring is not a NegatableRing, since the algorithm subtracts.
+     */
+    public MatrixRing<T> strassen(int leafSize) {
+        if (leafSize <= 0) {
+            throw new IllegalArgumentException("leaf size must be positive");
+        }
+        if (!(baseRing instanceof NegatableRing)) {
+            throw new IllegalArgumentException("Strassen multiplication needs a ring with additive inverses");
+        }
+        return new MatrixRing<>(baseRing, pool, sequentialCutoff, leafSize);
+    }
+
+    /**
+     * Handles Matrix addition. A DoubleMatrix over a DoubleRing and an ArrayMatrix over an IntegerRing are added on their primitive entries with SimdKernels.
      * @param x the first Matrix addend.
      * @param y the second Matrix addend.
      * @return a new Matrix object which is the sum of its parameters.
      * @throws InconsistentSizeException a precondition is that x and y must be of equal size. 
      */
+    @SuppressWarnings("unchecked")
     public Matrix<T> sum(Matrix<T> x, Matrix<T> y) {
         //null check
         Objects.requireNonNull(x, "x cannot be null");
         Objects.requireNonNull(y, "y cannot be null");
+
+        if (x instanceof DoubleMatrix && baseRing.getClass() == DoubleRing.class) {
+            return (Matrix<T>) ((DoubleMatrix) x).sum((Matrix<Double>) y);
+        }
+        if (x instanceof ArrayMatrix && baseRing.getClass() == IntegerRing.class) {
+            return (Matrix<T>) ArrayMatrix.intSum((ArrayMatrix<Integer>) x, (Matrix<Integer>) y);
+        }
         return x.plus(y, (a, b) -> baseRing.sum(a, b));
     }
 
@@ -55,10 +121,109 @@ public final class MatrixRing<T> {
      * @throws NonSquareException a precondition is that x and y must both be square matrices. 
      * @throws InconsistentSizeException a precondition is that x and y must be of equal size. 
      */
+    @SuppressWarnings("unchecked")
     public Matrix<T> product(Matrix<T> x, Matrix<T> y) {
         //null check
         Objects.requireNonNull(x, "x cannot be null");
         Objects.requireNonNull(y, "y cannot be null");
-        return x.times(y, baseRing);
+
+        if (leafSize > 0) {
+            return Strassen.multiply(x, y, (NegatableRing<T>) baseRing, leafSize, pool);
+        }
+
+        //dense in-heap matrices of doubles are multiplied by the cache-blocked primitive kernel, while sparse and mapped matrices keep their own products
+        if (baseRing.getClass() == DoubleRing.class && isDenseInHeap(x) && isDenseInHeap(y)) {
+            x = (Matrix<T>) DoubleMatrix.copyOf((Matrix<Double>) x);
+        }
+        return (pool == null) ? x.times(y, baseRing) : x.times(y, baseRing, pool, sequentialCutoff);
+    }
+
+    /**
+     * Checks whether a matrix holds every one of its entries on the heap, so copying it into a DoubleMatrix costs no more memory than it already uses.
+     * A MatrixMap keeps an entry for each index in a HashMap, which takes more memory than the array of doubles it is copied to.
+     * @param matrix the matrix being checked.
+     * @return true if matrix is an ArrayMatrix, a DoubleMatrix or a MatrixMap.
+     */
+    private static boolean isDenseInHeap(Matrix<?> matrix) {
+        return matrix instanceof ArrayMatrix || matrix instanceof DoubleMatrix || matrix instanceof MatrixMap;
+    }
+
+    /**
+     * Raises a square matrix to a non-negative power by repeated squaring, which needs O(log exponent) products instead of exponent - 1.
+     * The powers of a SparseMatrixMap or CsrMatrix are squared in compressed sparse row form until they fill in past DEFAULT_DENSITY_THRESHOLD.
+     * @param x the square Matrix being raised to a power.
+     * @param exponent the non-negative power x is raised to.
+     * @return a new Matrix which is x multiplied by itself exponent times, or the identity matrix if exponent is 0.
+     * @throws NonSquareException a precondition is that x must be a square matrix.
+     * @throws IllegalArgumentException if the exponent is negative.
+     */
+    public Matrix<T> power(Matrix<T> x, long exponent) {
+        return power(x, exponent, DEFAULT_DENSITY_THRESHOLD);
+    }
+
+    /**
+     * Raises a square matrix to a non-negative power by repeated squaring, which needs O(log exponent) products instead of exponent - 1.
+     * The powers of a SparseMatrixMap or CsrMatrix are squared in compressed sparse row form, where the work follows the nonzero entries. 
+     * Each power usually holds more nonzero entries than the last, so once a power holds more than densityThreshold of its entries as nonzeros 
+     * the remaining products are computed as dense matrices by the product method, which also applies the parallel and Strassen modes of this MatrixRing.
+     * @param x the square Matrix being raised to a power.
+     * @param exponent the non-negative power x is raised to.
+     * @param densityThreshold the fraction of nonzero entries, from 0 to 1, above which a sparse power is converted to a dense matrix.
+     * @return a new Matrix which is x multiplied by itself exponent times, or the identity matrix if exponent is 0. The power of a sparse matrix which stays sparse is a SparseMatrixMap.
+     * @throws NonSquareException a precondition is that x must be a square matrix.
+     * @throws IllegalArgumentException if the exponent is negative or the density threshold is not between 0 and 1.
+     */
+    public Matrix<T> power(Matrix<T> x, long exponent, double densityThreshold) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+        NonSquareException.requireDiagonal(x.size()); //checks if the matrix is a square
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent cannot be negative");
+        }
+        if (!(densityThreshold >= 0 && densityThreshold <= 1)) {
+            throw new IllegalArgumentException("density threshold must be between 0 and 1");
+        }
+
+        boolean sparse = x instanceof SparseMatrixMap || x instanceof CsrMatrix;
+        if (exponent == 0) {
+            int size = x.size().row();
+            return sparse ? SparseMatrixMap.identity(size, baseRing) : ArrayMatrix.identity(size, baseRing.zero(), baseRing.identity());
+        }
+
+        Matrix<T> result = null; //the product of the squares selected by the bits of the exponent seen so far
+        Matrix<T> square = sparse ? CsrMatrix.copyOf(x, baseRing) : x; //x raised to the power of the current bit
+        while (true) {
+            if ((exponent & 1) != 0) {
+                result = (result == null) ? square : powerProduct(result, square, densityThreshold);
+            }
+            exponent >>>= 1;
+            if (exponent == 0) {
+                break;
+            }
+            square = powerProduct(square, square, densityThreshold);
+        }
+        return (result instanceof CsrMatrix) ? SparseMatrixMap.fromCsr((CsrMatrix<T>) result, baseRing) : result;
+    }
+
+    /**
+     * Multiplies two powers of a matrix for the power method, keeping the product in compressed sparse row form while both factors are sparse 
+     * and the product holds no more than the density threshold of its entries as nonzeros.
+     * @param x the first factor.
+     * @param y the second factor.
+     * @param densityThreshold the fraction of nonzero entries above which a sparse product is converted to a dense matrix.
+     * @return the product of x and y, as a CsrMatrix if it is still sparse and as a dense matrix otherwise.
+     */
+    private Matrix<T> powerProduct(Matrix<T> x, Matrix<T> y, double densityThreshold) {
+        if (x instanceof CsrMatrix && y instanceof CsrMatrix) {
+            CsrMatrix<T> csr = (CsrMatrix<T>) x;
+            CsrMatrix<T> product = (pool == null) ? csr.times(y, baseRing) : csr.times(y, baseRing, pool, sequentialCutoff);
+            double entries = (double) (product.size().row() + 1) * (product.size().column() + 1); //the number of entries, nonzero or not
+            return (product.nonZeroCount() > densityThreshold * entries) ? ArrayMatrix.copyOf(product) : product;
+        }
+
+        //a sparse factor is converted once, since every later product with a dense factor is dense
+        x = (x instanceof CsrMatrix) ? ArrayMatrix.copyOf(x) : x;
+        y = (y instanceof CsrMatrix) ? ArrayMatrix.copyOf(y) : y;
+        return product(x, y);
     }
 }
@@ -7,16 +7,29 @@ import MatrixPackage.MatrixMap.InvalidLengthException;
 import MatrixPackage.MatrixMap.NonSquareException;
 import MatrixPackage.MatrixMap.InvalidLengthException.Cause;
 import RingPackage.BigIntegerRing;
+import RingPackage.DoubleRing;
 import RingPackage.IntegerRing;
+import RingPackage.ModularRing;
 import RingPackage.Polynomial;
 import RingPackage.PolynomialRing;
 import RingPackage.Ring;
 
 import static org.junit.Assert.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -547,6 +560,737 @@ public class MatrixTest {
         assertEquals(ring.zero(), MatrixRing.instance(new  IntegerRing()).product(s1, s2).value(new Indexes(0, 0)));
     }
 
-}
+    /**
+     * testing products over a ring of primitive values
+     */
+    @Test
+    public void testPrimitiveTimes() {
+        MatrixMap<Integer> m = MatrixMap.instance(new Indexes(2, 2), (index) -> index.row() + index.column());
+        MatrixMap<Integer> n = MatrixMap.instance(new Indexes(2, 2), (index) -> index.row() + index.column() + 5);
+        MatrixMap<Integer> product = m.times(n, ring);
+        assertEquals(Integer.valueOf(20), product.value(0, 0));
+        assertEquals(Integer.valueOf(23), product.value(0, 1));
+        assertEquals(Integer.valueOf(38), product.value(1, 0));
+        assertEquals(Integer.valueOf(44), product.value(1, 1));
+
+        Matrix<Double> d = MatrixMap.instance(new Indexes(1, 1), (index) -> 0.5 * (index.row() + 1));
+        assertEquals(Double.valueOf(0.75), MatrixRing.instance(new DoubleRing()).product(d, d).value(new Indexes(0, 0)));
+    }
+
+    /* TESTING THE METHODS OF THE ARRAYMATRIX CLASS */
+
+    /**
+     * testing the factory methods of ArrayMatrix
+     */
+    @Test
+    public void testArrayMatrixFactories() {
+        ArrayMatrix<Integer> matrix = ArrayMatrix.instance(2, 3, (index) -> index.row() + index.column());
+        assertEquals(new Indexes(2, 3), matrix.size());
+        assertEquals(Integer.valueOf(5), matrix.value(2, 3));
+        assertEquals(Integer.valueOf(3), matrix.value(new Indexes(1, 2)));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.value(3, 0));
+
+        assertEquals(Integer.valueOf(7), ArrayMatrix.constant(2, 7).value(1, 2));
+        ArrayMatrix<Integer> identity = ArrayMatrix.identity(2, 0, 1);
+        assertEquals(Integer.valueOf(1), identity.value(2, 2));
+        assertEquals(Integer.valueOf(0), identity.value(0, 2));
+
+        Integer[][] testArr = {{100, 200}, {300, 400}};
+        assertEquals(Integer.valueOf(300), ArrayMatrix.from(testArr).value(1, 0));
+        assertEquals(MatrixMap.from(testArr).toString(), ArrayMatrix.from(testArr).toString());
+    }
+
+    /**
+     * testing the plus and times methods of ArrayMatrix
+     */
+    @Test
+    public void testArrayMatrixOperations() {
+        ArrayMatrix<BigInteger> m = ArrayMatrix.instance(new Indexes(2, 2), (index) -> BigInteger.valueOf(index.row() + index.column()));
+        MatrixMap<BigInteger> n = MatrixMap.instance(new Indexes(2, 2), (index) -> BigInteger.valueOf(index.row() + index.column() + 5));
+        Ring<BigInteger> bigRing = new BigIntegerRing();
+
+        ArrayMatrix<BigInteger> product = m.times(n, bigRing);
+        assertEquals(BigInteger.valueOf(20), product.value(0, 0));
+        assertEquals(BigInteger.valueOf(23), product.value(0, 1));
+        assertEquals(BigInteger.valueOf(38), product.value(1, 0));
+        assertEquals(BigInteger.valueOf(44), product.value(1, 1));
+        assertEquals(BigInteger.valueOf(7), m.plus(n, (x, y) -> bigRing.sum(x, y)).value(1, 0));
+
+        ArrayMatrix<Integer> a = ArrayMatrix.instance(new Indexes(2, 2), (index) -> index.row() + index.column());
+        ArrayMatrix<Integer> b = ArrayMatrix.instance(new Indexes(2, 2), (index) -> index.row() + index.column() + 5);
+        assertEquals(Integer.valueOf(44), a.times(b, ring).value(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> a.plus(ArrayMatrix.constant(3, 1), (x, y) -> x + y));
+    }
+
+    /* TESTING THE METHODS OF THE DOUBLEMATRIX CLASS */
+
+    /**
+     * testing the blocked times method of DoubleMatrix against the per-index product, including sizes which do not fill a block
+     */
+    @Test
+    public void testDoubleMatrixTimes() {
+        for (int size : new int[] {1, 4, 6, 70}) {
+            MatrixMap<Double> m = MatrixMap.instance(size, size, (index) -> (double) ((index.row() * 7 + index.column() * 3) % 11) - 5);
+            MatrixMap<Double> n = MatrixMap.instance(size, size, (index) -> (double) ((index.row() * 2 + index.column() * 5) % 13) - 6);
+            Matrix<Double> expected = m.times(n, new DoubleRing());
+            Matrix<Double> actual = MatrixRing.instance(new DoubleRing()).product(m, n);
+            assertEquals(DoubleMatrix.class, actual.getClass());
+            Indexes.stream(expected.size()).forEach((index) -> assertEquals(expected.value(index), actual.value(index), 1e-9));
+        }
+        DoubleMatrix d = DoubleMatrix.from(new double[][] {{1, 2}, {3, 4}});
+        assertEquals(15.0, d.times(d, new DoubleRing()).value(1, 0), 0.0);
+
+        //sparse operands keep their own product rather than being copied into a dense matrix
+        MatrixMap<Double> s = MatrixMap.instance(3, 3, (index) -> (index.row() == index.column()) ? 2.0 : 0.0);
+        Matrix<Double> sparse = s.convertToSparse(new DoubleRing());
+        Matrix<Double> sparseProduct = MatrixRing.instance(new DoubleRing()).product(sparse, sparse);
+        assertNotEquals(DoubleMatrix.class, sparseProduct.getClass());
+        assertEquals(4.0, sparseProduct.value(new Indexes(2, 2)), 0.0);
+        assertEquals(8.0, d.plus(d, (x, y) -> x + y).value(1, 1), 0.0);
+    }
+
+    /* TESTING THE METHODS OF THE CSRMATRIX CLASS */
+
+    /**
+     * testing the Gustavson product of CsrMatrix against the per-index product of MatrixMap
+     */
+    @Test
+    public void testCsrTimes() {
+        MatrixMap<Integer> m = MatrixMap.instance(5, 5, (index) -> (index.row() * 3 + index.column()) % 4 == 0 ? index.row() + 1 : 0);
+        MatrixMap<Integer> n = MatrixMap.instance(5, 5, (index) -> (index.row() + index.column() * 2) % 3 == 0 ? index.column() - 2 : 0);
+        MatrixMap<Integer> expected = m.times(n, ring);
+
+        CsrMatrix<Integer> product = CsrMatrix.copyOf(m, ring).times(n, ring);
+        SparseMatrixMap<Integer> sparseProduct = m.convertToSparse(ring).times(n.convertToSparse(ring), ring);
+        Indexes.stream(expected.size()).forEach((index) -> {
+            assertEquals(expected.value(index), product.value(index));
+            assertEquals(expected.value(index), sparseProduct.value(index));
+        });
+        assertEquals(new Indexes(5, 5), sparseProduct.size());
+    }
 
+    /**
+     * testing the instance, transpose and plus methods of CsrMatrix
+     */
+    @Test
+    public void testCsrStructure() {
+        CsrMatrix<Integer> csr = CsrMatrix.instance(new Indexes(99999, 99999), ring, Map.of(new Indexes(0, 5), 3, new Indexes(99999, 0), 4, new Indexes(7, 7), 0));
+        assertEquals(2, csr.nonZeroCount());
+        assertEquals(Integer.valueOf(3), csr.value(new Indexes(0, 5)));
+        assertEquals(Integer.valueOf(0), csr.value(new Indexes(5, 0)));
+        assertEquals(Integer.valueOf(3), csr.transpose().value(new Indexes(5, 0)));
+        assertEquals(Integer.valueOf(12), csr.times(csr, ring).value(new Indexes(99999, 5)));
+
+        CsrMatrix<Integer> negated = CsrMatrix.instance(csr.size(), ring, Map.of(new Indexes(0, 5), -3));
+        assertEquals(1, csr.plus(negated, (x, y) -> x + y).nonZeroCount());
+    }
+
+    /**
+     * testing that the sparse factories, sums and products leave out negative zeros, as Ring.isZero does
+     */
+    @Test
+    public void testSparseNegativeZero() {
+        DoubleRing doubleRing = new DoubleRing();
+        Indexes size = new Indexes(2, 2);
+        CsrMatrix<Double> csr = CsrMatrix.instance(size, doubleRing, Map.of(new Indexes(0, 0), -1e-200, new Indexes(1, 1), -0.0));
+        assertEquals(1, csr.nonZeroCount());
+        CsrMatrix<Double> small = CsrMatrix.instance(size, doubleRing, Map.of(new Indexes(0, 0), 1e-200));
+        assertEquals(0, csr.times(small, doubleRing).nonZeroCount()); //the product underflows to -0.0
+        assertEquals(0, csr.plus(small, (x, y) -> -(x + y)).nonZeroCount());
+        SparseMatrixMap<Double> sparse = SparseMatrixMap.instance(2, 2, doubleRing, (index) -> index.areDiagonal() ? 1.0 : -0.0);
+        assertEquals(3, sparse.entries().size());
+        assertThrows(IllegalArgumentException.class, () -> SparseMatrixMap.constant(2, doubleRing, -0.0));
+    }
+
+    /**
+     * testing the parallel times methods against the sequential products
+     */
+    @Test
+    public void testParallelTimes() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        MatrixMap<Integer> m = MatrixMap.instance(20, 20, (index) -> (index.row() * 3 + index.column()) % 5 == 0 || index.areDiagonal() ? index.row() - index.column() + 1 : 0);
+        MatrixMap<Integer> n = MatrixMap.instance(20, 20, (index) -> (index.row() + index.column() * 2) % 3 == 0 ? index.column() + 1 : 0);
+        MatrixMap<Integer> expected = m.times(n, ring);
+
+        List<Matrix<Integer>> products = List.of(
+            m.times(n, ring, pool, 3),
+            m.convertToSparse(ring).times(n, ring, pool, 2),
+            ArrayMatrix.copyOf(m).times(n, ring, pool, 4),
+            MatrixRing.instance(ring).parallel(pool, 1).product(m, n));
+        for (Matrix<Integer> product : products) {
+            Indexes.stream(expected.size()).forEach((index) -> assertEquals(expected.value(index), product.value(index)));
+        }
+
+        MatrixMap<Double> d = MatrixMap.instance(80, 80, (index) -> (double) ((index.row() * 7 + index.column()) % 9));
+        Matrix<Double> sequential = MatrixRing.instance(new DoubleRing()).product(d, d);
+        Matrix<Double> parallel = MatrixRing.instance(new DoubleRing()).parallel(pool, 8).product(d, d);
+        Indexes.stream(d.size()).forEach((index) -> assertEquals(sequential.value(index), parallel.value(index), 0.0));
+
+        assertThrows(IllegalArgumentException.class, () -> m.times(n, ring, pool, 0));
+        pool.shutdown();
+    }
 
+    /**
+     * testing the Strassen-Winograd mode of MatrixRing against classical products
+     */
+    @Test
+    public void testStrassen() {
+        //sizes which split evenly, need padding, and fit in a single leaf
+        for (int size : new int[] {15, 12, 2}) {
+            MatrixMap<Integer> m = MatrixMap.instance(size, size, (index) -> (index.row() * 5 + index.column() * 3) % 7 - 3);
+            MatrixMap<Integer> n = MatrixMap.instance(size, size, (index) -> (index.row() + index.column() * 2) % 5 - 2);
+            MatrixMap<Integer> expected = m.times(n, ring);
+            Matrix<Integer> product = MatrixRing.instance(ring).strassen(2).product(m, n);
+            Indexes.stream(expected.size()).forEach((index) -> assertEquals(expected.value(index), product.value(index)));
+        }
+
+        MatrixMap<Integer> m = MatrixMap.instance(20, 20, (index) -> index.row() - 2 * index.column());
+        MatrixMap<Integer> expected = m.times(m, ring);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        Matrix<Integer> parallel = MatrixRing.instance(ring).parallel(pool, 4).strassen(4).product(m, m);
+        Indexes.stream(expected.size()).forEach((index) -> assertEquals(expected.value(index), parallel.value(index)));
+        pool.shutdown();
+
+        assertThrows(IllegalArgumentException.class, () -> MatrixRing.instance(ring).strassen(0));
+        Ring<Integer> plainRing = new Ring<>() {
+            public Integer zero() { return 0; }
+            public Integer identity() { return 1; }
+            public Integer sum(Integer x, Integer y) { return x + y; }
+            public Integer product(Integer x, Integer y) { return x * y; }
+        };
+        assertThrows(IllegalArgumentException.class, () -> MatrixRing.instance(plainRing).strassen(8));
+    }
+
+    /**
+     * testing matrix products over a ModularRing, which runs through the primitive long paths
+     */
+    @Test
+    public void testModularTimes() {
+        ModularRing modularRing = ModularRing.instance(1000000007L);
+        MatrixMap<Long> m = MatrixMap.instance(6, 6, (index) -> 999999999L * (index.row() + 1) + index.column());
+        MatrixMap<Long> expected = MatrixMap.instance(m.size(), (index) -> {
+            BigInteger sum = BigInteger.ZERO;
+            for (int k = 0; k <= 6; k++) {
+                sum = sum.add(BigInteger.valueOf(m.value(new Indexes(index.row(), k))).multiply(BigInteger.valueOf(m.value(new Indexes(k, index.column())))));
+            }
+            return sum.mod(BigInteger.valueOf(1000000007L)).longValue();
+        });
+
+        List<Matrix<Long>> products = List.of(
+            m.times(m, modularRing),
+            m.convertToSparse(modularRing).times(m, modularRing),
+            ArrayMatrix.copyOf(m).times(m, modularRing),
+            MatrixRing.instance(modularRing).strassen(2).product(m, m));
+        for (Matrix<Long> product : products) {
+            Indexes.stream(expected.size()).forEach((index) -> assertEquals(expected.value(index), product.value(index)));
+        }
+    }
+
+    /* TESTING THE METHODS OF THE MATRIXEXPR CLASS */
+
+    /**
+     * testing lazy expressions against the eager MatrixRing operations
+     */
+    @Test
+    public void testMatrixExpr() {
+        MatrixRing<Integer> matrixRing = MatrixRing.instance(ring);
+        MatrixMap<Integer> a = MatrixMap.instance(7, 7, (index) -> index.row() - index.column());
+        MatrixMap<Integer> b = MatrixMap.instance(7, 7, (index) -> (index.row() * 3 + index.column()) % 5);
+        ArrayMatrix<Integer> c = ArrayMatrix.instance(7, 7, (index) -> index.row() * index.column() - 4);
+        SparseMatrixMap<Integer> d = MatrixMap.instance(7, 7, (index) -> index.areDiagonal() ? 2 : 0).convertToSparse(ring);
+        MatrixMap<Integer> e = MatrixMap.constant(7, 9);
+
+        //A * B + C * D + E
+        Matrix<Integer> eager = matrixRing.sum(matrixRing.sum(matrixRing.product(a, b), matrixRing.product(c, d)), e);
+        MatrixExpr<Integer> expr = MatrixExpr.of(a).times(b).plus(MatrixExpr.of(c).times(d)).plus(e);
+        ArrayMatrix<Integer> lazy = expr.evaluate(ring);
+        assertEquals(eager.size(), lazy.size());
+        Indexes.stream(eager.size()).forEach((index) -> assertEquals(eager.value(index), lazy.value(index)));
+        Indexes.stream(eager.size()).forEach((index) -> assertEquals(eager.value(index), expr.value(index, ring)));
+
+        //a block starting at (2, 3)
+        ArrayMatrix<Integer> block = expr.evaluate(ring, new Indexes(2, 3), new Indexes(5, 4));
+        assertEquals(new Indexes(3, 1), block.size());
+        Indexes.stream(block.size()).forEach((index) -> assertEquals(eager.value(new Indexes(index.row() + 2, index.column() + 3)), block.value(index)));
+
+        //(A + B) * (C * A)
+        Matrix<Integer> nested = matrixRing.product(matrixRing.sum(a, b), matrixRing.product(c, a));
+        ArrayMatrix<Integer> nestedLazy = MatrixExpr.of(a).plus(b).times(MatrixExpr.of(c).times(a)).evaluate(ring);
+        Indexes.stream(nested.size()).forEach((index) -> assertEquals(nested.value(index), nestedLazy.value(index)));
+
+        //products of conformable rectangular matrices
+        ArrayMatrix<Integer> wide = ArrayMatrix.instance(1, 3, (index) -> index.row() + index.column());
+        ArrayMatrix<Integer> tall = ArrayMatrix.instance(3, 1, (index) -> index.row() - index.column());
+        ArrayMatrix<Integer> square = MatrixExpr.of(wide).times(tall).evaluate(ring);
+        assertEquals(new Indexes(1, 1), square.size());
+        assertEquals(Integer.valueOf(0 * 0 + 1 * 1 + 2 * 2 + 3 * 3), square.value(0, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> MatrixExpr.of(wide).plus(tall));
+        assertThrows(IllegalArgumentException.class, () -> MatrixExpr.of(wide).times(wide));
+        assertThrows(IndexOutOfBoundsException.class, () -> expr.evaluate(ring, new Indexes(0, 0), new Indexes(8, 0)));
+        assertThrows(IndexOutOfBoundsException.class, () -> expr.value(new Indexes(0, 8), ring));
+    }
+
+    /**
+     * testing powers of dense and sparse matrices against repeated products
+     */
+    @Test
+    public void testPower() {
+        MatrixRing<Integer> matrixRing = MatrixRing.instance(ring);
+        MatrixMap<Integer> m = MatrixMap.instance(5, 5, (index) -> (index.row() * 3 + index.column()) % 4 - 1);
+        Matrix<Integer> expected = m;
+        for (int i = 1; i < 7; i++) {
+            expected = matrixRing.product(expected, m);
+        }
+        Matrix<Integer> dense = matrixRing.power(m, 7);
+        Matrix<Integer> denseExpected = expected;
+        Indexes.stream(denseExpected.size()).forEach((index) -> assertEquals(denseExpected.value(index), dense.value(index)));
+
+        //a tridiagonal matrix fills in by two diagonals with each product
+        SparseMatrixMap<Integer> sparse = SparseMatrixMap.instance(29, 29, ring, (index) -> Math.abs(index.row() - index.column()) <= 1 ? 1 + index.row() % 2 : 0);
+        Matrix<Integer> sparseExpected = sparse;
+        for (int i = 1; i < 6; i++) {
+            sparseExpected = sparseExpected.times(sparse, ring);
+        }
+        for (double threshold : new double[] {0, 0.1, 1}) {
+            Matrix<Integer> power = matrixRing.power(sparse, 6, threshold);
+            Matrix<Integer> powerExpected = sparseExpected;
+            Indexes.stream(powerExpected.size()).forEach((index) -> assertEquals(powerExpected.value(index), power.value(index)));
+        }
+        assertTrue(matrixRing.power(sparse, 6, 1) instanceof SparseMatrixMap);
+        assertTrue(matrixRing.power(sparse, 6, 0) instanceof ArrayMatrix);
+
+        Matrix<Integer> identity = matrixRing.power(sparse, 0);
+        Indexes.stream(identity.size()).forEach((index) -> assertEquals(index.areDiagonal() ? 1 : 0, (int) identity.value(index)));
+        assertEquals(new Indexes(29, 29), identity.size());
+        assertThrows(IllegalArgumentException.class, () -> matrixRing.power(m, -1));
+        assertThrows(IllegalArgumentException.class, () -> matrixRing.power(m, 2, 1.5));
+        assertThrows(IllegalStateException.class, () -> matrixRing.power(MatrixMap.instance(2, 3, (index) -> 1), 2));
+    }
+
+    /**
+     * testing lookups in the long-keyed table behind SparseMatrixMap, and copies of it into other layouts
+     */
+    @Test
+    public void testSparseValue() {
+        //a banded matrix large enough to grow the table many times
+        SparseMatrixMap<Integer> sparse = SparseMatrixMap.instance(400, 400, ring, (index) -> Math.abs(index.row() - index.column()) <= 2 ? index.row() - index.column() + 3 : 0);
+        assertEquals(new Indexes(400, 400), sparse.size());
+        Indexes.stream(sparse.size()).forEach((index) -> assertEquals(sparse.value(index), sparse.value(index.row(), index.column())));
+        assertEquals(Integer.valueOf(3), sparse.value(400, 400));
+        assertEquals(Integer.valueOf(1), sparse.value(398, 400));
+        assertEquals(Integer.valueOf(0), sparse.value(0, 3));
+
+        //indexes outside the matrix hold zero
+        assertEquals(Integer.valueOf(0), sparse.value(-1, 0));
+        assertEquals(Integer.valueOf(0), sparse.value(0, -1));
+        assertEquals(Integer.valueOf(0), sparse.value(401, 401));
+        assertEquals(Integer.valueOf(0), sparse.value(Integer.MAX_VALUE, Integer.MAX_VALUE));
+
+        CsrMatrix<Integer> csr = CsrMatrix.copyOf(sparse, ring);
+        assertEquals(5 * 401 - 6, csr.nonZeroCount());
+        Indexes.stream(sparse.size()).forEach((index) -> assertEquals(sparse.value(index), csr.value(index)));
+        MatrixMap<Integer> standard = sparse.convertToStandard(ring);
+        Indexes.stream(sparse.size()).forEach((index) -> assertEquals(sparse.value(index), standard.value(index)));
+
+        SparseMatrixMap<Integer> identity = SparseMatrixMap.identity(300, ring);
+        Indexes.stream(identity.size()).forEach((index) -> assertEquals(index.areDiagonal() ? 1 : 0, (int) identity.value(index.row(), index.column())));
+    }
+
+    /**
+     * testing memory-mapped matrices against heap matrices, with products spanning several blocks
+     */
+    @Test
+    public void testMappedMatrix() throws IOException {
+        Path directory = Files.createTempDirectory("mapped");
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            int n = MappedDoubleMatrix.TILE + 88; //the last block of each band is partial
+            DoubleRing doubleRing = new DoubleRing();
+            DoubleMatrix a = DoubleMatrix.instance(n - 1, n - 1, (index) -> (double) ((index.row() * 7 + index.column() * 3) % 11 - 5));
+            DoubleMatrix b = DoubleMatrix.instance(n - 1, n - 1, (index) -> (double) ((index.row() + index.column() * 5) % 7 - 3));
+            MappedDoubleMatrix mappedA = MappedDoubleMatrix.copyOf(directory.resolve("a.bin"), a);
+            MappedDoubleMatrix mappedB = MappedDoubleMatrix.instance(directory.resolve("b.bin"), b.size(), (index) -> b.value(index));
+            assertEquals(a.size(), mappedA.size());
+            assertEquals(a.value(n - 1, 3), mappedA.value(n - 1, 3), 0);
+
+            //small integers are summed exactly in any order
+            DoubleMatrix product = a.times(b, doubleRing);
+            MappedDoubleMatrix mappedProduct = mappedA.times(mappedB, doubleRing, directory.resolve("ab.bin"));
+            MappedDoubleMatrix parallelProduct = mappedA.times(b, doubleRing, pool, MappedDoubleMatrix.TILE);
+            MappedDoubleMatrix sum = mappedA.plus(mappedB, Double::sum, directory.resolve("sum.bin"));
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    assertEquals(product.value(i, j), mappedProduct.value(i, j), 0);
+                    assertEquals(product.value(i, j), parallelProduct.value(i, j), 0);
+                    assertEquals(a.value(i, j) + b.value(i, j), sum.value(i, j), 0);
+                }
+            }
+
+            //reopening the file of a product reads the same entries
+            MappedDoubleMatrix reopened = MappedDoubleMatrix.open(mappedProduct.path(), n - 1, n - 1);
+            assertEquals(mappedProduct.value(17, n - 2), reopened.value(17, n - 2), 0);
+            assertThrows(IllegalArgumentException.class, () -> MappedDoubleMatrix.open(mappedProduct.path(), n, n - 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> reopened.value(n, 0));
+            assertThrows(IllegalArgumentException.class, () -> mappedA.plus(DoubleMatrix.instance(2, 2, (index) -> 0.0), Double::sum));
+            assertThrows(IllegalStateException.class, () -> mappedA.times(MappedDoubleMatrix.instance(directory.resolve("wide.bin"), 1, 2, (index) -> 1.0), doubleRing));
+
+            //a long matrix over a ring without a primitive kernel, and over one with it
+            ModularRing modular = ModularRing.instance(1_000_003);
+            MatrixMap<Long> c = MatrixMap.instance(30, 30, (index) -> (long) index.row() * 1_000 + index.column());
+            MappedLongMatrix mappedC = MappedLongMatrix.copyOf(directory.resolve("c.bin"), c);
+            Matrix<Long> expected = c.times(c, modular);
+            MappedLongMatrix modularSquare = mappedC.times(mappedC, modular);
+            Indexes.stream(expected.size()).forEach((index) -> assertEquals(expected.value(index), modularSquare.value(index)));
+            Ring<Long> boxed = new Ring<>() {
+                public Long zero() { return 0L; }
+                public Long identity() { return 1L; }
+                public Long sum(Long x, Long y) { return x + y; }
+                public Long product(Long x, Long y) { return x * y; }
+            };
+            MappedLongMatrix square = mappedC.times(c, boxed);
+            Matrix<Long> boxedExpected = c.times(c, boxed);
+            Indexes.stream(boxedExpected.size()).forEach((index) -> assertEquals(boxedExpected.value(index), square.value(index)));
+
+            //closing a result deletes its temporary file but keeps a named one, and a closed matrix cannot be read
+            Path temporary = square.path();
+            assertTrue(Files.exists(temporary));
+            square.close();
+            square.close();
+            assertFalse(Files.exists(temporary));
+            assertThrows(IllegalStateException.class, () -> square.value(0, 0));
+            mappedProduct.close();
+            assertTrue(Files.exists(mappedProduct.path()));
+            assertThrows(IllegalStateException.class, () -> mappedProduct.times(mappedA, doubleRing));
+            assertEquals(product.value(3, 5), reopened.value(3, 5), 0);
+        } finally {
+            pool.shutdown();
+            try (var files = Files.list(directory)) {
+                files.forEach((file) -> file.toFile().delete());
+            }
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * testing that mapped storage reads and writes runs of elements across chunk boundaries
+     */
+    @Test
+    public void testMappedStorageChunks() throws IOException {
+        Path file = Files.createTempFile("chunks", ".bin");
+        try {
+            MappedStorage storage = MappedStorage.create(file, 100, 4); //chunks of 16 elements
+            double[] values = new double[100];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = i * 0.5;
+            }
+            storage.putDoubles(0, values, 0, 100);
+            double[] copy = new double[40];
+            storage.getDoubles(13, copy, 3, 37);
+            for (int i = 0; i < 37; i++) {
+                assertEquals(values[13 + i], copy[3 + i], 0);
+            }
+            assertEquals(49.5, storage.getDouble(99), 0);
+
+            long[] longs = {Long.MIN_VALUE, -1, 0, 1, Long.MAX_VALUE};
+            storage.putLongs(14, longs, 0, 5);
+            long[] longCopy = new long[5];
+            storage.getLongs(14, longCopy, 0, 5);
+            assertArrayEquals(longs, longCopy);
+            assertEquals(Long.MAX_VALUE, storage.getLong(18));
+            assertEquals(800, Files.size(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * testing that Matrix Market text is read into a SparseMatrixMap holding only its nonzero entries, and written back
+     */
+    @Test
+    public void testMatrixMarket() throws IOException {
+        String general = "%%MatrixMarket matrix coordinate integer general\n"
+                + "% a comment\n"
+                + "\n"
+                + "4 5 4\n"
+                + "1 1 7\n"
+                + "  2\t5 -3\n"
+                + "4 2 0\n"
+                + "3 3 12\n";
+        SparseMatrixMap<Integer> matrix = MatrixMarket.read(new BufferedReader(new StringReader(general)), ring, Integer::valueOf);
+        assertEquals(new Indexes(3, 4), matrix.size()); //the size comes from the header, not the greatest entry
+        assertEquals(3, matrix.entries().size()); //the explicit zero is dropped
+        assertEquals(Integer.valueOf(7), matrix.value(0, 0));
+        assertEquals(Integer.valueOf(-3), matrix.value(1, 4));
+        assertEquals(Integer.valueOf(12), matrix.value(2, 2));
+        assertEquals(Integer.valueOf(0), matrix.value(3, 1));
+
+        //writing and reading again gives the same matrix
+        StringWriter text = new StringWriter();
+        MatrixMarket.write(text, matrix, MatrixMarket.Field.INTEGER, String::valueOf);
+        assertEquals("%%MatrixMarket matrix coordinate integer general\n4 5 3\n1 1 7\n2 5 -3\n3 3 12\n", text.toString());
+        Path file = Files.createTempFile("matrix", ".mtx");
+        try {
+            MatrixMarket.write(file, matrix, MatrixMarket.Field.INTEGER, String::valueOf);
+            SparseMatrixMap<Integer> copy = MatrixMarket.read(file, ring, Integer::valueOf);
+            assertEquals(matrix.size(), copy.size());
+            Indexes.stream(matrix.size()).forEach((index) -> assertEquals(matrix.value(index), copy.value(index)));
+
+            //bytes outside of ASCII in a comment do not stop a file from being read
+            byte[] latin = "%%MatrixMarket matrix coordinate integer general\n% caf\u00e9\n2 2 1\n2 1 4\n".getBytes(StandardCharsets.ISO_8859_1);
+            Files.write(file, latin);
+            assertEquals(Integer.valueOf(4), MatrixMarket.read(file, ring, Integer::valueOf).value(new Indexes(1, 0)));
+        } finally {
+            Files.delete(file);
+        }
+
+        //symmetric, skew-symmetric and pattern files list the lower triangle
+        String symmetric = "%%MatrixMarket matrix coordinate real symmetric\n3 3 2\n1 1 2.5\n3 1 -1e2\n";
+        SparseMatrixMap<Double> symmetricMatrix = MatrixMarket.read(new BufferedReader(new StringReader(symmetric)), new DoubleRing(), Double::valueOf);
+        assertEquals(-100, symmetricMatrix.value(0, 2), 0);
+        assertEquals(-100, symmetricMatrix.value(2, 0), 0);
+        SparseMatrixMap<Integer> skew = MatrixMarket.read(new BufferedReader(new StringReader("%%MatrixMarket matrix coordinate integer skew-symmetric\n2 2 1\n2 1 4\n")), ring, Integer::valueOf);
+        assertEquals(Integer.valueOf(4), skew.value(1, 0));
+        assertEquals(Integer.valueOf(-4), skew.value(0, 1));
+        SparseMatrixMap<Integer> pattern = MatrixMarket.read(new BufferedReader(new StringReader("%%MatrixMarket matrix coordinate pattern general\n2 3 2\n1 3\n2 2\n")), ring, Integer::valueOf);
+        assertEquals(Integer.valueOf(1), pattern.value(0, 2));
+        assertEquals(Integer.valueOf(0), pattern.value(0, 0));
+
+        //malformed files
+        for (String malformed : new String[] {"", "%%MatrixMarket matrix array real general\n2 2\n", "%%MatrixMarket matrix coordinate real hermitian\n1 1 0\n",
+                "%%MatrixMarket matrix coordinate integer general\n2 2 1\n3 1 5\n", "%%MatrixMarket matrix coordinate integer general\n2 2 2\n1 1 5\n",
+                "%%MatrixMarket matrix coordinate integer general\n2 2 1\n1 1\n", "%%MatrixMarket matrix coordinate integer general\n0 2 0\n"}) {
+            assertThrows(IllegalArgumentException.class, () -> MatrixMarket.read(new BufferedReader(new StringReader(malformed)), ring, Integer::valueOf));
+        }
+
+        //a size line announcing far more entries than the file holds is rejected without sizing a table for them
+        String inflated = "%%MatrixMarket matrix coordinate integer symmetric\n2000000000 2000000000 2000000000\n1 1 5\n";
+        assertThrows(IllegalArgumentException.class, () -> MatrixMarket.read(new BufferedReader(new StringReader(inflated)), ring, Integer::valueOf));
+    }
+
+    /**
+     * testing the coordinate builder of SparseMatrixMap and sums visiting only nonzero entries
+     */
+    @Test
+    public void testSparseBuilder() {
+        SparseMatrixMap<Integer> built = SparseMatrixMap.builder(3, 4, ring)
+                .add(0, 0, 5)
+                .add(2, 4, 1)
+                .add(2, 4, 2) //merged into 3
+                .add(1, 1, 4)
+                .add(1, 1, -4) //cancels to zero
+                .build();
+        assertEquals(new Indexes(3, 4), built.size()); //the size is given, not inferred from the greatest entry
+        assertEquals(2, built.entries().size());
+        assertEquals(Integer.valueOf(3), built.value(2, 4));
+        assertEquals(Integer.valueOf(0), built.value(1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> SparseMatrixMap.builder(3, 4, ring).add(4, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> SparseMatrixMap.builder(3, 4, ring).add(0, -1, 1));
+        assertEquals(0, SparseMatrixMap.builder(2, 2, ring).build().entries().size());
+
+        //the builder matches instance on a random sparse pattern, and the sum matches the sum over every index
+        Random random = new Random(7);
+        SparseMatrixMap.Builder<Integer> first = SparseMatrixMap.builder(59, 59, ring);
+        SparseMatrixMap.Builder<Integer> second = SparseMatrixMap.builder(59, 59, ring);
+        for (int i = 0; i < 300; i++) {
+            int row = random.nextInt(60);
+            int column = random.nextInt(60);
+            int value = random.nextInt(9) - 4;
+            first.add(row, column, value);
+            second.add(row, column, (i % 3 == 0) ? -value : random.nextInt(9) - 4); //some entries cancel in the sum
+        }
+        first.add(59, 59, 1);
+        second.add(59, 59, 1);
+        SparseMatrixMap<Integer> a = first.build();
+        SparseMatrixMap<Integer> b = second.build();
+        Matrix<Integer> sum = a.plus(b, ring::sum);
+        Matrix<Integer> denseSum = a.plus(MatrixMap.instance(b.size(), b::value), ring::sum);
+        assertTrue(sum instanceof SparseMatrixMap);
+        assertEquals(a.size(), sum.size());
+        Indexes.stream(sum.size()).forEach((index) -> assertEquals(denseSum.value(index), sum.value(index)));
+        long nonZero = Indexes.stream(sum.size()).filter((index) -> sum.value(index) != 0).count();
+        assertEquals(nonZero, ((SparseMatrixMap<Integer>) sum).entries().size());
+
+        //a sum which cancels everywhere keeps its size
+        SparseMatrixMap<Integer> negated = SparseMatrixMap.instance(a.size(), ring, (index) -> -a.value(index));
+        Matrix<Integer> zero = a.plus(negated, ring::sum);
+        assertEquals(a.size(), zero.size());
+        assertEquals(0, ((SparseMatrixMap<Integer>) zero).entries().size());
+    }
+
+    /**
+     * testing matrix-vector products of dense and sparse matrices, sequentially and in parallel
+     */
+    @Test
+    public void testMatrixVector() {
+        Vector<Integer> x = Vector.instance(5, (i) -> i - 2);
+        assertEquals(List.of(-2, -1, 0, 1, 2), x.toList());
+        assertEquals(Vector.constant(5, 0), x.plus(Vector.from(List.of(2, 1, 0, -1, -2)), ring::sum));
+        assertThrows(IndexOutOfBoundsException.class, () -> x.value(5));
+        assertThrows(IllegalArgumentException.class, () -> x.plus(Vector.constant(4, 1), ring::sum));
+
+        //a rectangular matrix with 4 rows and 5 columns
+        MatrixMap<Integer> dense = MatrixMap.instance(3, 4, (index) -> (index.row() + 2 * index.column()) % 3 - 1);
+        Vector<Integer> expected = Vector.from(List.of(-1 * -2 + 1 * -1 + 0 * 0 + -1 * 1 + 1 * 2, 0 * -2 + -1 * -1 + 1 * 0 + 0 * 1 + -1 * 2,
+                1 * -2 + 0 * -1 + -1 * 0 + 1 * 1 + 0 * 2, -1 * -2 + 1 * -1 + 0 * 0 + -1 * 1 + 1 * 2));
+        assertEquals(expected, dense.times(x, ring));
+        assertEquals(expected, CsrMatrix.copyOf(dense, ring).times(x, ring));
+        assertThrows(IllegalArgumentException.class, () -> dense.times(Vector.constant(4, 1), ring));
+
+        //a sparse banded matrix, whose product is computed twice and also with a compressed form converted once
+        ForkJoinPool pool = new ForkJoinPool(3);
+        SparseMatrixMap<Integer> sparse = SparseMatrixMap.instance(999, 999, ring, (index) -> Math.abs(index.row() - index.column()) <= 1 ? index.row() % 5 + 1 : 0);
+        Vector<Integer> y = Vector.instance(1000, (i) -> i % 7 - 3);
+        Vector<Integer> sparseExpected = Vector.instance(1000, (row) -> {
+            int sum = 0;
+            for (int column = Math.max(0, row - 1); column <= Math.min(999, row + 1); column++) {
+                sum += sparse.value(row, column) * y.value(column);
+            }
+            return sum;
+        });
+        assertEquals(sparseExpected, sparse.times(y, ring));
+        assertEquals(sparseExpected, sparse.times(y, ring, pool, 16));
+        assertEquals(sparseExpected, sparse.times(y, ring));
+        CsrMatrix<Integer> compressed = CsrMatrix.copyOf(sparse, ring);
+        assertEquals(sparseExpected, compressed.times(y, ring, pool, 16));
+
+        //rings without primitive operations, and rings over doubles and longs
+        BigIntegerRing bigRing = new BigIntegerRing();
+        SparseMatrixMap<BigInteger> big = SparseMatrixMap.instance(999, 999, bigRing, (index) -> BigInteger.valueOf(sparse.value(index)));
+        assertEquals(Vector.instance(1000, (i) -> BigInteger.valueOf(sparseExpected.value(i))), big.times(Vector.instance(1000, (i) -> BigInteger.valueOf(y.value(i))), bigRing));
+        DoubleRing doubleRing = new DoubleRing();
+        SparseMatrixMap<Double> doubles = SparseMatrixMap.instance(999, 999, doubleRing, (index) -> (double) sparse.value(index));
+        assertEquals(Vector.instance(1000, (i) -> (double) sparseExpected.value(i)), doubles.times(Vector.instance(1000, (i) -> (double) y.value(i)), doubleRing));
+        ModularRing modular = ModularRing.instance(11);
+        SparseMatrixMap<Long> longs = SparseMatrixMap.instance(999, 999, modular, (index) -> (long) sparse.value(index));
+        assertEquals(Vector.instance(1000, (i) -> Math.floorMod((long) sparseExpected.value(i), 11L)), longs.times(Vector.instance(1000, (i) -> (long) y.value(i)), modular));
+        assertThrows(IllegalArgumentException.class, () -> sparse.times(y, ring, pool, 0));
+        pool.shutdown();
+    }
+
+    /**
+     * testing that products and sums over IntegerRing and DoubleRing, computed with SimdKernels, match scalar loops exactly
+     */
+    @Test
+    public void testSimdMatrices() {
+        Random random = new Random(8);
+        IntegerRing ring = new IntegerRing();
+        IntegerRing scalarRing = new IntegerRing() { }; //a subclass, which is multiplied with the scalar loop
+        ArrayMatrix<Integer> x = ArrayMatrix.instance(40, 40, (index) -> random.nextInt());
+        ArrayMatrix<Integer> y = ArrayMatrix.instance(40, 40, (index) -> random.nextInt(100));
+        String expected = x.times(y, scalarRing).toString(); //every entry, in row-major order
+        assertEquals(expected, x.times(y, ring).toString());
+        ForkJoinPool pool = new ForkJoinPool(2);
+        assertEquals(expected, x.times(y, ring, pool, 8).toString());
+        pool.shutdown();
+
+        //sums over exactly an IntegerRing are added on unboxed entries, and wrap around like the scalar loop
+        MatrixRing<Integer> intMatrices = MatrixRing.instance(ring);
+        Matrix<Integer> intSum = intMatrices.sum(x, y);
+        assertTrue(intSum instanceof ArrayMatrix);
+        assertEquals(x.plus(y, (c, d) -> c + d).toString(), intSum.toString());
+        assertEquals(x.plus(y, (c, d) -> c + d).toString(), intMatrices.sum(x, MatrixMap.instance(40, 40, (index) -> y.value(index))).toString());
+        assertThrows(IllegalArgumentException.class, () -> intMatrices.sum(x, ArrayMatrix.constant(2, 0)));
+
+        //the blocked kernel sums each entry in the order of the classical loop while the depth fits in one panel
+        DoubleRing doubleRing = new DoubleRing();
+        MatrixRing<Double> matrices = MatrixRing.instance(doubleRing);
+        double[][] a = new double[37][37];
+        double[][] b = new double[37][37];
+        for (int i = 0; i < 37; i++) {
+            for (int j = 0; j < 37; j++) {
+                a[i][j] = random.nextDouble() * 10 - 5;
+                b[i][j] = random.nextDouble();
+            }
+        }
+        DoubleMatrix p = DoubleMatrix.from(a);
+        DoubleMatrix q = DoubleMatrix.from(b);
+        Matrix<Double> product = matrices.product(p, q);
+        for (int i = 0; i < 37; i++) {
+            for (int j = 0; j < 37; j++) {
+                double sum = 0.0;
+                for (int k = 0; k < 37; k++) {
+                    sum += a[i][k] * b[k][j];
+                }
+                assertEquals(sum, product.value(new Indexes(i, j)), 0.0);
+            }
+        }
+        Matrix<Double> sum = matrices.sum(product, q);
+        assertTrue(sum instanceof DoubleMatrix);
+        assertEquals(product.value(new Indexes(36, 5)) + b[36][5], sum.value(new Indexes(36, 5)), 0.0);
+        assertThrows(IllegalArgumentException.class, () -> matrices.sum(p, DoubleMatrix.from(new double[2][2])));
+    }
+
+    /**
+     * testing that matrix products over BigIntegerRing, which accumulate entries in 128 bits, match products computed with BigInteger arithmetic
+     */
+    @Test
+    public void testAccumulatedProducts() {
+        Random random = new Random(25);
+        BigIntegerRing ring = new BigIntegerRing();
+        long[][] entries = new long[12][12];
+        for (long[] row : entries) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] = (random.nextInt(4) == 0) ? Long.MIN_VALUE : random.nextLong();
+            }
+        }
+        entries[3][4] = 0;
+        BigInteger large = BigInteger.ONE.shiftLeft(80);
+        Function<Indexes, BigInteger> mapper = (index) -> (index.row() == 5 && index.column() == 5) ? large : BigInteger.valueOf(entries[index.row()][index.column()]);
+        BigInteger[][] expected = new BigInteger[12][12];
+        for (int i = 0; i < 12; i++) {
+            for (int j = 0; j < 12; j++) {
+                BigInteger sum = BigInteger.ZERO;
+                for (int k = 0; k < 12; k++) {
+                    sum = sum.add(mapper.apply(new Indexes(i, k)).multiply(mapper.apply(new Indexes(k, j))));
+                }
+                expected[i][j] = sum;
+            }
+        }
+
+        ArrayMatrix<BigInteger> array = ArrayMatrix.instance(11, 11, mapper);
+        MatrixMap<BigInteger> map = MatrixMap.instance(11, 11, mapper);
+        Matrix<BigInteger> arrayProduct = array.times(array, ring);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        Matrix<BigInteger> parallelProduct = array.times(array, ring, pool, 3);
+        pool.shutdown();
+        Matrix<BigInteger> mapProduct = map.times(map, ring);
+        Vector<BigInteger> column = Vector.instance(12, (i) -> mapper.apply(new Indexes(i, 7)));
+        Vector<BigInteger> sparseProduct = CsrMatrix.copyOf(array, ring).times(column, ring);
+        Vector<BigInteger> denseProduct = map.times(column, ring);
+        for (int i = 0; i < 12; i++) {
+            for (int j = 0; j < 12; j++) {
+                Indexes index = new Indexes(i, j);
+                assertEquals(expected[i][j], arrayProduct.value(index));
+                assertEquals(expected[i][j], parallelProduct.value(index));
+                assertEquals(expected[i][j], mapProduct.value(index));
+            }
+            assertEquals(expected[i][7], sparseProduct.value(i));
+            assertEquals(expected[i][7], denseProduct.value(i));
+        }
+    }
+
+    /**
+     * testing that matrix products over a subclass of DoubleRing which overrides the boxed product use the override instead of the unboxed loops
+     */
+    @Test
+    public void testOverriddenPrimitiveRing() {
+        DoubleRing adding = new DoubleRing() {
+            @Override
+            public Double product(Double x, Double y) {
+                return x + y;
+            }
+        };
+        Function<Indexes, Double> mapper = (index) -> (double) (2 * index.row() + index.column() + 1); //the matrix ((1, 2), (3, 4))
+        MatrixMap<Double> map = MatrixMap.instance(1, 1, mapper);
+        ArrayMatrix<Double> array = ArrayMatrix.instance(1, 1, mapper);
+        assertEquals(Double.valueOf(9.0), map.times(map, adding).value(new Indexes(0, 1)));
+        assertEquals(Double.valueOf(9.0), array.times(array, adding).value(new Indexes(0, 1)));
+        assertEquals(Double.valueOf(9.0), MatrixRing.instance(adding).product(map, map).value(new Indexes(0, 1)));
+        DoubleMatrix dense = DoubleMatrix.copyOf(map);
+        assertEquals(Double.valueOf(9.0), dense.times(dense, adding).value(new Indexes(0, 1)));
+        Vector<Double> ones = Vector.constant(2, 1.0);
+        assertEquals(Vector.from(List.of(5.0, 9.0)), CsrMatrix.copyOf(map, adding).times(ones, adding));
+        assertEquals(Double.valueOf(10.0), map.times(map, new DoubleRing()).value(new Indexes(0, 1)));
+    }
+}
@@ -0,0 +1,88 @@
+package MatrixPackage;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This is a fork-join task which splits a range of matrix rows in half until each part holds at most a sequential cutoff of rows,
+ * and then computes each part on a worker of a ForkJoinPool.
+ */
+final class RowTasks extends RecursiveAction {
+
+    /**
+     * The computation applied to a contiguous range of rows
+     */
+    @FunctionalInterface
+    interface RowRange {
+
+        /**
+         * Computes the rows from (inclusive) to (exclusive).
+         * @param from the first row.
+         * @param to the row after the last row.
+         */
+        void compute(int from, int to);
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private final int from; //the first row of this task
+    private final int to; //the row after the last row of this task
+    private final int cutoff; //the greatest number of rows computed without splitting
+    private final RowRange body; //the computation applied to each range of rows
+
+    /**
+     * Constructor for a RowTasks object, called by forEachRange and by compute when a range is split.
+     * @param from the first row of the task.
+     * @param to the row after the last row of the task.
+     * @param cutoff the greatest number of rows computed without splitting.
+     * @param body the computation applied to each range of rows.
+     */
+    private RowTasks(int from, int to, int cutoff, RowRange body) {
+        this.from = from;
+        this.to = to;
+        this.cutoff = cutoff;
+        this.body = body;
+    }
+
+    /**
+     * Computes the range of this task, splitting it into two subtasks if it is larger than the cutoff.
+     */
+    @Override
+    protected void compute() {
+        if (to - from <= cutoff) {
+            body.compute(from, to);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new RowTasks(from, middle, cutoff, body), new RowTasks(middle, to, cutoff, body));
+    }
+
+    /**
+     * Applies a computation to the rows from 0 (inclusive) to rows (exclusive).
+     * The computation runs on the calling thread if pool is null or if there are no more rows than the cutoff, so small matrices do not pay for task creation.
+     * @param rows the number of rows.
+     * @param pool the ForkJoinPool which runs the tasks, or null to compute every row on the calling thread.
+     * @param cutoff the greatest number of rows computed by a single task.
+     * @param body the computation applied to each range of rows.
+     */
+    static void forEachRange(int rows, ForkJoinPool pool, int cutoff, RowRange body) {
+        if (pool == null || rows <= cutoff) {
+            body.compute(0, rows);
+        } else {
+            pool.invoke(new RowTasks(0, rows, cutoff, body));
+        }
+    }
+
+    /**
+     * Checks that a sequential cutoff is positive.
+     * @param cutoff the sequential cutoff being checked.
+     * @return the cutoff if it is positive.
+     * @throws IllegalArgumentException if the cutoff is not positive.
+     */
+    static int requirePositiveCutoff(int cutoff) {
+        if (cutoff <= 0) {
+            throw new IllegalArgumentException("sequential cutoff must be positive");
+        }
+        return cutoff;
+    }
+}
@@ -1,45 +1,68 @@
 package MatrixPackage;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import MatrixPackage.MatrixMap.InconsistentSizeException;
 import MatrixPackage.MatrixMap.InvalidLengthException;
 import MatrixPackage.MatrixMap.InvalidLengthException.Cause;
 import MatrixPackage.MatrixMap.NonSquareException;
 import RingPackage.Ring;
-import RingPackage.Rings;
 
 /**
  * This is a class representing a sparse matrix with each entry consisting of an Indexes object as keys and generic T values (barring zeros).
+ * The entries are stored in a LongKeyTable, which packs the row and column of each entry into a single long key.
  * @author Vidyut Veedgav
  */
 public final class SparseMatrixMap<T> implements Matrix<T> {
 
-    private final Map<Indexes, T>  matrix; //a field representing the matrix
+    private final LongKeyTable<T> matrix; //a field representing the nonzero entries of the matrix
     private final Indexes size; //a field representing the size of the matrix
     private final Ring<T> ring; //a field representing a ring used for intermediate operations
 
     /**
      * Constructor for the matrix, called by the static factory methods (instance, constant, identity).
-     * Sets the size field by iterating through the Indexes objects in the key set and finding the greatest index. This occurs upon instantiation.
-     * @param matrix the Map object representing the underlying data structure.
+     * Sets the size field by iterating through the keys of the table and finding the greatest index. This occurs upon instantiation.
+     * @param matrix the LongKeyTable object representing the underlying data structure.
      * @param ring the Ring object used to represent the zero of type T and aid in intermediate operations. 
+     * @throws NoSuchElementException if the table is empty, since there is no greatest index.
      */
-    private SparseMatrixMap(Map<Indexes, T> matrix, Ring<T> ring) {
+    private SparseMatrixMap(LongKeyTable<T> matrix, Ring<T> ring) {
+        //edge case: a matrix without entries has no greatest index
+        if (matrix.size() == 0) {
+            throw new NoSuchElementException("a sparse matrix needs a nonzero entry to infer its size");
+        }
+        //setting class fields
+        long maxKey = matrix.maxKey(); //the greatest index, packed into a long
+        this.matrix = matrix;
+        this.size = new Indexes(LongKeyTable.row(maxKey), LongKeyTable.column(maxKey));
+        this.ring = ring;
+    }
+
+    /**
+     * Constructor for the matrix, called by operations whose result has a known size, which may be larger than its greatest nonzero index.
+     * @param matrix the LongKeyTable object representing the underlying data structure.
+     * @param size the greatest index of the matrix.
+     * @param ring the Ring object used to represent the zero of type T and aid in intermediate operations. 
+     */
+    private SparseMatrixMap(LongKeyTable<T> matrix, Indexes size, Ring<T> ring) {
         //setting class fields
         this.matrix = matrix;
-        this.size = Collections.max(matrix.keySet());
+        this.size = size;
         this.ring = ring;
     }
 
+    /**
+     * Gets the nonzero entries of this SparseMatrixMap.
+     * @return the LongKeyTable of nonzero entries backing this matrix, which must not be modified.
+     */
+    LongKeyTable<T> entries() {
+        return matrix;
+    }
+
     /**
      * Gets the matrix size.
      * @return the greatest index of the matrix, computed by the constructor upon instantiation.
@@ -59,8 +82,17 @@ public final class SparseMatrixMap<T> implements Matrix<T> {
         //null check
         Objects.requireNonNull(index, "indexes cannot be null");
 
-        //error handling for index greater than size
-        T value = matrix.get(index);
+        return value(index.row(), index.column());
+    }
+
+    /**
+     * Returns the value of this SparseMatrixMap at a row and column, without allocating an Indexes object.
+     * @param row the row of the desired return value.
+     * @param column the column of the desired return value.
+     * @return the corresponding value; zero if there is no entry at the specified row and column.
+     */
+    public T value(int row, int column) {
+        T value = matrix.get(row, column);
         return (value == null) ? ring.zero() : value;
     }
 
@@ -85,17 +117,17 @@ public final class SparseMatrixMap<T> implements Matrix<T> {
         InvalidLengthException.requireNonEmpty(Cause.ROW, rows); //checks if the rows are valid
         InvalidLengthException.requireNonEmpty(Cause.COLUMN, columns); //checks if the columns are valid
 
-        Map<Indexes, S> matrix = new HashMap<>(); //creating the map
-        List<Indexes> indexes = Indexes.stream(rows, columns).collect(Collectors.toList()); //creating a list of indexes
-
-        //populating the map with the applied mappings at each index, excluding mappings to zero
-        for (Indexes index : indexes) {
-            S value = valueMapper.apply(index);
-            if (!value.equals(ring.zero())) {
-                matrix.put(index, value);
+        LongKeyTable<S> matrix = new LongKeyTable<>(rows + columns + 1); //creating the table, which grows as entries are added
+        //populating the table with the applied mappings at each index, excluding mappings to zero
+        for (int row = 0; row <= rows; row++) {
+            for (int column = 0; column <= columns; column++) {
+                S value = valueMapper.apply(new Indexes(row, column));
+                if (!ring.isZero(value)) {
+                    matrix.put(row, column, value);
+                }
             }
         }
-        return new SparseMatrixMap<>(Map.copyOf(matrix), ring);
+        return new SparseMatrixMap<>(matrix.trimmed(), ring);
     }
 
     /**
@@ -139,7 +171,7 @@ public final class SparseMatrixMap<T> implements Matrix<T> {
         Objects.requireNonNull(ring, "ring cannot be null");
 
         //edge case: user attempts to populate a constant sparse matrix with zero
-        if (value.equals(ring.zero())) {
+        if (ring.isZero(value)) {
             throw new IllegalArgumentException("cannot populate a sparse matrix with 0");
         }
 
@@ -162,15 +194,14 @@ public final class SparseMatrixMap<T> implements Matrix<T> {
         InvalidLengthException.requireNonEmpty(Cause.ROW, size); //checks if the rows are valid
         InvalidLengthException.requireNonEmpty(Cause.COLUMN, size); //checks if the columns are valid
 
-        Map<Indexes, S> matrix = new HashMap<>(); //creating the map
-        List<Indexes> indexes = Indexes.stream(size, size).filter(index -> index.areDiagonal()).collect(Collectors.toList()); //creating a list of indexes
+        LongKeyTable<S> matrix = new LongKeyTable<>(size + 1); //creating the table
 
-        //populating the map with the applied mappings at each index, excluding mappings to zero
-        for (Indexes index : indexes) {
-            S value = ring.identity();
-            matrix.put(index, value);
+        //populating the diagonal with the identity
+        S value = ring.identity();
+        for (int i = 0; i <= size; i++) {
+            matrix.put(i, i, value);
         }
-        return new SparseMatrixMap<>(Map.copyOf(matrix), ring);
+        return new SparseMatrixMap<>(matrix, ring);
         /* 
         //null check
         Objects.requireNonNull(ring, "ring cannot be null");
@@ -180,9 +211,29 @@ public final class SparseMatrixMap<T> implements Matrix<T> {
         */
     }
 
+    /**
+     * Creates a Builder for a SparseMatrixMap of a given size, which is populated by adding (row, column, value) triples, so that no function is applied to the indexes holding zero.
+     * @param <S> the static type S.
+     * @param rows the greatest row of the SparseMatrixMap.
+     * @param columns the greatest column of the SparseMatrixMap.
+     * @param ring the Ring object used to represent the zero of type S and to merge entries added at the same index.
+     * @return a new Builder without entries.
+     * @throws InvalidLengthException a precondition is that the rows and columns in the argument must be valid.
+     */
+    public static <S> Builder<S> builder(int rows, int columns, Ring<S> ring) {
+
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+        InvalidLengthException.requireNonEmpty(Cause.ROW, rows); //checks if the rows are valid
+        InvalidLengthException.requireNonEmpty(Cause.COLUMN, columns); //checks if the columns are valid
+
+        return new Builder<>(new Indexes(rows, columns), ring);
+    }
+
     /**
      * Computes Matrix addition by creating a new instance of a SparseMatrixMap, and using the specified BinaryOperator interface in the argument to apply addition between this SparseMatrixMap and the other Matrix. 
      * One unobvious precondition is that the apply method of the BinaryOperator should model addition, perhaps using a Ring object. 
+     * If the other Matrix is also a SparseMatrixMap, only the indexes where either addend has an entry are added, and the sum has the size of this matrix.
      * @param other the other Matrix being added
      * @param plus the BinaryOperator interface which computes the addition of each element in the addend Matrices
      * @return a new SparseMatrixMap which is the sum of this MatrixMap and the other Matrix. 
@@ -197,13 +248,56 @@ public final class SparseMatrixMap<T> implements Matrix<T> {
         //consistent size checks
         InconsistentSizeException.requireMatchingSize(this, other); 
 
+        //edge case: a sum of two sparse matrices is nonzero only where either addend is, so only those entries are visited
+        if (other instanceof SparseMatrixMap) {
+            return sparsePlus(((SparseMatrixMap<T>) other).matrix, plus);
+        }
         return instance(this.size(), this.ring, (index) -> plus.apply(this.value(index), other.value(index)));
     }
+
+    /**
+     * Adds the entries of another SparseMatrixMap to this one, visiting the union of their nonzero entries rather than every index.
+     * Entries whose sum is zero are dropped, so the result stays as sparse as the cancellation allows.
+     * @param other the nonzero entries of the other SparseMatrixMap, of the same size.
+     * @param plus the BinaryOperator interface which computes the addition of each element in the addend Matrices.
+     * @return a new SparseMatrixMap of the same size as this one holding the nonzero entries of the sum.
+     */
+    private SparseMatrixMap<T> sparsePlus(LongKeyTable<T> other, BinaryOperator<T> plus) {
+        LongKeyTable<T> sum = new LongKeyTable<>(matrix.size() + other.size());
+        T zero = ring.zero();
+
+        //entries of this matrix, paired with the entry of the other matrix at the same index if there is one
+        matrix.forEach((row, column, value) -> {
+            T otherValue = other.get(row, column);
+            putNonZero(sum, row, column, plus.apply(value, (otherValue == null) ? zero : otherValue));
+        });
+        //entries of the other matrix alone
+        other.forEach((row, column, value) -> {
+            if (matrix.get(row, column) == null) {
+                putNonZero(sum, row, column, plus.apply(zero, value));
+            }
+        });
+        return new SparseMatrixMap<>(sum.trimmed(), size, ring);
+    }
+
+    /**
+     * Adds an entry to a table unless its value is zero.
+     * @param table the table receiving the entry.
+     * @param row the row of the entry.
+     * @param column the column of the entry.
+     * @param value the value of the entry.
+     */
+    private void putNonZero(LongKeyTable<T> table, int row, int column, T value) {
+        if (!ring.isZero(value)) {
+            table.put(row, column, value);
+        }
+    }
     
     /**
-     * Computes Matrix multiplication by creating a new instance of a SparseMatrixMap, and using the specified Ring object to compute the intermediate operations of matrix multiplication. 
+     * Computes Matrix multiplication by converting both factors to compressed sparse row form, and using the specified Ring object to compute the intermediate operations of matrix multiplication. 
+     * The work is proportional to the pairs of nonzero entries that are multiplied, rather than to the cube of the matrix length.
      * @param other the other Matrix being multiplied.
-     * @param ring a Ring object used for intermediate operations, further defined in the getProductAtIndex method.
+     * @param ring a Ring object used for intermediate operations.
      * @return a new MatrixMap which is the product of this MatrixMap and the other Matrix. 
      * @throws NonSquareException a precondition is that both factor matrices must be square matrices. 
      * @throws InconsistentSizeException a precondition is that they must be of equal size. 
@@ -220,28 +314,140 @@ public final class SparseMatrixMap<T> implements Matrix<T> {
         NonSquareException.requireDiagonal(other.size()); //checks if the other matrix is a square
         InconsistentSizeException.requireMatchingSize(this, other); //checks if the matrixes are of equal size
 
-        int length = this.size().row(); //sets the length of the matrixes by accessing the row of the size of this index (can be row or column from either matrix)
-        return instance(this.size(), this.ring, (index) -> { //creates an instance of a matrix containing the product
-
-            return getProductAtIndex(other, ring, length, index); //a subroutine to compite the product at each specific index of the matrix
-        });    
+        //multiplies the compressed sparse row forms with Gustavson's algorithm, so only nonzero entries are combined
+        CsrMatrix<T> product = CsrMatrix.copyOf(this, this.ring).times(CsrMatrix.copyOf(other, this.ring), ring);
+        return fromCsr(product);
     }
 
     /**
-     * Conducts the matrix multiplication operation and computes the resulting value at each index of the matrix.
+     * Computes Matrix multiplication in parallel by converting both factors to compressed sparse row form, 
+     * and splitting the rows of the product into tasks on a ForkJoinPool.
      * @param other the other Matrix being multiplied.
+     * @param ring a Ring object used for intermediate operations. It must be safe to use from several threads.
+     * @param pool the ForkJoinPool running the tasks, such as ForkJoinPool.commonPool().
+     * @param sequentialCutoff the number of rows computed by a single task. Products with no more rows are computed on the calling thread.
+     * @return a new SparseMatrixMap which is the product of this SparseMatrixMap and the other Matrix. 
+     * @throws NonSquareException a precondition is that both factor matrices must be square matrices. 
+     * @throws InconsistentSizeException a precondition is that they must be of equal size. 
+     * @throws IllegalArgumentException if the sequential cutoff is not positive.
+     */
+    @Override
+    public SparseMatrixMap<T> times(Matrix<T> other, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Objects.requireNonNull(pool, "pool cannot be null");
+
+        //size and square checks
+        NonSquareException.requireDiagonal(this.size()); //checks if this matrix is a square
+        NonSquareException.requireDiagonal(other.size()); //checks if the other matrix is a square
+        InconsistentSizeException.requireMatchingSize(this, other); //checks if the matrixes are of equal size
+
+        CsrMatrix<T> product = CsrMatrix.copyOf(this, this.ring).times(CsrMatrix.copyOf(other, this.ring), ring, pool, sequentialCutoff);
+        return fromCsr(product);
+    }
+
+    /**
+     * Computes the product of this SparseMatrixMap and a column vector (SpMV) in O(nnz + rows) time.
+     * The entries are grouped by row straight from the slots of the table with a counting sort, which neither compares keys nor looks any entry up,
+     * and each row is then multiplied with the vector. The grouping is not kept, so the matrix holds no second copy of its entries between products.
+     * @param vector the Vector factor, with one entry for each column of this matrix.
      * @param ring a Ring object used for intermediate operations.
-     * @param length the length of the matrix dimentions. It can be either a row or column since the matrices being multiplied must both be squares.
-     * @param index the Indexes object which represents the index of the product being computed.
-     * @return the T product of matrix multiplication between this and another matrix at the specified index. 
+     * @return a new Vector with one entry for each row of this matrix.
+     * @throws InconsistentSizeException a precondition is that the length of the vector must equal the number of columns of the matrix.
      */
-    private T getProductAtIndex(Matrix<T> other, Ring<T> ring, int length, Indexes index) {
-        List<T> products = new ArrayList<>();
-        //indexes until length is reached and adds to the product list the element at the row of this and column of other
-        for (int i = 0; i <= length; i++) {
-            products.add(ring.product(this.value(new Indexes(index.row(), i)), other.value(new Indexes(i, index.column()))));
-        }
-        return Rings.sum(products, ring); //sums the elements of the product list
+    @Override
+    public Vector<T> times(Vector<T> vector, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(vector, "vector cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        return multiply(vector, ring, null, 1);
+    }
+
+    /**
+     * Computes the product of this SparseMatrixMap and a column vector in parallel, grouping its entries by row and splitting the rows into tasks on a ForkJoinPool.
+     * @param vector the Vector factor, with one entry for each column of this matrix.
+     * @param ring a Ring object used for intermediate operations. It must be safe to use from several threads.
+     * @param pool the ForkJoinPool running the tasks, such as ForkJoinPool.commonPool().
+     * @param sequentialCutoff the greatest number of rows computed by a single task. Products with no more rows are computed on the calling thread.
+     * @return a new Vector with one entry for each row of this matrix.
+     * @throws InconsistentSizeException a precondition is that the length of the vector must equal the number of columns of the matrix.
+     * @throws IllegalArgumentException if the sequential cutoff is not positive.
+     */
+    @Override
+    public Vector<T> times(Vector<T> vector, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+
+        //null checks
+        Objects.requireNonNull(vector, "vector cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Objects.requireNonNull(pool, "pool cannot be null");
+        RowTasks.requirePositiveCutoff(sequentialCutoff);
+
+        return multiply(vector, ring, pool, sequentialCutoff);
+    }
+
+    /**
+     * Computes the product of this SparseMatrixMap and a column vector one range of rows at a time, over its entries grouped by row.
+     * @param vector the Vector factor.
+     * @param ring a Ring object used for intermediate operations.
+     * @param pool the ForkJoinPool running the tasks, or null to compute every row on the calling thread.
+     * @param sequentialCutoff the greatest number of rows computed by a single task.
+     * @return a new Vector with one entry for each row of this matrix.
+     */
+    private Vector<T> multiply(Vector<T> vector, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+        Vector.requireConformable(this, vector);
+
+        int rows = size.row() + 1; //the number of rows of the matrix
+        int[] rowStarts = new int[rows + 1]; //the position of the first entry of each row
+        int[] columns = new int[matrix.size()]; //the column of each entry, grouped by row
+        Object[] values = new Object[matrix.size()]; //the value of each entry, grouped by row
+        matrix.groupByRow(rowStarts, columns, values);
+
+        Object[] x = vector.entries(); //the entries of the vector
+        Object[] y = new Object[rows]; //the entries of the product
+        RowTasks.forEachRange(rows, pool, sequentialCutoff, (from, to) -> {
+            for (int row = from; row < to; row++) {
+                y[row] = DotProducts.sparseDot(values, columns, rowStarts[row], rowStarts[row + 1], x, ring);
+            }
+        });
+        return Vector.wrap(y);
+    }
+
+    /**
+     * Converts a CsrMatrix to a SparseMatrixMap of the same size, visiting only its nonzero entries.
+     * @param csr the CsrMatrix being converted.
+     * @return a new SparseMatrixMap holding the entries of csr.
+     */
+    private SparseMatrixMap<T> fromCsr(CsrMatrix<T> csr) {
+        return fromCsr(csr, this.ring);
+    }
+
+    /**
+     * Converts a CsrMatrix to a SparseMatrixMap of the same size, visiting only its nonzero entries.
+     * @param <S> the static type S.
+     * @param csr the CsrMatrix being converted.
+     * @param ring the Ring object of the new SparseMatrixMap.
+     * @return a new SparseMatrixMap holding the entries of csr.
+     */
+    static <S> SparseMatrixMap<S> fromCsr(CsrMatrix<S> csr, Ring<S> ring) {
+        LongKeyTable<S> entries = new LongKeyTable<>(csr.nonZeroCount());
+        csr.forEachNonZero((index, value) -> entries.put(index.row(), index.column(), value));
+        return new SparseMatrixMap<>(entries, csr.size(), ring);
+    }
+
+    /**
+     * Wraps a table of nonzero entries built by a reader such as MatrixMarket, without visiting every index of the matrix.
+     * @param <S> the static type S.
+     * @param entries the nonzero entries, which must all lie within size and must not be modified afterwards.
+     * @param size the greatest index of the matrix, which may be larger than its greatest nonzero index.
+     * @param ring the Ring object of the new SparseMatrixMap.
+     * @return a new SparseMatrixMap backed by entries.
+     */
+    static <S> SparseMatrixMap<S> fromTable(LongKeyTable<S> entries, Indexes size, Ring<S> ring) {
+        return new SparseMatrixMap<>(entries, size, ring);
     }
 
     /**
@@ -288,7 +494,64 @@ public final class SparseMatrixMap<T> implements Matrix<T> {
         Objects.requireNonNull(ring, "ring cannot be null");
         
         return MatrixMap.instance(size(), (index) -> {
-            return (!matrix.containsKey(index) ? ring.zero() : value(index));
+            T value = matrix.get(index.row(), index.column());
+            return (value == null) ? ring.zero() : value;
         });
     }
+
+    /**
+     * This is a builder of SparseMatrixMaps from coordinate (COO) triples, for matrices whose nonzero entries are known without visiting every index.
+     * Triples at the same index are merged with the sum of the ring as they are added, and entries which sum to zero are left out of the built matrix.
+     */
+    public static final class Builder<S> {
+
+        private final Indexes size; //the greatest index of the matrix being built
+        private final Ring<S> ring; //the ring whose sum merges triples at the same index
+        private final LongKeyTable<S> entries; //the sum of the triples added at each index
+
+        /**
+         * Constructor for the Builder, called by SparseMatrixMap.builder.
+         * @param size the greatest index of the matrix being built.
+         * @param ring the ring whose sum merges triples at the same index.
+         */
+        private Builder(Indexes size, Ring<S> ring) {
+            this.size = size;
+            this.ring = ring;
+            this.entries = new LongKeyTable<>(0);
+        }
+
+        /**
+         * Adds a value to the entry at a row and column, summing it with any value added there before.
+         * @param row the row of the entry.
+         * @param column the column of the entry.
+         * @param value the value being added.
+         * @return this Builder, so that calls can be chained.
+         * @throws IndexOutOfBoundsException if (row, column) lies outside of the matrix.
+         */
+        public Builder<S> add(int row, int column, S value) {
+
+            //null check
+            Objects.requireNonNull(value, "value cannot be null");
+            Objects.checkIndex(row, size.row() + 1);
+            Objects.checkIndex(column, size.column() + 1);
+
+            S previous = entries.get(row, column);
+            entries.put(row, column, (previous == null) ? value : ring.sum(previous, value));
+            return this;
+        }
+
+        /**
+         * Builds a SparseMatrixMap holding the nonzero sums of the triples added so far. The Builder may keep being used afterwards.
+         * @return a new SparseMatrixMap of the size given to SparseMatrixMap.builder.
+         */
+        public SparseMatrixMap<S> build() {
+            LongKeyTable<S> nonZero = new LongKeyTable<>(entries.size());
+            entries.forEach((row, column, value) -> {
+                if (!ring.isZero(value)) {
+                    nonZero.put(row, column, value);
+                }
+            });
+            return new SparseMatrixMap<>(nonZero.trimmed(), size, ring);
+        }
+    }
 }
@@ -0,0 +1,270 @@
+package MatrixPackage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import MatrixPackage.MatrixMap.InconsistentSizeException;
+import MatrixPackage.MatrixMap.NonSquareException;
+import RingPackage.NegatableRing;
+
+/**
+ * This is a fork-join task computing the product of two square row-major arrays with the Winograd variant of Strassen's algorithm,
+ * which uses seven half-size products and fifteen additions or subtractions per level instead of eight products.
+ * Blocks with no more rows than the leaf size are multiplied by the dense kernel of ArrayMatrix.
+ */
+final class Strassen extends RecursiveTask<Object[]> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] a; //the row-major entries of the first factor
+    private final Object[] b; //the row-major entries of the second factor
+    private final int n; //the number of rows and columns of both factors
+    private final NegatableRing<?> ring; //the ring used for intermediate operations
+    private final int leafSize; //the greatest number of rows multiplied by the dense kernel
+    private final boolean parallel; //whether the seven products of each level are forked
+
+    /**
+     * Constructor for a Strassen task, called by multiply and by compute for each of the seven products.
+     * @param a the row-major entries of the first factor.
+     * @param b the row-major entries of the second factor.
+     * @param n the number of rows and columns of both factors.
+     * @param ring the ring used for intermediate operations.
+     * @param leafSize the greatest number of rows multiplied by the dense kernel.
+     * @param parallel whether the seven products of each level are forked.
+     */
+    private Strassen(Object[] a, Object[] b, int n, NegatableRing<?> ring, int leafSize, boolean parallel) {
+        this.a = a;
+        this.b = b;
+        this.n = n;
+        this.ring = ring;
+        this.leafSize = leafSize;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Multiplies two square matrices with the Strassen-Winograd algorithm.
+     * Both factors are padded with zeros to leafSize' * 2^k rows, where leafSize' is at most the leaf size, so each level splits evenly.
+     * @param <T> the static type T.
+     * @param x the first factor.
+     * @param y the second factor.
+     * @param ring the NegatableRing used for intermediate operations.
+     * @param leafSize the greatest number of rows multiplied by the dense kernel.
+     * @param pool the ForkJoinPool which computes the seven products of each level in parallel, or null to compute them on the calling thread.
+     * @return a new ArrayMatrix which is the product of x and y.
+     * @throws NonSquareException a precondition is that both factor matrices must be square matrices.
+     * @throws InconsistentSizeException a precondition is that they must be of equal size.
+     */
+    static <T> ArrayMatrix<T> multiply(Matrix<T> x, Matrix<T> y, NegatableRing<T> ring, int leafSize, ForkJoinPool pool) {
+
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        NonSquareException.requireDiagonal(x.size()); //checks if the first matrix is a square
+        NonSquareException.requireDiagonal(y.size()); //checks if the second matrix is a square
+        InconsistentSizeException.requireMatchingSize(x, y); //checks if the matrixes are of equal size
+
+        int n = x.size().row() + 1; //the number of rows and columns
+        int blockSize = n; //the number of rows of a leaf block
+        int levels = 0; //the number of levels of recursion
+        while (blockSize > leafSize) {
+            blockSize = (blockSize + 1) / 2;
+            levels++;
+        }
+        int padded = blockSize << levels; //the number of rows after padding
+
+        Object[] a = pad(ArrayMatrix.copyOf(x).entries(), n, padded, ring.zero());
+        Object[] b = pad(ArrayMatrix.copyOf(y).entries(), n, padded, ring.zero());
+        Strassen task = new Strassen(a, b, padded, ring, leafSize, pool != null);
+        Object[] c = (pool == null) ? task.compute() : pool.invoke(task);
+        return ArrayMatrix.wrap(crop(c, padded, n), n, n);
+    }
+
+    /**
+     * Computes the product of this task, recursing on seven half-size products until blocks reach the leaf size.
+     * @return the row-major entries of the product.
+     */
+    @Override
+    protected Object[] compute() {
+        return compute(ring);
+    }
+
+    /**
+     * Computes the product of this task with a typed ring.
+     * @param <T> the static type T.
+     * @param ring the ring of this task.
+     * @return the row-major entries of the product.
+     */
+    private <T> Object[] compute(NegatableRing<T> ring) {
+        if (n <= leafSize) {
+            return ArrayMatrix.multiplyEntries(a, b, n, ring, null, 1);
+        }
+        int h = n / 2; //the number of rows of each quadrant
+
+        Object[] a11 = quadrant(a, n, 0, 0);
+        Object[] a12 = quadrant(a, n, 0, h);
+        Object[] a21 = quadrant(a, n, h, 0);
+        Object[] a22 = quadrant(a, n, h, h);
+        Object[] b11 = quadrant(b, n, 0, 0);
+        Object[] b12 = quadrant(b, n, 0, h);
+        Object[] b21 = quadrant(b, n, h, 0);
+        Object[] b22 = quadrant(b, n, h, h);
+
+        Object[] s1 = sum(a21, a22, ring);
+        Object[] s2 = difference(s1, a11, ring);
+        Object[] s3 = difference(a11, a21, ring);
+        Object[] s4 = difference(a12, s2, ring);
+        Object[] t1 = difference(b12, b11, ring);
+        Object[] t2 = difference(b22, t1, ring);
+        Object[] t3 = difference(b22, b12, ring);
+        Object[] t4 = difference(t2, b21, ring);
+
+        List<Strassen> products = List.of(
+                child(a11, b11), child(a12, b21), child(s4, b22), child(a22, t4),
+                child(s1, t1), child(s2, t2), child(s3, t3));
+        Object[][] m = new Object[products.size()][];
+        if (parallel) {
+            invokeAll(products);
+            for (int i = 0; i < m.length; i++) {
+                m[i] = products.get(i).join();
+            }
+        } else {
+            for (int i = 0; i < m.length; i++) {
+                m[i] = products.get(i).compute();
+            }
+        }
+
+        Object[] u2 = sum(m[0], m[5], ring); //M1 + M6
+        Object[] u3 = sum(u2, m[6], ring); //M1 + M6 + M7
+        Object[] u4 = sum(u2, m[4], ring); //M1 + M6 + M5
+        Object[] c11 = sum(m[0], m[1], ring); //M1 + M2
+        Object[] c12 = sum(u4, m[2], ring); //M1 + M6 + M5 + M3
+        Object[] c21 = difference(u3, m[3], ring); //M1 + M6 + M7 - M4
+        Object[] c22 = sum(u3, m[4], ring); //M1 + M6 + M7 + M5
+
+        Object[] c = new Object[n * n];
+        place(c, n, c11, 0, 0);
+        place(c, n, c12, 0, h);
+        place(c, n, c21, h, 0);
+        place(c, n, c22, h, h);
+        return c;
+    }
+
+    /**
+     * Creates the task for one of the seven half-size products.
+     * @param x the row-major entries of the first factor.
+     * @param y the row-major entries of the second factor.
+     * @return a new Strassen task with the settings of this task.
+     */
+    private Strassen child(Object[] x, Object[] y) {
+        return new Strassen(x, y, n / 2, ring, leafSize, parallel);
+    }
+
+    /**
+     * Copies one quadrant of a square row-major array.
+     * @param source the row-major entries.
+     * @param n the number of rows and columns of the source.
+     * @param row the first row of the quadrant.
+     * @param column the first column of the quadrant.
+     * @return the row-major entries of the quadrant.
+     */
+    private static Object[] quadrant(Object[] source, int n, int row, int column) {
+        int h = n / 2;
+        Object[] target = new Object[h * h];
+        for (int i = 0; i < h; i++) {
+            System.arraycopy(source, (row + i) * n + column, target, i * h, h);
+        }
+        return target;
+    }
+
+    /**
+     * Copies a quadrant into a square row-major array.
+     * @param target the row-major entries being filled.
+     * @param n the number of rows and columns of the target.
+     * @param source the row-major entries of the quadrant.
+     * @param row the first row of the quadrant.
+     * @param column the first column of the quadrant.
+     */
+    private static void place(Object[] target, int n, Object[] source, int row, int column) {
+        int h = n / 2;
+        for (int i = 0; i < h; i++) {
+            System.arraycopy(source, i * h, target, (row + i) * n + column, h);
+        }
+    }
+
+    /**
+     * Adds two arrays entry by entry.
+     * @param <T> the static type T.
+     * @param x the first addend.
+     * @param y the second addend.
+     * @param ring the ring used for the additions.
+     * @return the entry-wise sum.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Object[] sum(Object[] x, Object[] y, NegatableRing<T> ring) {
+        Object[] result = new Object[x.length];
+        for (int i = 0; i < x.length; i++) {
+            result[i] = ring.sum((T) x[i], (T) y[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Subtracts two arrays entry by entry.
+     * @param <T> the static type T.
+     * @param x the minuend.
+     * @param y the subtrahend.
+     * @param ring the ring used for the subtractions.
+     * @return the entry-wise difference.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Object[] difference(Object[] x, Object[] y, NegatableRing<T> ring) {
+        Object[] result = new Object[x.length];
+        for (int i = 0; i < x.length; i++) {
+            result[i] = ring.difference((T) x[i], (T) y[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Pads a square row-major array with zeros on the bottom and the right.
+     * @param source the row-major entries.
+     * @param n the number of rows and columns of the source.
+     * @param padded the number of rows and columns after padding.
+     * @param zero the additive identity.
+     * @return the padded entries, or the source itself if no padding is needed.
+     */
+    private static Object[] pad(Object[] source, int n, int padded, Object zero) {
+        if (padded == n) {
+            return source;
+        }
+        Object[] target = new Object[padded * padded];
+        Arrays.fill(target, zero);
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(source, i * n, target, i * padded, n);
+        }
+        return target;
+    }
+
+    /**
+     * Removes the padding of a square row-major array.
+     * @param source the padded row-major entries.
+     * @param padded the number of rows and columns of the source.
+     * @param n the number of rows and columns to keep.
+     * @return the cropped entries, or the source itself if there is no padding.
+     */
+    private static Object[] crop(Object[] source, int padded, int n) {
+        if (padded == n) {
+            return source;
+        }
+        Object[] target = new Object[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(source, i * padded, target, i * n, n);
+        }
+        return target;
+    }
+}
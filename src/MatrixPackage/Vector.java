@@ -0,0 +1,201 @@
+package MatrixPackage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.IntFunction;
+
+import MatrixPackage.MatrixMap.InconsistentSizeException;
+import MatrixPackage.MatrixMap.InvalidLengthException;
+import MatrixPackage.MatrixMap.InvalidLengthException.Cause;
+
+/**
+ * This is a class representing an immutable column vector, the right factor of a matrix-vector product such as Matrix.times(Vector, Ring).
+ * Entries are stored in an array, so a vector of length n takes O(n) memory, rather than the O(n^2) of a matrix with a single nonzero column.
+ * Unlike the size of a Matrix, the length of a Vector is its number of entries; a vector of length n has the size of an n x 1 matrix, (n - 1, 0).
+ */
+public final class Vector<T> {
+
+    private final Object[] entries; //a field storing the entries of the vector in order
+
+    /**
+     * Constructor for the vector, called by the static factory methods (instance, constant, from) and by matrix-vector products.
+     * @param entries the array representing the underlying data structure. It is not copied.
+     */
+    private Vector(Object[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Wraps an array of entries computed by a matrix-vector product.
+     * @param <S> the static type S.
+     * @param entries the entries of the vector, which must not be modified afterwards.
+     * @return a new Vector backed by entries.
+     */
+    static <S> Vector<S> wrap(Object[] entries) {
+        return new Vector<>(entries);
+    }
+
+    /**
+     * Gets the entries of this Vector for a matrix-vector product.
+     * @return the array backing this Vector, which must not be modified.
+     */
+    Object[] entries() {
+        return entries;
+    }
+
+    /**
+     * Creates an instance of a Vector by mapping each index from 0 to length - 1 to a value defined by the valueMapper function.
+     * @param <S> the static type S.
+     * @param length the number of entries of the Vector.
+     * @param valueMapper a functional interface which uses a lambda expression to set the value at each index of the Vector.
+     * @return a new Vector with the specified length and populated by the user defined function.
+     * @throws InvalidLengthException a precondition is that the length in the argument must be positive.
+     */
+    public static <S> Vector<S> instance(int length, IntFunction<S> valueMapper) {
+
+        //error handling
+        Objects.requireNonNull(valueMapper, "valueMapper cannot be null");
+        InvalidLengthException.requireNonEmpty(Cause.ROW, length); //checks if the length is valid
+
+        Object[] entries = new Object[length];
+        for (int i = 0; i < length; i++) {
+            entries[i] = Objects.requireNonNull(valueMapper.apply(i), "values cannot be null");
+        }
+        return new Vector<>(entries);
+    }
+
+    /**
+     * Creates an instance of a constant Vector, with every entry holding the same value, such as the uniform starting vector of PageRank.
+     * @param <S> the static type S.
+     * @param length the number of entries of the Vector.
+     * @param value the value that the Vector is being populated with.
+     * @return a new Vector with the specified length and populated with the specified value at each index.
+     * @throws InvalidLengthException a precondition is that the length in the argument must be positive.
+     */
+    public static <S> Vector<S> constant(int length, S value) {
+
+        //null check
+        Objects.requireNonNull(value, "value cannot be null");
+        InvalidLengthException.requireNonEmpty(Cause.ROW, length); //checks if the length is valid
+
+        Object[] entries = new Object[length];
+        Arrays.fill(entries, value);
+        return new Vector<>(entries);
+    }
+
+    /**
+     * Creates an instance of a Vector from a list of values.
+     * @param <S> the static type S.
+     * @param values the entries of the Vector, in order.
+     * @return a new Vector holding the values.
+     * @throws InvalidLengthException a precondition is that the list must not be empty.
+     */
+    public static <S> Vector<S> from(List<S> values) {
+
+        //null check
+        Objects.requireNonNull(values, "values cannot be null");
+
+        //calling the foundational instance method
+        return instance(values.size(), values::get);
+    }
+
+    /**
+     * Gets the number of entries of this Vector.
+     * @return the length of the vector.
+     */
+    public int length() {
+        return entries.length;
+    }
+
+    /**
+     * Returns the value of this Vector at an index.
+     * @param index the index of the desired return value.
+     * @return the corresponding value at index.
+     * @throws IndexOutOfBoundsException if index lies outside of the vector.
+     */
+    @SuppressWarnings("unchecked")
+    public T value(int index) {
+        return (T) entries[Objects.checkIndex(index, entries.length)];
+    }
+
+    /**
+     * Computes Vector addition, combining the entries of this Vector and the other Vector with the specified BinaryOperator.
+     * @param other the other Vector being added.
+     * @param plus the BinaryOperator interface which computes the addition of each element in the addend Vectors.
+     * @return a new Vector which is the sum of this Vector and the other Vector.
+     * @throws InconsistentSizeException a precondition is that the two vectors being added must be of equal length.
+     */
+    @SuppressWarnings("unchecked")
+    public Vector<T> plus(Vector<T> other, BinaryOperator<T> plus) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(plus, "plus cannot be null");
+
+        //checking if the vectors are the same length
+        if (other.length() != length()) {
+            throw new IllegalArgumentException(new InconsistentSizeException(new Indexes(length() - 1, 0), new Indexes(other.length() - 1, 0)));
+        }
+
+        Object[] sum = new Object[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            sum[i] = plus.apply((T) entries[i], (T) other.entries[i]);
+        }
+        return new Vector<>(sum);
+    }
+
+    /**
+     * Checks that a Vector can be multiplied by a Matrix, which needs one entry of the vector for each column of the matrix.
+     * If not, an IllegalArgumentException is thrown with the cause, InconsistentSizeException, comparing the size of the matrix with that of the vector as a column.
+     * @param <T> the static type T.
+     * @param matrix the Matrix factor.
+     * @param vector the Vector factor.
+     * @return the vector if its length matches the columns of the matrix.
+     * @throws IllegalArgumentException
+     */
+    static <T> Vector<T> requireConformable(Matrix<T> matrix, Vector<T> vector) {
+        if (vector.length() != matrix.size().column() + 1) {
+            throw new IllegalArgumentException(new InconsistentSizeException(matrix.size(), new Indexes(vector.length() - 1, 0)));
+        }
+        return vector;
+    }
+
+    /**
+     * Gets the entries of this Vector as a list.
+     * @return an unmodifiable list of the entries, in order.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> toList() {
+        return (List<T>) List.of(entries);
+    }
+
+    /**
+     * Checks whether another object is a Vector holding equal entries in the same order.
+     * @param object the object being compared.
+     * @return true if object is a Vector of the same length with equal entries.
+     */
+    @Override
+    public boolean equals(Object object) {
+        return object instanceof Vector && Arrays.equals(entries, ((Vector<?>) object).entries);
+    }
+
+    /**
+     * Computes a hash code consistent with equals.
+     * @return the hash code of the entries.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(entries);
+    }
+
+    /**
+     * Returns a string representation of the object that "textually represents" a Vector.
+     * @return the entries of the vector in brackets.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(entries);
+    }
+}
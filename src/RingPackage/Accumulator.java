@@ -0,0 +1,34 @@
+package RingPackage;
+
+/**
+ * This is an interface for a mutable running sum over a Ring, which dot products and convolutions use to add x * y in place,
+ * rather than creating a new immutable element for every product and every partial sum.
+ * Every Ring supplies one through Ring.accumulator: the default adds with sum and product, while BigIntegerRing and PolynomialRing keep mutable buffers
+ * and only create an element when the result is read. An Accumulator is not safe to use from several threads, so each thread takes its own.
+ */
+public interface Accumulator<T> {
+
+    /**
+     * Adds the product of two elements to the running sum
+     * @param x the first factor
+     * @param y the second factor
+     */
+    void addProduct(T x, T y);
+
+    /**
+     * Adds an element to the running sum
+     * @param x the addend
+     */
+    void add(T x);
+
+    /**
+     * Returns the running sum, which keeps accumulating afterwards
+     * @return the sum of every element and product added since the accumulator was created or last reset, or zero if none was added
+     */
+    T result();
+
+    /**
+     * Sets the running sum back to zero, so the accumulator can be reused for the next sum
+     */
+    void reset();
+}
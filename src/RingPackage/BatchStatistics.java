@@ -0,0 +1,112 @@
+package RingPackage;
+
+import java.util.Arrays;
+
+/**
+ * This is an immutable summary of a batch of tasks run by a RingExecutor, built once every task of the batch has completed or failed.
+ * The latency of a task runs from its submission to its completion, so it includes the time spent waiting for a permit, which is also reported on its own.
+ */
+public final class BatchStatistics {
+
+    private final int taskCount; //the number of tasks in the batch
+    private final int failedCount; //the number of tasks which threw an exception or were cancelled
+    private final long elapsedNanos; //the time from the submission of the batch to the completion of its last task
+    private final long[] latencies; //the latency of each task in nanoseconds, sorted in increasing order
+    private final double meanWaitNanos; //the mean time a task waited for a permit before running
+
+    /**
+     * Constructor for a BatchStatistics object, called by RingExecutor when the last task of a batch completes.
+     * @param failedCount the number of tasks which threw an exception or were cancelled.
+     * @param elapsedNanos the time from the submission of the batch to the completion of its last task.
+     * @param latencies the latency of each task in nanoseconds, which is sorted in place and not copied.
+     * @param meanWaitNanos the mean time a task waited for a permit before running.
+     */
+    BatchStatistics(int failedCount, long elapsedNanos, long[] latencies, double meanWaitNanos) {
+        Arrays.sort(latencies);
+        this.taskCount = latencies.length;
+        this.failedCount = failedCount;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies;
+        this.meanWaitNanos = meanWaitNanos;
+    }
+
+    /**
+     * Gets the number of tasks in the batch.
+     * @return the number of tasks.
+     */
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * Gets the number of tasks which threw an exception or were cancelled before they ran.
+     * @return the number of failed tasks.
+     */
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Gets the time from the submission of the batch to the completion of its last task.
+     * @return the elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the number of tasks completed per second over the whole batch.
+     * @return the throughput in tasks per second, or NaN if no time elapsed.
+     */
+    public double getThroughput() {
+        return (elapsedNanos > 0) ? taskCount * 1e9 / elapsedNanos : Double.NaN;
+    }
+
+    /**
+     * Gets the mean latency of the tasks, from submission to completion.
+     * @return the mean latency in nanoseconds.
+     */
+    public double getMeanLatencyNanos() {
+        return Arrays.stream(latencies).average().orElse(Double.NaN);
+    }
+
+    /**
+     * Gets the greatest latency of the tasks, from submission to completion.
+     * @return the greatest latency in nanoseconds.
+     */
+    public long getMaxLatencyNanos() {
+        return latencies[latencies.length - 1];
+    }
+
+    /**
+     * Gets a percentile of the latencies of the tasks with the nearest-rank method, such as 50 for the median or 99 for the tail.
+     * @param percentile the percentile, from 0 to 100.
+     * @return the smallest latency in nanoseconds which is at least as great as the given percent of the latencies.
+     * @throws IllegalArgumentException if the percentile lies outside of 0 to 100.
+     */
+    public long getLatencyPercentileNanos(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("percentile must lie between 0 and 100");
+        }
+        int rank = (int) Math.ceil(percentile / 100 * latencies.length); //the 1-based rank of the percentile
+        return latencies[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Gets the mean time the tasks waited for a permit before running, which grows when more tasks are submitted than the executor runs at once.
+     * @return the mean wait in nanoseconds.
+     */
+    public double getMeanWaitNanos() {
+        return meanWaitNanos;
+    }
+
+    /**
+     * Returns a string representation of the object that "textually represents" a BatchStatistics object.
+     * @return the counts, throughput and latencies in the form "BatchStatistics [tasks=..., failed=..., elapsedNanos=..., throughput=..., meanLatencyNanos=..., p99LatencyNanos=..., meanWaitNanos=...]".
+     */
+    @Override
+    public String toString() {
+        return "BatchStatistics [tasks=" + taskCount + ", failed=" + failedCount + ", elapsedNanos=" + elapsedNanos + ", throughput=" + getThroughput()
+                + ", meanLatencyNanos=" + getMeanLatencyNanos() + ", p99LatencyNanos=" + getLatencyPercentileNanos(99) + ", meanWaitNanos=" + meanWaitNanos + "]";
+    }
+}
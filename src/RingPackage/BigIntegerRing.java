@@ -7,7 +7,7 @@ import java.util.Objects;
  * This is a class to demonstrate the concept of Rings on BigIntegers
  * @author Vidyut Veedgav
  */
-public class BigIntegerRing implements Ring<BigInteger> {
+public class BigIntegerRing implements NegatableRing<BigInteger> {
 
     /**
      * Returns the zero property of data type BigInteger
@@ -56,7 +56,155 @@ public class BigIntegerRing implements Ring<BigInteger> {
         
         return x.multiply(y);
     }
-}
 
+    /**
+     * Returns the additive inverse of a BigInteger
+     * @param x the element being negated
+     * @return a new BigInteger object representing -x
+     */
+    @Override
+    public BigInteger negate(BigInteger x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
 
+        return x.negate();
+    }
 
+    /**
+     * Returns the difference of two objects of type BigInteger
+     * @param x the minuend
+     * @param y the subtrahend
+     * @return a new BigInteger object representing x minus y
+     */
+    @Override
+    public BigInteger difference(BigInteger x, BigInteger y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x.subtract(y);
+    }
+
+    /**
+     * Checks whether a BigInteger is zero from its sign, without comparing it to a zero object
+     * @param x the element being tested
+     * @return true if x is zero
+     */
+    @Override
+    public boolean isZero(BigInteger x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return x.signum() == 0;
+    }
+
+    /**
+     * Returns a new Accumulator which adds products of BigIntegers that fit in a long into a 128-bit sum held in two longs,
+     * so a dot product of such entries creates a BigInteger only for its result. Larger products are added as BigIntegers.
+     * Subclasses, which may change sum or product, get the default accumulator instead.
+     * @return a new Accumulator holding zero
+     */
+    @Override
+    public Accumulator<BigInteger> accumulator() {
+        return (getClass() == BigIntegerRing.class) ? new WideAccumulator() : NegatableRing.super.accumulator();
+    }
+
+    /**
+     * This is a class accumulating BigIntegers into a 128-bit two's complement sum, high * 2^64 + low with low unsigned, which overflows into a BigInteger.
+     * The product of two longs lies within 2^126 in magnitude, so its high word lies within 2^62, and the sum is moved into the BigInteger
+     * before its high word can leave 2^61, which keeps every addition of the high words within a long.
+     */
+    private static final class WideAccumulator implements Accumulator<BigInteger> {
+
+        private static final long HIGH_LIMIT = 1L << 61; //the greatest magnitude of the high word before the sum overflows into the BigInteger
+        private static final BigInteger LOW_MASK = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE); //the 64 low bits
+
+        private long high; //the high word of the 128-bit sum
+        private long low; //the low word of the 128-bit sum, read as unsigned
+        private BigInteger overflow = BigInteger.ZERO; //the sum of the large terms and of the 128-bit sums moved out of the words
+
+        /**
+         * Adds the product of two BigIntegers, in the words if both fit in a long
+         * @param x the first factor
+         * @param y the second factor
+         */
+        @Override
+        public void addProduct(BigInteger x, BigInteger y) {
+            //null checks
+            Objects.requireNonNull(x, "x cannot be null");
+            Objects.requireNonNull(y, "y cannot be null");
+
+            if (x.bitLength() < Long.SIZE && y.bitLength() < Long.SIZE) {
+                long a = x.longValue();
+                long b = y.longValue();
+                addWords(Math.multiplyHigh(a, b), a * b);
+            } else {
+                overflow = overflow.add(x.multiply(y));
+            }
+        }
+
+        /**
+         * Adds a BigInteger, in the words if it fits in a long
+         * @param x the addend
+         */
+        @Override
+        public void add(BigInteger x) {
+            //null check
+            Objects.requireNonNull(x, "x cannot be null");
+
+            if (x.bitLength() < Long.SIZE) {
+                long value = x.longValue();
+                addWords(value >> 63, value); //the high word of a long is its sign
+            } else {
+                overflow = overflow.add(x);
+            }
+        }
+
+        /**
+         * Adds a 128-bit value to the words, first moving the sum into the BigInteger if its high word is near overflowing
+         * @param addHigh the high word of the value, within 2^62 in magnitude
+         * @param addLow the low word of the value, read as unsigned
+         */
+        private void addWords(long addHigh, long addLow) {
+            if (high > HIGH_LIMIT || high < -HIGH_LIMIT) {
+                overflow = overflow.add(words());
+                high = 0;
+                low = 0;
+            }
+            long sum = low + addLow;
+            high += addHigh + ((Long.compareUnsigned(sum, low) < 0) ? 1 : 0); //carries out of the low word
+            low = sum;
+        }
+
+        /**
+         * Converts the 128-bit sum in the words to a BigInteger
+         * @return high * 2^64 + low, with low read as unsigned
+         */
+        private BigInteger words() {
+            if (high == (low >> 63)) { //the sum fits in a long
+                return BigInteger.valueOf(low);
+            }
+            return BigInteger.valueOf(high).shiftLeft(64).add(BigInteger.valueOf(low).and(LOW_MASK));
+        }
+
+        /**
+         * Returns the running sum
+         * @return the sum of the words and the overflow
+         */
+        @Override
+        public BigInteger result() {
+            BigInteger words = words();
+            return (overflow.signum() == 0) ? words : overflow.add(words);
+        }
+
+        /**
+         * Sets the running sum back to zero
+         */
+        @Override
+        public void reset() {
+            high = 0;
+            low = 0;
+            overflow = BigInteger.ZERO;
+        }
+    }
+}
@@ -6,7 +6,7 @@ import java.util.Objects;
  * This is a class to demonstrate the concept of Rings on Doubles
  * @author Vidyut Veedgav
  */
-public class DoubleRing implements Ring<Double>{
+public class DoubleRing implements PrimitiveDoubleRing, NegatableRing<Double> {
 
     /**
      * Returns the zero property of data type Double
@@ -55,4 +55,85 @@ public class DoubleRing implements Ring<Double>{
         
         return Double.valueOf(x * y);
     }
+
+    /**
+     * Returns the zero property of this ring as a primitive double
+     * @return zero as a double
+     */
+    @Override
+    public double doubleZero() {
+        return 0.0;
+    }
+
+    /**
+     * Returns the multiplicative identity property of this ring as a primitive double
+     * @return the identity as a double
+     */
+    @Override
+    public double doubleIdentity() {
+        return 1.0;
+    }
+
+    /**
+     * Returns the sum of two primitive double values without boxing
+     * @param x the first addend
+     * @param y the second addend
+     * @return a double representing the sum of x and y
+     */
+    @Override
+    public double sum(double x, double y) {
+        return x + y;
+    }
+
+    /**
+     * Returns the product of two primitive double values without boxing
+     * @param x the first factor
+     * @param y the second factor
+     * @return a double representing the product of x and y
+     */
+    @Override
+    public double product(double x, double y) {
+        return x * y;
+    }
+
+    /**
+     * Returns the additive inverse of a Double
+     * @param x the element being negated
+     * @return a new Double object representing -x
+     */
+    @Override
+    public Double negate(Double x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return Double.valueOf(-x);
+    }
+
+    /**
+     * Returns the difference of two objects of type Double
+     * @param x the minuend
+     * @param y the subtrahend
+     * @return a new Double object representing x minus y
+     */
+    @Override
+    public Double difference(Double x, Double y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return Double.valueOf(x - y);
+    }
+
+    /**
+     * Checks whether a Double is zero, which holds for both 0.0 and -0.0
+     * @param x the element being tested
+     * @return true if x is zero
+     */
+    @Override
+    public boolean isZero(Double x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return x == 0.0;
+    }
 }
@@ -0,0 +1,356 @@
+package RingPackage;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This is a fork-join task evaluating a polynomial at a point with Estrin's scheme, which splits the coefficients into a low and a high half
+ * and combines them as low(x) + x^h * high(x), where h is the length of the low half. The two halves do not depend on each other,
+ * so they can be evaluated as separate tasks, and blocks of at most LEAF_LENGTH coefficients are evaluated by Horner's scheme on two interleaved chains.
+ * Coefficients are read directly from their list, and the primitive rings evaluate each block on unboxed values.
+ */
+final class Estrin extends RecursiveTask<Object> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of coefficients evaluated by Horner's scheme in a single block, a power of two.
+     * Blocks are long enough that the combinations of halves, which box their values, are rare.
+     */
+    static final int LEAF_LENGTH = 1024;
+
+    /**
+     * The evaluation of blocks of coefficients and the combination of two halves, specialized for a kind of ring
+     */
+    private interface Kernel {
+
+        /**
+         * Evaluates the coefficients from (inclusive) to (exclusive) at the point, as if the coefficient at from were the constant term.
+         * @param from the index of the first coefficient.
+         * @param to the index after the last coefficient.
+         * @return the value of the block.
+         */
+        Object block(int from, int to);
+
+        /**
+         * Combines the values of a low and a high half as low + x^(LEAF_LENGTH * 2^level) * high.
+         * @param low the value of the low half.
+         * @param high the value of the high half.
+         * @param level the level of the halves, where blocks are at level 0.
+         * @return the value of both halves.
+         */
+        Object combine(Object low, Object high, int level);
+    }
+
+    private final Kernel kernel; //the kernel evaluating blocks and combining halves
+    private final int from; //the index of the first coefficient of this task
+    private final int level; //the level of this task, which covers LEAF_LENGTH * 2^level coefficients
+    private final int length; //the number of coefficients of the polynomial
+    private final int cutoff; //the greatest number of coefficients evaluated without forking a task
+
+    /**
+     * Constructor for an Estrin task, called by evaluate and by compute when a range is split.
+     * @param kernel the kernel evaluating blocks and combining halves.
+     * @param from the index of the first coefficient of the task.
+     * @param level the level of the task.
+     * @param length the number of coefficients of the polynomial.
+     * @param cutoff the greatest number of coefficients evaluated without forking a task.
+     */
+    private Estrin(Kernel kernel, int from, int level, int length, int cutoff) {
+        this.kernel = kernel;
+        this.from = from;
+        this.level = level;
+        this.length = length;
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Evaluates a polynomial at a point with Estrin's scheme.
+     * @param <T> the static type T.
+     * @param coefficients the coefficients of the polynomial, where the coefficient at index i multiplies x^i.
+     * @param x the point.
+     * @param ring the Ring used for intermediate operations. It must be safe to use from several threads if pool is not null.
+     * @param pool the ForkJoinPool running the tasks, or null to evaluate on the calling thread.
+     * @param cutoff the greatest number of coefficients evaluated by a single task.
+     * @return the value of the polynomial at x, or zero if it has no coefficients.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T evaluate(List<T> coefficients, T x, Ring<T> ring, ForkJoinPool pool, int cutoff) {
+        //edge case: a polynomial without coefficients is zero everywhere
+        if (coefficients.isEmpty()) {
+            return ring.zero();
+        }
+        int levels = 0; //the number of times the coefficients are split in half
+        while ((long) LEAF_LENGTH << levels < coefficients.size()) {
+            levels++;
+        }
+
+        Kernel kernel;
+        boolean primitive = Rings.hasPrimitiveOperations(ring); //whether the kernel evaluates unboxed coefficients
+        if (primitive && ring instanceof PrimitiveIntRing) {
+            kernel = new IntKernel((List<Integer>) coefficients, (Integer) x, (PrimitiveIntRing) ring, levels);
+        } else if (primitive && ring instanceof PrimitiveLongRing) {
+            kernel = new LongKernel((List<Long>) coefficients, (Long) x, (PrimitiveLongRing) ring, levels);
+        } else if (primitive && ring instanceof PrimitiveDoubleRing) {
+            kernel = new DoubleKernel((List<Double>) coefficients, (Double) x, (PrimitiveDoubleRing) ring, levels);
+        } else {
+            kernel = new ObjectKernel<>(coefficients, x, ring, levels);
+        }
+
+        Estrin task = new Estrin(kernel, 0, levels, coefficients.size(), (pool == null) ? Integer.MAX_VALUE : cutoff);
+        return (T) ((pool == null || coefficients.size() <= cutoff) ? task.evaluate(0, levels) : pool.invoke(task));
+    }
+
+    /**
+     * Evaluates the range of this task, forking the high half as a separate task while the range is longer than the cutoff.
+     * @return the value of the range.
+     */
+    @Override
+    protected Object compute() {
+        if (level == 0 || (long) LEAF_LENGTH << level <= cutoff) {
+            return evaluate(from, level);
+        }
+        int middle = from + (LEAF_LENGTH << (level - 1)); //the index of the first coefficient of the high half
+        if (middle >= length) {
+            return new Estrin(kernel, from, level - 1, length, cutoff).compute();
+        }
+        Estrin high = new Estrin(kernel, middle, level - 1, length, cutoff);
+        high.fork();
+        Object low = new Estrin(kernel, from, level - 1, length, cutoff).compute();
+        return kernel.combine(low, high.join(), level - 1);
+    }
+
+    /**
+     * Evaluates a range of coefficients on the calling thread.
+     * @param start the index of the first coefficient of the range.
+     * @param rangeLevel the level of the range, which covers LEAF_LENGTH * 2^rangeLevel coefficients.
+     * @return the value of the range.
+     */
+    private Object evaluate(int start, int rangeLevel) {
+        if (rangeLevel == 0) {
+            return kernel.block(start, Math.min(start + LEAF_LENGTH, length));
+        }
+        int middle = start + (LEAF_LENGTH << (rangeLevel - 1)); //the index of the first coefficient of the high half
+        if (middle >= length) {
+            return evaluate(start, rangeLevel - 1);
+        }
+        return kernel.combine(evaluate(start, rangeLevel - 1), evaluate(middle, rangeLevel - 1), rangeLevel - 1);
+    }
+
+    /**
+     * The kernel of rings without a primitive representation, evaluating each block by Horner's scheme.
+     */
+    private static final class ObjectKernel<T> implements Kernel {
+
+        private final List<T> coefficients; //the coefficients of the polynomial
+        private final T x; //the point
+        private final Ring<T> ring; //the ring used for intermediate operations
+        private final Object[] powers; //x^(LEAF_LENGTH * 2^level) for each level
+
+        /**
+         * Constructor for an ObjectKernel, called by evaluate.
+         * @param coefficients the coefficients of the polynomial.
+         * @param x the point.
+         * @param ring the ring used for intermediate operations.
+         * @param levels the number of levels above the blocks.
+         */
+        private ObjectKernel(List<T> coefficients, T x, Ring<T> ring, int levels) {
+            this.coefficients = coefficients;
+            this.x = x;
+            this.ring = ring;
+            this.powers = new Object[levels];
+            for (int level = 0; level < levels; level++) {
+                powers[level] = (level == 0) ? ring.power(x, LEAF_LENGTH) : ring.product(power(level - 1), power(level - 1));
+            }
+        }
+
+        /**
+         * Gets a precomputed power of the point.
+         * @param level the level of the power.
+         * @return x^(LEAF_LENGTH * 2^level).
+         */
+        @SuppressWarnings("unchecked")
+        private T power(int level) {
+            return (T) powers[level];
+        }
+
+        @Override
+        public Object block(int from, int to) {
+            T value = ring.zero();
+            for (int i = to - 1; i >= from; i--) {
+                value = ring.sum(ring.product(value, x), coefficients.get(i));
+            }
+            return value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object combine(Object low, Object high, int level) {
+            return ring.sum((T) low, ring.product((T) high, power(level)));
+        }
+    }
+
+    /**
+     * The kernel of PrimitiveIntRings, evaluating each block on unboxed values with one chain for the even and one for the odd coefficients,
+     * which the processor can advance at the same time.
+     */
+    private static final class IntKernel implements Kernel {
+
+        private final List<Integer> coefficients; //the coefficients of the polynomial
+        private final int x; //the point
+        private final int square; //the square of the point
+        private final PrimitiveIntRing ring; //the ring used for intermediate operations
+        private final int[] powers; //x^(LEAF_LENGTH * 2^level) for each level
+
+        /**
+         * Constructor for an IntKernel, called by evaluate.
+         * @param coefficients the coefficients of the polynomial.
+         * @param x the point.
+         * @param ring the ring used for intermediate operations.
+         * @param levels the number of levels above the blocks.
+         */
+        private IntKernel(List<Integer> coefficients, int x, PrimitiveIntRing ring, int levels) {
+            this.coefficients = coefficients;
+            this.x = x;
+            this.square = ring.product(x, x);
+            this.ring = ring;
+            this.powers = new int[levels];
+            int power = square;
+            for (int length = 2; length < LEAF_LENGTH; length <<= 1) {
+                power = ring.product(power, power);
+            }
+            for (int level = 0; level < levels; level++) {
+                powers[level] = power;
+                power = ring.product(power, power);
+            }
+        }
+
+        @Override
+        public Object block(int from, int to) {
+            int even = ring.intZero(), odd = ring.intZero(); //the values of the even and odd coefficients as polynomials in x^2
+            int i = to - 1;
+            if (((to - from) & 1) != 0) {
+                even = coefficients.get(i--);
+            }
+            for (; i > from; i -= 2) {
+                odd = ring.sum(ring.product(odd, square), coefficients.get(i).intValue());
+                even = ring.sum(ring.product(even, square), coefficients.get(i - 1).intValue());
+            }
+            return ring.sum(even, ring.product(odd, x));
+        }
+
+        @Override
+        public Object combine(Object low, Object high, int level) {
+            return ring.sum(((Integer) low).intValue(), ring.product(((Integer) high).intValue(), powers[level]));
+        }
+    }
+
+    /**
+     * The kernel of PrimitiveLongRings, evaluating each block on unboxed values with one chain for the even and one for the odd coefficients.
+     */
+    private static final class LongKernel implements Kernel {
+
+        private final List<Long> coefficients; //the coefficients of the polynomial
+        private final long x; //the point
+        private final long square; //the square of the point
+        private final PrimitiveLongRing ring; //the ring used for intermediate operations
+        private final long[] powers; //x^(LEAF_LENGTH * 2^level) for each level
+
+        /**
+         * Constructor for a LongKernel, called by evaluate.
+         * @param coefficients the coefficients of the polynomial.
+         * @param x the point.
+         * @param ring the ring used for intermediate operations.
+         * @param levels the number of levels above the blocks.
+         */
+        private LongKernel(List<Long> coefficients, long x, PrimitiveLongRing ring, int levels) {
+            this.coefficients = coefficients;
+            this.x = x;
+            this.square = ring.product(x, x);
+            this.ring = ring;
+            this.powers = new long[levels];
+            long power = square;
+            for (int length = 2; length < LEAF_LENGTH; length <<= 1) {
+                power = ring.product(power, power);
+            }
+            for (int level = 0; level < levels; level++) {
+                powers[level] = power;
+                power = ring.product(power, power);
+            }
+        }
+
+        @Override
+        public Object block(int from, int to) {
+            long even = ring.longZero(), odd = ring.longZero(); //the values of the even and odd coefficients as polynomials in x^2
+            int i = to - 1;
+            if (((to - from) & 1) != 0) {
+                even = coefficients.get(i--);
+            }
+            for (; i > from; i -= 2) {
+                odd = ring.sum(ring.product(odd, square), coefficients.get(i).longValue());
+                even = ring.sum(ring.product(even, square), coefficients.get(i - 1).longValue());
+            }
+            return ring.sum(even, ring.product(odd, x));
+        }
+
+        @Override
+        public Object combine(Object low, Object high, int level) {
+            return ring.sum(((Long) low).longValue(), ring.product(((Long) high).longValue(), powers[level]));
+        }
+    }
+
+    /**
+     * The kernel of PrimitiveDoubleRings, evaluating each block on unboxed values with one chain for the even and one for the odd coefficients.
+     */
+    private static final class DoubleKernel implements Kernel {
+
+        private final List<Double> coefficients; //the coefficients of the polynomial
+        private final double x; //the point
+        private final double square; //the square of the point
+        private final PrimitiveDoubleRing ring; //the ring used for intermediate operations
+        private final double[] powers; //x^(LEAF_LENGTH * 2^level) for each level
+
+        /**
+         * Constructor for a DoubleKernel, called by evaluate.
+         * @param coefficients the coefficients of the polynomial.
+         * @param x the point.
+         * @param ring the ring used for intermediate operations.
+         * @param levels the number of levels above the blocks.
+         */
+        private DoubleKernel(List<Double> coefficients, double x, PrimitiveDoubleRing ring, int levels) {
+            this.coefficients = coefficients;
+            this.x = x;
+            this.square = ring.product(x, x);
+            this.ring = ring;
+            this.powers = new double[levels];
+            double power = square;
+            for (int length = 2; length < LEAF_LENGTH; length <<= 1) {
+                power = ring.product(power, power);
+            }
+            for (int level = 0; level < levels; level++) {
+                powers[level] = power;
+                power = ring.product(power, power);
+            }
+        }
+
+        @Override
+        public Object block(int from, int to) {
+            double even = ring.doubleZero(), odd = ring.doubleZero(); //the values of the even and odd coefficients as polynomials in x^2
+            int i = to - 1;
+            if (((to - from) & 1) != 0) {
+                even = coefficients.get(i--);
+            }
+            for (; i > from; i -= 2) {
+                odd = ring.sum(ring.product(odd, square), coefficients.get(i).doubleValue());
+                even = ring.sum(ring.product(even, square), coefficients.get(i - 1).doubleValue());
+            }
+            return ring.sum(even, ring.product(odd, x));
+        }
+
+        @Override
+        public Object combine(Object low, Object high, int level) {
+            return ring.sum(((Double) low).doubleValue(), ring.product(((Double) high).doubleValue(), powers[level]));
+        }
+    }
+}
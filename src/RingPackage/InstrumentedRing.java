@@ -0,0 +1,260 @@
+package RingPackage;
+
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * This is a decorator counting the operations a Ring performs, so that callers can see how many scalar sums and products an algorithm such as
+ * MatrixRing.product or InterpolatingPolynomial.fromRoots really does, and how long they take.
+ * Counts are kept in LongAdders, which spread concurrent increments over separate cells, so parallel products do not contend on a single counter.
+ * One call in every sampling interval to sum and product is timed, and the counts can be published as an MXBean named after the call site.
+ * The wrapper only implements Ring, so algorithms which detect capabilities such as PrimitiveIntRing or NegatableRing take their generic paths on it.
+ */
+public final class InstrumentedRing<T> implements Ring<T>, InstrumentedRingMXBean {
+
+    /**
+     * The JMX domain of the names under which rings are registered.
+     */
+    public static final String DOMAIN = "RingPackage";
+
+    private final Ring<T> ring; //the ring whose operations are counted
+    private final int samplingInterval; //one call in this many sums and products is timed, or 0 to time none
+    private final LongAdder sums = new LongAdder(); //the number of calls to sum
+    private final LongAdder products = new LongAdder(); //the number of calls to product
+    private final LongAdder zeros = new LongAdder(); //the number of calls to zero
+    private final LongAdder identities = new LongAdder(); //the number of calls to identity
+    private final LongAdder sampledSums = new LongAdder(); //the number of timed sums
+    private final LongAdder sumNanos = new LongAdder(); //the total latency of the timed sums
+    private final LongAdder sampledProducts = new LongAdder(); //the number of timed products
+    private final LongAdder productNanos = new LongAdder(); //the total latency of the timed products
+
+    /**
+     * Constructor for the InstrumentedRing class, called by the static factory methods (instance)
+     * @param ring the ring whose operations are counted
+     * @param samplingInterval one call in this many sums and products is timed, or 0 to time none
+     */
+    private InstrumentedRing(Ring<T> ring, int samplingInterval) {
+        this.ring = ring;
+        this.samplingInterval = samplingInterval;
+    }
+
+    /**
+     * Returns a new InstrumentedRing which counts the operations of a ring without timing them.
+     * @param <T> the static type T
+     * @param ring the ring whose operations are counted
+     * @return a new InstrumentedRing delegating to ring
+     */
+    public static <T> InstrumentedRing<T> instance(Ring<T> ring) {
+        return instance(ring, 0);
+    }
+
+    /**
+     * Returns a new InstrumentedRing which counts the operations of a ring and times a random sample of its sums and products.
+     * Reading the clock costs more than most scalar operations, so an interval of 1 slows the ring down noticeably, while an interval such as 1024 does not.
+     * @param <T> the static type T
+     * @param ring the ring whose operations are counted
+     * @param samplingInterval one call in this many sums and products is timed on average, or 0 to time none
+     * @return a new InstrumentedRing delegating to ring
+     * @throws IllegalArgumentException if the sampling interval is negative
+     */
+    public static <T> InstrumentedRing<T> instance(Ring<T> ring, int samplingInterval) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+        if (samplingInterval < 0) {
+            throw new IllegalArgumentException("sampling interval cannot be negative");
+        }
+        return new InstrumentedRing<>(ring, samplingInterval);
+    }
+
+    /**
+     * Returns the zero of the underlying ring, counting the call
+     * @return zero of type T
+     */
+    @Override
+    public T zero() {
+        zeros.increment();
+        return ring.zero();
+    }
+
+    /**
+     * Returns the multiplicative identity of the underlying ring, counting the call
+     * @return the identity of type T
+     */
+    @Override
+    public T identity() {
+        identities.increment();
+        return ring.identity();
+    }
+
+    /**
+     * Returns the sum of the underlying ring, counting the call and timing it if it is sampled
+     * @param x the first addend
+     * @param y the second addend
+     * @return the sum of x and y
+     */
+    @Override
+    public T sum(T x, T y) {
+        sums.increment();
+        if (!sampled()) {
+            return ring.sum(x, y);
+        }
+        long start = System.nanoTime();
+        T sum = ring.sum(x, y);
+        sumNanos.add(System.nanoTime() - start);
+        sampledSums.increment();
+        return sum;
+    }
+
+    /**
+     * Returns the product of the underlying ring, counting the call and timing it if it is sampled
+     * @param x the first factor
+     * @param y the second factor
+     * @return the product of x and y
+     */
+    @Override
+    public T product(T x, T y) {
+        products.increment();
+        if (!sampled()) {
+            return ring.product(x, y);
+        }
+        long start = System.nanoTime();
+        T product = ring.product(x, y);
+        productNanos.add(System.nanoTime() - start);
+        sampledProducts.increment();
+        return product;
+    }
+
+    /**
+     * Checks whether an element is zero with the zero test of the underlying ring, without counting the call
+     * @param x the element being tested
+     * @return true if x is zero
+     */
+    @Override
+    public boolean isZero(T x) {
+        return ring.isZero(x);
+    }
+
+    /**
+     * Decides whether the current call is timed.
+     * @return true for a random sample of one call in every sampling interval.
+     */
+    private boolean sampled() {
+        return samplingInterval != 0 && ThreadLocalRandom.current().nextInt(samplingInterval) == 0;
+    }
+
+    /**
+     * Gets the number of calls to sum since the last reset.
+     * @return the number of sums.
+     */
+    @Override
+    public long getSumCount() {
+        return sums.sum();
+    }
+
+    /**
+     * Gets the number of calls to product since the last reset.
+     * @return the number of products.
+     */
+    @Override
+    public long getProductCount() {
+        return products.sum();
+    }
+
+    /**
+     * Gets the number of calls to zero since the last reset.
+     * @return the number of calls to zero.
+     */
+    @Override
+    public long getZeroCount() {
+        return zeros.sum();
+    }
+
+    /**
+     * Gets the number of calls to identity since the last reset.
+     * @return the number of calls to identity.
+     */
+    @Override
+    public long getIdentityCount() {
+        return identities.sum();
+    }
+
+    /**
+     * Gets the mean latency of the sampled calls to sum.
+     * @return the mean latency in nanoseconds, or NaN if no sum was sampled.
+     */
+    @Override
+    public double getMeanSumNanos() {
+        long sampled = sampledSums.sum();
+        return (sampled == 0) ? Double.NaN : (double) sumNanos.sum() / sampled;
+    }
+
+    /**
+     * Gets the mean latency of the sampled calls to product.
+     * @return the mean latency in nanoseconds, or NaN if no product was sampled.
+     */
+    @Override
+    public double getMeanProductNanos() {
+        long sampled = sampledProducts.sum();
+        return (sampled == 0) ? Double.NaN : (double) productNanos.sum() / sampled;
+    }
+
+    /**
+     * Gets the counts and latencies together. Operations running during the call may be counted in some values and not in others.
+     * @return a new RingStatistics object holding the current values.
+     */
+    @Override
+    public RingStatistics snapshot() {
+        return new RingStatistics(getSumCount(), getProductCount(), getZeroCount(), getIdentityCount(), getMeanSumNanos(), getMeanProductNanos());
+    }
+
+    /**
+     * Sets every count and latency back to zero. Operations running during the call may be counted before or after the reset.
+     */
+    @Override
+    public void reset() {
+        sums.reset();
+        products.reset();
+        zeros.reset();
+        identities.reset();
+        sampledSums.reset();
+        sumNanos.reset();
+        sampledProducts.reset();
+        productNanos.reset();
+    }
+
+    /**
+     * Registers this InstrumentedRing with the platform MBeanServer under the name "RingPackage:type=InstrumentedRing,name=...".
+     * Giving each call site its own InstrumentedRing and name shows which call sites do the most work.
+     * @param name the name of the call site, which may contain any characters.
+     * @return the ObjectName under which this InstrumentedRing is registered, which unregisters it when passed to MBeanServer.unregisterMBean.
+     * @throws IllegalStateException if the name is already registered or the MBeanServer rejects this InstrumentedRing.
+     */
+    public ObjectName register(String name) {
+        //null check
+        Objects.requireNonNull(name, "name cannot be null");
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName(DOMAIN + ":type=InstrumentedRing,name=" + ObjectName.quote(name));
+            server.registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns a string representation of the object that "textually represents" an InstrumentedRing object.
+     * @return the underlying ring and the current counts.
+     */
+    @Override
+    public String toString() {
+        return "InstrumentedRing [ring=" + ring + ", statistics=" + snapshot() + "]";
+    }
+}
@@ -0,0 +1,54 @@
+package RingPackage;
+
+/**
+ * This is the management interface of an InstrumentedRing, through which JMX clients such as JConsole read its operation counts and reset them.
+ */
+public interface InstrumentedRingMXBean {
+
+    /**
+     * Gets the number of calls to sum since the last reset.
+     * @return the number of sums.
+     */
+    long getSumCount();
+
+    /**
+     * Gets the number of calls to product since the last reset.
+     * @return the number of products.
+     */
+    long getProductCount();
+
+    /**
+     * Gets the number of calls to zero since the last reset.
+     * @return the number of calls to zero.
+     */
+    long getZeroCount();
+
+    /**
+     * Gets the number of calls to identity since the last reset.
+     * @return the number of calls to identity.
+     */
+    long getIdentityCount();
+
+    /**
+     * Gets the mean latency of the sampled calls to sum.
+     * @return the mean latency in nanoseconds, or NaN if no sum was sampled.
+     */
+    double getMeanSumNanos();
+
+    /**
+     * Gets the mean latency of the sampled calls to product.
+     * @return the mean latency in nanoseconds, or NaN if no product was sampled.
+     */
+    double getMeanProductNanos();
+
+    /**
+     * Gets the counts and latencies together.
+     * @return a new RingStatistics object holding the current values.
+     */
+    RingStatistics snapshot();
+
+    /**
+     * Sets every count and latency back to zero.
+     */
+    void reset();
+}
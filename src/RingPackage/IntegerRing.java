@@ -6,7 +6,7 @@ import java.util.Objects;
  * a class to demonstrate the concept of Rings on Integers
  * @author Vidyut Veedgav
  */
-public class IntegerRing implements Ring<Integer>{
+public class IntegerRing implements PrimitiveIntRing, NegatableRing<Integer> {
 
     /**
      * Returns the zero property of data type Integer
@@ -55,4 +55,85 @@ public class IntegerRing implements Ring<Integer>{
         
         return x * y;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the zero property of this ring as a primitive int
+     * @return zero as an int
+     */
+    @Override
+    public int intZero() {
+        return 0;
+    }
+
+    /**
+     * Returns the multiplicative identity property of this ring as a primitive int
+     * @return the identity as an int
+     */
+    @Override
+    public int intIdentity() {
+        return 1;
+    }
+
+    /**
+     * Returns the sum of two primitive int values without boxing
+     * @param x the first addend
+     * @param y the second addend
+     * @return an int representing the sum of x and y
+     */
+    @Override
+    public int sum(int x, int y) {
+        return x + y;
+    }
+
+    /**
+     * Returns the product of two primitive int values without boxing
+     * @param x the first factor
+     * @param y the second factor
+     * @return an int representing the product of x and y
+     */
+    @Override
+    public int product(int x, int y) {
+        return x * y;
+    }
+
+    /**
+     * Returns the additive inverse of an Integer
+     * @param x the element being negated
+     * @return a new Integer object representing -x
+     */
+    @Override
+    public Integer negate(Integer x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return -x;
+    }
+
+    /**
+     * Returns the difference of two objects of type Integer
+     * @param x the minuend
+     * @param y the subtrahend
+     * @return a new Integer object representing x minus y
+     */
+    @Override
+    public Integer difference(Integer x, Integer y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x - y;
+    }
+
+    /**
+     * Checks whether an Integer is zero by comparing its unboxed value
+     * @param x the element being tested
+     * @return true if x is zero
+     */
+    @Override
+    public boolean isZero(Integer x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return x == 0;
+    }
+}
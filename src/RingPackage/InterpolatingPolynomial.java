@@ -3,6 +3,8 @@ package RingPackage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * This is a class defining the operation of polynomial interpolation
@@ -56,7 +58,149 @@ public static List<Integer> interpolatePolynomial(List<Integer> rootList, Ring<I
         factors.add(Polynomial.from(List.of(x, ring.product(root, Integer.valueOf(-1)))));
     }
 
-	/*return product(factors, ring)*/
-    return Rings.product(factors, PolynomialRing.instance(new IntegerRing())).getCoefficients();
+	/*return product(factors, ring), multiplied through a balanced product tree*/
+    return productTree(factors, 0, factors.size(), PolynomialRing.instance(new IntegerRing())).getCoefficients();
     }
+
+/*
+Pseudocode
+
+Method name: fromRoots
+
+Input:
+- list of roots of type T for the resulting polynomial
+- a ring with additive inverses, used to negate the roots
+- optionally, a ForkJoinPool and the greatest number of roots multiplied by a single task
+
+Output: 
+- a list of the coefficients of the polynomial (x - r1)(x - r2)...(x - rn), leading coefficient first
+*/
+
+/**
+ * Interpolates a Polynomial over any ring with additive inverses given its list of roots.
+ * The linear factors are multiplied through a balanced product tree, so the largest products are between polynomials of equal degree,
+ * which Polynomial.times computes with Karatsuba's method or number-theoretic transforms instead of the quadratic left-to-right fold.
+ * @param <T> the static type T.
+ * @param roots the list of roots.
+ * @param ring a NegatableRing object used for intermediate operations.
+ * @return a new List of coefficients representing the interpolated polynomial, leading coefficient first.
+ */
+public static <T> List<T> fromRoots(List<T> roots, NegatableRing<T> ring) {
+
+    /*null check*/
+    Objects.requireNonNull(ring, "ring cannot be null");
+
+    /*return productTree(linear factors of roots)*/
+    List<Polynomial<T>> factors = linearFactors(roots, ring);
+    return productTree(factors, 0, factors.size(), PolynomialRing.instance(ring)).getCoefficients();
+    }
+
+/**
+ * Interpolates a Polynomial over any ring with additive inverses given its list of roots, multiplying independent subtrees of the product tree in parallel.
+ * @param <T> the static type T.
+ * @param roots the list of roots.
+ * @param ring a NegatableRing object used for intermediate operations. It must be safe to use from several threads.
+ * @param pool the ForkJoinPool running the subtrees, such as ForkJoinPool.commonPool().
+ * @param sequentialCutoff the greatest number of roots whose subtree is multiplied by a single task.
+ * @return a new List of coefficients representing the interpolated polynomial, leading coefficient first.
+ * @throws IllegalArgumentException if the sequential cutoff is not positive.
+ */
+public static <T> List<T> fromRoots(List<T> roots, NegatableRing<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+
+    /*null checks*/
+    Objects.requireNonNull(ring, "ring cannot be null");
+    Objects.requireNonNull(pool, "pool cannot be null");
+    if (sequentialCutoff <= 0) {
+        throw new IllegalArgumentException("sequential cutoff must be positive");
+    }
+
+    /*return productTree(linear factors of roots), with subtrees larger than the cutoff run as tasks*/
+    List<Polynomial<T>> factors = linearFactors(roots, ring);
+    return pool.invoke(new ProductTask<>(factors, 0, factors.size(), PolynomialRing.instance(ring), sequentialCutoff)).getCoefficients();
+    }
+
+/**
+ * Creates the linear factor (x - root) of each root, as the coefficient list (1, -root).
+ * @param <T> the static type T.
+ * @param roots the list of roots.
+ * @param ring a NegatableRing object used to negate the roots.
+ * @return a new List of linear factors.
+ */
+private static <T> List<Polynomial<T>> linearFactors(List<T> roots, NegatableRing<T> ring) {
+
+    /*if list of roots is null, or contains null, throw an appropriate exception*/
+    Objects.requireNonNull(roots, "roots cannot be null");
+    if (roots.stream().anyMatch(Objects::isNull)) {
+        throw new NullPointerException("elements in roots cannot be null");
+    }
+
+    List<Polynomial<T>> factors = new ArrayList<>(roots.size());
+    for (T root : roots) {
+        factors.add(Polynomial.from(List.of(ring.identity(), ring.negate(root))));
+    }
+    return factors;
+    }
+
+/**
+ * Multiplies a range of factors by splitting it in halves and multiplying the products of the halves.
+ * @param <T> the static type T.
+ * @param factors the list of factors.
+ * @param from the first factor of the range.
+ * @param to the factor after the last factor of the range.
+ * @param ring the PolynomialRing used to multiply the factors.
+ * @return the product of the range, or the identity if it is empty.
+ */
+private static <T> Polynomial<T> productTree(List<Polynomial<T>> factors, int from, int to, PolynomialRing<T> ring) {
+    if (to - from <= 1) {
+        return (to == from) ? ring.identity() : factors.get(from);
+    }
+    int middle = (from + to) >>> 1;
+    return ring.product(productTree(factors, from, middle, ring), productTree(factors, middle, to, ring));
+    }
+
+/**
+ * This is a fork-join task multiplying a range of factors through a product tree, forking both halves while the range is larger than a sequential cutoff.
+ */
+private static final class ProductTask<T> extends RecursiveTask<Polynomial<T>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<Polynomial<T>> factors; //the list of factors
+    private final int from; //the first factor of this task
+    private final int to; //the factor after the last factor of this task
+    private final PolynomialRing<T> ring; //the PolynomialRing used to multiply the factors
+    private final int cutoff; //the greatest number of factors multiplied without forking
+
+    /**
+     * Constructor for a ProductTask, called by fromRoots and by compute when a range is split.
+     * @param factors the list of factors.
+     * @param from the first factor of the task.
+     * @param to the factor after the last factor of the task.
+     * @param ring the PolynomialRing used to multiply the factors.
+     * @param cutoff the greatest number of factors multiplied without forking.
+     */
+    private ProductTask(List<Polynomial<T>> factors, int from, int to, PolynomialRing<T> ring, int cutoff) {
+        this.factors = factors;
+        this.from = from;
+        this.to = to;
+        this.ring = ring;
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Computes the product of the range of this task.
+     * @return the product of the range.
+     */
+    @Override
+    protected Polynomial<T> compute() {
+        if (to - from <= cutoff) {
+            return productTree(factors, from, to, ring);
+        }
+        int middle = (from + to) >>> 1;
+        ProductTask<T> left = new ProductTask<>(factors, from, middle, ring, cutoff);
+        left.fork();
+        Polynomial<T> right = new ProductTask<>(factors, middle, to, ring, cutoff).compute();
+        return ring.product(left.join(), right);
+    }
+}
 }
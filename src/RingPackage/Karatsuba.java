@@ -0,0 +1,195 @@
+package RingPackage;
+
+import java.util.Arrays;
+
+/**
+ * This is a utility class multiplying coefficient arrays of polynomials, either by the schoolbook method or by Karatsuba's method,
+ * which replaces four half-size products with three at the cost of a few additions and subtractions.
+ * Coefficients are read directly from their arrays through offsets, so operands are never copied to be split.
+ */
+final class Karatsuba {
+
+    /**
+     * Private constructor, since this class only has static methods.
+     */
+    private Karatsuba() {
+    }
+
+    /**
+     * Multiplies two coefficient arrays, using Karatsuba's method while both operands are longer than the cutoff.
+     * @param <T> the static type T.
+     * @param a the coefficients of the first factor.
+     * @param b the coefficients of the second factor.
+     * @param ring the NegatableRing used for intermediate operations.
+     * @param cutoff the greatest operand length multiplied by the schoolbook method.
+     * @return the coefficients of the product, of length a.length + b.length - 1, or an empty array if either factor is empty.
+     */
+    static <T> Object[] multiply(Object[] a, Object[] b, NegatableRing<T> ring, int cutoff) {
+        return multiply(a, 0, a.length, b, 0, b.length, ring, cutoff);
+    }
+
+    /**
+     * Multiplies two coefficient arrays by the schoolbook method.
+     * @param <T> the static type T.
+     * @param a the coefficients of the first factor.
+     * @param b the coefficients of the second factor.
+     * @param ring the Ring used for intermediate operations.
+     * @return the coefficients of the product, of length a.length + b.length - 1, or an empty array if either factor is empty.
+     */
+    static <T> Object[] schoolbook(Object[] a, Object[] b, Ring<T> ring) {
+        return schoolbook(a, 0, a.length, b, 0, b.length, ring);
+    }
+
+    /**
+     * Multiplies two ranges of coefficient arrays by Karatsuba's method.
+     * Operands of different lengths are multiplied as consecutive chunks of the longer operand, each as long as the shorter operand, so every recursive product is balanced.
+     * @param <T> the static type T.
+     * @param a the coefficients of the first factor.
+     * @param aOffset the index of the first coefficient of the first factor.
+     * @param aLength the number of coefficients of the first factor.
+     * @param b the coefficients of the second factor.
+     * @param bOffset the index of the first coefficient of the second factor.
+     * @param bLength the number of coefficients of the second factor.
+     * @param ring the NegatableRing used for intermediate operations.
+     * @param cutoff the greatest operand length multiplied by the schoolbook method.
+     * @return the coefficients of the product.
+     */
+    private static <T> Object[] multiply(Object[] a, int aOffset, int aLength, Object[] b, int bOffset, int bLength, NegatableRing<T> ring, int cutoff) {
+        if (Math.min(aLength, bLength) <= cutoff) {
+            return schoolbook(a, aOffset, aLength, b, bOffset, bLength, ring);
+        }
+
+        //unbalanced operands: multiply the shorter operand by chunks of the longer one
+        if (aLength != bLength) {
+            boolean aLonger = aLength > bLength;
+            Object[] longer = aLonger ? a : b;
+            int longerOffset = aLonger ? aOffset : bOffset;
+            int longerLength = aLonger ? aLength : bLength;
+            Object[] shorter = aLonger ? b : a;
+            int shorterOffset = aLonger ? bOffset : aOffset;
+            int shorterLength = aLonger ? bLength : aLength;
+
+            Object[] product = zeros(aLength + bLength - 1, ring);
+            for (int start = 0; start < longerLength; start += shorterLength) {
+                int chunk = Math.min(shorterLength, longerLength - start); //the length of this chunk of the longer operand
+                Object[] partial = aLonger
+                        ? multiply(longer, longerOffset + start, chunk, shorter, shorterOffset, shorterLength, ring, cutoff)
+                        : multiply(shorter, shorterOffset, shorterLength, longer, longerOffset + start, chunk, ring, cutoff);
+                addInto(product, start, partial, ring);
+            }
+            return product;
+        }
+
+        int n = aLength; //the length of both operands
+        int low = n / 2; //the length of the low halves
+        int high = n - low; //the length of the high halves, which is at least the length of the low halves
+
+        Object[] z0 = multiply(a, aOffset, low, b, bOffset, low, ring, cutoff); //low halves
+        Object[] z2 = multiply(a, aOffset + low, high, b, bOffset + low, high, ring, cutoff); //high halves
+        Object[] aSum = halfSum(a, aOffset, low, high, ring);
+        Object[] bSum = halfSum(b, bOffset, low, high, ring);
+        Object[] z1 = multiply(aSum, 0, high, bSum, 0, high, ring, cutoff); //(low + high) * (low + high)
+
+        //the middle term is z1 - z0 - z2
+        for (int i = 0; i < z0.length; i++) {
+            z1[i] = ring.difference(cast(z1[i]), cast(z0[i]));
+        }
+        for (int i = 0; i < z2.length; i++) {
+            z1[i] = ring.difference(cast(z1[i]), cast(z2[i]));
+        }
+
+        Object[] product = zeros(2 * n - 1, ring);
+        System.arraycopy(z0, 0, product, 0, z0.length); //z0 and z2 do not overlap
+        System.arraycopy(z2, 0, product, 2 * low, z2.length);
+        addInto(product, low, z1, ring);
+        return product;
+    }
+
+    /**
+     * Multiplies two ranges of coefficient arrays by the schoolbook method, computing each coefficient of the product with the Accumulator of the ring,
+     * so rings with mutable accumulators only create the coefficients of the product.
+     * @param <T> the static type T.
+     * @param a the coefficients of the first factor.
+     * @param aOffset the index of the first coefficient of the first factor.
+     * @param aLength the number of coefficients of the first factor.
+     * @param b the coefficients of the second factor.
+     * @param bOffset the index of the first coefficient of the second factor.
+     * @param bLength the number of coefficients of the second factor.
+     * @param ring the Ring used for intermediate operations.
+     * @return the coefficients of the product.
+     */
+    private static <T> Object[] schoolbook(Object[] a, int aOffset, int aLength, Object[] b, int bOffset, int bLength, Ring<T> ring) {
+        //edge case: a product with an empty polynomial is empty
+        if (aLength == 0 || bLength == 0) {
+            return new Object[0];
+        }
+        Object[] product = new Object[aLength + bLength - 1];
+        Accumulator<T> accumulator = ring.accumulator();
+        for (int k = 0; k < product.length; k++) {
+            //the terms a[i] * b[k - i] are added in increasing i, the order of the row-by-row loop
+            for (int i = Math.max(0, k - bLength + 1); i <= Math.min(k, aLength - 1); i++) {
+                accumulator.addProduct(cast(a[aOffset + i]), cast(b[bOffset + k - i]));
+            }
+            product[k] = accumulator.result();
+            accumulator.reset();
+        }
+        return product;
+    }
+
+    /**
+     * Adds the low half and the high half of a range of coefficients.
+     * @param <T> the static type T.
+     * @param source the coefficients.
+     * @param offset the index of the first coefficient of the low half.
+     * @param low the length of the low half.
+     * @param high the length of the high half, which is at least the length of the low half.
+     * @param ring the Ring used for the additions.
+     * @return a new array of length high holding the sum of the halves.
+     */
+    private static <T> Object[] halfSum(Object[] source, int offset, int low, int high, Ring<T> ring) {
+        Object[] sum = new Object[high];
+        System.arraycopy(source, offset + low, sum, 0, high);
+        for (int i = 0; i < low; i++) {
+            sum[i] = ring.sum(cast(source[offset + i]), cast(sum[i]));
+        }
+        return sum;
+    }
+
+    /**
+     * Adds coefficients into a range of another coefficient array.
+     * @param <T> the static type T.
+     * @param target the coefficients being added to.
+     * @param offset the index of target which the first coefficient is added to.
+     * @param source the coefficients being added.
+     * @param ring the Ring used for the additions.
+     */
+    private static <T> void addInto(Object[] target, int offset, Object[] source, Ring<T> ring) {
+        for (int i = 0; i < source.length; i++) {
+            target[offset + i] = ring.sum(cast(target[offset + i]), cast(source[i]));
+        }
+    }
+
+    /**
+     * Creates a coefficient array filled with the zero of a ring.
+     * @param <T> the static type T.
+     * @param length the length of the array.
+     * @param ring the Ring providing the zero.
+     * @return a new array of zeros.
+     */
+    private static <T> Object[] zeros(int length, Ring<T> ring) {
+        Object[] array = new Object[length];
+        Arrays.fill(array, ring.zero());
+        return array;
+    }
+
+    /**
+     * Casts a coefficient to the type of the ring.
+     * @param <T> the static type T.
+     * @param value the coefficient.
+     * @return the coefficient as a T.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+}
@@ -0,0 +1,334 @@
+package RingPackage;
+
+import java.util.Objects;
+
+/**
+ * This is a class representing the ring of integers modulo n, Z/nZ, on primitive longs, for moduli from 2 to 2^31 - 1.
+ * Every result is a residue in [0, n). Products are reduced with Barrett's method, which replaces the division of a remainder with a 64-bit high multiplication by a precomputed reciprocal.
+ * Inputs outside [0, n) are reduced first, so residues can be mixed with ordinary longs.
+ */
+public final class ModularRing implements PrimitiveLongRing, NegatableRing<Long> {
+
+    private static final int MAX_TABLE_MODULUS = 1 << 24; //the greatest modulus with a precomputed inverse table
+
+    private final long modulus; //a private field storing the modulus n
+    private final long reciprocal; //a private field storing floor((2^64 - 1) / n), used for Barrett reduction
+    private final int[] inverses; //a private field storing the inverse of every residue modulo a prime, or null without a table
+
+    /**
+     * Constructor for the ModularRing class, called by the static factory methods (instance, withInverseTable)
+     * @param modulus the modulus n
+     * @param inverses the inverse of every residue, or null without a table
+     */
+    private ModularRing(long modulus, int[] inverses) {
+        this.modulus = modulus;
+        this.reciprocal = Long.divideUnsigned(-1L, modulus);
+        this.inverses = inverses;
+    }
+
+    /**
+     * Returns a new ModularRing instance
+     * @param modulus the modulus n, from 2 to 2^31 - 1
+     * @return a new ModularRing computing modulo n
+     * @throws IllegalArgumentException if the modulus is out of range
+     */
+    public static ModularRing instance(long modulus) {
+        return new ModularRing(requireModulus(modulus), null);
+    }
+
+    /**
+     * Returns a new ModularRing instance modulo a prime, with a precomputed table of the inverse of every residue, so that inverse is a single array lookup.
+     * The table is built in linear time with the recurrence inverse(i) = -(p / i) * inverse(p mod i), and takes 4 bytes per residue.
+     * @param prime the prime modulus p, from 2 to 2^24
+     * @return a new ModularRing computing modulo p
+     * @throws IllegalArgumentException if the modulus is out of range or not prime
+     */
+    public static ModularRing withInverseTable(long prime) {
+        requireModulus(prime);
+        if (prime > MAX_TABLE_MODULUS) {
+            throw new IllegalArgumentException("inverse tables are limited to moduli up to " + MAX_TABLE_MODULUS);
+        }
+        int[] inverses = new int[(int) prime];
+        inverses[1] = 1;
+        for (int i = 2; i < prime; i++) {
+            int quotient = (int) (prime / i);
+            if (inverses[(int) (prime % i)] == 0) {
+                throw new IllegalArgumentException("inverse tables need a prime modulus");
+            }
+            inverses[i] = (int) ((prime - quotient) * inverses[(int) (prime % i)] % prime);
+        }
+        return new ModularRing(prime, inverses);
+    }
+
+    /**
+     * Checks that a modulus is in range.
+     * @param modulus the modulus being checked
+     * @return the modulus if it is in range
+     * @throws IllegalArgumentException if the modulus is below 2 or above 2^31 - 1
+     */
+    private static long requireModulus(long modulus) {
+        if (modulus < 2 || modulus > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("modulus must be between 2 and 2^31 - 1");
+        }
+        return modulus;
+    }
+
+    /**
+     * Gets the modulus.
+     * @return the modulus n
+     */
+    public long modulus() {
+        return modulus;
+    }
+
+    /**
+     * Returns the zero property of data type Long
+     * @return zero of type Long
+     */
+    @Override
+    public Long zero() {
+        return 0L;
+    }
+
+    /**
+     * Returns the multiplicative identity property of data type Long such that a * 1 = a
+     * @return the identity of type Long
+     */
+    @Override
+    public Long identity() {
+        return 1L;
+    }
+
+    /**
+     * Returns the sum of two objects of type Long modulo n
+     * @param x the first addend
+     * @param y the second addend
+     * @return a new Long object representing the residue of x + y
+     */
+    @Override
+    public Long sum(Long x, Long y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return sum(x.longValue(), y.longValue());
+    }
+
+    /**
+     * Returns the product of two objects of type Long modulo n
+     * @param x the first factor
+     * @param y the second factor
+     * @return a new Long object representing the residue of x * y
+     */
+    @Override
+    public Long product(Long x, Long y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return product(x.longValue(), y.longValue());
+    }
+
+    /**
+     * Returns the additive inverse of a Long modulo n
+     * @param x the element being negated
+     * @return a new Long object representing the residue of -x
+     */
+    @Override
+    public Long negate(Long x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        long residue = reduce(x);
+        return (residue == 0) ? 0L : modulus - residue;
+    }
+
+    /**
+     * Returns the difference of two objects of type Long modulo n
+     * @param x the minuend
+     * @param y the subtrahend
+     * @return a new Long object representing the residue of x - y
+     */
+    @Override
+    public Long difference(Long x, Long y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        long residue = reduce(x) - reduce(y);
+        return (residue < 0) ? residue + modulus : residue;
+    }
+
+    /**
+     * Returns the zero property of this ring as a primitive long
+     * @return zero as a long
+     */
+    @Override
+    public long longZero() {
+        return 0L;
+    }
+
+    /**
+     * Returns the multiplicative identity property of this ring as a primitive long
+     * @return the identity as a long
+     */
+    @Override
+    public long longIdentity() {
+        return 1L;
+    }
+
+    /**
+     * Returns the sum of two primitive long values modulo n
+     * @param x the first addend
+     * @param y the second addend
+     * @return the residue of x + y
+     */
+    @Override
+    public long sum(long x, long y) {
+        long sum = reduce(x) + reduce(y); //below 2^32, so it cannot overflow
+        return (sum >= modulus) ? sum - modulus : sum;
+    }
+
+    /**
+     * Returns the product of two primitive long values modulo n, using Barrett reduction
+     * @param x the first factor
+     * @param y the second factor
+     * @return the residue of x * y
+     */
+    @Override
+    public long product(long x, long y) {
+        return barrett(reduce(x) * reduce(y)); //below 2^62, so it cannot overflow
+    }
+
+    /**
+     * Computes x^exponent modulo n on unboxed residues.
+     * @param x the base
+     * @param exponent the non-negative exponent
+     * @return the residue of x^exponent
+     * @throws IllegalArgumentException if the exponent is negative, as for every Ring; signedPower raises the inverse of x instead
+     */
+    @Override
+    public Long power(Long x, long exponent) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+        return power(x.longValue(), exponent);
+    }
+
+    /**
+     * Computes x^exponent modulo n by repeated squaring, using O(log exponent) products.
+     * @param x the base
+     * @param exponent the non-negative exponent
+     * @return the residue of x^exponent
+     * @throws IllegalArgumentException if the exponent is negative; signedPower raises the inverse of x instead
+     */
+    public long power(long x, long exponent) {
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent cannot be negative");
+        }
+        return unsignedPower(reduce(x), exponent);
+    }
+
+    /**
+     * Computes x^exponent modulo n for an exponent of either sign, where a negative exponent raises the inverse of x.
+     * @param x the base
+     * @param exponent the exponent
+     * @return the residue of x^exponent, or of inverse(x)^-exponent if the exponent is negative
+     * @throws ArithmeticException if the exponent is negative and x has no inverse
+     */
+    public long signedPower(long x, long exponent) {
+        //the magnitude of Long.MIN_VALUE is read as an unsigned long
+        return (exponent < 0) ? unsignedPower(inverse(x), -exponent) : unsignedPower(reduce(x), exponent);
+    }
+
+    /**
+     * Raises a residue to a power by repeated squaring
+     * @param base the residue being raised, between 0 and n - 1
+     * @param exponent the exponent, read as an unsigned long
+     * @return the residue of base^exponent
+     */
+    private long unsignedPower(long base, long exponent) {
+        long result = 1;
+        for (long e = exponent; e != 0; e >>>= 1) {
+            if ((e & 1) != 0) {
+                result = barrett(result * base);
+            }
+            base = barrett(base * base);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the multiplicative inverse of x modulo n, looked up in the inverse table if there is one and computed with the extended Euclidean algorithm otherwise.
+     * @param x the element being inverted
+     * @return the residue y such that x * y = 1 modulo n
+     * @throws ArithmeticException if x has no inverse, which happens when x and n share a factor
+     */
+    public long inverse(long x) {
+        long residue = reduce(x);
+        if (inverses != null) {
+            if (residue == 0) {
+                throw new ArithmeticException(x + " has no inverse modulo " + modulus);
+            }
+            return inverses[(int) residue];
+        }
+
+        long oldRemainder = residue, remainder = modulus; //the remainders of the Euclidean algorithm
+        long oldCoefficient = 1, coefficient = 0; //the Bezout coefficients of the residue
+        while (remainder != 0) {
+            long quotient = oldRemainder / remainder;
+            long nextRemainder = oldRemainder - quotient * remainder;
+            oldRemainder = remainder;
+            remainder = nextRemainder;
+            long nextCoefficient = oldCoefficient - quotient * coefficient;
+            oldCoefficient = coefficient;
+            coefficient = nextCoefficient;
+        }
+        if (oldRemainder != 1) {
+            throw new ArithmeticException(x + " has no inverse modulo " + modulus);
+        }
+        return reduce(oldCoefficient);
+    }
+
+    /**
+     * Reduces any long to its residue in [0, n), skipping the division when it is already a residue.
+     * @param x the value being reduced
+     * @return the residue of x
+     */
+    long reduce(long x) {
+        return (x >= 0 && x < modulus) ? x : Math.floorMod(x, modulus);
+    }
+
+    /**
+     * Reduces a value in [0, n^2) with Barrett's method. The quotient estimate floor(z * reciprocal / 2^64) is at most one below z / n,
+     * since z is far below 2^64, so a single conditional subtraction finishes the reduction.
+     * @param z the value being reduced, in [0, n^2)
+     * @return the residue of z
+     */
+    private long barrett(long z) {
+        long quotient = Math.multiplyHigh(z, reciprocal); //both factors are below 2^63, so the signed high product is the unsigned one
+        long remainder = z - quotient * modulus;
+        return (remainder >= modulus) ? remainder - modulus : remainder;
+    }
+
+    /**
+     * Returns a string representation of the object that "textually represents" a ModularRing.
+     * @return the string representation in the form "ModularRing [modulus=n]"
+     */
+    @Override
+    public String toString() {
+        return "ModularRing [modulus=" + modulus + "]";
+    }
+
+    /**
+     * Checks whether a Long is zero, which holds for every multiple of the modulus
+     * @param x the element being tested
+     * @return true if x is zero
+     */
+    @Override
+    public boolean isZero(Long x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return reduce(x) == 0;
+    }
+}
@@ -0,0 +1,75 @@
+package RingPackage;
+
+import java.util.Objects;
+
+/**
+ * This is a class for Rings on Polynomials whose coefficients have additive inverses, so that the polynomials can be negated and subtracted as well.
+ * PolynomialRing.instance returns one whenever its coefficient ring is a NegatableRing, so algorithms which detect NegatableRing,
+ * such as Strassen's and Karatsuba's multiplication, never see a PolynomialRing that cannot negate.
+ */
+public final class NegatablePolynomialRing<T> extends PolynomialRing<T> implements NegatableRing<Polynomial<T>> {
+
+    private final NegatableRing<T> baseRing; //a private field storing the coefficient ring
+
+    /**
+     * Constructor for the NegatablePolynomialRing class, called by the static factory methods of PolynomialRing and NegatablePolynomialRing
+     * @param ring a NegatableRing object
+     * @param karatsubaCutoff the greatest number of coefficients multiplied by the schoolbook method
+     */
+    NegatablePolynomialRing(NegatableRing<T> ring, int karatsubaCutoff) {
+        super(ring, karatsubaCutoff);
+        this.baseRing = ring;
+    }
+
+    /**
+     * Returns a new NegatablePolynomialRing instance
+     * @param <T> the static type T
+     * @param ring a NegatableRing object used for mapping and intermediate operations.
+     * @return a new NegatablePolynomialRing object which can be used to compute Polynomial addition, subtraction and multiplication
+     */
+    public static <T> NegatablePolynomialRing<T> instance(NegatableRing<T> ring) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        return new NegatablePolynomialRing<>(ring, Polynomial.DEFAULT_KARATSUBA_CUTOFF);
+    }
+
+    /**
+     * Returns a NegatablePolynomialRing over the same ring whose products switch to Karatsuba's method above a chosen number of coefficients.
+     * @param cutoff the greatest number of coefficients multiplied by the schoolbook method.
+     * @return a new NegatablePolynomialRing which uses the cutoff.
+     * @throws IllegalArgumentException if the cutoff is not positive.
+     */
+    @Override
+    public NegatablePolynomialRing<T> karatsuba(int cutoff) {
+        return new NegatablePolynomialRing<>(baseRing, Polynomial.requirePositiveCutoff(cutoff));
+    }
+
+    /**
+     * Handles Polynomial negation by negating each coefficient.
+     * @param x the Polynomial being negated.
+     * @return a new Polynomial object which is the additive inverse of x.
+     */
+    @Override
+    public Polynomial<T> negate(Polynomial<T> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return x.negate(baseRing);
+    }
+
+    /**
+     * Handles Polynomial subtraction.
+     * @param x the Polynomial minuend.
+     * @param y the Polynomial subtrahend.
+     * @return a new Polynomial object which is x minus y.
+     */
+    @Override
+    public Polynomial<T> difference(Polynomial<T> x, Polynomial<T> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x.minus(y, baseRing);
+    }
+}
@@ -0,0 +1,24 @@
+package RingPackage;
+
+/**
+ * This is an interface for rings whose elements have additive inverses, which allows algorithms that subtract, such as Strassen's and Karatsuba's multiplication.
+ */
+public interface NegatableRing<T> extends Ring<T> {
+
+    /**
+     * Returns the additive inverse of an object of type T such that x + negate(x) = 0
+     * @param x the element being negated
+     * @return a new T object representing the additive inverse of x
+     */
+    T negate(T x);
+
+    /**
+     * Returns the difference of two objects of type T
+     * @param x the minuend
+     * @param y the subtrahend
+     * @return a new T object representing x minus y
+     */
+    default T difference(T x, T y) {
+        return sum(x, negate(y));
+    }
+}
@@ -0,0 +1,63 @@
+package RingPackage;
+
+import java.util.Objects;
+
+/**
+ * This is a class defining a Ring for sparse polynomials whose coefficients have additive inverses, so that the polynomials can be negated and subtracted as well.
+ * SparsePolynomialRing.instance returns one whenever its coefficient ring is a NegatableRing, so algorithms which detect NegatableRing
+ * never see a SparsePolynomialRing that cannot negate.
+ */
+public final class NegatableSparsePolynomialRing<T> extends SparsePolynomialRing<T> implements NegatableRing<SparsePolynomial<T>> {
+
+    private final NegatableRing<T> baseRing; //a private field storing the coefficient ring
+
+    /**
+     * Constructor for the NegatableSparsePolynomialRing class, called by the static factory method (instance)
+     * @param ring a NegatableRing object
+     */
+    private NegatableSparsePolynomialRing(NegatableRing<T> ring) {
+        super(ring);
+        this.baseRing = ring;
+    }
+
+    /**
+     * Returns a new NegatableSparsePolynomialRing instance
+     * @param <T> the static type T
+     * @param ring a NegatableRing object used for intermediate operations on coefficients.
+     * @return a new NegatableSparsePolynomialRing object which can be used to compute SparsePolynomial addition, subtraction and multiplication
+     */
+    public static <T> NegatableSparsePolynomialRing<T> instance(NegatableRing<T> ring) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        return new NegatableSparsePolynomialRing<>(ring);
+    }
+
+    /**
+     * Handles SparsePolynomial negation by negating each coefficient.
+     * @param x the SparsePolynomial being negated.
+     * @return a new SparsePolynomial object which is the additive inverse of x.
+     */
+    @Override
+    public SparsePolynomial<T> negate(SparsePolynomial<T> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return x.negate(baseRing);
+    }
+
+    /**
+     * Handles SparsePolynomial subtraction.
+     * @param x the SparsePolynomial minuend.
+     * @param y the SparsePolynomial subtrahend.
+     * @return a new SparsePolynomial object which is x minus y.
+     */
+    @Override
+    public SparsePolynomial<T> difference(SparsePolynomial<T> x, SparsePolynomial<T> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x.minus(y, baseRing);
+    }
+}
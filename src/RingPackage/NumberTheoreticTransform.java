@@ -0,0 +1,345 @@
+package RingPackage;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * This is a utility class multiplying polynomials with the number-theoretic transform, the analogue of the fast Fourier transform over Z/pZ, in O(n log n) operations.
+ * A prime modulus p supports transforms of every power-of-two length dividing p - 1, such as 2^23 for 998244353.
+ * Exact products over IntegerRing and BigIntegerRing are computed modulo three such primes and recombined with the Chinese remainder theorem.
+ */
+public final class NumberTheoreticTransform {
+
+    private static final long P1 = 998244353L; //119 * 2^23 + 1
+    private static final long P2 = 167772161L; //5 * 2^25 + 1
+    private static final long P3 = 469762049L; //7 * 2^26 + 1
+    private static final int CRT_MAX_LENGTH = 1 << 23; //the longest transform supported by all three primes
+    private static final int CRT_BOUND_BITS = 83; //the greatest bit length of a coefficient bound recombined exactly, keeping coefficients below an eighth of P1 * P2 * P3
+    private static final long P1_INVERSE_MOD_P2 = power(P1 % P2, P2 - 2, P2);
+    private static final long P1P2_INVERSE_MOD_P3 = power((P1 % P3) * (P2 % P3) % P3, P3 - 2, P3);
+    private static final long P1P2P3_WRAPPED = P1 * P2 * P3; //P1 * P2 * P3 modulo 2^64
+    private static final BigInteger P1P2_BIG = BigInteger.valueOf(P1).multiply(BigInteger.valueOf(P2));
+    private static final BigInteger P1P2P3_BIG = P1P2_BIG.multiply(BigInteger.valueOf(P3));
+
+    /**
+     * Private constructor, since this class only has static methods.
+     */
+    private NumberTheoreticTransform() {
+    }
+
+    /**
+     * Checks whether a modulus supports a product of a given length, which holds if it is a prime below 2^31 and p - 1 is divisible by a power of two at least the length.
+     * @param modulus the modulus being checked.
+     * @param length the number of coefficients of the product.
+     * @return true if multiply accepts the modulus for products of the length.
+     */
+    public static boolean supports(long modulus, int length) {
+        if (modulus < 3 || modulus >= (1L << 31) || !isPrime(modulus)) {
+            return false;
+        }
+        return Long.numberOfTrailingZeros(modulus - 1) >= 32 - Integer.numberOfLeadingZeros(Math.max(length, 1) - 1);
+    }
+
+    /**
+     * Multiplies two polynomials with coefficients in Z/pZ, stored as primitive longs.
+     * @param a the coefficients of the first factor, reduced modulo the modulus.
+     * @param b the coefficients of the second factor, reduced modulo the modulus.
+     * @param modulus a prime supported by the transform, such as 998244353.
+     * @return the coefficients of the product in [0, modulus), of length a.length + b.length - 1, or an empty array if either factor is empty.
+     * @throws IllegalArgumentException if the modulus does not support a product of this length.
+     */
+    public static long[] multiply(long[] a, long[] b, long modulus) {
+
+        //null checks
+        Objects.requireNonNull(a, "a cannot be null");
+        Objects.requireNonNull(b, "b cannot be null");
+
+        //edge case: a product with an empty polynomial is empty
+        if (a.length == 0 || b.length == 0) {
+            return new long[0];
+        }
+        int productLength = a.length + b.length - 1; //the length of the product
+        if (!supports(modulus, productLength)) {
+            throw new IllegalArgumentException("modulus " + modulus + " does not support transforms of length " + productLength);
+        }
+        int size = Integer.highestOneBit(productLength);
+        size = (size == productLength) ? size : size << 1; //the transform length, the least power of two holding the product
+        long root = primitiveRoot(modulus);
+
+        long[] x = reduce(a, size, modulus);
+        transform(x, modulus, root, false);
+        if (a == b) { //squaring needs a single forward transform
+            for (int i = 0; i < size; i++) {
+                x[i] = x[i] * x[i] % modulus;
+            }
+        } else {
+            long[] y = reduce(b, size, modulus);
+            transform(y, modulus, root, false);
+            for (int i = 0; i < size; i++) {
+                x[i] = x[i] * y[i] % modulus;
+            }
+        }
+        transform(x, modulus, root, true);
+
+        long sizeInverse = power(size, modulus - 2, modulus);
+        long[] product = new long[productLength];
+        for (int i = 0; i < productLength; i++) {
+            product[i] = x[i] * sizeInverse % modulus;
+        }
+        return product;
+    }
+
+    /**
+     * Multiplies two coefficient arrays of Integers or BigIntegers exactly, by multiplying modulo three primes and recombining each coefficient with Garner's algorithm.
+     * The recombination is exact when every coefficient of the product is far below P1 * P2 * P3, about 2^86, which is checked from the bit lengths of the factors.
+     * Integer products wrap around like the products of IntegerRing.
+     * @param a the coefficients of the first factor, either all Integers or all BigIntegers.
+     * @param b the coefficients of the second factor, of the same type.
+     * @param bigIntegers true for BigInteger coefficients, false for Integer coefficients.
+     * @return the coefficients of the product, or null if the coefficients or the length are too large for an exact result.
+     */
+    static Object[] multiplyExact(Object[] a, Object[] b, boolean bigIntegers) {
+        if (a.length == 0 || b.length == 0) {
+            return new Object[0];
+        }
+        int productLength = a.length + b.length - 1; //the length of the product
+        int bits = maxBitLength(a, bigIntegers) + maxBitLength(b, bigIntegers) + (32 - Integer.numberOfLeadingZeros(Math.min(a.length, b.length)));
+        if (bits > CRT_BOUND_BITS || productLength > CRT_MAX_LENGTH) {
+            return null;
+        }
+
+        long[] r1 = multiply(residues(a, P1, bigIntegers), residues(b, P1, bigIntegers), P1);
+        long[] r2 = multiply(residues(a, P2, bigIntegers), residues(b, P2, bigIntegers), P2);
+        long[] r3 = multiply(residues(a, P3, bigIntegers), residues(b, P3, bigIntegers), P3);
+
+        Object[] product = new Object[productLength];
+        for (int i = 0; i < productLength; i++) {
+            //mixed-radix digits of the coefficient: x = t1 + P1 * t2 + P1 * P2 * t3
+            long t1 = r1[i];
+            long t2 = Math.floorMod(r2[i] - t1, P2) * P1_INVERSE_MOD_P2 % P2;
+            long low = t1 + P1 * t2; //below P1 * P2, so it fits in a long
+            long t3 = Math.floorMod(r3[i] - low % P3, P3) * P1P2_INVERSE_MOD_P3 % P3;
+            boolean negative = t3 > P3 / 2; //coefficients are below an eighth of P1 * P2 * P3, so the top digit decides the sign
+
+            if (!bigIntegers) {
+                long wrapped = low + P1 * P2 * t3 - (negative ? P1P2P3_WRAPPED : 0); //correct modulo 2^64, and so modulo 2^32
+                product[i] = (int) wrapped;
+            } else if (bits <= 62) {
+                product[i] = BigInteger.valueOf(low + P1 * P2 * t3 - (negative ? P1P2P3_WRAPPED : 0)); //exact, since the coefficient fits in a long
+            } else {
+                BigInteger value = BigInteger.valueOf(low).add(P1P2_BIG.multiply(BigInteger.valueOf(t3)));
+                product[i] = negative ? value.subtract(P1P2P3_BIG) : value;
+            }
+        }
+        return product;
+    }
+
+    /**
+     * Multiplies two polynomials with coefficients in Z/nZ for any modulus below 2^31.
+     * Moduli supported by the transform are multiplied directly; other moduli, such as 10^9 + 7, are multiplied exactly modulo three primes
+     * and each coefficient is recombined modulo n, which is exact since the coefficients of the integer product are below 2^83.
+     * @param a the coefficients of the first factor.
+     * @param b the coefficients of the second factor.
+     * @param modulus the modulus n, from 2 to 2^31 - 1.
+     * @return the coefficients of the product in [0, modulus), or null if the factors are too long for an exact result.
+     */
+    static long[] multiplyModular(long[] a, long[] b, long modulus) {
+        if (a.length == 0 || b.length == 0) {
+            return new long[0];
+        }
+        int productLength = a.length + b.length - 1; //the length of the product
+        if (supports(modulus, productLength)) {
+            return multiply(a, b, modulus);
+        }
+        if (31 + 31 + (32 - Integer.numberOfLeadingZeros(Math.min(a.length, b.length))) > CRT_BOUND_BITS || productLength > CRT_MAX_LENGTH) {
+            return null;
+        }
+        long[] x = reduce(a, a.length, modulus);
+        long[] y = reduce(b, b.length, modulus);
+        long[] r1 = multiply(x, y, P1);
+        long[] r2 = multiply(x, y, P2);
+        long[] r3 = multiply(x, y, P3);
+
+        long p1 = P1 % modulus; //P1 modulo n
+        long p1p2 = p1 * (P2 % modulus) % modulus; //P1 * P2 modulo n
+        long[] product = new long[productLength];
+        for (int i = 0; i < productLength; i++) {
+            //the coefficient is t1 + P1 * t2 + P1 * P2 * t3, which is non-negative since the factors are residues
+            long t1 = r1[i];
+            long t2 = Math.floorMod(r2[i] - t1, P2) * P1_INVERSE_MOD_P2 % P2;
+            long t3 = Math.floorMod(r3[i] - (t1 + P1 * t2) % P3, P3) * P1P2_INVERSE_MOD_P3 % P3;
+            product[i] = (t1 % modulus + p1 * (t2 % modulus) % modulus + p1p2 * (t3 % modulus) % modulus) % modulus;
+        }
+        return product;
+    }
+
+    /**
+     * Transforms an array of power-of-two length in place with the iterative Cooley-Tukey butterfly.
+     * @param values the values being transformed, in [0, modulus).
+     * @param modulus the prime modulus.
+     * @param root a primitive root modulo the modulus.
+     * @param inverse true for the inverse transform, which is not yet divided by the length.
+     */
+    private static void transform(long[] values, long modulus, long root, boolean inverse) {
+        int n = values.length;
+
+        //bit-reversal permutation
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                long swap = values[i];
+                values[i] = values[j];
+                values[j] = swap;
+            }
+        }
+
+        long[] twiddles = new long[Math.max(n / 2, 1)]; //the powers of the root of unity of the current stage
+        for (int length = 2; length <= n; length <<= 1) {
+            int half = length / 2;
+            long unity = power(root, (modulus - 1) / length, modulus); //a primitive root of unity of order length
+            if (inverse) {
+                unity = power(unity, modulus - 2, modulus);
+            }
+            twiddles[0] = 1;
+            for (int j = 1; j < half; j++) {
+                twiddles[j] = twiddles[j - 1] * unity % modulus;
+            }
+            for (int start = 0; start < n; start += length) {
+                for (int j = 0; j < half; j++) {
+                    long u = values[start + j];
+                    long v = values[start + j + half] * twiddles[j] % modulus;
+                    long sum = u + v;
+                    long difference = u - v;
+                    values[start + j] = (sum >= modulus) ? sum - modulus : sum;
+                    values[start + j + half] = (difference < 0) ? difference + modulus : difference;
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies coefficients into an array of the transform length, reducing each one modulo the modulus.
+     * @param coefficients the coefficients.
+     * @param size the transform length.
+     * @param modulus the prime modulus.
+     * @return a new array of the reduced coefficients padded with zeros.
+     */
+    private static long[] reduce(long[] coefficients, int size, long modulus) {
+        long[] reduced = new long[size];
+        for (int i = 0; i < coefficients.length; i++) {
+            reduced[i] = Math.floorMod(coefficients[i], modulus);
+        }
+        return reduced;
+    }
+
+    /**
+     * Reduces Integer or BigInteger coefficients modulo a prime.
+     * @param coefficients the coefficients.
+     * @param modulus the prime modulus.
+     * @param bigIntegers true for BigInteger coefficients, false for Integer coefficients.
+     * @return a new array of residues in [0, modulus).
+     */
+    private static long[] residues(Object[] coefficients, long modulus, boolean bigIntegers) {
+        long[] residues = new long[coefficients.length];
+        BigInteger bigModulus = BigInteger.valueOf(modulus);
+        for (int i = 0; i < coefficients.length; i++) {
+            if (!bigIntegers) {
+                residues[i] = Math.floorMod((long) (Integer) coefficients[i], modulus);
+            } else {
+                BigInteger value = (BigInteger) coefficients[i];
+                residues[i] = (value.bitLength() < 63) ? Math.floorMod(value.longValue(), modulus) : value.mod(bigModulus).longValue();
+            }
+        }
+        return residues;
+    }
+
+    /**
+     * Computes the greatest bit length of the absolute values of Integer or BigInteger coefficients.
+     * @param coefficients the coefficients.
+     * @param bigIntegers true for BigInteger coefficients, false for Integer coefficients.
+     * @return the greatest bit length.
+     */
+    private static int maxBitLength(Object[] coefficients, boolean bigIntegers) {
+        int bits = 0;
+        for (Object coefficient : coefficients) {
+            int length = bigIntegers
+                    ? ((BigInteger) coefficient).abs().bitLength()
+                    : 64 - Long.numberOfLeadingZeros(Math.abs((long) (Integer) coefficient));
+            bits = Math.max(bits, length);
+        }
+        return bits;
+    }
+
+    /**
+     * Computes base^exponent modulo a modulus below 2^31 by repeated squaring.
+     * @param base the base.
+     * @param exponent the non-negative exponent.
+     * @param modulus the modulus.
+     * @return the power in [0, modulus).
+     */
+    private static long power(long base, long exponent, long modulus) {
+        long result = 1 % modulus;
+        long square = Math.floorMod(base, modulus);
+        for (long e = exponent; e > 0; e >>= 1) {
+            if ((e & 1) != 0) {
+                result = result * square % modulus;
+            }
+            square = square * square % modulus;
+        }
+        return result;
+    }
+
+    /**
+     * Finds the least primitive root modulo a prime, an element whose powers run through every non-zero residue.
+     * @param modulus the prime modulus.
+     * @return the least primitive root.
+     */
+    private static long primitiveRoot(long modulus) {
+        long order = modulus - 1;
+        long[] factors = new long[64];
+        int count = 0;
+        long remaining = order;
+        for (long factor = 2; factor * factor <= remaining; factor++) {
+            if (remaining % factor == 0) {
+                factors[count++] = factor;
+                while (remaining % factor == 0) {
+                    remaining /= factor;
+                }
+            }
+        }
+        if (remaining > 1) {
+            factors[count++] = remaining;
+        }
+
+        candidates:
+        for (long candidate = 2; ; candidate++) {
+            for (int i = 0; i < count; i++) {
+                if (power(candidate, order / factors[i], modulus) == 1) {
+                    continue candidates;
+                }
+            }
+            return candidate;
+        }
+    }
+
+    /**
+     * Checks whether a number below 2^31 is prime by trial division.
+     * @param n the number being checked.
+     * @return true if n is prime.
+     */
+    private static boolean isPrime(long n) {
+        if (n % 2 == 0) {
+            return n == 2;
+        }
+        for (long divisor = 3; divisor * divisor <= n; divisor += 2) {
+            if (n % divisor == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
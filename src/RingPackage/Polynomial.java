@@ -1,9 +1,12 @@
 package RingPackage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This is a class representing a polynomial ring, meant to emulate functionality for polynomials.
@@ -13,6 +16,29 @@ public final class Polynomial<T> {
     
     private final List<T> coefficients; //a private instance field representing the polynomial's coefficients
 
+    /**
+     * The greatest number of coefficients multiplied by the schoolbook method in times, before Karatsuba's method is used.
+     * Below this length the additions of Karatsuba's method cost more than the products they save.
+     */
+    public static final int DEFAULT_KARATSUBA_CUTOFF = 32;
+
+    /**
+     * The greatest number of coefficients multiplied without number-theoretic transforms over BigIntegerRing.
+     * Longer factors are multiplied modulo three primes in O(n log n) operations, as long as their coefficients are small enough for an exact result.
+     */
+    public static final int NTT_CUTOFF = 100;
+
+    /**
+     * The greatest number of coefficients multiplied without number-theoretic transforms over IntegerRing, which is higher since the unboxed schoolbook loop is fast.
+     */
+    public static final int INT_NTT_CUTOFF = 1024;
+
+    /**
+     * The greatest number of coefficients multiplied without number-theoretic transforms over a ModularRing.
+     * Moduli such as 998244353 are transformed directly, and other moduli through three primes.
+     */
+    public static final int MODULAR_NTT_CUTOFF = 192;
+
     /**
      * Constructor for the Polynomial class, called by the static factory method (from). This method sets the coefficients of the Polynomial p0, p1, ..., pm in a List data structure. 
      * @param coefficients a List of coefficients that the Polynomial has
@@ -34,6 +60,64 @@ public final class Polynomial<T> {
         return new Polynomial<>(List.copyOf(coefficients)); 
     }
 
+    /**
+     * Returns a new Polynomial created from an immutable copy of the input list in canonical form, without trailing zero coefficients.
+     * @param <S> the static type S.
+     * @param coefficients the list of coefficients used to create a Polynomial.
+     * @param ring the Ring object whose zero test finds the trailing zeros.
+     * @return a new immutable Polynomial whose last coefficient is nonzero, or which has no coefficients if every coefficient is zero.
+     */
+    public static final <S> Polynomial<S> from(List<S> coefficients, Ring<S> ring) {
+        //null checks
+        Objects.requireNonNull(coefficients, "coefficients cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        return from(coefficients).normalize(ring);
+    }
+
+    /**
+     * Returns this Polynomial in canonical form, without trailing zero coefficients, so that two equal polynomials have equal coefficient lists.
+     * The operations of this class return canonical polynomials, so this only strips the zeros of a Polynomial created by from(List).
+     * @param ring the Ring object whose zero test finds the trailing zeros.
+     * @return this Polynomial if its last coefficient is nonzero, and otherwise a new Polynomial without the trailing zeros.
+     */
+    public Polynomial<T> normalize(Ring<T> ring) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        int length = coefficients.size(); //the number of coefficients up to the last nonzero coefficient
+        while (length > 0 && ring.isZero(coefficients.get(length - 1))) {
+            length--;
+        }
+        return (length == coefficients.size()) ? this : new Polynomial<>(List.copyOf(coefficients.subList(0, length)));
+    }
+
+    /**
+     * Gets the exponent of the last stored coefficient of this Polynomial in constant time.
+     * This is the degree for the canonical polynomials returned by from(List, Ring), normalize and the operations of this class,
+     * but a Polynomial created by from(List) keeps its trailing zeros, which only degree(Ring) skips.
+     * @return the number of coefficients minus one, or -1 if there are no coefficients.
+     */
+    public int degree() {
+        return coefficients.size() - 1;
+    }
+
+    /**
+     * Gets the degree of this Polynomial, the exponent of its last nonzero coefficient, without creating a normalized copy.
+     * @param ring the Ring object whose zero test finds the trailing zeros.
+     * @return the exponent of the last nonzero coefficient, or -1 for the zero Polynomial.
+     */
+    public int degree(Ring<T> ring) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        int degree = coefficients.size() - 1;
+        while (degree >= 0 && ring.isZero(coefficients.get(degree))) {
+            degree--;
+        }
+        return degree;
+    }
+
     /**
      * Gets a mutable copy of this Polynomial's coefficients primarily used for containment testing. 
      * @return a mutable List object of coefficients. 
@@ -68,6 +152,22 @@ public final class Polynomial<T> {
         Objects.requireNonNull(other, "the 'other' parameter cannot be null");
         Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
 
+        //trailing zeros are stripped first, so the work follows the true degrees, and the sum is stripped of the terms which cancel
+        return normalize(ring).add(other.normalize(ring), ring).normalize(ring);
+    }
+
+    /**
+     * Computes Polynomial addition between this Polynomial and another Polynomial, without normalizing either of them.
+     * @param other the other Polynomial object
+     * @param ring the Ring object used for intermediate operations
+     * @return the sum of this Polynomial and the other Polynomial, as long as the longer addend
+     */
+    private Polynomial<T> add(Polynomial<T> other, Ring<T> ring) {
+        //primitive rings add unboxed coefficients
+        if (Rings.hasPrimitiveOperations(ring)) {
+            return primitivePlus(other, ring);
+        }
+
         List<T> a = this.getCoefficients(); //coefficients of the first polynomial
         List<T> b = other.getCoefficients(); //coefficients of the second polynomial
 
@@ -92,6 +192,57 @@ public final class Polynomial<T> {
         return new Polynomial<>(sum_list);
     }
 
+    /**
+     * Computes the additive inverse of this Polynomial by negating each coefficient.
+     * @param ring the NegatableRing used to negate the coefficients
+     * @return a new Polynomial which is the additive inverse of this Polynomial
+     */
+    public Polynomial<T> negate(NegatableRing<T> ring) {
+
+        //null check
+        Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
+
+        //only zero negates to zero, so the negation of a normalized Polynomial is normalized
+        List<T> normalized = normalize(ring).coefficients;
+        List<T> negated = new ArrayList<>(normalized.size());
+        for (T coefficient : normalized) {
+            negated.add(ring.negate(coefficient));
+        }
+        return new Polynomial<>(negated);
+    }
+
+    /**
+     * Computes Polynomial subtraction between this Polynomial and another Polynomial
+     * @param other the other Polynomial object, which is subtracted
+     * @param ring the NegatableRing used for intermediate operations
+     * @return the difference of this Polynomial and the other Polynomial
+     */
+    public Polynomial<T> minus(Polynomial<T> other, NegatableRing<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(other, "the 'other' parameter cannot be null");
+        Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
+
+        return normalize(ring).subtract(other.normalize(ring), ring).normalize(ring);
+    }
+
+    /**
+     * Computes Polynomial subtraction between this Polynomial and another Polynomial, without normalizing either of them.
+     * @param other the other Polynomial object, which is subtracted
+     * @param ring the NegatableRing used for intermediate operations
+     * @return the difference of this Polynomial and the other Polynomial, as long as the longer operand
+     */
+    private Polynomial<T> subtract(Polynomial<T> other, NegatableRing<T> ring) {
+        int length = Math.max(coefficients.size(), other.coefficients.size()); //the length of the longer coefficient list
+        List<T> difference = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            T minuend = (i < coefficients.size()) ? coefficients.get(i) : ring.zero();
+            T subtrahend = (i < other.coefficients.size()) ? other.coefficients.get(i) : ring.zero();
+            difference.add(ring.difference(minuend, subtrahend));
+        }
+        return new Polynomial<>(difference);
+    }
+
     /**
      * Gets the addend of a list if it has a next value. This is used in the plus method
      * @param ring the Ring used for intermediate operations
@@ -115,66 +266,401 @@ public final class Polynomial<T> {
      *         ((1 * 0) + (2 * 0), (3 * 6) + (0 * 5) + (0 * 4))
      * 
      *       = (4, 13, 28, 27, 18)
+     * Over a NegatableRing, factors with more than DEFAULT_KARATSUBA_CUTOFF coefficients are multiplied by Karatsuba's method.
      * McCabe's Complexity: 3
      * @param other the other Polynomial object
      * @param ring the Ring object used for intermediate operations
      * @return the product of this Polynomial and the other Polynomial
      */
     public Polynomial<T> times(Polynomial<T> other, Ring<T> ring) {
+        return times(other, ring, DEFAULT_KARATSUBA_CUTOFF);
+    }
+
+    /**
+     * Computes Polynomial multiplication between this Polynomial and another Polynomial with a chosen Karatsuba cutoff.
+     * Over a NegatableRing, factors whose coefficient lists are both longer than the cutoff are split in halves and multiplied with three half-size products instead of four,
+     * which takes O(n^1.585) ring operations instead of O(n^2). Shorter factors, and factors over rings without subtraction, use the schoolbook method.
+     * Over IntegerRing and BigIntegerRing, factors longer than INT_NTT_CUTOFF or NTT_CUTOFF are multiplied by number-theoretic transforms when the result can be recombined exactly.
+     * Over a ModularRing, factors longer than MODULAR_NTT_CUTOFF are multiplied by number-theoretic transforms modulo n.
+     * Other rings operating on primitive values use the unboxed schoolbook method, except subclasses of IntegerRing and DoubleRing, which keep their boxed operations.
+     * @param other the other Polynomial object
+     * @param ring the Ring object used for intermediate operations
+     * @param karatsubaCutoff the greatest number of coefficients multiplied by the schoolbook method
+     * @return the product of this Polynomial and the other Polynomial
+     * @throws IllegalArgumentException if the cutoff is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public Polynomial<T> times(Polynomial<T> other, Ring<T> ring, int karatsubaCutoff) {
 
         //null checks
         Objects.requireNonNull(other, "the 'other' parameter cannot be null");
         Objects.requireNonNull(ring, "the 'ring' parameter cannot be null"); 
-        
-        List<T> a = this.getCoefficients(); //coefficients of the first polynomial 
-        List<T> b = other.getCoefficients(); //coefficients of the second polynomial
+        requirePositiveCutoff(karatsubaCutoff);
+
+        //trailing zeros are stripped first, so no work is spent on phantom degrees, and the product is stripped in case leading coefficients multiply to zero
+        return normalize(ring).multiply(other.normalize(ring), ring, karatsubaCutoff).normalize(ring);
+    }
+
+    /**
+     * Computes Polynomial multiplication between this Polynomial and another Polynomial, without normalizing either of them.
+     * @param other the other Polynomial object
+     * @param ring the Ring object used for intermediate operations
+     * @param karatsubaCutoff the greatest number of coefficients multiplied by the schoolbook method
+     * @return the product of this Polynomial and the other Polynomial
+     */
+    @SuppressWarnings("unchecked")
+    private Polynomial<T> multiply(Polynomial<T> other, Ring<T> ring, int karatsubaCutoff) {
+
+        //long products of integers are computed by number-theoretic transforms when their coefficients are small enough for an exact result
+        int shorter = Math.min(coefficients.size(), other.coefficients.size()); //the length of the shorter factor
+        //subclasses may redefine the arithmetic, so only the exact classes are transformed
+        boolean big = ring.getClass() == BigIntegerRing.class; //whether the coefficients are BigIntegers
+        if ((big && shorter > NTT_CUTOFF) || (ring.getClass() == IntegerRing.class && shorter > INT_NTT_CUTOFF)) {
+            Object[] product = NumberTheoreticTransform.multiplyExact(coefficients.toArray(), other.coefficients.toArray(), big);
+            if (product != null) {
+                return fromArray(product);
+            }
+        }
+
+        //long products modulo n are computed by number-theoretic transforms
+        if (ring instanceof ModularRing && shorter > MODULAR_NTT_CUTOFF) {
+            long[] product = NumberTheoreticTransform.multiplyModular(toLongArray((List<Long>) coefficients, coefficients.size(), 0L),
+                    toLongArray((List<Long>) other.coefficients, other.coefficients.size(), 0L), ((ModularRing) ring).modulus());
+            if (product != null) {
+                return (Polynomial<T>) fromLongArray(product);
+            }
+        }
+
+        //primitive rings multiply unboxed coefficients
+        if (Rings.hasPrimitiveOperations(ring)) {
+            return primitiveTimes(other, ring);
+        }
 
-        int productLength;
-        if (a.isEmpty() && b.isEmpty()) {  //  edge case: if both lists are empty, product length will be 0             
-            productLength = 0;
-         } else {
-            productLength = a.size() + b.size() - 1;
-         }                                           //        if not, the 
-                                                             //  otherwise, it will be (size of a + size of b - 1)
-        List<T> product_list = new ArrayList<>(productLength); //creates the list of products that will be used to create the final polynomial
+        Object[] a = this.coefficients.toArray(); //coefficients of the first polynomial 
+        Object[] b = other.coefficients.toArray(); //coefficients of the second polynomial
 
-        ListIterator<T> aIter = a.listIterator(); //iterator for list a 
-        ListIterator<T> bIter = b.listIterator(); //iterator for list b
+        Object[] product = (ring instanceof NegatableRing)
+                ? Karatsuba.multiply(a, b, (NegatableRing<T>) ring, karatsubaCutoff)
+                : Karatsuba.schoolbook(a, b, ring);
+        return fromArray(product);
+    }
+
+    /**
+     * Evaluates this Polynomial at a point with Horner's scheme, where the coefficient at index i multiplies x^i.
+     * Example:
+     * a: (1, 2, 3)
+     * a(2) = 1 + 2 * (2 + 2 * (3)) = 17
+     * Rings that operate on primitive values evaluate unboxed coefficients, read directly from this Polynomial without copying them.
+     * @param x the point at which this Polynomial is evaluated
+     * @param ring the Ring object used for intermediate operations
+     * @return the value of this Polynomial at x, or zero if it has no coefficients
+     */
+    @SuppressWarnings("unchecked")
+    public T evaluate(T x, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        boolean primitive = Rings.hasPrimitiveOperations(ring); //whether the coefficients are evaluated unboxed
+        if (primitive && ring instanceof PrimitiveIntRing) {
+            PrimitiveIntRing intRing = (PrimitiveIntRing) ring;
+            List<Integer> list = (List<Integer>) coefficients;
+            int point = (Integer) x;
+            int value = intRing.intZero();
+            for (int i = list.size() - 1; i >= 0; i--) {
+                value = intRing.sum(intRing.product(value, point), list.get(i).intValue());
+            }
+            return (T) Integer.valueOf(value);
+        }
+        if (primitive && ring instanceof PrimitiveLongRing) {
+            PrimitiveLongRing longRing = (PrimitiveLongRing) ring;
+            List<Long> list = (List<Long>) coefficients;
+            long point = (Long) x;
+            long value = longRing.longZero();
+            for (int i = list.size() - 1; i >= 0; i--) {
+                value = longRing.sum(longRing.product(value, point), list.get(i).longValue());
+            }
+            return (T) Long.valueOf(value);
+        }
+        if (primitive && ring instanceof PrimitiveDoubleRing) {
+            PrimitiveDoubleRing doubleRing = (PrimitiveDoubleRing) ring;
+            List<Double> list = (List<Double>) coefficients;
+            double point = (Double) x;
+            double value = doubleRing.doubleZero();
+            for (int i = list.size() - 1; i >= 0; i--) {
+                value = doubleRing.sum(doubleRing.product(value, point), list.get(i).doubleValue());
+            }
+            return (T) Double.valueOf(value);
+        }
+
+        T value = ring.zero();
+        for (int i = coefficients.size() - 1; i >= 0; i--) {
+            value = ring.sum(ring.product(value, x), coefficients.get(i));
+        }
+        return value;
+    }
+
+    /**
+     * Evaluates this Polynomial at a point with Estrin's scheme, which splits the coefficients in half and combines the halves as low(x) + x^h * high(x).
+     * Each step of Horner's scheme waits for the one before it, while the halves of Estrin's scheme and the interleaved chains of each block are independent, 
+     * so the processor can overlap their operations. Over floating-point rings the result may differ from evaluate in the last bits.
+     * @param x the point at which this Polynomial is evaluated
+     * @param ring the Ring object used for intermediate operations
+     * @return the value of this Polynomial at x, or zero if it has no coefficients
+     */
+    public T evaluateEstrin(T x, Ring<T> ring) {
 
-        int a_start = 0; //start index of list a
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
 
-        //iterates until productLength is reached
-        for (int i = 0; i < productLength; i++) {
+        return Estrin.evaluate(coefficients, x, ring, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Evaluates this Polynomial at a point with Estrin's scheme, evaluating the halves of ranges longer than the sequential cutoff as separate tasks on a ForkJoinPool.
+     * @param x the point at which this Polynomial is evaluated
+     * @param ring the Ring object used for intermediate operations. It must be safe to use from several threads.
+     * @param pool the ForkJoinPool running the tasks, such as ForkJoinPool.commonPool().
+     * @param sequentialCutoff the greatest number of coefficients evaluated by a single task. Polynomials with no more coefficients are evaluated on the calling thread.
+     * @return the value of this Polynomial at x, or zero if it has no coefficients
+     * @throws IllegalArgumentException if the sequential cutoff is not positive.
+     */
+    public T evaluateEstrin(T x, Ring<T> ring, ForkJoinPool pool, int sequentialCutoff) {
+
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Objects.requireNonNull(pool, "pool cannot be null");
+        if (sequentialCutoff <= 0) {
+            throw new IllegalArgumentException("sequential cutoff must be positive");
+        }
+
+        return Estrin.evaluate(coefficients, x, ring, pool, sequentialCutoff);
+    }
+
+    /**
+     * Checks that a Karatsuba cutoff is positive.
+     * @param cutoff the cutoff being checked
+     * @return the cutoff if it is positive
+     * @throws IllegalArgumentException if the cutoff is not positive
+     */
+    static int requirePositiveCutoff(int cutoff) {
+        if (cutoff <= 0) {
+            throw new IllegalArgumentException("Karatsuba cutoff must be positive");
+        }
+        return cutoff;
+    }
+
+    /**
+     * Creates a Polynomial backed by an array of coefficients, which must not be modified afterwards.
+     * @param <S> the static type S
+     * @param array the coefficients
+     * @return a new Polynomial with the coefficients of the array
+     */
+    @SuppressWarnings("unchecked")
+    private static <S> Polynomial<S> fromArray(Object[] array) {
+        return new Polynomial<>(Collections.unmodifiableList(Arrays.asList((S[]) array)));
+    }
+
+    /**
+     * Computes Polynomial addition for rings that operate on primitive values, accumulating unboxed coefficients and boxing only the final sum.
+     * IntegerRing and DoubleRing add the coefficients with SimdKernels, which gives the same sums as the scalar loop.
+     * @param other the other Polynomial object
+     * @param ring a PrimitiveIntRing, PrimitiveLongRing or PrimitiveDoubleRing
+     * @return the sum of this Polynomial and the other Polynomial
+     */
+    @SuppressWarnings("unchecked")
+    private Polynomial<T> primitivePlus(Polynomial<T> other, Ring<T> ring) {
+        int length = Math.max(coefficients.size(), other.coefficients.size()); //the length of the longer coefficient list
 
-            T product = ring.zero(); //initializing the product to zero
-            a_start = computeStartIndex(i, a_start, b); //adjusting the start index of a depending on whether b has more elements
+        if (ring instanceof PrimitiveIntRing) {
+            PrimitiveIntRing intRing = (PrimitiveIntRing) ring;
+            int[] a = toIntArray((List<Integer>) coefficients, length, intRing.intZero());
+            int[] b = toIntArray((List<Integer>) other.coefficients, length, intRing.intZero());
+            if (ring.getClass() == IntegerRing.class) {
+                SimdKernels.add(a, b, a, length);
+                return (Polynomial<T>) fromIntArray(a);
+            }
+            for (int i = 0; i < length; i++) {
+                a[i] = intRing.sum(a[i], b[i]);
+            }
+            return (Polynomial<T>) fromIntArray(a);
+        }
+        if (ring instanceof PrimitiveLongRing) {
+            PrimitiveLongRing longRing = (PrimitiveLongRing) ring;
+            long[] a = toLongArray((List<Long>) coefficients, length, longRing.longZero());
+            long[] b = toLongArray((List<Long>) other.coefficients, length, longRing.longZero());
+            for (int i = 0; i < length; i++) {
+                a[i] = longRing.sum(a[i], b[i]);
+            }
+            return (Polynomial<T>) fromLongArray(a);
+        }
+        PrimitiveDoubleRing doubleRing = (PrimitiveDoubleRing) ring;
+        double[] a = toDoubleArray((List<Double>) coefficients, length, doubleRing.doubleZero());
+        double[] b = toDoubleArray((List<Double>) other.coefficients, length, doubleRing.doubleZero());
+        if (ring.getClass() == DoubleRing.class) {
+            SimdKernels.add(a, b, a, length);
+            return (Polynomial<T>) fromDoubleArray(a);
+        }
+        for (int i = 0; i < length; i++) {
+            a[i] = doubleRing.sum(a[i], b[i]);
+        }
+        return (Polynomial<T>) fromDoubleArray(a);
+    }
 
-            //initializing the iterators to their respective start indices
-            aIter = a.listIterator(a_start);
-            bIter = b.listIterator(Math.min(i + 1, b.size()));
+    /**
+     * Computes Polynomial multiplication for rings that operate on primitive values. 
+     * Each output coefficient is accumulated in a primitive array, so no wrapper objects are created inside the inner loop.
+     * For IntegerRing and DoubleRing the inner loop adds a[i] times the other polynomial to the product at offset i with SimdKernels, in the same order as the scalar loop.
+     * @param other the other Polynomial object
+     * @param ring a PrimitiveIntRing, PrimitiveLongRing or PrimitiveDoubleRing
+     * @return the product of this Polynomial and the other Polynomial
+     */
+    @SuppressWarnings("unchecked")
+    private Polynomial<T> primitiveTimes(Polynomial<T> other, Ring<T> ring) {
+        //edge case: a product with an empty polynomial is empty
+        if (coefficients.isEmpty() || other.coefficients.isEmpty()) {
+            return new Polynomial<>(List.of());
+        }
+        int productLength = coefficients.size() + other.coefficients.size() - 1; //the length of the product
 
-            //iterates while aIter has a next element and bIter has a previous element
-            while (aIter.hasNext() && bIter.hasPrevious()) {
-                T a_factor = aIter.next(); //defining a's next value as the first factor
-                T b_factor = bIter.previous(); //defining b's previous value as second factor
-                T result = ring.product(a_factor, b_factor); //multiplies the factors
-                product = ring.sum(product, result); //sums the result of the multiplication with the previous result
+        if (ring instanceof PrimitiveIntRing) {
+            PrimitiveIntRing intRing = (PrimitiveIntRing) ring;
+            int[] a = toIntArray((List<Integer>) coefficients, coefficients.size(), intRing.intZero());
+            int[] b = toIntArray((List<Integer>) other.coefficients, other.coefficients.size(), intRing.intZero());
+            int[] product = new int[productLength];
+            Arrays.fill(product, intRing.intZero());
+            if (ring.getClass() == IntegerRing.class) {
+                for (int i = 0; i < a.length; i++) {
+                    SimdKernels.axpy(a[i], b, 0, product, i, b.length);
+                }
+                return (Polynomial<T>) fromIntArray(product);
+            }
+            for (int i = 0; i < a.length; i++) {
+                for (int j = 0; j < b.length; j++) {
+                    product[i + j] = intRing.sum(product[i + j], intRing.product(a[i], b[j]));
+                }
+            }
+            return (Polynomial<T>) fromIntArray(product);
+        }
+        if (ring instanceof PrimitiveLongRing) {
+            PrimitiveLongRing longRing = (PrimitiveLongRing) ring;
+            long[] a = toLongArray((List<Long>) coefficients, coefficients.size(), longRing.longZero());
+            long[] b = toLongArray((List<Long>) other.coefficients, other.coefficients.size(), longRing.longZero());
+            long[] product = new long[productLength];
+            Arrays.fill(product, longRing.longZero());
+            for (int i = 0; i < a.length; i++) {
+                for (int j = 0; j < b.length; j++) {
+                    product[i + j] = longRing.sum(product[i + j], longRing.product(a[i], b[j]));
+                }
+            }
+            return (Polynomial<T>) fromLongArray(product);
+        }
+        PrimitiveDoubleRing doubleRing = (PrimitiveDoubleRing) ring;
+        double[] a = toDoubleArray((List<Double>) coefficients, coefficients.size(), doubleRing.doubleZero());
+        double[] b = toDoubleArray((List<Double>) other.coefficients, other.coefficients.size(), doubleRing.doubleZero());
+        double[] product = new double[productLength];
+        Arrays.fill(product, doubleRing.doubleZero());
+        if (ring.getClass() == DoubleRing.class) {
+            for (int i = 0; i < a.length; i++) {
+                SimdKernels.axpy(a[i], b, 0, product, i, b.length);
             }
-            product_list.add(product); //adds the product to the list of products
-        }        
-       return new Polynomial<>(product_list); 
+            return (Polynomial<T>) fromDoubleArray(product);
+        }
+        for (int i = 0; i < a.length; i++) {
+            for (int j = 0; j < b.length; j++) {
+                product[i + j] = doubleRing.sum(product[i + j], doubleRing.product(a[i], b[j]));
+            }
+        }
+        return (Polynomial<T>) fromDoubleArray(product);
     }
 
     /**
-     * Computes the starting index of iterations in the times method
-     * @param args
-     * @return the integer starting index of an iteration
+     * Unboxes a list of Integer coefficients into an int array, padding the remaining positions with zero.
+     * @param list the coefficients being unboxed
+     * @param length the length of the returned array, at least the size of the list
+     * @param zero the zero used for padding
+     * @return a new int array holding the coefficients
      */
-    private int computeStartIndex(int currentIndex, int startIndex, List<T> list) {
-        if ((currentIndex + 1) > list.size()) {
-            startIndex = startIndex + 1;
+    private static int[] toIntArray(List<Integer> list, int length, int zero) {
+        int[] array = new int[length];
+        Arrays.fill(array, list.size(), length, zero);
+        for (int i = 0; i < list.size(); i++) {
+            array[i] = list.get(i);
         }
-        return startIndex;
+        return array;
     }
-}
 
+    /**
+     * Unboxes a list of Long coefficients into a long array, padding the remaining positions with zero.
+     * @param list the coefficients being unboxed
+     * @param length the length of the returned array, at least the size of the list
+     * @param zero the zero used for padding
+     * @return a new long array holding the coefficients
+     */
+    private static long[] toLongArray(List<Long> list, int length, long zero) {
+        long[] array = new long[length];
+        Arrays.fill(array, list.size(), length, zero);
+        for (int i = 0; i < list.size(); i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Unboxes a list of Double coefficients into a double array, padding the remaining positions with zero.
+     * @param list the coefficients being unboxed
+     * @param length the length of the returned array, at least the size of the list
+     * @param zero the zero used for padding
+     * @return a new double array holding the coefficients
+     */
+    private static double[] toDoubleArray(List<Double> list, int length, double zero) {
+        double[] array = new double[length];
+        Arrays.fill(array, list.size(), length, zero);
+        for (int i = 0; i < list.size(); i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Creates a Polynomial by boxing each value of an int array of coefficients.
+     * @param array the coefficients
+     * @return a new Polynomial with the coefficients of the array
+     */
+    private static Polynomial<Integer> fromIntArray(int[] array) {
+        List<Integer> list = new ArrayList<>(array.length);
+        for (int value : array) {
+            list.add(value);
+        }
+        return new Polynomial<>(list);
+    }
+
+    /**
+     * Creates a Polynomial by boxing each value of a long array of coefficients.
+     * @param array the coefficients
+     * @return a new Polynomial with the coefficients of the array
+     */
+    private static Polynomial<Long> fromLongArray(long[] array) {
+        List<Long> list = new ArrayList<>(array.length);
+        for (long value : array) {
+            list.add(value);
+        }
+        return new Polynomial<>(list);
+    }
+
+    /**
+     * Creates a Polynomial by boxing each value of a double array of coefficients.
+     * @param array the coefficients
+     * @return a new Polynomial with the coefficients of the array
+     */
+    private static Polynomial<Double> fromDoubleArray(double[] array) {
+        List<Double> list = new ArrayList<>(array.length);
+        for (double value : array) {
+            list.add(value);
+        }
+        return new Polynomial<>(list);
+    }
+}
@@ -1,35 +1,53 @@
 package RingPackage;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * This is a class to demonstrate the concept of Rings on Polynomials
+ * Polynomials over a NegatableRing can be negated as well, which the subclass NegatablePolynomialRing offers.
  * @author Vidyut Veedgav
  */
-public final class PolynomialRing<T> implements Ring<Polynomial<T>> {
+public class PolynomialRing<T> implements Ring<Polynomial<T>> {
 
-    private Ring<T> baseRing; //a private field storing a ring 
+    private final Ring<T> baseRing; //a private field storing a ring 
+    private final int karatsubaCutoff; //a private field storing the greatest number of coefficients multiplied by the schoolbook method
 
     /**
-     * Constructor for the PolynomialRing class, called by the static factory method (instance)
+     * Constructor for the PolynomialRing class, called by the static factory method (instance), by karatsuba and by the constructor of NegatablePolynomialRing
      * @param ring a Ring object 
+     * @param karatsubaCutoff the greatest number of coefficients multiplied by the schoolbook method
      */
-    private PolynomialRing(Ring<T> ring) {
+    PolynomialRing(Ring<T> ring, int karatsubaCutoff) {
         this.baseRing = ring;
+        this.karatsubaCutoff = karatsubaCutoff;
     }
 
     /**
      * Returns a new PolynomialRing instance
      * @param <T> the static type T
      * @param ring a Ring object used for mapping and intermediate operations. 
-     * @return a new MatrixRing object which can be used to compute Polynomial addition and multiplication
+     * @return a new PolynomialRing object which can be used to compute Polynomial addition and multiplication, 
+     * which is a NegatablePolynomialRing if ring is a NegatableRing
      */
     public static <T> PolynomialRing<T> instance(Ring<T> ring) {
         //null check
         Objects.requireNonNull(ring, "ring cannot be null");
 
-        return new PolynomialRing<>(ring);
+        return (ring instanceof NegatableRing) 
+                ? NegatablePolynomialRing.instance((NegatableRing<T>) ring) 
+                : new PolynomialRing<>(ring, Polynomial.DEFAULT_KARATSUBA_CUTOFF);
+    }
+
+    /**
+     * Returns a PolynomialRing over the same ring whose products switch to Karatsuba's method above a chosen number of coefficients.
+     * @param cutoff the greatest number of coefficients multiplied by the schoolbook method.
+     * @return a new PolynomialRing which uses the cutoff.
+     * @throws IllegalArgumentException if the cutoff is not positive.
+     */
+    public PolynomialRing<T> karatsuba(int cutoff) {
+        return new PolynomialRing<>(baseRing, Polynomial.requirePositiveCutoff(cutoff));
     }
 
     /**
@@ -77,6 +95,123 @@ public final class PolynomialRing<T> implements Ring<Polynomial<T>> {
         Objects.requireNonNull(x, "x cannot be null");
         Objects.requireNonNull(y, "y cannot be null");
 
-        return x.times(y, baseRing);
+        return x.times(y, baseRing, karatsubaCutoff);
+    }
+
+    /**
+     * Checks whether a Polynomial is zero, which holds if every coefficient is zero
+     * @param x the element being tested
+     * @return true if x is zero
+     */
+    @Override
+    public boolean isZero(Polynomial<T> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return x.degree(baseRing) < 0;
+    }
+
+    /**
+     * Returns a new Accumulator which keeps an accumulator of the coefficient ring for each coefficient of the running sum,
+     * so that a sum of products of polynomials creates a Polynomial only for its result.
+     * Products of short factors over rings without primitive operations are added coefficient by coefficient by the schoolbook method,
+     * while longer factors, which Karatsuba's method or a number-theoretic transform multiplies faster, and primitive rings, which multiply unboxed coefficients,
+     * are multiplied by product first.
+     * @return a new Accumulator holding the zero polynomial
+     */
+    @Override
+    public Accumulator<Polynomial<T>> accumulator() {
+        return new CoefficientAccumulator();
+    }
+
+    /**
+     * This is a class accumulating polynomials into a buffer of coefficient accumulators, which grows to the longest sum seen and is reused after a reset.
+     */
+    private final class CoefficientAccumulator implements Accumulator<Polynomial<T>> {
+
+        private final List<Accumulator<T>> coefficients = new ArrayList<>(); //an accumulator for each coefficient, holding zero past the length
+        private int length; //the number of coefficients added to since the last reset
+
+        /**
+         * Adds the product of two polynomials to the running sum
+         * @param x the first factor
+         * @param y the second factor
+         */
+        @Override
+        public void addProduct(Polynomial<T> x, Polynomial<T> y) {
+            //null checks
+            Objects.requireNonNull(x, "x cannot be null");
+            Objects.requireNonNull(y, "y cannot be null");
+
+            List<T> a = x.getCoefficients(); //coefficients of the first factor
+            List<T> b = y.getCoefficients(); //coefficients of the second factor
+            if (a.isEmpty() || b.isEmpty()) {
+                return;
+            }
+            if (Rings.hasPrimitiveOperations(baseRing)
+                    || Math.min(a.size(), b.size()) > karatsubaCutoff) {
+                add(product(x, y));
+                return;
+            }
+
+            grow(a.size() + b.size() - 1);
+            for (int i = 0; i < a.size(); i++) {
+                T factor = a.get(i);
+                for (int j = 0; j < b.size(); j++) {
+                    coefficients.get(i + j).addProduct(factor, b.get(j));
+                }
+            }
+        }
+
+        /**
+         * Adds a polynomial to the running sum
+         * @param x the addend
+         */
+        @Override
+        public void add(Polynomial<T> x) {
+            //null check
+            Objects.requireNonNull(x, "x cannot be null");
+
+            List<T> a = x.getCoefficients();
+            grow(a.size());
+            for (int i = 0; i < a.size(); i++) {
+                coefficients.get(i).add(a.get(i));
+            }
+        }
+
+        /**
+         * Extends the running sum to at least a number of coefficients
+         * @param size the number of coefficients needed
+         */
+        private void grow(int size) {
+            while (coefficients.size() < size) {
+                coefficients.add(baseRing.accumulator());
+            }
+            length = Math.max(length, size);
+        }
+
+        /**
+         * Returns the running sum, without the trailing zeros of terms which cancelled
+         * @return the sum as a normalized Polynomial
+         */
+        @Override
+        public Polynomial<T> result() {
+            List<T> sum = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                sum.add(coefficients.get(i).result());
+            }
+            return Polynomial.from(sum).normalize(baseRing);
+        }
+
+        /**
+         * Sets the running sum back to the zero polynomial, keeping the buffer for the next sum
+         */
+        @Override
+        public void reset() {
+            for (int i = 0; i < length; i++) {
+                coefficients.get(i).reset();
+            }
+            length = 0;
+        }
     }
 }
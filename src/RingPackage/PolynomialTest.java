@@ -1,11 +1,19 @@
 package RingPackage;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.Test;
 
@@ -50,4 +58,381 @@ public class PolynomialTest {
         assertEquals(RingPackage.InterpolatingPolynomial.class, poly.getClass());
         assertThrows(NullPointerException.class, () -> InterpolatingPolynomial.interpolatePolynomial(Arrays.asList(1, 2, null, 4), intRing));
     }
+
+    /**
+     * testing the Karatsuba path of times against the schoolbook method
+     */
+    @Test
+    public void testKaratsubaTimes() {
+        BigIntegerRing bigRing = new BigIntegerRing();
+        //a ring without subtraction is always multiplied by the schoolbook method
+        Ring<BigInteger> schoolbookRing = new Ring<>() {
+            public BigInteger zero() { return bigRing.zero(); }
+            public BigInteger identity() { return bigRing.identity(); }
+            public BigInteger sum(BigInteger x, BigInteger y) { return bigRing.sum(x, y); }
+            public BigInteger product(BigInteger x, BigInteger y) { return bigRing.product(x, y); }
+        };
+
+        //balanced, odd and unbalanced lengths
+        int[][] lengths = {{64, 64}, {77, 77}, {100, 9}, {9, 100}, {50, 130}};
+        for (int[] length : lengths) {
+            List<BigInteger> a = new ArrayList<>();
+            List<BigInteger> b = new ArrayList<>();
+            for (int i = 0; i < length[0]; i++) {
+                a.add(BigInteger.valueOf((i * 37 % 11) - 5));
+            }
+            for (int i = 0; i < length[1]; i++) {
+                b.add(BigInteger.valueOf((i * 13 % 7) - 3));
+            }
+            Polynomial<BigInteger> x = Polynomial.from(a);
+            Polynomial<BigInteger> y = Polynomial.from(b);
+            List<BigInteger> expected = x.times(y, schoolbookRing).getCoefficients();
+            assertEquals(length[0] + length[1] - 1, expected.size());
+            assertEquals(expected, x.times(y, bigRing, 4).getCoefficients());
+            assertEquals(expected, x.times(y, bigRing).getCoefficients());
+            assertEquals(expected, PolynomialRing.instance(bigRing).karatsuba(1).product(x, y).getCoefficients());
+        }
+
+        Polynomial<BigInteger> one = Polynomial.from(List.of(BigInteger.ONE));
+        assertEquals(List.of(), one.times(Polynomial.from(List.of()), bigRing, 1).getCoefficients());
+        assertThrows(IllegalArgumentException.class, () -> one.times(one, bigRing, 0));
+        assertThrows(IllegalArgumentException.class, () -> PolynomialRing.instance(bigRing).karatsuba(-1));
+    }
+
+    /**
+     * testing the number-theoretic transform against the schoolbook method
+     */
+    @Test
+    public void testNumberTheoreticTransform() {
+        long modulus = 998244353L;
+        long[] a = new long[300];
+        long[] b = new long[77];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = (i * 7919L * i + 13) % modulus;
+        }
+        for (int i = 0; i < b.length; i++) {
+            b[i] = modulus - 1 - i;
+        }
+        long[] expected = new long[a.length + b.length - 1];
+        for (int i = 0; i < a.length; i++) {
+            for (int j = 0; j < b.length; j++) {
+                expected[i + j] = (expected[i + j] + a[i] * b[j]) % modulus;
+            }
+        }
+        assertArrayEquals(expected, NumberTheoreticTransform.multiply(a, b, modulus));
+        assertEquals(0, NumberTheoreticTransform.multiply(a, new long[0], modulus).length);
+
+        assertTrue(NumberTheoreticTransform.supports(modulus, 1 << 23));
+        assertFalse(NumberTheoreticTransform.supports(modulus, (1 << 23) + 1));
+        assertFalse(NumberTheoreticTransform.supports(1000000007L, 4)); //1000000006 is only divisible by 2
+        assertThrows(IllegalArgumentException.class, () -> NumberTheoreticTransform.multiply(a, b, 1000000007L));
+
+        //exact products over BigIntegerRing and IntegerRing, including negative and wrapping coefficients
+        BigIntegerRing bigRing = new BigIntegerRing();
+        IntegerRing intRing = new IntegerRing();
+        List<BigInteger> bigA = new ArrayList<>();
+        List<BigInteger> bigB = new ArrayList<>();
+        List<Integer> intA = new ArrayList<>();
+        List<Integer> intB = new ArrayList<>();
+        for (int i = 0; i < 1100; i++) {
+            bigA.add(BigInteger.valueOf(i % 3 == 0 ? -i * 1000003L : i * 999983L).shiftLeft(i % 20));
+            bigB.add(BigInteger.valueOf(500 - i));
+            intA.add(i % 2 == 0 ? Integer.MAX_VALUE - i : Integer.MIN_VALUE + i);
+            intB.add(i * 31 - 17000);
+        }
+        Polynomial<BigInteger> x = Polynomial.from(bigA);
+        Polynomial<BigInteger> y = Polynomial.from(bigB);
+        List<BigInteger> schoolbook = new ArrayList<>();
+        for (int i = 0; i < bigA.size() + bigB.size() - 1; i++) {
+            schoolbook.add(BigInteger.ZERO);
+        }
+        for (int i = 0; i < bigA.size(); i++) {
+            for (int j = 0; j < bigB.size(); j++) {
+                schoolbook.set(i + j, schoolbook.get(i + j).add(bigA.get(i).multiply(bigB.get(j))));
+            }
+        }
+        assertEquals(schoolbook, x.times(y, bigRing).getCoefficients());
+
+        List<Integer> intExpected = new ArrayList<>();
+        for (BigInteger coefficient : Polynomial.from(intA.stream().map(BigInteger::valueOf).toList())
+                .times(Polynomial.from(intB.stream().map(BigInteger::valueOf).toList()), bigRing).getCoefficients()) {
+            intExpected.add(coefficient.intValue());
+        }
+        assertEquals(intExpected, Polynomial.from(intA).times(Polynomial.from(intB), intRing).getCoefficients());
+
+        //coefficients too large for an exact recombination fall back to Karatsuba
+        List<BigInteger> huge = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            huge.add(BigInteger.ONE.shiftLeft(100).add(BigInteger.valueOf(i)));
+        }
+        Polynomial<BigInteger> h = Polynomial.from(huge);
+        assertEquals(h.times(h, bigRing, Integer.MAX_VALUE).getCoefficients(), h.times(h, bigRing).getCoefficients());
+
+        //a subclass redefining the product is never transformed
+        BigIntegerRing doubling = new BigIntegerRing() {
+            @Override
+            public BigInteger product(BigInteger x, BigInteger y) {
+                return super.product(x, y).shiftLeft(1);
+            }
+        };
+        List<BigInteger> doubled = schoolbook.stream().map((coefficient) -> coefficient.shiftLeft(1)).toList();
+        assertEquals(doubled, x.times(y, doubling).getCoefficients());
+    }
+
+    /**
+     * testing polynomial products over ModularRing, through the transform for a transform-friendly prime and through three primes for other moduli
+     */
+    @Test
+    public void testModularTimes() {
+        for (long modulus : new long[] {998244353L, 1000000007L, 2147483647L}) {
+            ModularRing ring = ModularRing.instance(modulus);
+            List<Long> a = new ArrayList<>();
+            List<Long> b = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                a.add((modulus - 1 - i * 7919L) % modulus);
+                b.add((i * 104729L * i) % modulus);
+            }
+            long[] expected = new long[a.size() + b.size() - 1];
+            for (int i = 0; i < a.size(); i++) {
+                for (int j = 0; j < b.size(); j++) {
+                    expected[i + j] = ring.sum(expected[i + j], ring.product(a.get(i).longValue(), b.get(j).longValue()));
+                }
+            }
+            List<Long> product = Polynomial.from(a).times(Polynomial.from(b), ring).getCoefficients();
+            assertArrayEquals(expected, product.stream().mapToLong(Long::longValue).toArray());
+        }
+    }
+
+    /**
+     * testing the generic product-tree interpolation against the left-to-right fold of the linear factors
+     */
+    @Test
+    public void testFromRoots() {
+        BigIntegerRing bigRing = new BigIntegerRing();
+        List<BigInteger> roots = new ArrayList<>();
+        List<Polynomial<BigInteger>> factors = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            BigInteger root = BigInteger.valueOf((i * 7) % 11 - 5);
+            roots.add(root);
+            factors.add(Polynomial.from(List.of(BigInteger.ONE, root.negate())));
+        }
+        List<BigInteger> expected = Rings.product(factors, PolynomialRing.instance(bigRing)).getCoefficients();
+        assertEquals(expected, InterpolatingPolynomial.fromRoots(roots, bigRing));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        assertEquals(expected, InterpolatingPolynomial.fromRoots(roots, bigRing, pool, 16));
+        pool.shutdown();
+
+        assertEquals(List.of(1, -10, 35, -50, 24), InterpolatingPolynomial.fromRoots(List.of(1, 2, 3, 4), new IntegerRing()));
+        assertEquals(List.of(1L, 998244350L, 2L), InterpolatingPolynomial.fromRoots(List.of(1L, 2L), ModularRing.instance(998244353L)));
+        assertEquals(List.of(BigInteger.ONE), InterpolatingPolynomial.fromRoots(List.of(), bigRing));
+        assertThrows(NullPointerException.class, () -> InterpolatingPolynomial.fromRoots(Arrays.asList(BigInteger.ONE, null), bigRing));
+        assertThrows(IllegalArgumentException.class, () -> InterpolatingPolynomial.fromRoots(roots, bigRing, ForkJoinPool.commonPool(), 0));
+    }
+
+    /**
+     * testing powers of polynomials against repeated products
+     */
+    @Test
+    public void testPower() {
+        PolynomialRing<BigInteger> ring = PolynomialRing.instance(new BigIntegerRing());
+        Polynomial<BigInteger> x = Polynomial.from(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(-3)));
+        Polynomial<BigInteger> expected = ring.identity();
+        for (int i = 0; i < 13; i++) {
+            expected = ring.product(expected, x);
+        }
+        assertEquals(expected.getCoefficients(), ring.power(x, 13).getCoefficients());
+        assertEquals(ring.identity().getCoefficients(), ring.power(x, 0).getCoefficients());
+        assertThrows(IllegalArgumentException.class, () -> ring.power(x, -2));
+    }
+
+    /**
+     * testing evaluation by Horner's and Estrin's schemes against sums of powers
+     */
+    @Test
+    public void testEvaluate() {
+        assertEquals(Integer.valueOf(17), Polynomial.from(List.of(1, 2, 3)).evaluate(2, new IntegerRing()));
+        assertEquals(Integer.valueOf(0), Polynomial.from(List.<Integer>of()).evaluate(2, new IntegerRing()));
+        assertEquals(Integer.valueOf(0), Polynomial.from(List.<Integer>of()).evaluateEstrin(2, new IntegerRing()));
+
+        //lengths around the block and split boundaries of Estrin's scheme
+        BigIntegerRing bigRing = new BigIntegerRing();
+        IntegerRing intRing = new IntegerRing();
+        ModularRing modularRing = ModularRing.instance(1000000007L);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        for (int length : new int[] {1, 2, 1023, 1024, 1025, 2049}) {
+            List<BigInteger> big = new ArrayList<>();
+            List<Integer> ints = new ArrayList<>();
+            List<Long> longs = new ArrayList<>();
+            for (int i = 0; i < length; i++) {
+                big.add(BigInteger.valueOf((i * 37) % 19 - 9));
+                ints.add((i * 37) % 19 - 9);
+                longs.add((long) (i * 37) % 19);
+            }
+            BigInteger point = BigInteger.valueOf(-3);
+            BigInteger expected = BigInteger.ZERO;
+            for (int i = 0; i < length; i++) {
+                expected = expected.add(big.get(i).multiply(point.pow(i)));
+            }
+            Polynomial<BigInteger> bigPolynomial = Polynomial.from(big);
+            assertEquals(expected, bigPolynomial.evaluate(point, bigRing));
+            assertEquals(expected, bigPolynomial.evaluateEstrin(point, bigRing));
+            assertEquals(expected, bigPolynomial.evaluateEstrin(point, bigRing, pool, 64));
+
+            //int arithmetic wraps like the low 32 bits of the exact value
+            Polynomial<Integer> intPolynomial = Polynomial.from(ints);
+            assertEquals(Integer.valueOf(expected.intValue()), intPolynomial.evaluate(-3, intRing));
+            assertEquals(Integer.valueOf(expected.intValue()), intPolynomial.evaluateEstrin(-3, intRing));
+            assertEquals(Integer.valueOf(expected.intValue()), intPolynomial.evaluateEstrin(-3, intRing, pool, 1));
+
+            Polynomial<Long> longPolynomial = Polynomial.from(longs);
+            Long horner = longPolynomial.evaluate(123456789L, modularRing);
+            assertEquals(horner, longPolynomial.evaluateEstrin(123456789L, modularRing));
+            assertEquals(horner, longPolynomial.evaluateEstrin(123456789L, modularRing, pool, 100));
+        }
+
+        List<Double> doubles = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            doubles.add(1.0 / (i + 1));
+        }
+        Polynomial<Double> doublePolynomial = Polynomial.from(doubles);
+        double horner = doublePolynomial.evaluate(0.999, new DoubleRing());
+        assertEquals(horner, doublePolynomial.evaluateEstrin(0.999, new DoubleRing()), 1e-9);
+        assertEquals(horner, doublePolynomial.evaluateEstrin(0.999, new DoubleRing(), pool, 256), 1e-9);
+        pool.shutdown();
+
+        assertThrows(IllegalArgumentException.class, () -> doublePolynomial.evaluateEstrin(1.0, new DoubleRing(), ForkJoinPool.commonPool(), 0));
+        assertThrows(NullPointerException.class, () -> doublePolynomial.evaluate(null, new DoubleRing()));
+    }
+
+    /**
+     * testing sparse polynomials against dense polynomials, and on degrees too large for a dense list
+     */
+    @Test
+    public void testSparsePolynomial() {
+        IntegerRing intRing = new IntegerRing();
+        NegatableSparsePolynomialRing<Integer> sparseRing = NegatableSparsePolynomialRing.instance(intRing);
+        PolynomialRing<Integer> denseRing = PolynomialRing.instance(intRing);
+
+        //products and sums of sparse factors of different lengths agree with the dense operations
+        for (int seed = 0; seed < 20; seed++) {
+            Random random = new Random(seed);
+            Map<Long, Integer> first = new HashMap<>();
+            Map<Long, Integer> second = new HashMap<>();
+            for (int i = 0; i < 1 + seed; i++) {
+                first.put((long) random.nextInt(200), random.nextInt(7) - 3);
+            }
+            for (int i = 0; i < 20 - seed; i++) {
+                second.put((long) random.nextInt(200), random.nextInt(7) - 3);
+            }
+            SparsePolynomial<Integer> a = SparsePolynomial.from(first, intRing);
+            SparsePolynomial<Integer> b = SparsePolynomial.from(second, intRing);
+            Polynomial<Integer> denseA = a.toPolynomial(intRing);
+            Polynomial<Integer> denseB = b.toPolynomial(intRing);
+            assertEquals(SparsePolynomial.copyOf(denseRing.product(denseA, denseB), intRing).getTerms(), sparseRing.product(a, b).getTerms());
+            assertEquals(SparsePolynomial.copyOf(denseRing.sum(denseA, denseB), intRing).getTerms(), sparseRing.sum(a, b).getTerms());
+            assertEquals(sparseRing.zero().getTerms(), sparseRing.sum(a, sparseRing.negate(a)).getTerms());
+            assertEquals(a.getTerms(), sparseRing.sum(sparseRing.difference(a, b), b).getTerms());
+            assertEquals(a.getTerms(), SparsePolynomial.copyOf(denseA, intRing).getTerms());
+            assertEquals(denseA.evaluate(2, intRing), a.evaluate(2, intRing));
+        }
+
+        //(x^1000000 + 1)(x^1000000 - 1) = x^2000000 - 1, holding two terms instead of two million coefficients
+        SparsePolynomial<Integer> plusOne = SparsePolynomial.from(Map.of(1000000L, 1, 0L, 1), intRing);
+        SparsePolynomial<Integer> minusOne = SparsePolynomial.from(Map.of(1000000L, 1, 0L, -1), intRing);
+        SparsePolynomial<Integer> product = sparseRing.product(plusOne, minusOne);
+        assertEquals(Map.of(2000000L, 1, 0L, -1), product.getTerms());
+        assertEquals(2000000L, product.degree());
+        assertEquals(Integer.valueOf(0), product.coefficient(1000000L, intRing));
+        assertEquals(Integer.valueOf(2), plusOne.evaluate(-1, intRing));
+        assertEquals(Map.of(0L, 2), sparseRing.difference(plusOne, minusOne).getTerms());
+        assertEquals(0, sparseRing.sum(plusOne, sparseRing.negate(plusOne)).termCount());
+        assertEquals(-1L, sparseRing.zero().degree());
+        assertEquals(Map.of(0L, 1), sparseRing.identity().getTerms());
+        assertEquals(List.of(), sparseRing.zero().toPolynomial(intRing).getCoefficients());
+
+        assertThrows(IllegalArgumentException.class, () -> SparsePolynomial.from(Map.of(-1L, 1), intRing));
+        assertThrows(ArithmeticException.class, () -> SparsePolynomial.from(Map.of(Long.MAX_VALUE, 1), intRing).times(plusOne, intRing));
+        assertThrows(ArithmeticException.class, () -> SparsePolynomial.from(Map.of(1L << 40, 1), intRing).toPolynomial(intRing));
+    }
+
+    /**
+     * testing that operations return polynomials without trailing zeros
+     */
+    @Test
+    public void testNormalize() {
+        IntegerRing intRing = new IntegerRing();
+        Polynomial<Integer> p = Polynomial.from(List.of(1, 2, 3));
+        assertEquals(List.of(), p.plus(p.negate(intRing), intRing).getCoefficients());
+        assertEquals(-1, p.minus(p, intRing).degree());
+        assertEquals(List.of(2, 4), p.plus(Polynomial.from(List.of(1, 2, -3)), intRing).getCoefficients());
+        assertEquals(2, p.degree());
+
+        //trailing zeros of the operands are not multiplied
+        Polynomial<Integer> padded = Polynomial.from(List.of(1, 2, 3, 0, 0, 0));
+        assertEquals(2, padded.degree(intRing));
+        assertEquals(2, padded.normalize(intRing).degree());
+        assertEquals(-1, Polynomial.from(List.of(0, 0)).degree(intRing));
+        assertEquals(2, Polynomial.from(List.of(1, 2, 3, 0), intRing).degree());
+        assertEquals(p.times(p, intRing).getCoefficients(), padded.times(padded, intRing).getCoefficients());
+        assertEquals(List.of(1, 2, 3), padded.negate(intRing).negate(intRing).getCoefficients());
+        assertEquals(List.of(), Polynomial.from(List.of(0, 0), intRing).getCoefficients());
+
+        //leading coefficients which multiply to zero are stripped
+        assertEquals(List.of(0L, 4L), Polynomial.from(List.of(0L, 2L)).times(Polynomial.from(List.of(2L, 3L)), ModularRing.instance(6)).getCoefficients());
+        assertEquals(1, Polynomial.from(List.of(1, 65536)).times(Polynomial.from(List.of(1, 65536)), intRing).degree());
+        assertEquals(List.of(), Polynomial.from(List.of(-0.0, 0.0)).normalize(new DoubleRing()).getCoefficients());
+    }
+
+    /**
+     * testing that sums and products over IntegerRing and DoubleRing, computed with SimdKernels, match the scalar loops of rings that override them
+     */
+    @Test
+    public void testSimdPolynomials() {
+        Random random = new Random(5);
+        IntegerRing intRing = new IntegerRing();
+        IntegerRing scalarIntRing = new IntegerRing() { }; //a subclass, which is multiplied with its boxed operations
+        DoubleRing doubleRing = new DoubleRing();
+        DoubleRing scalarDoubleRing = new DoubleRing() { };
+        for (int length : new int[] {1, 5, 31, 150}) {
+            Polynomial<Integer> a = Polynomial.from(random.ints(length).boxed().toList());
+            Polynomial<Integer> b = Polynomial.from(random.ints(length / 2 + 3, -1000, 1000).boxed().toList());
+            assertEquals(a.times(b, scalarIntRing).getCoefficients(), a.times(b, intRing).getCoefficients()); //wrapping products are identical
+            assertEquals(a.plus(b, scalarIntRing).getCoefficients(), a.plus(b, intRing).getCoefficients());
+
+            Polynomial<Double> c = Polynomial.from(random.doubles(length).map((d) -> d * 100 - 50).boxed().toList());
+            Polynomial<Double> d = Polynomial.from(random.doubles(length / 3 + 1).boxed().toList());
+            assertEquals(c.times(d, scalarDoubleRing, Integer.MAX_VALUE).getCoefficients(), c.times(d, doubleRing).getCoefficients()); //no fused multiply-add, so rounding is identical to the schoolbook method
+            assertEquals(c.plus(d, scalarDoubleRing).getCoefficients(), c.plus(d, doubleRing).getCoefficients());
+        }
+    }
+
+    /**
+     * testing that subclasses of IntegerRing and DoubleRing which override the boxed sum or product are not bypassed by the unboxed paths
+     */
+    @Test
+    public void testOverriddenPrimitiveRings() {
+        DoubleRing adding = new DoubleRing() {
+            @Override
+            public Double product(Double x, Double y) {
+                return x + y;
+            }
+        };
+        IntegerRing maximum = new IntegerRing() {
+            @Override
+            public Integer sum(Integer x, Integer y) {
+                return Math.max(x, y);
+            }
+        };
+        Polynomial<Double> a = Polynomial.from(List.of(1.0, 2.0));
+        Polynomial<Double> b = Polynomial.from(List.of(3.0, 4.0));
+        assertEquals(List.of(4.0, 10.0, 6.0), a.times(b, adding).getCoefficients());
+        assertEquals(Double.valueOf(7.0), a.evaluate(2.0, adding));
+        assertEquals(Double.valueOf(9.0), Rings.product(List.of(2.0, 3.0, 4.0), adding));
+        Polynomial<Integer> c = Polynomial.from(List.of(1, 7));
+        Polynomial<Integer> d = Polynomial.from(List.of(5, 2, 3));
+        assertEquals(List.of(5, 7, 3), c.plus(d, maximum).getCoefficients());
+        assertEquals(Integer.valueOf(7), Rings.sum(List.of(1, 7, 3), maximum));
+        assertEquals(Integer.valueOf(11), Rings.sum(List.of(1, 7, 3), new IntegerRing()));
+    }
 }
@@ -0,0 +1,36 @@
+package RingPackage;
+
+/**
+ * This is an interface for rings over Doubles that can also operate on primitive double values directly, 
+ * which lets Polynomial and Matrix computations skip boxing and unboxing on every intermediate operation.
+ */
+public interface PrimitiveDoubleRing extends Ring<Double> {
+
+    /**
+     * Returns the zero property of this ring as a primitive double such that a * 0 = 0
+     * @return zero as a double
+     */
+    double doubleZero();
+
+    /**
+     * Returns the multiplicative identity property of this ring as a primitive double such that a * 1 = a
+     * @return the identity as a double
+     */
+    double doubleIdentity();
+
+    /**
+     * Returns the sum of two primitive double values
+     * @param x the first addend
+     * @param y the second addend
+     * @return a double representing the sum of x and y
+     */
+    double sum(double x, double y);
+
+    /**
+     * Returns the product of two primitive double values
+     * @param x the first factor
+     * @param y the second factor
+     * @return a double representing the product of x and y
+     */
+    double product(double x, double y);
+}
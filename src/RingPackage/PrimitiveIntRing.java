@@ -0,0 +1,36 @@
+package RingPackage;
+
+/**
+ * This is an interface for rings over Integers that can also operate on primitive int values directly, 
+ * which lets Polynomial and Matrix computations skip boxing and unboxing on every intermediate operation.
+ */
+public interface PrimitiveIntRing extends Ring<Integer> {
+
+    /**
+     * Returns the zero property of this ring as a primitive int such that a * 0 = 0
+     * @return zero as an int
+     */
+    int intZero();
+
+    /**
+     * Returns the multiplicative identity property of this ring as a primitive int such that a * 1 = a
+     * @return the identity as an int
+     */
+    int intIdentity();
+
+    /**
+     * Returns the sum of two primitive int values
+     * @param x the first addend
+     * @param y the second addend
+     * @return an int representing the sum of x and y
+     */
+    int sum(int x, int y);
+
+    /**
+     * Returns the product of two primitive int values
+     * @param x the first factor
+     * @param y the second factor
+     * @return an int representing the product of x and y
+     */
+    int product(int x, int y);
+}
@@ -0,0 +1,36 @@
+package RingPackage;
+
+/**
+ * This is an interface for rings over Longs that can also operate on primitive long values directly, 
+ * which lets Polynomial and Matrix computations skip boxing and unboxing on every intermediate operation.
+ */
+public interface PrimitiveLongRing extends Ring<Long> {
+
+    /**
+     * Returns the zero property of this ring as a primitive long such that a * 0 = 0
+     * @return zero as a long
+     */
+    long longZero();
+
+    /**
+     * Returns the multiplicative identity property of this ring as a primitive long such that a * 1 = a
+     * @return the identity as a long
+     */
+    long longIdentity();
+
+    /**
+     * Returns the sum of two primitive long values
+     * @param x the first addend
+     * @param y the second addend
+     * @return a long representing the sum of x and y
+     */
+    long sum(long x, long y);
+
+    /**
+     * Returns the product of two primitive long values
+     * @param x the first factor
+     * @param y the second factor
+     * @return a long representing the product of x and y
+     */
+    long product(long x, long y);
+}
@@ -1,5 +1,7 @@
 package RingPackage;
 
+import java.util.Objects;
+
 /**
  * This is an interface to support ring operations on a variety of set types T
  * @author Vidyut Veedgav
@@ -33,7 +35,78 @@ public interface Ring<T> {
      * @return a new T object representing the product of x and y
      */
     T product(T x, T y); 
-}
 
+    /**
+     * Checks whether an object of type T is the zero of this ring. 
+     * Rings whose zero has several representations, or which can test for zero more cheaply than by equals, override this method.
+     * @param x the element being tested
+     * @return true if x is equal to zero()
+     */
+    default boolean isZero(T x) {
+        return zero().equals(x);
+    }
+
+    /**
+     * Returns a new Accumulator computing a sum of products over this ring, such as an entry of a matrix product or a coefficient of a polynomial product.
+     * The default accumulator starts from zero() and replaces its total with sum(total, product(x, y)), so it gives the same results, and makes the same calls,
+     * as a loop doing so by hand. Rings whose elements are costly to create, such as BigIntegerRing and PolynomialRing, override this method with mutable buffers.
+     * @return a new Accumulator holding zero
+     */
+    default Accumulator<T> accumulator() {
+        return new Accumulator<>() {
+
+            private T total = zero(); //the running sum
 
+            @Override
+            public void addProduct(T x, T y) {
+                total = sum(total, product(x, y));
+            }
 
+            @Override
+            public void add(T x) {
+                total = sum(total, x);
+            }
+
+            @Override
+            public T result() {
+                return total;
+            }
+
+            @Override
+            public void reset() {
+                total = zero();
+            }
+        };
+    }
+
+    /**
+     * Returns x raised to a non-negative power by repeated squaring, which needs O(log exponent) products instead of exponent - 1.
+     * @param x the base.
+     * @param exponent the non-negative power x is raised to.
+     * @return x multiplied by itself exponent times, or the identity if exponent is 0.
+     * @throws IllegalArgumentException if the exponent is negative.
+     */
+    default T power(T x, long exponent) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent cannot be negative");
+        }
+        if (exponent == 0) {
+            return identity();
+        }
+
+        T result = null; //the product of the squares selected by the bits of the exponent seen so far
+        T square = x; //x raised to the power of the current bit
+        while (true) {
+            if ((exponent & 1) != 0) {
+                result = (result == null) ? square : product(result, square);
+            }
+            exponent >>>= 1;
+            if (exponent == 0) {
+                return result;
+            }
+            square = product(square, square);
+        }
+    }
+}
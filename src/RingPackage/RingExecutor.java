@@ -0,0 +1,320 @@
+package RingPackage;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * This is a service running many small, independent ring computations, such as the products of a PolynomialRing or MatrixRing, off the calling thread.
+ * Each task runs on its own virtual thread when the runtime has them (Java 21 and later), found by reflection so the class still compiles and runs on older runtimes,
+ * which fall back to a fixed pool of daemon platform threads. Submitting never blocks: a Semaphore bounds the number of tasks computing at once,
+ * and tasks beyond the bound wait for a permit on their own thread rather than on the caller's.
+ * Results are returned as CompletableFutures, and each batch also reports its throughput and latencies as BatchStatistics.
+ */
+public final class RingExecutor implements AutoCloseable {
+
+    private final ExecutorService executor; //the executor starting a thread for each task
+    private final boolean virtual; //whether the executor starts virtual threads
+    private final Semaphore permits; //a permit for each task allowed to compute at once
+    private final int maxConcurrency; //the number of tasks allowed to compute at once
+
+    /**
+     * Constructor for the RingExecutor class, called by the static factory method (instance)
+     * @param executor the executor starting a thread for each task
+     * @param virtual whether the executor starts virtual threads
+     * @param maxConcurrency the number of tasks allowed to compute at once
+     */
+    private RingExecutor(ExecutorService executor, boolean virtual, int maxConcurrency) {
+        this.executor = executor;
+        this.virtual = virtual;
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Returns a new RingExecutor which computes at most maxConcurrency tasks at once, such as Runtime.getRuntime().availableProcessors() for CPU-bound products.
+     * @param maxConcurrency the number of tasks allowed to compute at once.
+     * @return a new RingExecutor on virtual threads if the runtime has them, and on maxConcurrency platform threads otherwise.
+     * @throws IllegalArgumentException if maxConcurrency is not positive.
+     */
+    public static RingExecutor instance(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+
+        ExecutorService executor = virtualThreadExecutor();
+        if (executor != null) {
+            return new RingExecutor(executor, true, maxConcurrency);
+        }
+        return new RingExecutor(Executors.newFixedThreadPool(maxConcurrency, platformThreadFactory()), false, maxConcurrency);
+    }
+
+    /**
+     * Creates an executor starting a virtual thread for each task with Executors.newVirtualThreadPerTaskExecutor, which is looked up by reflection.
+     * @return the executor, or null if the runtime has no virtual threads or only has them as a disabled preview feature.
+     */
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates the factory of the fallback platform threads, which are daemon threads so that an unclosed RingExecutor does not keep the virtual machine alive.
+     * @return a factory of daemon threads named "RingExecutor-" followed by a number.
+     */
+    private static ThreadFactory platformThreadFactory() {
+        AtomicInteger count = new AtomicInteger(); //the number of threads started so far
+        return (runnable) -> {
+            Thread thread = new Thread(runnable, "RingExecutor-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Checks whether this RingExecutor runs its tasks on virtual threads.
+     * @return true if each task runs on its own virtual thread, and false if tasks run on a pool of platform threads.
+     */
+    public boolean usesVirtualThreads() {
+        return virtual;
+    }
+
+    /**
+     * Gets the number of tasks this RingExecutor computes at once.
+     * @return the number of permits.
+     */
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Submits a single task, such as () -> ring.product(x, y), without collecting statistics.
+     * @param <T> the static type T.
+     * @param task the computation being run.
+     * @return a CompletableFuture completed with the result of the task, or exceptionally with the exception it throws.
+     * @throws RejectedExecutionException if this RingExecutor is closed.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<? extends T> task) {
+
+        //null check
+        Objects.requireNonNull(task, "task cannot be null");
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        execute(task, future, null, 0);
+        return future;
+    }
+
+    /**
+     * Submits a batch of tasks, which are started in order but may complete in any order.
+     * If this RingExecutor is closed by another thread while the batch is being submitted, the tasks which were not started are not run:
+     * their futures are completed exceptionally with the RejectedExecutionException and they are counted as failed, so the statistics are still completed.
+     * @param <T> the static type T.
+     * @param tasks the computations being run.
+     * @return a Batch holding a CompletableFuture for each task and the statistics of the batch.
+     * @throws IllegalArgumentException if there are no tasks.
+     * @throws RejectedExecutionException if this RingExecutor was closed before any task was submitted.
+     */
+    public <T> Batch<T> submitAll(List<? extends Supplier<? extends T>> tasks) {
+
+        //null checks
+        Objects.requireNonNull(tasks, "tasks cannot be null");
+        tasks.forEach((task) -> Objects.requireNonNull(task, "tasks cannot be null"));
+        if (tasks.isEmpty()) {
+            throw new IllegalArgumentException("tasks cannot be empty");
+        }
+
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("RingExecutor is closed");
+        }
+
+        Recorder recorder = new Recorder(tasks.size());
+        List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            futures.add(new CompletableFuture<>());
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            try {
+                execute(tasks.get(i), futures.get(i), recorder, i);
+            } catch (RejectedExecutionException e) {
+                //closed partway through the batch, so this task and the ones after it fail without running
+                for (int j = i; j < tasks.size(); j++) {
+                    long now = System.nanoTime();
+                    recorder.record(j, now, now, now, true);
+                    futures.get(j).completeExceptionally(e);
+                }
+                break;
+            }
+        }
+        return new Batch<>(futures, recorder.statistics);
+    }
+
+    /**
+     * Starts a task on a thread of the executor, which waits for a permit, runs the task unless its future was cancelled, and completes the future.
+     * The task is recorded in the statistics of its batch before its future is completed, so the statistics are complete once every future is.
+     * @param <T> the static type T.
+     * @param task the computation being run.
+     * @param future the future receiving the result.
+     * @param recorder the statistics of the batch of the task, or null for a single task.
+     * @param index the position of the task in its batch.
+     */
+    private <T> void execute(Supplier<? extends T> task, CompletableFuture<T> future, Recorder recorder, int index) {
+        long submitted = System.nanoTime();
+        executor.execute(() -> {
+            long started = submitted; //the time the task got its permit
+            T result = null;
+            Throwable error = null;
+            try {
+                permits.acquire();
+                try {
+                    started = System.nanoTime();
+                    if (!future.isDone()) { //a cancelled task is skipped
+                        result = task.get();
+                    }
+                } finally {
+                    permits.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                error = e;
+            } catch (Throwable e) {
+                error = e;
+            }
+
+            if (recorder != null) {
+                recorder.record(index, submitted, started, System.nanoTime(), error != null || future.isDone());
+            }
+            if (error == null) {
+                future.complete(result);
+            } else {
+                future.completeExceptionally(error);
+            }
+        });
+    }
+
+    /**
+     * Stops accepting tasks and waits for the submitted ones to finish. If the waiting thread is interrupted, the running tasks are interrupted as well.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                //keep waiting for long batches
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns a string representation of the object that "textually represents" a RingExecutor object.
+     * @return the kind of threads and the number of tasks computing at once.
+     */
+    @Override
+    public String toString() {
+        return "RingExecutor [virtualThreads=" + virtual + ", maxConcurrency=" + maxConcurrency + ", computing=" + (maxConcurrency - permits.availablePermits()) + "]";
+    }
+
+    /**
+     * This is a class holding the futures of a batch of tasks submitted together and the statistics computed when the last of them finishes.
+     */
+    public static final class Batch<T> {
+
+        private final List<CompletableFuture<T>> futures; //the future of each task, in the order of submission
+        private final CompletableFuture<BatchStatistics> statistics; //completed when every task has finished
+
+        /**
+         * Constructor for a Batch object, called by RingExecutor.submitAll.
+         * @param futures the future of each task, in the order of submission.
+         * @param statistics the future completed with the statistics of the batch.
+         */
+        private Batch(List<CompletableFuture<T>> futures, CompletableFuture<BatchStatistics> statistics) {
+            this.futures = List.copyOf(futures);
+            this.statistics = statistics;
+        }
+
+        /**
+         * Gets the future of each task, which can be cancelled to skip a task which has not started.
+         * @return an unmodifiable list of the futures, in the order of submission.
+         */
+        public List<CompletableFuture<T>> futures() {
+            return futures;
+        }
+
+        /**
+         * Gets the results of every task together.
+         * @return a CompletableFuture completed with the results in the order of submission, or exceptionally as soon as any task fails.
+         */
+        public CompletableFuture<List<T>> results() {
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                    .thenApply((ignored) -> futures.stream().map(CompletableFuture::join).toList());
+        }
+
+        /**
+         * Gets the statistics of the batch, which are known once every task has completed or failed.
+         * @return a CompletableFuture completed with the BatchStatistics of this batch. It is never completed exceptionally.
+         */
+        public CompletableFuture<BatchStatistics> statistics() {
+            return statistics;
+        }
+    }
+
+    /**
+     * This is a class collecting the latencies of the tasks of a batch from the threads running them.
+     * Each task writes its own slot, and the thread recording the last task builds the statistics,
+     * which sees every slot since each recording happens before its decrement of the remaining count.
+     */
+    private static final class Recorder {
+
+        private final long started = System.nanoTime(); //the time the batch was submitted
+        private final long[] latencies; //the latency of each task, by position in the batch
+        private final LongAdder waitNanos = new LongAdder(); //the total time the tasks waited for a permit
+        private final AtomicInteger failed = new AtomicInteger(); //the number of failed tasks
+        private final AtomicInteger remaining; //the number of tasks which have not finished
+        private final CompletableFuture<BatchStatistics> statistics = new CompletableFuture<>(); //completed by the last task
+
+        /**
+         * Constructor for a Recorder object, called by RingExecutor.submitAll.
+         * @param tasks the number of tasks in the batch.
+         */
+        Recorder(int tasks) {
+            this.latencies = new long[tasks];
+            this.remaining = new AtomicInteger(tasks);
+        }
+
+        /**
+         * Records a finished task, completing the statistics if it is the last task of the batch.
+         * @param index the position of the task in the batch.
+         * @param submitted the time the task was submitted.
+         * @param started the time the task got its permit.
+         * @param finished the time the task finished.
+         * @param failed whether the task threw an exception or was cancelled.
+         */
+        void record(int index, long submitted, long started, long finished, boolean failed) {
+            latencies[index] = finished - submitted;
+            waitNanos.add(started - submitted);
+            if (failed) {
+                this.failed.incrementAndGet();
+            }
+            if (remaining.decrementAndGet() == 0) {
+                statistics.complete(new BatchStatistics(this.failed.get(), finished - this.started, latencies, waitNanos.doubleValue() / latencies.length));
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package RingPackage;
+
+/**
+ * This is an immutable snapshot of the operation counts and sampled latencies of an InstrumentedRing.
+ * Its getters let JMX clients read it as composite data.
+ */
+public final class RingStatistics {
+
+    private final long sumCount; //the number of calls to sum
+    private final long productCount; //the number of calls to product
+    private final long zeroCount; //the number of calls to zero
+    private final long identityCount; //the number of calls to identity
+    private final double meanSumNanos; //the mean latency of the sampled sums, or NaN
+    private final double meanProductNanos; //the mean latency of the sampled products, or NaN
+
+    /**
+     * Constructor for a RingStatistics object, called by InstrumentedRing.snapshot.
+     * @param sumCount the number of calls to sum.
+     * @param productCount the number of calls to product.
+     * @param zeroCount the number of calls to zero.
+     * @param identityCount the number of calls to identity.
+     * @param meanSumNanos the mean latency of the sampled sums, or NaN.
+     * @param meanProductNanos the mean latency of the sampled products, or NaN.
+     */
+    RingStatistics(long sumCount, long productCount, long zeroCount, long identityCount, double meanSumNanos, double meanProductNanos) {
+        this.sumCount = sumCount;
+        this.productCount = productCount;
+        this.zeroCount = zeroCount;
+        this.identityCount = identityCount;
+        this.meanSumNanos = meanSumNanos;
+        this.meanProductNanos = meanProductNanos;
+    }
+
+    /**
+     * Gets the number of calls to sum.
+     * @return the number of sums.
+     */
+    public long getSumCount() {
+        return sumCount;
+    }
+
+    /**
+     * Gets the number of calls to product.
+     * @return the number of products.
+     */
+    public long getProductCount() {
+        return productCount;
+    }
+
+    /**
+     * Gets the number of calls to zero.
+     * @return the number of calls to zero.
+     */
+    public long getZeroCount() {
+        return zeroCount;
+    }
+
+    /**
+     * Gets the number of calls to identity.
+     * @return the number of calls to identity.
+     */
+    public long getIdentityCount() {
+        return identityCount;
+    }
+
+    /**
+     * Gets the mean latency of the sampled calls to sum.
+     * @return the mean latency in nanoseconds, or NaN if no sum was sampled.
+     */
+    public double getMeanSumNanos() {
+        return meanSumNanos;
+    }
+
+    /**
+     * Gets the mean latency of the sampled calls to product.
+     * @return the mean latency in nanoseconds, or NaN if no product was sampled.
+     */
+    public double getMeanProductNanos() {
+        return meanProductNanos;
+    }
+
+    /**
+     * Returns a string representation of the object that "textually represents" a RingStatistics object.
+     * @return the counts and latencies in the form "RingStatistics [sums=..., products=..., zeros=..., identities=..., meanSumNanos=..., meanProductNanos=...]".
+     */
+    @Override
+    public String toString() {
+        return "RingStatistics [sums=" + sumCount + ", products=" + productCount + ", zeros=" + zeroCount + ", identities=" + identityCount
+                + ", meanSumNanos=" + meanSumNanos + ", meanProductNanos=" + meanProductNanos + "]";
+    }
+}
@@ -4,10 +4,25 @@ import org.junit.*;
 
 import static org.junit.Assert.*;
 
+import java.lang.management.ManagementFactory;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
 
 /**
  * @author Vidyut Veedgav
@@ -352,4 +367,432 @@ public class RingTest {
         PolynomialRing<Integer> pRing = PolynomialRing.instance(intRing);
         assertEquals(List.of(intRing.identity()), pRing.identity().getCoefficients());
     }
+
+    /**
+     * a method to test the primitive overloads of IntegerRing and DoubleRing
+     */
+    @Test
+    public void testPrimitiveRings() {
+        IntegerRing intRing = new IntegerRing();
+        assertEquals(0, intRing.intZero());
+        assertEquals(1, intRing.intIdentity());
+        assertEquals(7, intRing.sum(3, 4));
+        assertEquals(12, intRing.product(3, 4));
+
+        DoubleRing doubleRing = new DoubleRing();
+        assertEquals(0.0, doubleRing.doubleZero(), 0.0);
+        assertEquals(1.0, doubleRing.doubleIdentity(), 0.0);
+        assertEquals(3.5, doubleRing.sum(1.5, 2.0), 0.0);
+        assertEquals(3.0, doubleRing.product(1.5, 2.0), 0.0);
+
+        //the primitive polynomial path matches the boxed result
+        Polynomial<Integer> a = Polynomial.from(List.of(1, 2, 3));
+        Polynomial<Integer> b = Polynomial.from(List.of(4, 5));
+        assertEquals(List.of(5, 7, 3), a.plus(b, intRing).getCoefficients());
+        assertEquals(List.of(4, 13, 22, 15), a.times(b, intRing).getCoefficients());
+    }
+
+    /**
+     * a method to test negate and difference in the rings with additive inverses
+     */
+    @Test
+    public void testNegatableRings() {
+        IntegerRing intRing = new IntegerRing();
+        assertEquals(Integer.valueOf(-4), intRing.negate(4));
+        assertEquals(Integer.valueOf(-1), intRing.difference(3, 4));
+
+        BigIntegerRing bigRing = new BigIntegerRing();
+        assertEquals(BigInteger.valueOf(-4), bigRing.negate(BigInteger.valueOf(4)));
+        assertEquals(BigInteger.ONE, bigRing.difference(BigInteger.valueOf(4), BigInteger.valueOf(3)));
+
+        DoubleRing doubleRing = new DoubleRing();
+        assertEquals(-1.5, doubleRing.negate(1.5), 0.0);
+        assertEquals(0.5, doubleRing.difference(2.0, 1.5), 0.0);
+
+        NegatablePolynomialRing<Integer> pRing = NegatablePolynomialRing.instance(intRing);
+        Polynomial<Integer> a = Polynomial.from(List.of(1, 2, 3));
+        Polynomial<Integer> b = Polynomial.from(List.of(4, 5));
+        assertEquals(List.of(-1, -2, -3), pRing.negate(a).getCoefficients());
+        assertEquals(List.of(-3, -3, 3), pRing.karatsuba(1).difference(a, b).getCoefficients());
+        assertEquals(List.of(-3, -3, 3), pRing.difference(a, b).getCoefficients());
+
+        //the polynomials over a ring are only negatable if its coefficients are
+        assertTrue(PolynomialRing.instance(intRing) instanceof NegatableRing);
+        assertTrue(PolynomialRing.instance(intRing).karatsuba(2) instanceof NegatableRing);
+        Ring<Integer> plainRing = new Ring<>() {
+            public Integer zero() { return 0; }
+            public Integer identity() { return 1; }
+            public Integer sum(Integer x, Integer y) { return x + y; }
+            public Integer product(Integer x, Integer y) { return x * y; }
+        };
+        assertFalse(PolynomialRing.instance(plainRing) instanceof NegatableRing);
+        assertFalse(PolynomialRing.instance(plainRing).karatsuba(2) instanceof NegatableRing);
+        assertTrue(SparsePolynomialRing.instance(intRing) instanceof NegatableRing);
+        assertFalse(SparsePolynomialRing.instance(plainRing) instanceof NegatableRing);
+        assertEquals(List.of(2, 4, 6), PolynomialRing.instance(plainRing).sum(a, a).getCoefficients());
+    }
+
+    /**
+     * a method to test the arithmetic of ModularRing against BigInteger
+     */
+    @Test
+    public void testModularRing() {
+        long modulus = Integer.MAX_VALUE; //2^31 - 1 is prime
+        ModularRing ring = ModularRing.instance(modulus);
+        BigInteger bigModulus = BigInteger.valueOf(modulus);
+        long[] values = {0, 1, 2, modulus - 1, modulus - 2, 123456789, modulus / 2, -5, modulus + 3, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long x : values) {
+            for (long y : values) {
+                BigInteger bigX = BigInteger.valueOf(x);
+                BigInteger bigY = BigInteger.valueOf(y);
+                assertEquals(bigX.multiply(bigY).mod(bigModulus).longValue(), ring.product(x, y));
+                assertEquals(bigX.add(bigY).mod(bigModulus).longValue(), ring.sum(x, y));
+                assertEquals(Long.valueOf(bigX.subtract(bigY).mod(bigModulus).longValue()), ring.difference(x, y));
+            }
+            assertEquals(Long.valueOf(BigInteger.valueOf(x).negate().mod(bigModulus).longValue()), ring.negate(x));
+        }
+
+        assertEquals(BigInteger.valueOf(3).modPow(BigInteger.valueOf(1000000), bigModulus).longValue(), ring.power(3, 1000000));
+        assertEquals(1, ring.product(ring.inverse(123456789), 123456789));
+        assertEquals(ring.inverse(ring.power(3, 5)), ring.signedPower(3, -5));
+        assertEquals(ring.power(3, 5), ring.signedPower(3, 5));
+        assertEquals(ring.power(ring.inverse(3), Long.MAX_VALUE), ring.product(3, ring.signedPower(3, Long.MIN_VALUE)));
+        assertThrows(ArithmeticException.class, () -> ModularRing.instance(12).inverse(8));
+
+        ModularRing table = ModularRing.withInverseTable(10007);
+        ModularRing euclid = ModularRing.instance(10007);
+        for (long x = 1; x < 10007; x += 97) {
+            assertEquals(euclid.inverse(x), table.inverse(x));
+        }
+        assertThrows(ArithmeticException.class, () -> table.inverse(0));
+        assertThrows(IllegalArgumentException.class, () -> ModularRing.withInverseTable(10001));
+        assertThrows(IllegalArgumentException.class, () -> ModularRing.instance(1));
+        assertThrows(IllegalArgumentException.class, () -> ModularRing.instance(1L << 31));
+
+        //modular rings plug into the generic algorithms
+        assertEquals(Long.valueOf(5), Rings.sum(List.of(3L, 4L, modulus - 2), ring));
+        assertEquals(Long.valueOf(6), Rings.product(List.of(2L, 3L), ModularRing.instance(7)));
+    }
+
+    /**
+     * a method to test the power method of rings, which multiplies by repeated squaring
+     */
+    @Test
+    public void testPower() {
+        IntegerRing integerRing = new IntegerRing();
+        assertEquals(Integer.valueOf(243), integerRing.power(3, 5));
+        assertEquals(Integer.valueOf(1), integerRing.power(7, 0));
+        assertEquals(Integer.valueOf(7), integerRing.power(7, 1));
+        assertEquals(BigInteger.valueOf(3).pow(1000), new BigIntegerRing().power(BigInteger.valueOf(3), 1000));
+        assertThrows(IllegalArgumentException.class, () -> integerRing.power(2, -1));
+
+        //the powers of a modular ring keep the contract of Ring, and signedPower raises inverses
+        ModularRing modularRing = ModularRing.instance(1000000007L);
+        assertThrows(IllegalArgumentException.class, () -> modularRing.power(Long.valueOf(3), -5));
+        assertThrows(IllegalArgumentException.class, () -> modularRing.power(3, -5));
+        assertEquals(modularRing.inverse(243), modularRing.signedPower(3, -5));
+        assertThrows(ArithmeticException.class, () -> ModularRing.instance(12).signedPower(8, -1));
+        assertEquals(Long.valueOf(modularRing.power(3, 123456789)), modularRing.power(Long.valueOf(3), 123456789));
+    }
+
+    /**
+     * a method to test the zero tests of rings
+     */
+    @Test
+    public void testIsZero() {
+        assertTrue(new IntegerRing().isZero(0));
+        assertFalse(new IntegerRing().isZero(-1));
+        assertTrue(new DoubleRing().isZero(-0.0));
+        assertFalse(new DoubleRing().isZero(Double.MIN_VALUE));
+        assertTrue(new BigIntegerRing().isZero(BigInteger.ZERO.negate()));
+        assertTrue(ModularRing.instance(7).isZero(Long.valueOf(14)));
+        assertFalse(ModularRing.instance(7).isZero(Long.valueOf(15)));
+        assertTrue(PolynomialRing.instance(new IntegerRing()).isZero(Polynomial.from(List.of(0, 0))));
+        assertFalse(PolynomialRing.instance(new IntegerRing()).isZero(Polynomial.from(List.of(0, 1))));
+        assertTrue(SparsePolynomialRing.instance(new IntegerRing()).isZero(SparsePolynomial.from(Map.of(5L, 0), new IntegerRing())));
+
+        //rings without an override compare to their zero
+        Ring<String> concatenation = new Ring<>() {
+            public String zero() { return ""; }
+            public String identity() { return ""; }
+            public String sum(String x, String y) { return x + y; }
+            public String product(String x, String y) { return x + y; }
+        };
+        assertTrue(concatenation.isZero(""));
+        assertFalse(concatenation.isZero("a"));
+    }
+
+    /**
+     * a method to test the operation counts of InstrumentedRing and their publication through JMX
+     */
+    @Test
+    public void testInstrumentedRing() throws Exception {
+        InstrumentedRing<Integer> ring = InstrumentedRing.instance(new IntegerRing());
+        assertEquals(Integer.valueOf(3 * 3 * 3 * 3 * 3 * 3 * 3 * 3 * 3 * 3 * 3 * 3 * 3), ring.power(3, 13));
+        assertEquals(5, ring.getProductCount()); //three squarings and two products for the bits of 1101
+        assertEquals(0, ring.getSumCount());
+        assertTrue(Double.isNaN(ring.getMeanProductNanos()));
+
+        ring.reset();
+        Polynomial.from(List.of(1, 2, 3)).times(Polynomial.from(List.of(4, 5, 6, 7)), ring);
+        assertEquals(12, ring.getProductCount()); //the schoolbook method multiplies every pair of coefficients
+        assertEquals(12, ring.snapshot().getProductCount());
+        assertEquals(ring.getZeroCount(), ring.snapshot().getZeroCount());
+
+        //every sum and product is timed with an interval of 1
+        InstrumentedRing<BigInteger> timed = InstrumentedRing.instance(new BigIntegerRing(), 1);
+        timed.sum(BigInteger.ONE, BigInteger.TWO);
+        timed.product(BigInteger.ONE, BigInteger.TWO);
+        assertFalse(Double.isNaN(timed.getMeanSumNanos()));
+        assertFalse(Double.isNaN(timed.getMeanProductNanos()));
+        assertEquals(BigInteger.ONE, timed.identity());
+        assertEquals(1, timed.getIdentityCount());
+        assertThrows(IllegalArgumentException.class, () -> InstrumentedRing.instance(new IntegerRing(), -1));
+
+        //the counts are readable and resettable through the platform MBeanServer
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = ring.register("RingTest: schoolbook");
+        try {
+            assertEquals(12L, server.getAttribute(name, "ProductCount"));
+            CompositeData snapshot = (CompositeData) server.invoke(name, "snapshot", null, null);
+            assertEquals(12L, snapshot.get("productCount"));
+            server.invoke(name, "reset", null, null);
+            assertEquals(0, ring.getProductCount());
+            assertThrows(IllegalStateException.class, () -> InstrumentedRing.instance(new IntegerRing()).register("RingTest: schoolbook"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    /**
+     * testing that the SIMD kernels compute the same ints and doubles as scalar loops, with lengths that do not fill a vector and overflowing products
+     */
+    @Test
+    public void testSimdKernels() {
+        Random random = new Random(23);
+        for (int length : new int[] {0, 1, 3, 7, 8, 16, 17, 63, 100, 1001}) {
+            int[] x = random.ints(length + 5).toArray();
+            int[] y = random.ints(length + 9).toArray();
+            int factor = random.nextInt();
+            int[] expected = y.clone();
+            for (int i = 0; i < length; i++) {
+                expected[i + 4] += factor * x[i + 5];
+            }
+            SimdKernels.axpy(factor, x, 5, y, 4, length);
+            assertArrayEquals(expected, y);
+
+            int[] sum = new int[length];
+            SimdKernels.add(x, y, sum, length);
+            for (int i = 0; i < length; i++) {
+                assertEquals(x[i] + y[i], sum[i]);
+            }
+
+            double[] u = random.doubles(length + 2).map((d) -> d * 1e6 - 5e5).toArray();
+            double[] v = random.doubles(length + 3).toArray();
+            double scale = Math.PI;
+            double[] scaled = v.clone();
+            for (int i = 0; i < length; i++) {
+                scaled[i + 3] += scale * u[i];
+            }
+            SimdKernels.axpy(scale, u, 0, v, 3, length);
+            assertArrayEquals(scaled, v, 0.0); //each product is rounded before it is added, as in the scalar loop
+
+            double[] doubleSum = new double[length];
+            SimdKernels.add(u, v, doubleSum, length);
+            for (int i = 0; i < length; i++) {
+                assertEquals(u[i] + v[i], doubleSum[i], 0.0);
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> SimdKernels.axpy(1, new int[20], 0, new int[20], 5, 20));
+        assertEquals(SimdKernels.isAccelerated(), SimdKernels.vectorBits() >= 128);
+    }
+
+    /**
+     * testing the RingExecutor: batches of polynomial products, bounded concurrency, failures, cancellation and closing
+     */
+    @Test
+    public void testRingExecutor() throws Exception {
+        PolynomialRing<Integer> ring = PolynomialRing.instance(new IntegerRing());
+        List<Supplier<Polynomial<Integer>>> tasks = new ArrayList<>();
+        List<Polynomial<Integer>> expected = new ArrayList<>();
+        AtomicInteger computing = new AtomicInteger(); //the number of tasks computing at the moment
+        AtomicInteger peak = new AtomicInteger(); //the greatest number of tasks computing at once
+        for (int i = 0; i < 200; i++) {
+            Polynomial<Integer> x = Polynomial.from(List.of(i, 1, 2));
+            Polynomial<Integer> y = Polynomial.from(List.of(3, i));
+            expected.add(ring.product(x, y));
+            tasks.add(() -> {
+                peak.accumulateAndGet(computing.incrementAndGet(), Math::max);
+                Polynomial<Integer> product = ring.product(x, y);
+                computing.decrementAndGet();
+                return product;
+            });
+        }
+
+        RingExecutor executor = RingExecutor.instance(2);
+        try {
+            assertEquals(2, executor.maxConcurrency());
+            if (Runtime.version().feature() < 19) {
+                assertFalse(executor.usesVirtualThreads());
+            }
+
+            RingExecutor.Batch<Polynomial<Integer>> batch = executor.submitAll(tasks);
+            List<Polynomial<Integer>> results = batch.results().get(10, TimeUnit.SECONDS);
+            for (int i = 0; i < 200; i++) {
+                assertEquals(expected.get(i).getCoefficients(), results.get(i).getCoefficients());
+            }
+            assertTrue(peak.get() <= 2);
+            BatchStatistics statistics = batch.statistics().get(10, TimeUnit.SECONDS);
+            assertEquals(200, statistics.getTaskCount());
+            assertEquals(0, statistics.getFailedCount());
+            assertTrue(statistics.getThroughput() > 0);
+            assertTrue(statistics.getLatencyPercentileNanos(50) <= statistics.getLatencyPercentileNanos(99));
+            assertEquals(statistics.getMaxLatencyNanos(), statistics.getLatencyPercentileNanos(100));
+            assertTrue(statistics.getMeanLatencyNanos() <= statistics.getElapsedNanos());
+            assertThrows(IllegalArgumentException.class, () -> statistics.getLatencyPercentileNanos(101));
+
+            //a failing task fails the results of its batch, but not the other tasks or the statistics
+            RingExecutor.Batch<Integer> failing = executor.submitAll(List.of(() -> 1, () -> {
+                throw new ArithmeticException("/ by zero");
+            }, () -> 3));
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> failing.results().get(10, TimeUnit.SECONDS));
+            assertTrue(failure.getCause() instanceof ArithmeticException);
+            assertEquals(Integer.valueOf(3), failing.futures().get(2).get(10, TimeUnit.SECONDS));
+            assertEquals(1, failing.statistics().get(10, TimeUnit.SECONDS).getFailedCount());
+
+            //a task cancelled before it gets a permit is skipped
+            CountDownLatch started = new CountDownLatch(2);
+            CountDownLatch release = new CountDownLatch(1);
+            RingExecutor.Batch<Integer> holding = executor.submitAll(List.of(() -> await(started, release), () -> await(started, release)));
+            started.await(10, TimeUnit.SECONDS); //both permits are held
+            RingExecutor.Batch<Integer> waiting = executor.submitAll(List.of(() -> 7));
+            assertTrue(waiting.futures().get(0).cancel(false));
+            release.countDown();
+            assertEquals(0, holding.statistics().get(10, TimeUnit.SECONDS).getFailedCount());
+            assertEquals(1, waiting.statistics().get(10, TimeUnit.SECONDS).getFailedCount());
+
+            assertEquals(Integer.valueOf(42), executor.submit(() -> 6 * 7).get(10, TimeUnit.SECONDS));
+            assertThrows(IllegalArgumentException.class, () -> executor.submitAll(List.of()));
+        } finally {
+            executor.close();
+        }
+        assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> 1));
+        assertThrows(IllegalArgumentException.class, () -> RingExecutor.instance(0));
+
+        //a batch submitted while another thread closes the executor either is rejected whole, or completes every future and its statistics
+        RingExecutor closing = RingExecutor.instance(2);
+        List<Supplier<Integer>> many = Collections.nCopies(10000, () -> 1);
+        Thread closer = new Thread(closing::close);
+        closer.start();
+        try {
+            RingExecutor.Batch<Integer> partial = closing.submitAll(many);
+            int rejected = 0; //the number of tasks which were not started
+            for (CompletableFuture<Integer> future : partial.futures()) {
+                try {
+                    assertEquals(Integer.valueOf(1), future.get(10, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof RejectedExecutionException);
+                    rejected++;
+                }
+            }
+            BatchStatistics statistics = partial.statistics().get(10, TimeUnit.SECONDS);
+            assertEquals(10000, statistics.getTaskCount());
+            assertEquals(rejected, statistics.getFailedCount());
+        } catch (RejectedExecutionException e) {
+            //closed before the batch was submitted
+        }
+        closer.join();
+    }
+
+    /**
+     * Counts down one latch and waits for another, for the RingExecutor test.
+     * @param started the latch counted down when the task starts.
+     * @param release the latch being waited for.
+     * @return 0 once the latch is released.
+     */
+    private static int await(CountDownLatch started, CountDownLatch release) {
+        started.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 0;
+    }
+
+    /**
+     * testing the accumulators: the 128-bit sum of BigIntegerRing, the coefficient buffer of PolynomialRing and the default of other rings
+     */
+    @Test
+    public void testAccumulator() {
+        Random random = new Random(25);
+        BigIntegerRing bigRing = new BigIntegerRing();
+        Accumulator<BigInteger> accumulator = bigRing.accumulator();
+        assertEquals(BigInteger.ZERO, accumulator.result());
+
+        //products of extreme longs overflow the words many times, and large factors bypass them
+        List<BigInteger> values = new ArrayList<>(List.of(BigInteger.valueOf(Long.MIN_VALUE), BigInteger.valueOf(Long.MAX_VALUE), BigInteger.valueOf(-1),
+                BigInteger.ONE.shiftLeft(100), BigInteger.ONE.shiftLeft(63), BigInteger.ZERO));
+        for (int i = 0; i < 50; i++) {
+            values.add(BigInteger.valueOf(random.nextLong()));
+        }
+        BigInteger expected = BigInteger.ZERO;
+        for (int round = 0; round < 200; round++) {
+            for (BigInteger x : values) {
+                BigInteger y = values.get(random.nextInt(values.size()));
+                accumulator.addProduct(x, y);
+                expected = expected.add(x.multiply(y));
+            }
+            accumulator.add(values.get(round % values.size()));
+            expected = expected.add(values.get(round % values.size()));
+            assertEquals(expected, accumulator.result());
+        }
+        accumulator.reset();
+        accumulator.addProduct(BigInteger.valueOf(-3), BigInteger.valueOf(4));
+        assertEquals(BigInteger.valueOf(-12), accumulator.result());
+
+        //a subclass which changes the product gets the default accumulator
+        BigIntegerRing doubled = new BigIntegerRing() {
+            @Override
+            public BigInteger product(BigInteger x, BigInteger y) {
+                return super.product(x, y).shiftLeft(1);
+            }
+        };
+        Accumulator<BigInteger> doubledAccumulator = doubled.accumulator();
+        doubledAccumulator.addProduct(BigInteger.TWO, BigInteger.valueOf(3));
+        assertEquals(BigInteger.valueOf(12), doubledAccumulator.result());
+
+        //a sum of polynomial products, with terms which cancel to zero, over a coefficient ring with and without primitive operations
+        NegatablePolynomialRing<BigInteger> polynomials = NegatablePolynomialRing.instance(bigRing);
+        Accumulator<Polynomial<BigInteger>> polynomialAccumulator = polynomials.accumulator();
+        Polynomial<BigInteger> x = Polynomial.from(List.of(BigInteger.ONE, BigInteger.valueOf(Long.MAX_VALUE), BigInteger.TWO));
+        Polynomial<BigInteger> y = Polynomial.from(List.of(BigInteger.valueOf(-5), BigInteger.ONE));
+        polynomialAccumulator.addProduct(x, y);
+        polynomialAccumulator.add(x);
+        polynomialAccumulator.addProduct(polynomials.negate(x), y);
+        assertEquals(x.getCoefficients(), polynomialAccumulator.result().getCoefficients());
+        polynomialAccumulator.addProduct(polynomials.negate(x), polynomials.identity());
+        assertTrue(polynomials.isZero(polynomialAccumulator.result()));
+        assertEquals(0, polynomialAccumulator.result().getCoefficients().size());
+        polynomialAccumulator.reset();
+        polynomialAccumulator.addProduct(y, y);
+        assertEquals(polynomials.product(y, y).getCoefficients(), polynomialAccumulator.result().getCoefficients());
+
+        PolynomialRing<Integer> intPolynomials = PolynomialRing.instance(new IntegerRing());
+        Accumulator<Polynomial<Integer>> intAccumulator = intPolynomials.accumulator();
+        Polynomial<Integer> p = Polynomial.from(List.of(1, 2, 3));
+        Polynomial<Integer> q = Polynomial.from(List.of(4, 5));
+        intAccumulator.addProduct(p, q);
+        intAccumulator.addProduct(q, q);
+        assertEquals(intPolynomials.sum(intPolynomials.product(p, q), intPolynomials.product(q, q)).getCoefficients(), intAccumulator.result().getCoefficients());
+
+        //the default accumulator of a ring makes the same calls as a loop by hand
+        InstrumentedRing<Integer> counted = InstrumentedRing.instance(new IntegerRing());
+        Accumulator<Integer> countedAccumulator = counted.accumulator();
+        countedAccumulator.addProduct(6, 7);
+        countedAccumulator.add(8);
+        assertEquals(Integer.valueOf(50), countedAccumulator.result());
+        assertEquals(2, counted.getSumCount());
+        assertEquals(1, counted.getProductCount());
+    }
 }
@@ -58,6 +58,32 @@ public final class Rings<T> {
         Objects.requireNonNull(args);
         Objects.requireNonNull(ring);
 
+        //primitive rings accumulate into a primitive local instead of boxing every partial sum
+        boolean primitive = hasPrimitiveOperations(ring);
+        if (primitive && ring instanceof PrimitiveIntRing) {
+            PrimitiveIntRing intRing = (PrimitiveIntRing) ring;
+            int sum = intRing.intZero();
+            for (T element : args) {
+                sum = intRing.sum(sum, ((Integer) element).intValue());
+            }
+            return cast(Integer.valueOf(sum));
+        }
+        if (primitive && ring instanceof PrimitiveLongRing) {
+            PrimitiveLongRing longRing = (PrimitiveLongRing) ring;
+            long sum = longRing.longZero();
+            for (T element : args) {
+                sum = longRing.sum(sum, ((Long) element).longValue());
+            }
+            return cast(Long.valueOf(sum));
+        }
+        if (primitive && ring instanceof PrimitiveDoubleRing) {
+            PrimitiveDoubleRing doubleRing = (PrimitiveDoubleRing) ring;
+            double sum = doubleRing.doubleZero();
+            for (T element : args) {
+                sum = doubleRing.sum(sum, ((Double) element).doubleValue());
+            }
+            return cast(Double.valueOf(sum));
+        }
         return reduce(args, ring.zero(), (x, y) -> ring.sum(x, y));
     }
 
@@ -74,6 +100,57 @@ public final class Rings<T> {
         Objects.requireNonNull(args);
         Objects.requireNonNull(ring);
 
+        //primitive rings accumulate into a primitive local instead of boxing every partial product
+        boolean primitive = hasPrimitiveOperations(ring);
+        if (primitive && ring instanceof PrimitiveIntRing) {
+            PrimitiveIntRing intRing = (PrimitiveIntRing) ring;
+            int product = intRing.intIdentity();
+            for (T element : args) {
+                product = intRing.product(product, ((Integer) element).intValue());
+            }
+            return cast(Integer.valueOf(product));
+        }
+        if (primitive && ring instanceof PrimitiveLongRing) {
+            PrimitiveLongRing longRing = (PrimitiveLongRing) ring;
+            long product = longRing.longIdentity();
+            for (T element : args) {
+                product = longRing.product(product, ((Long) element).longValue());
+            }
+            return cast(Long.valueOf(product));
+        }
+        if (primitive && ring instanceof PrimitiveDoubleRing) {
+            PrimitiveDoubleRing doubleRing = (PrimitiveDoubleRing) ring;
+            double product = doubleRing.doubleIdentity();
+            for (T element : args) {
+                product = doubleRing.product(product, ((Double) element).doubleValue());
+            }
+            return cast(Double.valueOf(product));
+        }
         return reduce(args, ring.identity(), (x, y) -> ring.product(x, y));
     }
+
+    /**
+     * Checks whether the unboxed loops of this library may compute with the primitive operations of a ring in place of its boxed sum and product.
+     * Any PrimitiveIntRing, PrimitiveLongRing or PrimitiveDoubleRing qualifies, except a subclass of IntegerRing or DoubleRing:
+     * those classes are not final, and a subclass which overrides the boxed sum or product keeps its own arithmetic on the boxed paths.
+     * @param ring the ring being checked
+     * @return true if ring is exactly an IntegerRing or a DoubleRing, or another ring with primitive operations
+     */
+    public static boolean hasPrimitiveOperations(Ring<?> ring) {
+        if (ring instanceof IntegerRing || ring instanceof DoubleRing) {
+            return ring.getClass() == IntegerRing.class || ring.getClass() == DoubleRing.class;
+        }
+        return ring instanceof PrimitiveIntRing || ring instanceof PrimitiveLongRing || ring instanceof PrimitiveDoubleRing;
+    }
+
+    /**
+     * Casts a boxed primitive result back to the static type of a ring whose elements are that boxed type.
+     * @param <T> the static type T
+     * @param value the boxed result
+     * @return value as a T
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
 }
@@ -0,0 +1,217 @@
+package RingPackage;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This is a class of loops over primitive arrays which use SIMD instructions through the JDK Vector API (jdk.incubator.vector),
+ * shared by Polynomial and the matrix classes for IntegerRing and DoubleRing.
+ * The Vector API is an incubator module, which the virtual machine only loads when it is started with --add-modules jdk.incubator.vector.
+ * Without the module, or on hardware whose vectors are narrower than 128 bits, every method runs an equivalent scalar loop instead.
+ * Each element is computed by the same operations in the same order as the scalar loop, a product rounded and then a sum rounded, never a fused multiply-add,
+ * so the results are identical to the scalar loops for doubles as well as for ints.
+ */
+public final class SimdKernels {
+
+    private static final String MODULE = "jdk.incubator.vector"; //the name of the Vector API module
+    private static final int VECTOR_BITS = detectVectorBits(); //the width of the vectors used, or 0 if the scalar loops are used
+
+    /**
+     * Private constructor, since this class only has static methods
+     */
+    private SimdKernels() {
+    }
+
+    /**
+     * Checks whether the methods of this class run on SIMD instructions.
+     * @return true if the Vector API module is loaded and the hardware has vectors of at least 128 bits.
+     */
+    public static boolean isAccelerated() {
+        return VECTOR_BITS > 0;
+    }
+
+    /**
+     * Gets the width of the vectors the methods of this class use, so callers with kernels of a fixed width can check that it is supported.
+     * @return the number of bits in the preferred vectors of the hardware, or 0 if the scalar loops are used.
+     */
+    public static int vectorBits() {
+        return VECTOR_BITS;
+    }
+
+    /**
+     * Adds two int arrays element by element, wrapping on overflow like the + operator.
+     * @param x the first addend.
+     * @param y the second addend.
+     * @param sum the array receiving the sum, which may be x or y.
+     * @param length the number of elements added, from index 0.
+     */
+    public static void add(int[] x, int[] y, int[] sum, int length) {
+        if (VECTOR_BITS > 0) {
+            Vectorized.add(x, y, sum, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            sum[i] = x[i] + y[i];
+        }
+    }
+
+    /**
+     * Adds two double arrays element by element.
+     * @param x the first addend.
+     * @param y the second addend.
+     * @param sum the array receiving the sum, which may be x or y.
+     * @param length the number of elements added, from index 0.
+     */
+    public static void add(double[] x, double[] y, double[] sum, int length) {
+        if (VECTOR_BITS > 0) {
+            Vectorized.add(x, y, sum, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            sum[i] = x[i] + y[i];
+        }
+    }
+
+    /**
+     * Adds a multiple of a run of an int array to a run of another (y += a * x), the inner loop of schoolbook polynomial and matrix products.
+     * @param a the factor multiplying x.
+     * @param x the array being scaled.
+     * @param xFrom the first index read from x.
+     * @param y the array being added to.
+     * @param yFrom the first index written in y.
+     * @param length the number of elements updated.
+     */
+    public static void axpy(int a, int[] x, int xFrom, int[] y, int yFrom, int length) {
+        if (VECTOR_BITS > 0) {
+            Vectorized.axpy(a, x, xFrom, y, yFrom, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            y[yFrom + i] += a * x[xFrom + i];
+        }
+    }
+
+    /**
+     * Adds a multiple of a run of a double array to a run of another (y += a * x), the inner loop of schoolbook polynomial and matrix products.
+     * @param a the factor multiplying x.
+     * @param x the array being scaled.
+     * @param xFrom the first index read from x.
+     * @param y the array being added to.
+     * @param yFrom the first index written in y.
+     * @param length the number of elements updated.
+     */
+    public static void axpy(double a, double[] x, int xFrom, double[] y, int yFrom, int length) {
+        if (VECTOR_BITS > 0) {
+            Vectorized.axpy(a, x, xFrom, y, yFrom, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            y[yFrom + i] += a * x[xFrom + i];
+        }
+    }
+
+    /**
+     * Detects the Vector API. Its classes are only touched once the module is known to be loaded, so this class also loads without it.
+     * @return the width of the preferred vectors of the hardware if the module is loaded and they hold at least 128 bits, and 0 otherwise.
+     */
+    private static int detectVectorBits() {
+        if (ModuleLayer.boot().findModule(MODULE).isEmpty()) {
+            return 0;
+        }
+        int bits = Vectorized.preferredBits();
+        return (bits >= 128) ? bits : 0;
+    }
+
+    /**
+     * This is a nested class holding the loops which use the Vector API. It is only loaded by the virtual machine when one of its methods is first called,
+     * which the enclosing class only does when the module is loaded.
+     */
+    private static final class Vectorized {
+
+        private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED; //the widest int vectors of the hardware
+        private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED; //the widest double vectors of the hardware
+
+        /**
+         * Gets the width of the preferred vectors of the hardware.
+         * @return the number of bits in a preferred vector.
+         */
+        static int preferredBits() {
+            return INTS.vectorBitSize();
+        }
+
+        /**
+         * Adds two int arrays a vector at a time, finishing the elements which do not fill a vector with a scalar loop.
+         * @param x the first addend.
+         * @param y the second addend.
+         * @param sum the array receiving the sum.
+         * @param length the number of elements added.
+         */
+        static void add(int[] x, int[] y, int[] sum, int length) {
+            int i = 0;
+            for (int bound = INTS.loopBound(length); i < bound; i += INTS.length()) {
+                IntVector.fromArray(INTS, x, i).add(IntVector.fromArray(INTS, y, i)).intoArray(sum, i);
+            }
+            for (; i < length; i++) {
+                sum[i] = x[i] + y[i];
+            }
+        }
+
+        /**
+         * Adds two double arrays a vector at a time, finishing the elements which do not fill a vector with a scalar loop.
+         * @param x the first addend.
+         * @param y the second addend.
+         * @param sum the array receiving the sum.
+         * @param length the number of elements added.
+         */
+        static void add(double[] x, double[] y, double[] sum, int length) {
+            int i = 0;
+            for (int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()) {
+                DoubleVector.fromArray(DOUBLES, x, i).add(DoubleVector.fromArray(DOUBLES, y, i)).intoArray(sum, i);
+            }
+            for (; i < length; i++) {
+                sum[i] = x[i] + y[i];
+            }
+        }
+
+        /**
+         * Computes y += a * x for ints a vector at a time, finishing the elements which do not fill a vector with a scalar loop.
+         * @param a the factor multiplying x.
+         * @param x the array being scaled.
+         * @param xFrom the first index read from x.
+         * @param y the array being added to.
+         * @param yFrom the first index written in y.
+         * @param length the number of elements updated.
+         */
+        static void axpy(int a, int[] x, int xFrom, int[] y, int yFrom, int length) {
+            IntVector factor = IntVector.broadcast(INTS, a);
+            int i = 0;
+            for (int bound = INTS.loopBound(length); i < bound; i += INTS.length()) {
+                IntVector.fromArray(INTS, y, yFrom + i).add(IntVector.fromArray(INTS, x, xFrom + i).mul(factor)).intoArray(y, yFrom + i);
+            }
+            for (; i < length; i++) {
+                y[yFrom + i] += a * x[xFrom + i];
+            }
+        }
+
+        /**
+         * Computes y += a * x for doubles a vector at a time, rounding each product before it is added, finishing the elements which do not fill a vector with a scalar loop.
+         * @param a the factor multiplying x.
+         * @param x the array being scaled.
+         * @param xFrom the first index read from x.
+         * @param y the array being added to.
+         * @param yFrom the first index written in y.
+         * @param length the number of elements updated.
+         */
+        static void axpy(double a, double[] x, int xFrom, double[] y, int yFrom, int length) {
+            DoubleVector factor = DoubleVector.broadcast(DOUBLES, a);
+            int i = 0;
+            for (int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()) {
+                DoubleVector.fromArray(DOUBLES, y, yFrom + i).add(DoubleVector.fromArray(DOUBLES, x, xFrom + i).mul(factor)).intoArray(y, yFrom + i);
+            }
+            for (; i < length; i++) {
+                y[yFrom + i] += a * x[xFrom + i];
+            }
+        }
+    }
+}
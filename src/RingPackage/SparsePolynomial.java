@@ -0,0 +1,389 @@
+package RingPackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * This is a class representing a sparse polynomial, which stores only its nonzero terms as a sorted array of exponents and an array of coefficients.
+ * Memory and the time of each operation scale with the number of nonzero terms rather than with the degree, so x^1000000 + 1 holds two terms.
+ */
+public final class SparsePolynomial<T> {
+
+    private final long[] exponents; //the exponents of the nonzero terms, in ascending order
+    private final Object[] coefficients; //the nonzero coefficients, where coefficients[i] multiplies x^exponents[i]
+
+    /**
+     * Constructor for the SparsePolynomial class, called by the static factory methods (from, copyOf) and by the operations of this class.
+     * The arrays must not be modified afterwards.
+     * @param exponents the exponents of the nonzero terms, in ascending order
+     * @param coefficients the nonzero coefficients of the terms
+     */
+    private SparsePolynomial(long[] exponents, Object[] coefficients) {
+        this.exponents = exponents;
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * Returns a new SparsePolynomial holding the nonzero terms of a map from exponents to coefficients.
+     * @param <S> the static type S.
+     * @param terms the map from each exponent to its coefficient. Terms whose coefficient is zero are left out.
+     * @param ring the Ring object whose zero test finds the terms left out.
+     * @return a new SparsePolynomial with the terms of the map.
+     * @throws IllegalArgumentException if an exponent is negative.
+     */
+    public static <S> SparsePolynomial<S> from(Map<Long, S> terms, Ring<S> ring) {
+
+        //null checks
+        Objects.requireNonNull(terms, "terms cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        TreeMap<Long, S> sorted = new TreeMap<>(terms); //rejects null exponents
+        long[] exponents = new long[sorted.size()];
+        Object[] coefficients = new Object[sorted.size()];
+        int count = 0; //the number of nonzero terms
+        for (Map.Entry<Long, S> term : sorted.entrySet()) {
+            Objects.requireNonNull(term.getValue(), "coefficients cannot be null");
+            if (term.getKey() < 0) {
+                throw new IllegalArgumentException("exponents cannot be negative");
+            }
+            if (!ring.isZero(term.getValue())) {
+                exponents[count] = term.getKey();
+                coefficients[count++] = term.getValue();
+            }
+        }
+        return new SparsePolynomial<>(Arrays.copyOf(exponents, count), Arrays.copyOf(coefficients, count));
+    }
+
+    /**
+     * Returns a new SparsePolynomial holding the nonzero coefficients of a dense Polynomial.
+     * @param <S> the static type S.
+     * @param polynomial the Polynomial being converted, where the coefficient at index i multiplies x^i.
+     * @param ring the Ring object whose zero test finds the terms left out.
+     * @return a new SparsePolynomial equal to the Polynomial.
+     */
+    public static <S> SparsePolynomial<S> copyOf(Polynomial<S> polynomial, Ring<S> ring) {
+
+        //null checks
+        Objects.requireNonNull(polynomial, "polynomial cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        List<S> dense = polynomial.getCoefficients();
+        long[] exponents = new long[dense.size()];
+        Object[] coefficients = new Object[dense.size()];
+        int count = 0; //the number of nonzero terms
+        for (int i = 0; i < dense.size(); i++) {
+            if (!ring.isZero(dense.get(i))) {
+                exponents[count] = i;
+                coefficients[count++] = dense.get(i);
+            }
+        }
+        return new SparsePolynomial<>(Arrays.copyOf(exponents, count), Arrays.copyOf(coefficients, count));
+    }
+
+    /**
+     * Converts this SparsePolynomial to a dense Polynomial, filling the missing terms with zero.
+     * @param ring the Ring object whose zero fills the missing terms.
+     * @return a new Polynomial with degree() + 1 coefficients, or no coefficients if this SparsePolynomial is zero.
+     * @throws ArithmeticException if the degree is too large for a list of coefficients.
+     */
+    @SuppressWarnings("unchecked")
+    public Polynomial<T> toPolynomial(Ring<T> ring) {
+
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        List<T> dense = new ArrayList<>(Collections.nCopies(Math.toIntExact(degree() + 1), ring.zero()));
+        for (int i = 0; i < exponents.length; i++) {
+            dense.set((int) exponents[i], (T) coefficients[i]);
+        }
+        return Polynomial.from(dense);
+    }
+
+    /**
+     * Gets the number of nonzero terms of this SparsePolynomial.
+     * @return the number of nonzero terms.
+     */
+    public int termCount() {
+        return exponents.length;
+    }
+
+    /**
+     * Gets the degree of this SparsePolynomial, the greatest exponent of a nonzero term.
+     * @return the degree, or -1 if this SparsePolynomial is zero.
+     */
+    public long degree() {
+        return (exponents.length == 0) ? -1 : exponents[exponents.length - 1];
+    }
+
+    /**
+     * Gets the coefficient of a power of x with a binary search over the exponents.
+     * @param exponent the exponent of the term.
+     * @param ring the Ring object whose zero is returned for a missing term.
+     * @return the coefficient of x^exponent.
+     */
+    @SuppressWarnings("unchecked")
+    public T coefficient(long exponent, Ring<T> ring) {
+
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        int index = Arrays.binarySearch(exponents, exponent);
+        return (index >= 0) ? (T) coefficients[index] : ring.zero();
+    }
+
+    /**
+     * Gets a mutable copy of the nonzero terms of this SparsePolynomial.
+     * @return a sorted map from each exponent to its nonzero coefficient.
+     */
+    @SuppressWarnings("unchecked")
+    public TreeMap<Long, T> getTerms() {
+        TreeMap<Long, T> terms = new TreeMap<>();
+        for (int i = 0; i < exponents.length; i++) {
+            terms.put(exponents[i], (T) coefficients[i]);
+        }
+        return terms;
+    }
+
+    /**
+     * Returns a string representation of the object that "textually represents" a SparsePolynomial object.
+     * @return the string representation of the terms of the SparsePolynomial in the form "SparsePolynomial [terms={exponent=coefficient, ...}]".
+     */
+    @Override
+    public String toString() {
+        return "SparsePolynomial [terms=" + getTerms() + "]";
+    }
+
+    /**
+     * Computes SparsePolynomial addition by merging the sorted terms of both addends, in time linear in their number of terms.
+     * Example:
+     * a: {0=1, 1000=2}
+     * b: {5=3, 1000=-2}
+     * a + b = {0=1, 5=3}
+     * @param other the other SparsePolynomial object
+     * @param ring the Ring object used for intermediate operations
+     * @return the sum of this SparsePolynomial and the other SparsePolynomial, without the terms which cancel
+     */
+    @SuppressWarnings("unchecked")
+    public SparsePolynomial<T> plus(SparsePolynomial<T> other, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        int length = exponents.length + other.exponents.length; //the greatest number of terms of the sum
+        long[] sumExponents = new long[length];
+        Object[] sumCoefficients = new Object[length];
+        int i = 0, j = 0, count = 0; //the next term of each addend and the number of terms of the sum
+
+        while (i < exponents.length || j < other.exponents.length) {
+            if (j == other.exponents.length || (i < exponents.length && exponents[i] < other.exponents[j])) {
+                sumExponents[count] = exponents[i];
+                sumCoefficients[count++] = coefficients[i++];
+            } else if (i == exponents.length || other.exponents[j] < exponents[i]) {
+                sumExponents[count] = other.exponents[j];
+                sumCoefficients[count++] = other.coefficients[j++];
+            } else {
+                T sum = ring.sum((T) coefficients[i], (T) other.coefficients[j]);
+                if (!ring.isZero(sum)) {
+                    sumExponents[count] = exponents[i];
+                    sumCoefficients[count++] = sum;
+                }
+                i++;
+                j++;
+            }
+        }
+        return new SparsePolynomial<>(Arrays.copyOf(sumExponents, count), Arrays.copyOf(sumCoefficients, count));
+    }
+
+    /**
+     * Computes the additive inverse of this SparsePolynomial by negating each coefficient.
+     * @param ring the NegatableRing used to negate the coefficients
+     * @return a new SparsePolynomial which is the additive inverse of this SparsePolynomial
+     */
+    @SuppressWarnings("unchecked")
+    public SparsePolynomial<T> negate(NegatableRing<T> ring) {
+
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        Object[] negated = new Object[coefficients.length];
+        for (int i = 0; i < coefficients.length; i++) {
+            negated[i] = ring.negate((T) coefficients[i]);
+        }
+        return new SparsePolynomial<>(exponents, negated);
+    }
+
+    /**
+     * Computes SparsePolynomial subtraction between this SparsePolynomial and another SparsePolynomial.
+     * @param other the SparsePolynomial being subtracted
+     * @param ring the NegatableRing used for intermediate operations
+     * @return the difference of this SparsePolynomial and the other SparsePolynomial
+     */
+    public SparsePolynomial<T> minus(SparsePolynomial<T> other, NegatableRing<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        return plus(other.negate(ring), ring);
+    }
+
+    /**
+     * Computes SparsePolynomial multiplication with Johnson's heap merge. Each term of the factor with fewer terms starts a row of products with the terms of the other factor,
+     * whose exponents increase along the row. A binary heap holds the next product of each row, so the products are generated in increasing order of exponent
+     * and products with equal exponents are added as soon as they are generated. The heap holds at most one entry per row, so the time is O(nm log(min(n, m)))
+     * for factors of n and m terms and the memory beyond the product is O(min(n, m)), independently of the degrees.
+     * @param other the other SparsePolynomial object
+     * @param ring the Ring object used for intermediate operations
+     * @return the product of this SparsePolynomial and the other SparsePolynomial, without the terms which cancel
+     * @throws ArithmeticException if the degree of the product overflows a long.
+     */
+    @SuppressWarnings("unchecked")
+    public SparsePolynomial<T> times(SparsePolynomial<T> other, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        //edge case: a product with zero is zero
+        if (exponents.length == 0 || other.exponents.length == 0) {
+            return new SparsePolynomial<>(new long[0], new Object[0]);
+        }
+        Math.addExact(degree(), other.degree()); //checks that no exponent of the product overflows
+
+        boolean swapped = other.exponents.length < exponents.length; //whether the rows are the terms of the other factor
+        long[] rowExponents = swapped ? other.exponents : exponents;
+        Object[] rowCoefficients = swapped ? other.coefficients : coefficients;
+        long[] columnExponents = swapped ? exponents : other.exponents;
+        Object[] columnCoefficients = swapped ? coefficients : other.coefficients;
+        int rows = rowExponents.length;
+
+        int[] next = new int[rows]; //the column of the next product of each row
+        long[] keys = new long[rows]; //the exponent of the next product of each row
+        int[] heap = new int[rows]; //the rows with a pending product, ordered by key
+        int size = 0; //the number of rows in the heap
+
+        //rows enter the heap one at a time, since the first product of row i + 1 cannot come before the first product of row i
+        keys[0] = rowExponents[0] + columnExponents[0];
+        heap[size++] = 0;
+
+        long[] productExponents = new long[rows + columnExponents.length];
+        Object[] productCoefficients = new Object[productExponents.length];
+        int count = 0; //the number of terms of the product
+
+        while (size > 0) {
+            long exponent = keys[heap[0]]; //the least exponent of a pending product
+            T sum = null;
+
+            //adds every pending product with the least exponent
+            while (size > 0 && keys[heap[0]] == exponent) {
+                int row = heap[0];
+                int column = next[row];
+                T term = swapped
+                        ? ring.product((T) columnCoefficients[column], (T) rowCoefficients[row])
+                        : ring.product((T) rowCoefficients[row], (T) columnCoefficients[column]);
+                sum = (sum == null) ? term : ring.sum(sum, term);
+
+                //advances the row, or removes it from the heap once every product is generated
+                if (++next[row] < columnExponents.length) {
+                    keys[row] = rowExponents[row] + columnExponents[next[row]];
+                } else {
+                    heap[0] = heap[--size];
+                }
+                siftDown(heap, size, keys);
+
+                //the first product of a row lets the next row enter the heap
+                if (column == 0 && row + 1 < rows) {
+                    keys[row + 1] = rowExponents[row + 1] + columnExponents[0];
+                    size = siftUp(heap, size, keys, row + 1);
+                }
+            }
+
+            if (!ring.isZero(sum)) {
+                if (count == productExponents.length) {
+                    productExponents = Arrays.copyOf(productExponents, 2 * count);
+                    productCoefficients = Arrays.copyOf(productCoefficients, 2 * count);
+                }
+                productExponents[count] = exponent;
+                productCoefficients[count++] = sum;
+            }
+        }
+        return new SparsePolynomial<>(Arrays.copyOf(productExponents, count), Arrays.copyOf(productCoefficients, count));
+    }
+
+    /**
+     * Evaluates this SparsePolynomial at a point with Horner's scheme over the nonzero terms, raising x to the gap between consecutive exponents by repeated squaring.
+     * @param x the point at which this SparsePolynomial is evaluated
+     * @param ring the Ring object used for intermediate operations
+     * @return the value of this SparsePolynomial at x, or zero if it has no terms
+     */
+    @SuppressWarnings("unchecked")
+    public T evaluate(T x, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        if (exponents.length == 0) {
+            return ring.zero();
+        }
+        T value = (T) coefficients[exponents.length - 1];
+        for (int i = exponents.length - 2; i >= 0; i--) {
+            value = ring.sum(ring.product(value, ring.power(x, exponents[i + 1] - exponents[i])), (T) coefficients[i]);
+        }
+        return ring.product(value, ring.power(x, exponents[0]));
+    }
+
+    /**
+     * Moves the root of a binary heap of rows down until it is no greater than its children.
+     * @param heap the rows, ordered by key.
+     * @param size the number of rows in the heap.
+     * @param keys the key of each row.
+     */
+    private static void siftDown(int[] heap, int size, long[] keys) {
+        int index = 0;
+        int row = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+            if (keys[heap[child]] >= keys[row]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = row;
+    }
+
+    /**
+     * Adds a row to a binary heap of rows, moving it up until it is no less than its parent.
+     * @param heap the rows, ordered by key.
+     * @param size the number of rows in the heap.
+     * @param keys the key of each row.
+     * @param row the row being added.
+     * @return the new number of rows in the heap.
+     */
+    private static int siftUp(int[] heap, int size, long[] keys, int row) {
+        int index = size;
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (keys[heap[parent]] <= keys[row]) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = row;
+        return size + 1;
+    }
+}
@@ -0,0 +1,98 @@
+package RingPackage;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This is a class defining a Ring for sparse polynomial operations, whose costs scale with the number of nonzero terms rather than with the degree.
+ * Sparse polynomials over a NegatableRing can be negated as well, which the subclass NegatableSparsePolynomialRing offers.
+ */
+public class SparsePolynomialRing<T> implements Ring<SparsePolynomial<T>> {
+
+    private final Ring<T> baseRing; //a private field storing the coefficient ring
+
+    /**
+     * Constructor for the SparsePolynomialRing class, called by the static factory method (instance) and by the constructor of NegatableSparsePolynomialRing
+     * @param ring a Ring object 
+     */
+    SparsePolynomialRing(Ring<T> ring) {
+        this.baseRing = ring;
+    }
+
+    /**
+     * Returns a new SparsePolynomialRing instance
+     * @param <T> the static type T
+     * @param ring a Ring object used for intermediate operations on coefficients. 
+     * @return a new SparsePolynomialRing object which can be used to compute SparsePolynomial addition and multiplication, 
+     * which is a NegatableSparsePolynomialRing if ring is a NegatableRing
+     */
+    public static <T> SparsePolynomialRing<T> instance(Ring<T> ring) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        return (ring instanceof NegatableRing) 
+                ? NegatableSparsePolynomialRing.instance((NegatableRing<T>) ring) 
+                : new SparsePolynomialRing<>(ring);
+    }
+
+    /**
+     * Returns the zero property of data type SparsePolynomial, which has no terms
+     * @return zero of type SparsePolynomial
+     */
+    @Override
+    public SparsePolynomial<T> zero() {
+        return SparsePolynomial.from(Map.of(), baseRing);
+    }
+
+    /**
+     * Returns the multiplicative identity property of data type SparsePolynomial, the constant term 1
+     * @return the identity of type SparsePolynomial
+     */
+    @Override
+    public SparsePolynomial<T> identity() {
+        return SparsePolynomial.from(Map.of(0L, baseRing.identity()), baseRing);
+    }
+
+    /**
+     * Handles SparsePolynomial addition.
+     * @param x the first SparsePolynomial addend.
+     * @param y the second SparsePolynomial addend.
+     * @return a new SparsePolynomial object which is the sum of its parameters.
+     */
+    @Override
+    public SparsePolynomial<T> sum(SparsePolynomial<T> x, SparsePolynomial<T> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x.plus(y, baseRing);
+    }
+
+    /**
+     * Handles SparsePolynomial multiplication.
+     * @param x the first SparsePolynomial factor.
+     * @param y the second SparsePolynomial factor.
+     * @return a new SparsePolynomial object which is the product of its parameters.
+     */
+    @Override
+    public SparsePolynomial<T> product(SparsePolynomial<T> x, SparsePolynomial<T> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x.times(y, baseRing);
+    }
+
+    /**
+     * Checks whether a SparsePolynomial is zero, which holds if it has no terms, since zero coefficients are never stored
+     * @param x the element being tested
+     * @return true if x is zero
+     */
+    @Override
+    public boolean isZero(SparsePolynomial<T> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return x.termCount() == 0;
+    }
+}